@@ -0,0 +1,195 @@
+package com.pepotec.cooperative_taxi_managment.benchmarks;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.accountmovement.AccountMovementLineDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.settlementallocation.SettlementAllocationDetailDTO;
+import com.pepotec.cooperative_taxi_managment.models.entities.AbstractAccountMovementEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.AccountIncomeEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.ExpenseTypeEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.IncomeTypeEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.MonthlyExpenseEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.SettlementAllocationEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.WorkshopRepairEntity;
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountMovementKind;
+import com.pepotec.cooperative_taxi_managment.repositories.ExpenseTypeRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.IncomeTypeRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.SettlementAllocationRepository;
+import com.pepotec.cooperative_taxi_managment.services.AccountMovementReportService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listado de movimientos de cuenta y de asignaciones de pago de una cuenta durante un año:
+ * proyección de una sola consulta (AccountMovementReportService) contra el camino por
+ * entidades, que carga la jerarquía JOINED y luego el tipo, las asignaciones y el medio de
+ * pago de cada fila.
+ *
+ * Se cargan movements / 10 movimientos de cuenta repartidos entre las cuentas de socio
+ * (ingresos, gastos mensuales y arreglos alternados) y la mitad tiene una asignación
+ * pagada con un movimiento de dinero.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AccountMovementReportBenchmark extends SeededApplicationState {
+
+    private static final YearMonth FROM = YearMonth.of(2024, 1);
+    private static final YearMonth TO = YearMonth.of(2024, 12);
+
+    private AccountMovementReportService accountMovementReportService;
+    private SettlementAllocationRepository settlementAllocationRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+
+    @Override
+    protected void onStarted() {
+        accountMovementReportService = bean(AccountMovementReportService.class);
+        settlementAllocationRepository = bean(SettlementAllocationRepository.class);
+        entityManager = bean(EntityManager.class);
+        TransactionTemplate transaction = new TransactionTemplate(bean(PlatformTransactionManager.class));
+        readOnly = new TransactionTemplate(bean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        transaction.executeWithoutResult(status -> seedAccountMovements());
+    }
+
+    @Benchmark
+    public List<AccountMovementLineDTO> linesProjection() {
+        return accountMovementReportService.listLines(dataset.randomMemberAccountId(random), null, null, FROM, TO);
+    }
+
+    @Benchmark
+    public List<AccountMovementLineDTO> linesEntities() {
+        Long accountId = dataset.randomMemberAccountId(random);
+        return readOnly.execute(status -> {
+            List<AccountMovementLineDTO> lines = new ArrayList<>();
+            for (AbstractAccountMovementEntity movement : findAccountMovements(accountId)) {
+                lines.add(toLine(movement));
+            }
+            return lines;
+        });
+    }
+
+    @Benchmark
+    public List<SettlementAllocationDetailDTO> allocationsProjection() {
+        return accountMovementReportService.listAllocations(dataset.randomMemberAccountId(random), null, null, FROM, TO);
+    }
+
+    @Benchmark
+    public List<SettlementAllocationDetailDTO> allocationsEntities() {
+        Long accountId = dataset.randomMemberAccountId(random);
+        return readOnly.execute(status -> {
+            List<SettlementAllocationDetailDTO> allocations = new ArrayList<>();
+            for (AbstractAccountMovementEntity movement : findAccountMovements(accountId)) {
+                for (SettlementAllocationEntity allocation :
+                        settlementAllocationRepository.findByAccountMovementIdAndActiveTrue(movement.getId())) {
+                    allocations.add(toAllocation(allocation));
+                }
+            }
+            return allocations;
+        });
+    }
+
+    private List<AbstractAccountMovementEntity> findAccountMovements(Long accountId) {
+        return entityManager.createQuery(
+                "SELECT m FROM AbstractAccountMovementEntity m WHERE m.memberAccount.id = :accountId " +
+                "AND m.yearMonth BETWEEN :fromPeriod AND :toPeriod AND m.active = true ORDER BY m.yearMonth, m.id",
+                AbstractAccountMovementEntity.class)
+            .setParameter("accountId", accountId)
+            .setParameter("fromPeriod", FROM.toString())
+            .setParameter("toPeriod", TO.toString())
+            .getResultList();
+    }
+
+    private AccountMovementLineDTO toLine(AbstractAccountMovementEntity movement) {
+        AccountMovementLineDTO.AccountMovementLineDTOBuilder line = AccountMovementLineDTO.builder()
+            .id(movement.getId())
+            .yearMonth(movement.getYearMonth())
+            .amount(movement.getAmount())
+            .added(movement.getAdded())
+            .addedDate(movement.getAddedDate())
+            .note(movement.getNote())
+            .currentInstallment(movement.getCurrentInstallment())
+            .finalInstallment(movement.getFinalInstallment())
+            .allocatedAmount(settlementAllocationRepository.sumAllocatedAmountByAccountMovementIdAndActiveTrue(movement.getId()));
+        if (movement instanceof AccountIncomeEntity income) {
+            line.kind(AccountMovementKind.INCOME).typeName(income.getIncomeType().getName());
+        } else if (movement instanceof MonthlyExpenseEntity expense) {
+            line.kind(AccountMovementKind.MONTHLY_EXPENSE).typeName(expense.getExpenseType().getName());
+        } else if (movement instanceof WorkshopRepairEntity repair) {
+            line.kind(AccountMovementKind.WORKSHOP_REPAIR).typeName(repair.getRepairType().name())
+                .remainingBalance(repair.getRemainingBalance());
+        }
+        return line.build();
+    }
+
+    private SettlementAllocationDetailDTO toAllocation(SettlementAllocationEntity allocation) {
+        SettlementAllocationDetailDTO.SettlementAllocationDetailDTOBuilder detail = SettlementAllocationDetailDTO.builder()
+            .id(allocation.getId())
+            .accountMovementId(allocation.getAccountMovement().getId())
+            .allocatedAmount(allocation.getAllocatedAmount())
+            .allocationDate(allocation.getAllocationDate())
+            .note(allocation.getNote());
+        if (allocation.getMovement() != null) {
+            detail.movementId(allocation.getMovement().getId())
+                .movementDate(allocation.getMovement().getDate())
+                .movementDescription(allocation.getMovement().getDescription())
+                .movementType(allocation.getMovement().getMovementType());
+        }
+        return detail.build();
+    }
+
+    private void seedAccountMovements() {
+        Long incomeTypeId = bean(IncomeTypeRepository.class)
+            .save(IncomeTypeEntity.builder().name("Cuota social").build()).getId();
+        Long expenseTypeId = bean(ExpenseTypeRepository.class)
+            .save(ExpenseTypeEntity.builder().name("Seguro").build()).getId();
+
+        JdbcTemplate jdbcTemplate = bean(JdbcTemplate.class);
+        int accountMovements = Math.max(100, dataset.getMovements() / 10);
+        List<Object[]> parents = new ArrayList<>();
+        List<Object[]> incomes = new ArrayList<>();
+        List<Object[]> expenseParents = new ArrayList<>();
+        List<Object[]> expenses = new ArrayList<>();
+        List<Object[]> repairs = new ArrayList<>();
+        List<Object[]> allocations = new ArrayList<>();
+        for (int i = 0; i < accountMovements; i++) {
+            long id = i + 1;
+            Long accountId = dataset.randomMemberAccountId(random);
+            String period = FROM.plusMonths(i % 12).toString();
+            parents.add(new Object[] {id, accountId, 1000.0 + i % 500, period});
+            switch (i % 3) {
+                case 0 -> incomes.add(new Object[] {id, incomeTypeId});
+                case 1 -> {
+                    expenseParents.add(new Object[] {id});
+                    expenses.add(new Object[] {id, expenseTypeId});
+                }
+                default -> {
+                    expenseParents.add(new Object[] {id});
+                    repairs.add(new Object[] {id, 500.0});
+                }
+            }
+            if (i % 2 == 0) {
+                allocations.add(new Object[] {id, 1 + random.nextInt(dataset.getMovements()), 500.0,
+                    FROM.plusMonths(i % 12).atDay(10)});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO account_movements (id_account_movement, id_member_account, amount, " +
+            "period, added, active) VALUES (?, ?, ?, ?, FALSE, TRUE)", parents);
+        jdbcTemplate.batchUpdate("INSERT INTO account_incomes (id_account_movement, id_income_type) VALUES (?, ?)", incomes);
+        jdbcTemplate.batchUpdate("INSERT INTO account_expenses (id_account_movement) VALUES (?)", expenseParents);
+        jdbcTemplate.batchUpdate("INSERT INTO monthly_expenses (id_account_movement, id_expense_type) VALUES (?, ?)", expenses);
+        jdbcTemplate.batchUpdate("INSERT INTO workshop_repairs (id_account_movement, remaining_balance, repair_type) " +
+            "VALUES (?, ?, 'WORKSHOP_REPAIR')", repairs);
+        jdbcTemplate.batchUpdate("INSERT INTO settlement_allocations (id_account_movement, id_movement, allocated_amount, " +
+            "allocation_date, active) VALUES (?, ?, ?, ?, TRUE)", allocations);
+    }
+}
@@ -0,0 +1,172 @@
+package com.pepotec.cooperative_taxi_managment.benchmarks;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.accountstatement.AccountStatementLineDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.accountstatement.AccountStatementPageDTO;
+import com.pepotec.cooperative_taxi_managment.models.entities.IncomeTypeEntity;
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountStatementSource;
+import com.pepotec.cooperative_taxi_managment.repositories.IncomeTypeRepository;
+import com.pepotec.cooperative_taxi_managment.services.AccountStatementService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extracto combinado de una cuenta de socio durante un año: primera página y exportación
+ * NDJSON completa (mezcla de k vías de las consultas por tramos de cada origen).
+ *
+ * Además de los movimientos del juego de datos se cargan movements / 10 movimientos de
+ * cuenta (un tercio con una asignación de pago), movements / 20 adelantos y una liquidación
+ * de sueldo pagada por cuenta y mes, movements / 20 imputaciones directas en el libro de
+ * saldos (una de ellas anterior al año). Antes de medir se verifica que el extracto arranque
+ * con el saldo con el que termina el de los años anteriores y que, leído en páginas chicas,
+ * coincida línea a línea (orden y saldo corrido) con el leído de una vez.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AccountStatementBenchmark extends SeededApplicationState {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 12, 31);
+    private static final int PAGE_SIZE = 100;
+    private static final double BALANCE_BEFORE_FROM = 1500.0;
+
+    private AccountStatementService accountStatementService;
+
+    @Override
+    protected void onStarted() {
+        accountStatementService = bean(AccountStatementService.class);
+        new TransactionTemplate(bean(PlatformTransactionManager.class))
+            .executeWithoutResult(status -> seedStatementSources());
+        checkPagedStatement();
+    }
+
+    @Benchmark
+    public AccountStatementPageDTO firstPage() {
+        return accountStatementService.getPage(dataset.randomMemberAccountId(random), null, null,
+            FROM, TO, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public void fullStatementNdjson() throws IOException {
+        accountStatementService.stream(dataset.randomMemberAccountId(random), null, null, FROM, TO)
+            .writeTo(OutputStream.nullOutputStream());
+    }
+
+    /**
+     * Recorre el extracto de una cuenta en páginas de 37 líneas y lo compara con una sola
+     * página grande: mismas líneas, en orden, con el mismo saldo corrido.
+     */
+    private void checkPagedStatement() {
+        Long accountId = dataset.memberAccountId(1);
+        AccountStatementPageDTO wholePage = accountStatementService.getPage(accountId, null, null,
+            FROM, TO, null, 1000);
+        List<AccountStatementLineDTO> before = accountStatementService.getPage(accountId, null, null,
+            LocalDate.of(2000, 1, 1), FROM.minusDays(1), null, 1000).getLines();
+        double previousClosing = before.isEmpty() ? 0.0 : before.get(before.size() - 1).getBalance();
+        if (before.isEmpty() || Math.abs(wholePage.getOpeningBalance() - previousClosing) > 0.005) {
+            throw new IllegalStateException("Statement opens with " + wholePage.getOpeningBalance()
+                + ", the previous statement closes with " + previousClosing);
+        }
+        List<AccountStatementLineDTO> whole = wholePage.getLines();
+
+        List<AccountStatementLineDTO> paged = new ArrayList<>();
+        String cursor = null;
+        AccountStatementPageDTO page;
+        do {
+            page = accountStatementService.getPage(accountId, null, null, FROM, TO, cursor, 37);
+            if (!paged.isEmpty() && Math.abs(page.getOpeningBalance() - paged.get(paged.size() - 1).getBalance()) > 0.005) {
+                throw new IllegalStateException("Page opening balance does not continue the previous page at " + cursor);
+            }
+            paged.addAll(page.getLines());
+            cursor = page.getNextCursor();
+        } while (page.getHasMore() && paged.size() < whole.size());
+
+        if (paged.size() < whole.size()) {
+            throw new IllegalStateException("Paged statement has " + paged.size() + " lines, expected " + whole.size());
+        }
+        Set<AccountStatementSource> sources = EnumSet.noneOf(AccountStatementSource.class);
+        for (int i = 0; i < whole.size(); i++) {
+            AccountStatementLineDTO expected = whole.get(i);
+            AccountStatementLineDTO actual = paged.get(i);
+            if (!expected.getCursor().equals(actual.getCursor())
+                    || Math.abs(expected.getBalance() - actual.getBalance()) > 0.005) {
+                throw new IllegalStateException("Line " + i + " differs: " + expected.getCursor() + " vs " + actual.getCursor());
+            }
+            if (i > 0 && whole.get(i - 1).getDate().isAfter(expected.getDate())) {
+                throw new IllegalStateException("Statement is not ordered by date at line " + i);
+            }
+            sources.add(expected.getSource());
+        }
+        if (!sources.equals(EnumSet.allOf(AccountStatementSource.class))) {
+            throw new IllegalStateException("Statement is missing sources, found only " + sources);
+        }
+    }
+
+    private void seedStatementSources() {
+        Long incomeTypeId = bean(IncomeTypeRepository.class)
+            .save(IncomeTypeEntity.builder().name("Cuota social").build()).getId();
+
+        JdbcTemplate jdbcTemplate = bean(JdbcTemplate.class);
+        int accountMovements = Math.max(100, dataset.getMovements() / 10);
+        List<Object[]> parents = new ArrayList<>();
+        List<Object[]> incomes = new ArrayList<>();
+        List<Object[]> allocations = new ArrayList<>();
+        for (int i = 0; i < accountMovements; i++) {
+            long id = i + 1;
+            parents.add(new Object[] {id, dataset.memberAccountId(i), 1000.0 + i % 500,
+                YearMonth.from(FROM).plusMonths(i % 12).toString()});
+            incomes.add(new Object[] {id, incomeTypeId});
+            if (i % 3 == 0) {
+                allocations.add(new Object[] {id, 500.0, FROM.plusDays(i % 365)});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO account_movements (id_account_movement, id_member_account, amount, " +
+            "period, added, active) VALUES (?, ?, ?, ?, FALSE, TRUE)", parents);
+        jdbcTemplate.batchUpdate("INSERT INTO account_incomes (id_account_movement, id_income_type) VALUES (?, ?)", incomes);
+        jdbcTemplate.batchUpdate("INSERT INTO settlement_allocations (id_account_movement, allocated_amount, " +
+            "allocation_date, active) VALUES (?, ?, ?, TRUE)", allocations);
+
+        List<Object[]> advances = new ArrayList<>();
+        for (int i = 0; i < Math.max(50, dataset.getMovements() / 20); i++) {
+            advances.add(new Object[] {dataset.memberAccountId(i), 200.0 + i % 100, FROM.plusDays(i * 7 % 365)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO advances (id_member_account, amount, date, active) " +
+            "VALUES (?, ?, ?, TRUE)", advances);
+
+        List<Object[]> payrolls = new ArrayList<>();
+        for (int account = 0; account < dataset.getDriverCount(); account++) {
+            for (int month = 0; month < 12; month++) {
+                YearMonth period = YearMonth.from(FROM).plusMonths(month);
+                payrolls.add(new Object[] {dataset.memberAccountId(account), 90_000.0, 75_000.0,
+                    period.atEndOfMonth(), period.toString()});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO payroll_settlements (id_member_account, gross_salary, net_salary, " +
+            "payment_date, period, active) VALUES (?, ?, ?, ?, ?, TRUE)", payrolls);
+
+        List<Object[]> ledgerEntries = new ArrayList<>();
+        ledgerEntries.add(new Object[] {dataset.memberAccountId(1), "DIRECT", BALANCE_BEFORE_FROM,
+            BALANCE_BEFORE_FROM, FROM.minusDays(10), FROM.minusDays(10).atStartOfDay()});
+        for (int i = 0; i < Math.max(50, dataset.getMovements() / 20); i++) {
+            LocalDate postedOn = FROM.plusDays(i * 11 % 365);
+            ledgerEntries.add(new Object[] {dataset.memberAccountId(i), "DIRECT", i % 2 == 0 ? 300.0 : -120.0,
+                0.0, postedOn, postedOn.atStartOfDay()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO account_ledger_entries (account_type, account_id, entry_type, delta, " +
+            "balance_after, posted_on, posted_at) VALUES ('MEMBER', ?, ?, ?, ?, ?, ?)", ledgerEntries);
+    }
+}
@@ -0,0 +1,69 @@
+package com.pepotec.cooperative_taxi_managment.benchmarks;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.balancereconciliation.BalanceReconciliationReportDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.movement.cash.CashMovementCreateDTO;
+import com.pepotec.cooperative_taxi_managment.models.enums.MovementType;
+import com.pepotec.cooperative_taxi_managment.services.BalanceReconciliationService;
+import com.pepotec.cooperative_taxi_managment.services.CashMovementService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conciliación de saldos: ejecución incremental (solo los movimientos nuevos desde la
+ * conciliación anterior) frente al recálculo completo de todas las cuentas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BalanceReconciliationBenchmark extends SeededApplicationState {
+
+    private static final int NEW_MOVEMENTS = 100;
+
+    private BalanceReconciliationService balanceReconciliationService;
+    private CashMovementService cashMovementService;
+
+    @Override
+    protected void onStarted() {
+        balanceReconciliationService = bean(BalanceReconciliationService.class);
+        cashMovementService = bean(CashMovementService.class);
+        // Primera conciliación: crea los puntos de control de todas las cuentas
+        balanceReconciliationService.reconcile(true);
+    }
+
+    /**
+     * Movimientos nuevos desde la conciliación anterior, como los de un día de operación.
+     */
+    @Setup(Level.Invocation)
+    public void postNewMovements() {
+        List<CashMovementCreateDTO> batch = new ArrayList<>(NEW_MOVEMENTS);
+        for (int i = 0; i < NEW_MOVEMENTS; i++) {
+            batch.add(CashMovementCreateDTO.builder()
+                .memberAccountId(dataset.randomMemberAccountId(random))
+                .description("Cuota benchmark")
+                .amount(1500.0)
+                .date(LocalDate.now())
+                .movementType(MovementType.DEPOSIT)
+                .isIncome(true)
+                .build());
+        }
+        cashMovementService.createBatch(batch);
+    }
+
+    @Benchmark
+    public BalanceReconciliationReportDTO incrementalReconciliation() {
+        return balanceReconciliationService.reconcile(false);
+    }
+
+    @Benchmark
+    public BalanceReconciliationReportDTO fullReconciliation() {
+        return balanceReconciliationService.reconcile(true);
+    }
+}
@@ -0,0 +1,58 @@
+package com.pepotec.cooperative_taxi_managment.benchmarks;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * IDs generados por {@link DatasetSeeder}, para que los benchmarks elijan registros existentes.
+ */
+class BenchmarkDataset {
+
+    private final int movements;
+    private final List<Long> memberAccountIds;
+    private final List<Long> vehicleIds;
+    private final List<Long> settlementIds;
+
+    BenchmarkDataset(int movements, List<Long> memberAccountIds, List<Long> vehicleIds, List<Long> settlementIds) {
+        this.movements = movements;
+        this.memberAccountIds = memberAccountIds;
+        this.vehicleIds = vehicleIds;
+        this.settlementIds = settlementIds;
+    }
+
+    int getMovements() {
+        return movements;
+    }
+
+    int getDriverCount() {
+        return memberAccountIds.size();
+    }
+
+    int getVehicleCount() {
+        return vehicleIds.size();
+    }
+
+    List<Long> getSettlementIds() {
+        return settlementIds;
+    }
+
+    /**
+     * Cuenta de socio por posición: el seeder reparte los movimientos en orden, por lo que las
+     * cuentas de posición par reciben los movimientos en efectivo y las impares los demás.
+     */
+    Long memberAccountId(int index) {
+        return memberAccountIds.get(index % memberAccountIds.size());
+    }
+
+    Long randomMemberAccountId(SplittableRandom random) {
+        return memberAccountIds.get(random.nextInt(memberAccountIds.size()));
+    }
+
+    Long randomVehicleId(SplittableRandom random) {
+        return vehicleIds.get(random.nextInt(vehicleIds.size()));
+    }
+
+    Long randomSettlementId(SplittableRandom random) {
+        return settlementIds.get(random.nextInt(settlementIds.size()));
+    }
+}
@@ -0,0 +1,70 @@
+package com.pepotec.cooperative_taxi_managment.benchmarks;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.csvimport.CsvImportResultDTO;
+import com.pepotec.cooperative_taxi_managment.services.DailyFuelImportService;
+import com.pepotec.cooperative_taxi_managment.services.TicketTaxiImportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Importación CSV de un archivo de 100.000 tickets de taxi y de 100.000 combustibles diarios
+ * sobre vehículos, choferes y rendiciones existentes. Cada invocación guarda el archivo completo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvImportBenchmark extends SeededApplicationState {
+
+    private static final int LINES = 100_000;
+
+    private TicketTaxiImportService ticketTaxiImportService;
+    private DailyFuelImportService dailyFuelImportService;
+    private byte[] ticketFile;
+    private byte[] dailyFuelFile;
+
+    @Override
+    protected void onStarted() {
+        ticketTaxiImportService = bean(TicketTaxiImportService.class);
+        dailyFuelImportService = bean(DailyFuelImportService.class);
+
+        StringBuilder tickets = new StringBuilder(
+            "settlement_id,license_plate,ticket_number,start_date,cut_date,amount,free_kilometers,occupied_kilometers,trips\n");
+        StringBuilder dailyFuels = new StringBuilder(
+            "driver_dni,license_plate,settlement_id,ticket_issue_date,submission_date,amount,fuel_type\n");
+        for (int i = 0; i < LINES; i++) {
+            String plate = DatasetSeeder.plate(i % dataset.getVehicleCount());
+            String date = String.format("%02d/%02d/2025", 1 + i % 28, 1 + i % 12);
+            tickets.append(dataset.randomSettlementId(random)).append(',').append(plate).append(",I").append(i)
+                .append(',').append(date).append(',').append(date)
+                .append(',').append(1000 + i % 5000).append(".50,").append(i % 100).append(',').append(i % 300)
+                .append(',').append(1 + i % 30).append('\n');
+            dailyFuels.append(DatasetSeeder.dni(i % dataset.getDriverCount())).append(',').append(plate)
+                .append(',').append(dataset.randomSettlementId(random)).append(',').append(date).append(',').append(date)
+                .append(',').append(5000 + i % 20000).append(',').append(i % 2 == 0 ? "GNC" : "NAFTA").append('\n');
+        }
+        ticketFile = tickets.toString().getBytes(StandardCharsets.UTF_8);
+        dailyFuelFile = dailyFuels.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public CsvImportResultDTO importTicketTaxis() {
+        return check(ticketTaxiImportService.importTicketTaxis(new ByteArrayInputStream(ticketFile)));
+    }
+
+    @Benchmark
+    public CsvImportResultDTO importDailyFuels() {
+        return check(dailyFuelImportService.importDailyFuels(new ByteArrayInputStream(dailyFuelFile)));
+    }
+
+    private static CsvImportResultDTO check(CsvImportResultDTO result) {
+        if (result.getImported() != LINES) {
+            throw new IllegalStateException("Import rejected " + result.getRejected() + " lines: " + result.getErrors());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,209 @@
+package com.pepotec.cooperative_taxi_managment.benchmarks;
+
+import com.pepotec.cooperative_taxi_managment.models.entities.AddressEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.BrandEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.CashMovementEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.CashRegisterEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.DriverEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.DriverSettlementEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.MemberAccountEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.ModelEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.NonCashMovementEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.VehicleAccountEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.VehicleEntity;
+import com.pepotec.cooperative_taxi_managment.models.enums.MemberRole;
+import com.pepotec.cooperative_taxi_managment.models.enums.MovementType;
+import com.pepotec.cooperative_taxi_managment.repositories.AddressRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.BrandRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.DriverRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.DriverSettlementRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.MemberAccountRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.ModelRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.MovementBatchRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.VehicleAccountRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.VehicleRepository;
+import com.pepotec.cooperative_taxi_managment.services.CashRegisterService;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Carga un juego de datos sintético proporcional a la cantidad de movimientos pedida.
+ *
+ * Por cada 100 movimientos se crea un chofer con su cuenta y una rendición, por cada 200
+ * un vehículo con su cuenta, y se generan tantos tickets de taxi como movimientos / 10.
+ * Personas, vehículos y cuentas pasan por JPA (respetando el mapeo real); los movimientos
+ * y los tickets se insertan por JDBC en lote para que la carga de 1M filas sea viable.
+ */
+class DatasetSeeder {
+
+    private static final int CHUNK_SIZE = 10_000;
+    private static final LocalDate BASE_DATE = LocalDate.of(2024, 1, 1);
+
+    private final ApplicationContext context;
+    private final TransactionTemplate transaction;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    DatasetSeeder(ApplicationContext context) {
+        this.context = context;
+        this.transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    BenchmarkDataset seed(int movements) {
+        int drivers = Math.max(10, movements / 100);
+        int vehicles = Math.max(5, movements / 200);
+        int tickets = Math.max(100, movements / 10);
+
+        List<Long> memberAccountIds = new ArrayList<>();
+        List<Long> vehicleIds = new ArrayList<>();
+        List<Long> settlementIds = new ArrayList<>();
+
+        transaction.executeWithoutResult(status -> {
+            AddressEntity address = context.getBean(AddressRepository.class).save(AddressEntity.builder()
+                .street("San Martin").numeral("1234").city("Rosario").build());
+            BrandEntity brand = context.getBean(BrandRepository.class).save(BrandEntity.builder().name("Fiat").build());
+            ModelEntity model = context.getBean(ModelRepository.class).save(ModelEntity.builder()
+                .name("Cronos").year(2022).brand(brand).build());
+
+            DriverRepository driverRepository = context.getBean(DriverRepository.class);
+            MemberAccountRepository memberAccountRepository = context.getBean(MemberAccountRepository.class);
+            DriverSettlementRepository settlementRepository = context.getBean(DriverSettlementRepository.class);
+            for (int i = 0; i < drivers; i++) {
+                DriverEntity driver = driverRepository.save(driver(i, address));
+                memberAccountIds.add(memberAccountRepository.save(MemberAccountEntity.builder()
+                    .member(driver).balance(0.0).lastModified(BASE_DATE).active(true).build()).getId());
+                settlementIds.add(settlementRepository.save(DriverSettlementEntity.builder()
+                    .driver(driver).ticketAmount(0.0).voucherAmount(0.0).voucherDifference(0.0)
+                    .finalBalance(0.0).submissionDate(BASE_DATE.plusDays(i % 28)).build()).getId());
+            }
+
+            VehicleRepository vehicleRepository = context.getBean(VehicleRepository.class);
+            VehicleAccountRepository vehicleAccountRepository = context.getBean(VehicleAccountRepository.class);
+            for (int i = 0; i < vehicles; i++) {
+                VehicleEntity vehicle = vehicleRepository.save(vehicle(i, model));
+                vehicleIds.add(vehicle.getId());
+                vehicleAccountRepository.save(VehicleAccountEntity.builder()
+                    .vehicle(vehicle).balance(0.0).lastModified(BASE_DATE).active(true).build());
+            }
+        });
+
+        seedTickets(tickets, vehicleIds, settlementIds);
+        seedMovements(movements, memberAccountIds);
+        alignBalances();
+
+        return new BenchmarkDataset(movements, memberAccountIds, vehicleIds, settlementIds);
+    }
+
+    private void seedTickets(int tickets, List<Long> vehicleIds, List<Long> settlementIds) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        String sql = "INSERT INTO ticket_taxi (id_vehicle, id_settlement, ticket_number, start_date, cut_date, " +
+            "amount, free_kilometers, occupied_kilometers, trips) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Integer> rows = new ArrayList<>(tickets);
+        for (int i = 0; i < tickets; i++) {
+            rows.add(i);
+        }
+        jdbcTemplate.batchUpdate(sql, rows, CHUNK_SIZE, (ps, i) -> {
+            LocalDate cutDate = BASE_DATE.plusDays(i % 365);
+            ps.setLong(1, vehicleIds.get(i % vehicleIds.size()));
+            ps.setLong(2, settlementIds.get(i % settlementIds.size()));
+            ps.setString(3, "T" + i);
+            ps.setDate(4, Date.valueOf(cutDate.minusDays(1)));
+            ps.setDate(5, Date.valueOf(cutDate));
+            ps.setDouble(6, 1000 + random.nextInt(50_000) / 100.0);
+            ps.setDouble(7, random.nextInt(100));
+            ps.setDouble(8, random.nextInt(300));
+            ps.setInt(9, 1 + random.nextInt(30));
+        });
+    }
+
+    private void seedMovements(int movements, List<Long> memberAccountIds) {
+        MovementBatchRepository movementBatchRepository = context.getBean(MovementBatchRepository.class);
+        MemberAccountRepository memberAccountRepository = context.getBean(MemberAccountRepository.class);
+        CashRegisterEntity cashRegister = context.getBean(CashRegisterService.class).getOrCreate();
+
+        for (int from = 0; from < movements; from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, movements);
+            int chunkStart = from;
+            transaction.executeWithoutResult(status -> {
+                List<CashMovementEntity> cash = new ArrayList<>();
+                List<NonCashMovementEntity> nonCash = new ArrayList<>();
+                for (int i = chunkStart; i < to; i++) {
+                    MemberAccountEntity account = memberAccountRepository.getReferenceById(
+                        memberAccountIds.get(i % memberAccountIds.size()));
+                    if (i % 2 == 0) {
+                        cash.add(CashMovementEntity.builder()
+                            .memberAccount(account).cashRegister(cashRegister)
+                            .description("Cuota " + i).amount(amount()).date(BASE_DATE.plusDays(i % 365))
+                            .movementType(MovementType.DEPOSIT).isIncome(true).active(true).build());
+                    } else {
+                        nonCash.add(NonCashMovementEntity.builder()
+                            .memberAccount(account)
+                            .description("Transferencia " + i).amount(amount()).date(BASE_DATE.plusDays(i % 365))
+                            .movementType(MovementType.TRANSFER).isIncome(false).active(true).build());
+                    }
+                }
+                movementBatchRepository.insertCashMovements(cash);
+                movementBatchRepository.insertNonCashMovements(nonCash);
+            });
+        }
+    }
+
+    /**
+     * Los movimientos se insertan sin pasar por BalanceUpdateService: se recalcula el saldo
+     * de cada cuenta para que el juego de datos quede conciliado.
+     */
+    private void alignBalances() {
+        context.getBean(JdbcTemplate.class).update(
+            "UPDATE member_accounts a SET balance = (SELECT COALESCE(SUM(CASE WHEN m.is_income = TRUE " +
+            "THEN m.amount ELSE -m.amount END), 0) FROM movements m WHERE m.id_member_account = a.id_account)");
+    }
+
+    private double amount() {
+        return 100 + random.nextInt(100_000) / 100.0;
+    }
+
+    private static DriverEntity driver(int i, AddressEntity address) {
+        return DriverEntity.builder()
+            .firstName("Chofer")
+            .fatherSurname("Benchmark")
+            .dni(dni(i))
+            .cuit(String.valueOf(20_000_000_000L + i))
+            .phone("3410000000")
+            .email("chofer" + i + "@benchmark.local")
+            .birthDate(LocalDate.of(1980, 1, 1))
+            .active(true)
+            .joinDate(BASE_DATE)
+            .role(MemberRole.DRIVER_1)
+            .address(address)
+            .expirationRegistrationDate(BASE_DATE.plusYears(5))
+            .build();
+    }
+
+    private static VehicleEntity vehicle(int i, ModelEntity model) {
+        return VehicleEntity.builder()
+            .licensePlate(plate(i))
+            .licenseNumber(String.valueOf(i + 1))
+            .engineNumber(String.format("ENG%06d", i))
+            .chassisNumber(String.format("CH%010d", i))
+            .vtvExpirationDate(BASE_DATE.plusYears(1))
+            .model(model)
+            .build();
+    }
+
+    static String dni(int i) {
+        return String.valueOf(10_000_000 + i);
+    }
+
+    static String plate(int i) {
+        int letters = i / 1000;
+        return "" + (char) ('A' + letters / 676 % 26) + (char) ('A' + letters / 26 % 26) + (char) ('A' + letters % 26)
+            + String.format("%03d", i % 1000);
+    }
+}
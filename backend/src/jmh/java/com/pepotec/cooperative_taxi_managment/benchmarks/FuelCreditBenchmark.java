@@ -0,0 +1,67 @@
+package com.pepotec.cooperative_taxi_managment.benchmarks;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.dailyfuel.DailyFuelCreateDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.dailyfuel.DailyFuelDTO;
+import com.pepotec.cooperative_taxi_managment.models.enums.FuelType;
+import com.pepotec.cooperative_taxi_managment.repositories.DriverRepository;
+import com.pepotec.cooperative_taxi_managment.services.DailyFuelService;
+import com.pepotec.cooperative_taxi_managment.services.FuelReimbursementService;
+import com.pepotec.cooperative_taxi_managment.services.MemberAccountService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Alta de combustibles diarios de un mismo chofer desde varios hilos: cada alta acumula el
+ * crédito del chofer, por lo que mide la contención sobre su reintegro de combustible.
+ * La variante sin porcentajes mide además la búsqueda del último reparto del chofer.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FuelCreditBenchmark extends SeededApplicationState {
+
+    private DailyFuelService dailyFuelService;
+    private Long driverId;
+    private Long vehicleId;
+    private Long settlementId;
+
+    @Override
+    protected void onStarted() {
+        dailyFuelService = bean(DailyFuelService.class);
+        driverId = bean(DriverRepository.class).findByDniAndLeaveDateIsNull(DatasetSeeder.dni(0)).orElseThrow().getId();
+        vehicleId = dataset.randomVehicleId(random);
+        settlementId = dataset.getSettlementIds().get(0);
+        // El reintegro del chofer ya existe: se mide el caso habitual, no el primer crédito
+        bean(FuelReimbursementService.class).accumulateFuelCredit(
+            bean(MemberAccountService.class).getMemberAccountByMemberId(driverId).getId(), 1.0);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public DailyFuelDTO createDailyFuelSameDriver() {
+        return dailyFuelService.createDailyFuel(driverId, vehicleId, settlementId, DailyFuelCreateDTO.builder()
+            .ticketIssueDate(LocalDate.now())
+            .submissionDate(LocalDate.now())
+            .amount(20000.0)
+            .fuelType(FuelType.GNC)
+            .cooperativePercentage(50.0)
+            .driverPercentage(50.0)
+            .build());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public DailyFuelDTO createDailyFuelDefaultSplit() {
+        return dailyFuelService.createDailyFuel(driverId, vehicleId, settlementId, DailyFuelCreateDTO.builder()
+            .ticketIssueDate(LocalDate.now())
+            .submissionDate(LocalDate.now())
+            .amount(20000.0)
+            .fuelType(FuelType.GNC)
+            .build());
+    }
+}
@@ -0,0 +1,88 @@
+package com.pepotec.cooperative_taxi_managment.benchmarks;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.movement.cash.CashMovementDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.movement.noncash.NonCashMovementDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.page.KeysetPageDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.tickettaxi.TicketTaxiDTO;
+import com.pepotec.cooperative_taxi_managment.services.CashMovementService;
+import com.pepotec.cooperative_taxi_managment.services.NonCashMovementService;
+import com.pepotec.cooperative_taxi_managment.services.TicketTaxiService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Armado de DTOs en los listados: páginas por keyset (convertToDTO en lote) y el listado
+ * por cuenta, que convierte fila por fila.
+ *
+ * Antes de medir se verifica que los listados de movimientos carguen las cuentas en la misma
+ * consulta (ver StatementCountGuard): una sentencia por listado, cualquiera sea el tamaño.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ListingBenchmark extends SeededApplicationState {
+
+    private static final int PAGE_SIZE = 100;
+
+    private CashMovementService cashMovementService;
+    private NonCashMovementService nonCashMovementService;
+    private TicketTaxiService ticketTaxiService;
+    private TransactionTemplate readOnly;
+
+    @Override
+    protected void onStarted() {
+        cashMovementService = bean(CashMovementService.class);
+        nonCashMovementService = bean(NonCashMovementService.class);
+        ticketTaxiService = bean(TicketTaxiService.class);
+        readOnly = new TransactionTemplate(bean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        checkStatementCounts();
+    }
+
+    @Benchmark
+    public KeysetPageDTO<CashMovementDTO> cashMovementPage() {
+        return cashMovementService.listPage(randomCursor(dataset.getMovements()), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public KeysetPageDTO<NonCashMovementDTO> nonCashMovementPage() {
+        return nonCashMovementService.listPage(randomCursor(dataset.getMovements()), PAGE_SIZE);
+    }
+
+    @Benchmark
+    public KeysetPageDTO<TicketTaxiDTO> ticketTaxiPage() {
+        return ticketTaxiService.getTicketTaxisPage(randomCursor(Math.max(100, dataset.getMovements() / 10)), PAGE_SIZE);
+    }
+
+    /**
+     * listByAccount no abre transacción propia: en la API la sesión la mantiene open-in-view,
+     * acá se reproduce con una transacción de solo lectura.
+     */
+    @Benchmark
+    public List<CashMovementDTO> cashMovementsByAccount() {
+        return readOnly.execute(status ->
+            cashMovementService.listByAccount(dataset.randomMemberAccountId(random), null, null));
+    }
+
+    private void checkStatementCounts() {
+        StatementCountGuard guard = new StatementCountGuard(context);
+        guard.assertAtMost("CashMovementService.listPage", 1, () ->
+            cashMovementService.listPage(0L, PAGE_SIZE).getItems());
+        guard.assertAtMost("NonCashMovementService.listPage", 1, () ->
+            nonCashMovementService.listPage(0L, PAGE_SIZE).getItems());
+        guard.assertAtMost("CashMovementService.listByAccount", 1, () ->
+            readOnly.execute(status -> cashMovementService.listByAccount(dataset.memberAccountId(0), null, null)));
+        guard.assertAtMost("NonCashMovementService.listByAccount", 1, () ->
+            readOnly.execute(status -> nonCashMovementService.listByAccount(dataset.memberAccountId(1), null, null)));
+    }
+
+    private Long randomCursor(int rows) {
+        return (long) random.nextInt(Math.max(1, rows - PAGE_SIZE));
+    }
+}
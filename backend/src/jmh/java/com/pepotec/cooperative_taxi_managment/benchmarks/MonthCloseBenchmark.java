@@ -0,0 +1,62 @@
+package com.pepotec.cooperative_taxi_managment.benchmarks;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.accounthistory.MonthlyCloseResultDTO;
+import com.pepotec.cooperative_taxi_managment.services.AccountHistorySchedulerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cierre mensual completo (planificación de tramos e INSERT ... SELECT por tipo de cuenta).
+ * Antes de cada invocación se borra el cierre anterior del mismo período.
+ *
+ * Antes de medir se verifica que volver a cerrar un período completo agregue el historial de
+ * una cuenta que quedó sin él dentro de un tramo ya completado.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MonthCloseBenchmark extends SeededApplicationState {
+
+    private static final YearMonth PERIOD = YearMonth.of(2024, 6);
+
+    private AccountHistorySchedulerService accountHistorySchedulerService;
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    protected void onStarted() {
+        accountHistorySchedulerService = bean(AccountHistorySchedulerService.class);
+        jdbcTemplate = bean(JdbcTemplate.class);
+        checkRerunFillsMissingHistories();
+    }
+
+    private void checkRerunFillsMissingHistories() {
+        discardPreviousClose();
+        closeMonth();
+        jdbcTemplate.update("DELETE FROM account_histories WHERE period = ? AND id_member_account = ?",
+            PERIOD.toString(), dataset.memberAccountId(0));
+        MonthlyCloseResultDTO rerun = closeMonth();
+        if (rerun.getMemberAccountHistoriesCreated() != 1 || rerun.getTotalCreated() != 1) {
+            throw new IllegalStateException("Re-running a completed close created " + rerun.getTotalCreated()
+                + " histories (" + rerun.getMemberAccountHistoriesCreated() + " member), expected the one missing");
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void discardPreviousClose() {
+        jdbcTemplate.update("DELETE FROM account_histories WHERE period = ?", PERIOD.toString());
+        jdbcTemplate.update("DELETE FROM account_history_close_chunks WHERE period = ?", PERIOD.toString());
+    }
+
+    @Benchmark
+    public MonthlyCloseResultDTO closeMonth() {
+        return accountHistorySchedulerService.closeMonth(PERIOD, PERIOD.atEndOfMonth().plusDays(1));
+    }
+}
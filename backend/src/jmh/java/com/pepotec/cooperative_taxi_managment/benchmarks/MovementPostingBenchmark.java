@@ -0,0 +1,80 @@
+package com.pepotec.cooperative_taxi_managment.benchmarks;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.movement.MovementBatchResultDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.movement.cash.CashMovementCreateDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.movement.cash.CashMovementDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.movement.noncash.NonCashMovementCreateDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.movement.noncash.NonCashMovementDTO;
+import com.pepotec.cooperative_taxi_managment.models.enums.MovementType;
+import com.pepotec.cooperative_taxi_managment.services.CashMovementService;
+import com.pepotec.cooperative_taxi_managment.services.NonCashMovementService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Alta de movimientos: validación, conversión, imputación del saldo (BalanceUpdateService)
+ * y guardado, uno por uno y en lote.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MovementPostingBenchmark extends SeededApplicationState {
+
+    private static final int BATCH_SIZE = 100;
+
+    private CashMovementService cashMovementService;
+    private NonCashMovementService nonCashMovementService;
+
+    @Override
+    protected void onStarted() {
+        cashMovementService = bean(CashMovementService.class);
+        nonCashMovementService = bean(NonCashMovementService.class);
+    }
+
+    @Benchmark
+    public CashMovementDTO postCashMovement() {
+        return cashMovementService.create(CashMovementCreateDTO.builder()
+            .memberAccountId(dataset.randomMemberAccountId(random))
+            .description("Cuota benchmark")
+            .amount(1500.0)
+            .date(LocalDate.now())
+            .movementType(MovementType.DEPOSIT)
+            .isIncome(true)
+            .build());
+    }
+
+    @Benchmark
+    public NonCashMovementDTO postNonCashMovement() {
+        return nonCashMovementService.create(NonCashMovementCreateDTO.builder()
+            .memberAccountId(dataset.randomMemberAccountId(random))
+            .description("Transferencia benchmark")
+            .amount(1500.0)
+            .date(LocalDate.now())
+            .movementType(MovementType.TRANSFER)
+            .isIncome(false)
+            .build());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public MovementBatchResultDTO postCashMovementBatch() {
+        List<CashMovementCreateDTO> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(CashMovementCreateDTO.builder()
+                .memberAccountId(dataset.randomMemberAccountId(random))
+                .description("Cuota benchmark")
+                .amount(1500.0)
+                .date(LocalDate.now())
+                .movementType(MovementType.DEPOSIT)
+                .isIncome(true)
+                .build());
+        }
+        return cashMovementService.createBatch(batch);
+    }
+}
@@ -0,0 +1,65 @@
+package com.pepotec.cooperative_taxi_managment.benchmarks;
+
+import com.pepotec.cooperative_taxi_managment.CooperativeTaxiManagmentApplication;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Estado común de los benchmarks: levanta el contexto de Spring (sin servidor web) sobre
+ * H2 en memoria con el perfil "benchmark" y carga el juego de datos del tamaño pedido.
+ *
+ * El tamaño se elige con el parámetro movements (1k, 100k o 1M movimientos); desde la
+ * línea de comandos se puede acotar con -p movements=1000.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+public abstract class SeededApplicationState {
+
+    @Param({"1000", "100000", "1000000"})
+    public int movements;
+
+    protected ConfigurableApplicationContext context;
+    protected BenchmarkDataset dataset;
+    protected final SplittableRandom random = new SplittableRandom(7);
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(CooperativeTaxiManagmentApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("benchmark")
+            .run();
+        dataset = new DatasetSeeder(context).seed(movements);
+        onStarted();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    /**
+     * Punto de extensión para obtener los beans a medir una vez cargados los datos.
+     */
+    protected abstract void onStarted();
+
+    protected <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
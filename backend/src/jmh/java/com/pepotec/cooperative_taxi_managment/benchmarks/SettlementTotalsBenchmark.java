@@ -0,0 +1,49 @@
+package com.pepotec.cooperative_taxi_managment.benchmarks;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.tickettaxi.TicketTaxiTotalsDTO;
+import com.pepotec.cooperative_taxi_managment.services.DriverSettlementService;
+import com.pepotec.cooperative_taxi_managment.services.TicketTaxiService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Totales de tickets por rendición y por vehículo (consultas agregadas).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SettlementTotalsBenchmark extends SeededApplicationState {
+
+    private TicketTaxiService ticketTaxiService;
+    private DriverSettlementService driverSettlementService;
+    private List<Long> settlementPage;
+
+    @Override
+    protected void onStarted() {
+        ticketTaxiService = bean(TicketTaxiService.class);
+        driverSettlementService = bean(DriverSettlementService.class);
+        List<Long> settlementIds = dataset.getSettlementIds();
+        settlementPage = settlementIds.subList(0, Math.min(100, settlementIds.size()));
+    }
+
+    @Benchmark
+    public Double settlementTicketTotal() {
+        return driverSettlementService.calculateTotalTickets(dataset.randomSettlementId(random));
+    }
+
+    @Benchmark
+    public List<TicketTaxiTotalsDTO> totalsForSettlementPage() {
+        return ticketTaxiService.getTotalsBySettlements(settlementPage);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<TicketTaxiTotalsDTO> vehicleTotalsForMonth() {
+        return ticketTaxiService.getVehicleTotalsByCutDateRange(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31));
+    }
+}
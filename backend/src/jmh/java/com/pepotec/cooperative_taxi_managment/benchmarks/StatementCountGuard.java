@@ -0,0 +1,40 @@
+package com.pepotec.cooperative_taxi_managment.benchmarks;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.ApplicationContext;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Verifica, antes de medir, que un listado ejecute una cantidad fija de sentencias SQL sin
+ * importar cuántas filas devuelve (sin consultas adicionales por fila al armar los DTO).
+ *
+ * Cuenta las sentencias preparadas por Hibernate con sus estadísticas (habilitadas en
+ * SecondLevelCacheConfig); las consultas por JdbcTemplate no se cuentan. Si el listado
+ * supera el máximo se corta el benchmark con una excepción.
+ */
+class StatementCountGuard {
+
+    private final Statistics statistics;
+
+    StatementCountGuard(ApplicationContext context) {
+        this.statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+    }
+
+    <T extends Collection<?>> T assertAtMost(String listing, int maxStatements, Supplier<T> action) {
+        long before = statistics.getPrepareStatementCount();
+        T rows = action.get();
+        long statements = statistics.getPrepareStatementCount() - before;
+        if (rows.size() < 2) {
+            throw new IllegalStateException(listing + " returned " + rows.size() + " rows: not enough to check the statement count");
+        }
+        if (statements > maxStatements) {
+            throw new IllegalStateException(listing + " ran " + statements + " SQL statements for " + rows.size()
+                + " rows (expected at most " + maxStatements + ")");
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,107 @@
+package com.pepotec.cooperative_taxi_managment.benchmarks;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.person.member.MemberDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.vehicle.VehicleCreateDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.vehicle.VehicleDTO;
+import com.pepotec.cooperative_taxi_managment.validators.BatchUniquenessValidator;
+import com.pepotec.cooperative_taxi_managment.validators.MemberValidator;
+import com.pepotec.cooperative_taxi_managment.validators.VehicleValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validaciones de unicidad que se ejecutan en cada alta (DNI/CUIT/email de socios y
+ * patente/licencia/motor/chasis de vehículos), con valores que no existen en la base.
+ * Las variantes *Batch validan un lote de importación con BatchUniquenessValidator y las
+ * *OneByOne el mismo lote registro por registro.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniquenessValidationBenchmark extends SeededApplicationState {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private MemberValidator memberValidator;
+    private VehicleValidator vehicleValidator;
+    private BatchUniquenessValidator batchUniquenessValidator;
+    private MemberDTO newMember;
+    private VehicleDTO newVehicle;
+    private List<MemberDTO> memberBatch;
+    private List<VehicleCreateDTO> vehicleBatch;
+
+    @Override
+    protected void onStarted() {
+        memberValidator = bean(MemberValidator.class);
+        vehicleValidator = bean(VehicleValidator.class);
+
+        newMember = new MemberDTO();
+        newMember.setDni("99999999");
+        newMember.setCuit("29999999999");
+        newMember.setEmail("nuevo@benchmark.local");
+
+        newVehicle = new VehicleDTO();
+        newVehicle.setLicensePlate("ZZ999ZZ");
+        newVehicle.setLicenseNumber("99999999");
+        newVehicle.setEngineNumber("ENGNEW999");
+        newVehicle.setChassisNumber("CHNEW99999999");
+
+        batchUniquenessValidator = bean(BatchUniquenessValidator.class);
+        memberBatch = new ArrayList<>(BATCH_SIZE);
+        vehicleBatch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            MemberDTO member = new MemberDTO();
+            member.setDni(String.valueOf(90_000_000 + i));
+            member.setCuit(String.valueOf(29_000_000_000L + i));
+            member.setEmail("importado" + i + "@benchmark.local");
+            memberBatch.add(member);
+
+            vehicleBatch.add(VehicleCreateDTO.builder()
+                .licensePlate(DatasetSeeder.plate(900_000 + i))
+                .licenseNumber(String.valueOf(90_000_000 + i))
+                .engineNumber(String.format("ENGNEW%06d", i))
+                .chassisNumber(String.format("CHNEW%08d", i))
+                .build());
+        }
+    }
+
+    @Benchmark
+    public MemberDTO memberUniqueFields() {
+        memberValidator.validateUniqueFields(newMember, null);
+        return newMember;
+    }
+
+    @Benchmark
+    public VehicleDTO vehicleUniqueFields() {
+        vehicleValidator.validateUniqueFields(newVehicle, null);
+        return newVehicle;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<MemberDTO> memberUniqueFieldsBatch() {
+        batchUniquenessValidator.validateMembers(memberBatch);
+        return memberBatch;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<MemberDTO> memberUniqueFieldsOneByOne() {
+        for (MemberDTO member : memberBatch) {
+            memberValidator.validateUniqueFields(member, null);
+        }
+        return memberBatch;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<VehicleCreateDTO> vehicleUniqueFieldsBatch() {
+        batchUniquenessValidator.validateVehicles(vehicleBatch);
+        return vehicleBatch;
+    }
+}
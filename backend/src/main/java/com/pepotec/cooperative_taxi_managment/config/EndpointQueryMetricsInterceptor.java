@@ -0,0 +1,57 @@
+package com.pepotec.cooperative_taxi_managment.config;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Mide las sentencias JDBC de cada endpoint (Controlador.método): abre un QueryMetricsScope
+ * antes del handler y lo publica al terminar la petición, también sobre la observación
+ * http.server.requests.
+ *
+ * En las respuestas asíncronas (exportaciones NDJSON) solo se mide lo que ejecuta el handler
+ * en el hilo de la petición; lo que se escribe después corre en otro hilo.
+ */
+public class EndpointQueryMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = EndpointQueryMetricsInterceptor.class.getName() + ".scope";
+
+    private final QueryMetricsRecorder recorder;
+
+    public EndpointQueryMetricsInterceptor(QueryMetricsRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod && request.getDispatcherType() != DispatcherType.ASYNC) {
+            String name = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+            request.setAttribute(SCOPE_ATTRIBUTE, QueryMetricsScope.open(name));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        finish(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        finish(request);
+    }
+
+    private void finish(HttpServletRequest request) {
+        if (!(request.getAttribute(SCOPE_ATTRIBUTE) instanceof QueryMetricsScope scope)) {
+            return;
+        }
+        request.removeAttribute(SCOPE_ATTRIBUTE);
+        scope.close();
+        recorder.record(QueryMetricsRecorder.LAYER_ENDPOINT, scope.getName(), scope);
+        ServerHttpObservationFilter.findObservationContext(request)
+            .ifPresent(context -> recorder.annotate(context, scope));
+    }
+}
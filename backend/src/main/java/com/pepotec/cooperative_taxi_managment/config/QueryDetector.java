@@ -0,0 +1,177 @@
+package com.pepotec.cooperative_taxi_managment.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Detecta consultas repetidas (N+1) y lentas dentro de cada llamada a un método de servicio.
+ *
+ * El seguimiento se abre en el método de servicio más externo (ServiceQueryMetricsAspect) y
+ * recibe cada sentencia con el método más interno en curso, que es el que la originó:
+ * - repetida: el mismo SELECT ejecutado repeat-threshold veces o más desde el mismo método
+ *   durante la llamada (por ejemplo, buscar la persona de cada fila de un listado)
+ * - lenta: una sentencia que tardó slow-threshold-ms o más
+ *
+ * Cada hallazgo se escribe en el log una sola vez (por método, origen y SQL) y se cuenta
+ * siempre en app.db.detections. Modos (query-detector.mode):
+ * - OFF: sin seguimiento
+ * - SAMPLE: las sentencias lentas se revisan siempre, las repetidas solo en una fracción
+ *   (sample-rate) de las llamadas, para producción
+ * - FAIL: revisa todas las llamadas y lanza IllegalStateException al terminar una llamada
+ *   con hallazgos, para tests y desarrollo
+ */
+public class QueryDetector {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryDetector.class);
+
+    private static final int MAX_SQL_LENGTH = 500;
+
+    public enum Mode {
+        OFF,
+        SAMPLE,
+        FAIL
+    }
+
+    private final Mode mode;
+    private final double sampleRate;
+    private final int repeatThreshold;
+    private final long slowThresholdNanos;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> reported = ConcurrentHashMap.newKeySet();
+
+    public QueryDetector(Mode mode, double sampleRate, int repeatThreshold, long slowThresholdMillis,
+                         MeterRegistry meterRegistry) {
+        this.mode = mode;
+        this.sampleRate = sampleRate;
+        this.repeatThreshold = repeatThreshold;
+        this.slowThresholdNanos = slowThresholdMillis * 1_000_000;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Abre el seguimiento en el ámbito de un método de servicio, salvo que ya haya uno en
+     * curso en el hilo (el método es llamado desde otro servicio).
+     */
+    public void start(QueryMetricsScope scope) {
+        if (mode == Mode.OFF || QueryMetricsScope.isTracked()) {
+            return;
+        }
+        boolean countRepeats = mode == Mode.FAIL || ThreadLocalRandom.current().nextDouble() < sampleRate;
+        scope.setTracking(new Tracking(countRepeats, slowThresholdNanos));
+    }
+
+    /**
+     * Informa los hallazgos del ámbito (log sin repetir y métrica) y los devuelve.
+     */
+    public List<String> report(QueryMetricsScope scope) {
+        Tracking tracking = scope.getTracking();
+        if (tracking == null) {
+            return List.of();
+        }
+        List<String> findings = new ArrayList<>();
+        for (RepeatedStatement repeated : tracking.repeated.values()) {
+            if (repeated.count >= repeatThreshold) {
+                findings.add(report("repeated", scope.getName(), repeated.origin, repeated.sql,
+                    String.format("Repeated query in %s: executed %d times from %s: %s",
+                        scope.getName(), repeated.count, repeated.origin, truncate(repeated.sql))));
+            }
+        }
+        for (SlowStatement slow : tracking.slow) {
+            findings.add(report("slow", scope.getName(), slow.origin, slow.sql,
+                String.format("Slow query in %s: %d ms from %s: %s",
+                    scope.getName(), slow.nanos / 1_000_000, slow.origin, truncate(slow.sql))));
+        }
+        return findings;
+    }
+
+    /**
+     * En modo FAIL, lanza IllegalStateException si la llamada tuvo hallazgos.
+     */
+    public void failOnFindings(String name, List<String> findings) {
+        if (mode == Mode.FAIL && !findings.isEmpty()) {
+            throw new IllegalStateException("Query detector findings in " + name + ":\n" + String.join("\n", findings));
+        }
+    }
+
+    private String report(String kind, String name, String origin, String sql, String message) {
+        Counter.builder("app.db.detections")
+            .description("Repeated or slow queries detected per service call")
+            .tags("kind", kind, "name", name)
+            .register(meterRegistry)
+            .increment();
+        if (reported.add(kind + '|' + name + '|' + origin + '|' + sql)) {
+            log.warn("{} (further occurrences are only counted in app.db.detections)", message);
+        }
+        return message;
+    }
+
+    private static String truncate(String sql) {
+        return sql.length() > MAX_SQL_LENGTH ? sql.substring(0, MAX_SQL_LENGTH) + "..." : sql;
+    }
+
+    /**
+     * Sentencias de una llamada en seguimiento, agrupadas por método de origen y SQL.
+     */
+    static final class Tracking {
+
+        private final boolean countRepeats;
+        private final long slowThresholdNanos;
+        private final Map<String, RepeatedStatement> repeated = new LinkedHashMap<>();
+        private final List<SlowStatement> slow = new ArrayList<>();
+
+        private Tracking(boolean countRepeats, long slowThresholdNanos) {
+            this.countRepeats = countRepeats;
+            this.slowThresholdNanos = slowThresholdNanos;
+        }
+
+        void statement(String sql, long nanos, String origin) {
+            String text = sql != null ? sql : "<batch>";
+            if (nanos >= slowThresholdNanos) {
+                slow.add(new SlowStatement(text, origin, nanos));
+            }
+            if (countRepeats && sql != null && isSelect(sql)) {
+                repeated.computeIfAbsent(origin + '\n' + sql, key -> new RepeatedStatement(sql, origin)).count++;
+            }
+        }
+
+        private static boolean isSelect(String sql) {
+            String trimmed = sql.stripLeading();
+            return trimmed.regionMatches(true, 0, "select", 0, 6) || trimmed.regionMatches(true, 0, "with", 0, 4);
+        }
+    }
+
+    private static final class RepeatedStatement {
+
+        private final String sql;
+        private final String origin;
+        private int count;
+
+        private RepeatedStatement(String sql, String origin) {
+            this.sql = sql;
+            this.origin = origin;
+        }
+    }
+
+    private static final class SlowStatement {
+
+        private final String sql;
+        private final String origin;
+        private final long nanos;
+
+        private SlowStatement(String sql, String origin, long nanos) {
+            this.sql = sql;
+            this.origin = origin;
+            this.nanos = nanos;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.pepotec.cooperative_taxi_managment.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Métricas de acceso a la base por endpoint y por método de servicio (ver QueryMetricsRecorder).
+ *
+ * Con query-metrics.enabled=true (valor por defecto): envuelve el DataSource en un
+ * QueryMetricsDataSource, registra EndpointQueryMetricsInterceptor y ServiceQueryMetricsAspect.
+ * Sobre las mismas mediciones trabaja QueryDetector (query-detector.*).
+ */
+@Configuration
+@ConditionalOnProperty(name = "query-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryMetricsConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${query-detector.mode:SAMPLE}")
+    private QueryDetector.Mode detectorMode;
+
+    @Value("${query-detector.sample-rate:0.05}")
+    private double detectorSampleRate;
+
+    @Value("${query-detector.repeat-threshold:5}")
+    private int detectorRepeatThreshold;
+
+    @Value("${query-detector.slow-threshold-ms:500}")
+    private long detectorSlowThresholdMillis;
+
+    @Bean
+    public static BeanPostProcessor queryMetricsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryMetricsDataSource)) {
+                    return new QueryMetricsDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public QueryMetricsRecorder queryMetricsRecorder() {
+        return new QueryMetricsRecorder(meterRegistry);
+    }
+
+    @Bean
+    public QueryDetector queryDetector() {
+        return new QueryDetector(detectorMode, detectorSampleRate, detectorRepeatThreshold,
+            detectorSlowThresholdMillis, meterRegistry);
+    }
+
+    @Bean
+    public ServiceQueryMetricsAspect serviceQueryMetricsAspect(ObservationRegistry observationRegistry) {
+        return new ServiceQueryMetricsAspect(observationRegistry, queryMetricsRecorder(), queryDetector());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new EndpointQueryMetricsInterceptor(queryMetricsRecorder()));
+    }
+}
@@ -0,0 +1,109 @@
+package com.pepotec.cooperative_taxi_managment.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource que mide las sentencias JDBC para QueryMetricsScope: cuenta cada execute*
+ * (un executeBatch cuenta como una sentencia), suma el tiempo de ejecución y el de lectura
+ * de las filas (next() del ResultSet) y cuenta las filas leídas.
+ *
+ * Mide tanto las consultas de Hibernate como las de JdbcTemplate (repositories de lotes y
+ * reportes). Si el hilo no tiene un ámbito abierto las llamadas pasan sin medir. El SQL de
+ * cada sentencia se pasa al ámbito para QueryDetector.
+ */
+public class QueryMetricsDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    public QueryMetricsDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    /**
+     * Cierra el DataSource envuelto (el pool), ya que el contenedor solo ve este envoltorio.
+     */
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection wrap(Connection connection) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                return wrap(statement, args != null && args.length > 0 && args[0] instanceof String sql ? sql : null);
+            }
+            return result;
+        };
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class}, handler);
+    }
+
+    private Statement wrap(Statement statement, String preparedSql) {
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+            : statement instanceof PreparedStatement ? PreparedStatement.class
+            : Statement.class;
+        InvocationHandler handler = (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("execute") && QueryMetricsScope.isActive()) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String executed ? executed : preparedSql;
+                long start = System.nanoTime();
+                Object result;
+                try {
+                    result = invoke(statement, method, args);
+                } finally {
+                    QueryMetricsScope.recordStatement(sql, System.nanoTime() - start);
+                }
+                return result instanceof ResultSet resultSet ? wrap(resultSet) : result;
+            }
+            Object result = invoke(statement, method, args);
+            if (name.equals("getResultSet") && result instanceof ResultSet resultSet) {
+                return wrap(resultSet);
+            }
+            return result;
+        };
+        return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private ResultSet wrap(ResultSet resultSet) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().equals("next") && QueryMetricsScope.isActive()) {
+                long start = System.nanoTime();
+                Object hasRow = invoke(resultSet, method, args);
+                QueryMetricsScope.recordFetch(System.nanoTime() - start, Boolean.TRUE.equals(hasRow));
+                return hasRow;
+            }
+            return invoke(resultSet, method, args);
+        };
+        return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {ResultSet.class}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
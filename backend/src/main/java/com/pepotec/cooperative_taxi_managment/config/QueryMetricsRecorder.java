@@ -0,0 +1,55 @@
+package com.pepotec.cooperative_taxi_managment.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.Observation;
+
+import java.time.Duration;
+
+/**
+ * Publica los totales de un QueryMetricsScope como métricas de Micrometer, con los tags
+ * layer (endpoint o service) y name (Clase.método):
+ * - app.db.statements: sentencias JDBC por llamada
+ * - app.db.time: tiempo en la base (ejecución y lectura de filas) por llamada
+ * - app.db.rows: filas leídas por llamada
+ *
+ * También los agrega como valores de alta cardinalidad al contexto de la observación (quedan
+ * como atributos del span si hay un tracer configurado).
+ */
+public class QueryMetricsRecorder {
+
+    public static final String LAYER_ENDPOINT = "endpoint";
+    public static final String LAYER_SERVICE = "service";
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryMetricsRecorder(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String layer, String name, QueryMetricsScope scope) {
+        DistributionSummary.builder("app.db.statements")
+            .description("JDBC statements executed per call")
+            .tags("layer", layer, "name", name)
+            .register(meterRegistry)
+            .record(scope.getStatements());
+        Timer.builder("app.db.time")
+            .description("Time spent executing statements and fetching rows per call")
+            .tags("layer", layer, "name", name)
+            .register(meterRegistry)
+            .record(Duration.ofNanos(scope.getNanos()));
+        DistributionSummary.builder("app.db.rows")
+            .description("Result set rows fetched per call")
+            .tags("layer", layer, "name", name)
+            .register(meterRegistry)
+            .record(scope.getRows());
+    }
+
+    public void annotate(Observation.Context context, QueryMetricsScope scope) {
+        context.addHighCardinalityKeyValue(KeyValue.of("db.statements", String.valueOf(scope.getStatements())));
+        context.addHighCardinalityKeyValue(KeyValue.of("db.time.ms", String.valueOf(scope.getNanos() / 1_000_000)));
+        context.addHighCardinalityKeyValue(KeyValue.of("db.rows", String.valueOf(scope.getRows())));
+    }
+}
@@ -0,0 +1,122 @@
+package com.pepotec.cooperative_taxi_managment.config;
+
+import java.util.ArrayDeque;
+
+/**
+ * Acumulador de las sentencias JDBC ejecutadas por el hilo mientras está abierto (ver
+ * QueryMetricsDataSource): cantidad de sentencias, tiempo en la base y filas leídas.
+ *
+ * Los ámbitos se anidan: cada sentencia suma en todos los ámbitos abiertos del hilo (el del
+ * endpoint y el de cada método de servicio en curso), por lo que cada uno tiene los totales
+ * de todo lo que ejecutó, incluidas las llamadas internas. Debe cerrarse en el mismo hilo.
+ *
+ * Un ámbito puede además llevar el seguimiento de QueryDetector, que recibe cada sentencia
+ * con su SQL y el ámbito más interno (el método que la originó).
+ */
+public final class QueryMetricsScope implements AutoCloseable {
+
+    private static final ThreadLocal<ArrayDeque<QueryMetricsScope>> OPEN_SCOPES = new ThreadLocal<>();
+
+    private final String name;
+    private long statements;
+    private long nanos;
+    private long rows;
+    private QueryDetector.Tracking tracking;
+
+    private QueryMetricsScope(String name) {
+        this.name = name;
+    }
+
+    public static QueryMetricsScope open(String name) {
+        ArrayDeque<QueryMetricsScope> scopes = OPEN_SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            OPEN_SCOPES.set(scopes);
+        }
+        QueryMetricsScope scope = new QueryMetricsScope(name);
+        scopes.push(scope);
+        return scope;
+    }
+
+    /**
+     * Hay algún ámbito abierto en el hilo (si no, las sentencias no se miden).
+     */
+    static boolean isActive() {
+        return OPEN_SCOPES.get() != null;
+    }
+
+    /**
+     * Algún ámbito abierto en el hilo ya tiene seguimiento de QueryDetector.
+     */
+    static boolean isTracked() {
+        ArrayDeque<QueryMetricsScope> scopes = OPEN_SCOPES.get();
+        if (scopes != null) {
+            for (QueryMetricsScope scope : scopes) {
+                if (scope.tracking != null) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    static void recordStatement(String sql, long elapsedNanos) {
+        ArrayDeque<QueryMetricsScope> scopes = OPEN_SCOPES.get();
+        if (scopes != null) {
+            for (QueryMetricsScope scope : scopes) {
+                scope.statements++;
+                scope.nanos += elapsedNanos;
+                if (scope.tracking != null) {
+                    scope.tracking.statement(sql, elapsedNanos, scopes.peek().name);
+                }
+            }
+        }
+    }
+
+    static void recordFetch(long elapsedNanos, boolean row) {
+        ArrayDeque<QueryMetricsScope> scopes = OPEN_SCOPES.get();
+        if (scopes != null) {
+            for (QueryMetricsScope scope : scopes) {
+                scope.nanos += elapsedNanos;
+                if (row) {
+                    scope.rows++;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        ArrayDeque<QueryMetricsScope> scopes = OPEN_SCOPES.get();
+        if (scopes != null) {
+            scopes.remove(this);
+            if (scopes.isEmpty()) {
+                OPEN_SCOPES.remove();
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    QueryDetector.Tracking getTracking() {
+        return tracking;
+    }
+
+    void setTracking(QueryDetector.Tracking tracking) {
+        this.tracking = tracking;
+    }
+}
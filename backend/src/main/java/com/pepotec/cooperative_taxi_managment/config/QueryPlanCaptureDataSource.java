@@ -0,0 +1,165 @@
+package com.pepotec.cooperative_taxi_managment.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * DataSource que permite obtener el plan de ejecución (EXPLAIN) de las consultas que ejecuta
+ * Hibernate, con los mismos parámetros.
+ *
+ * Fuera de {@link #capture} las conexiones y sentencias se comportan igual que las originales.
+ * Durante {@link #capture}, las consultas que se ejecutan en el hilo no llegan a correr: se
+ * ejecuta EXPLAIN sobre la misma conexión, se guarda el plan y se devuelve un resultado vacío.
+ */
+public class QueryPlanCaptureDataSource extends DelegatingDataSource {
+
+    private final ThreadLocal<List<QueryPlan>> capturing = new ThreadLocal<>();
+
+    public QueryPlanCaptureDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    /**
+     * Ejecuta la acción y devuelve los planes de las consultas que intentó ejecutar.
+     * Las consultas devuelven un resultado vacío.
+     */
+    public List<QueryPlan> capture(Runnable action) {
+        List<QueryPlan> plans = new ArrayList<>(1);
+        capturing.set(plans);
+        try {
+            action.run();
+        } finally {
+            capturing.remove();
+        }
+        return plans;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                return wrap(connection, statement, (String) args[0]);
+            }
+            return result;
+        };
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class}, handler);
+    }
+
+    private PreparedStatement wrap(Connection connection, PreparedStatement statement, String sql) {
+        // Parámetros por posición: se guarda el setter usado para repetirlo sobre el EXPLAIN
+        Map<Integer, Object[]> parameters = new TreeMap<>();
+        InvocationHandler handler = (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, new Object[] {method, args});
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (name.equals("executeQuery") && (args == null || args.length == 0)) {
+                List<QueryPlan> plans = capturing.get();
+                if (plans != null) {
+                    plans.add(explain(connection, sql, parameters));
+                    return emptyResultSet((PreparedStatement) proxy, statement);
+                }
+            }
+            return invoke(statement, method, args);
+        };
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[] {PreparedStatement.class}, handler);
+    }
+
+    /**
+     * Resultado sin filas: alcanza para que Hibernate termine la lectura sin ejecutar la consulta.
+     */
+    private ResultSet emptyResultSet(PreparedStatement proxy, PreparedStatement statement) {
+        InvocationHandler handler = (resultSet, method, args) -> switch (method.getName()) {
+            case "next", "wasNull", "isClosed" -> false;
+            case "close", "getWarnings", "clearWarnings" -> null;
+            case "getStatement" -> proxy;
+            case "getMetaData" -> statement.getMetaData();
+            case "unwrap" -> throw new SQLException("Not a wrapper");
+            case "isWrapperFor" -> false;
+            case "hashCode" -> System.identityHashCode(resultSet);
+            case "equals" -> resultSet == args[0];
+            case "toString" -> "EmptyResultSet";
+            default -> throw new UnsupportedOperationException("Empty result set: " + method.getName());
+        };
+        return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {ResultSet.class}, handler);
+    }
+
+    private QueryPlan explain(Connection connection, String sql, Map<Integer, Object[]> parameters) throws Throwable {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (Object[] setter : parameters.values()) {
+                invoke(explain, (Method) setter[0], (Object[]) setter[1]);
+            }
+            List<Map<String, Object>> rows = new ArrayList<>();
+            try (ResultSet resultSet = explain.executeQuery()) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                while (resultSet.next()) {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                        row.put(metaData.getColumnLabel(i).toLowerCase(Locale.ROOT), resultSet.getObject(i));
+                    }
+                    rows.add(row);
+                }
+            }
+            return new QueryPlan(sql, rows);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Plan de una consulta: filas del EXPLAIN con los nombres de columna en minúsculas
+     * (MySQL: una fila por tabla con type, possible_keys, key...; H2: una fila con plan).
+     */
+    public static class QueryPlan {
+
+        private final String sql;
+        private final List<Map<String, Object>> rows;
+
+        private QueryPlan(String sql, List<Map<String, Object>> rows) {
+            this.sql = sql;
+            this.rows = rows;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public List<Map<String, Object>> getRows() {
+            return rows;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.pepotec.cooperative_taxi_managment.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Habilita la verificación de planes de consulta al arrancar (ver QueryPlanCheckService).
+ *
+ * Solo con query-plan-check.enabled=true: envuelve el DataSource en un
+ * QueryPlanCaptureDataSource. Con la verificación deshabilitada el DataSource no se modifica.
+ */
+@Configuration
+@ConditionalOnProperty(name = "query-plan-check.enabled", havingValue = "true")
+public class QueryPlanCheckConfig {
+
+    @Bean
+    public static BeanPostProcessor queryPlanCaptureDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryPlanCaptureDataSource)) {
+                    return new QueryPlanCaptureDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
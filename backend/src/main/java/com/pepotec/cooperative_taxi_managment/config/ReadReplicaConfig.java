@@ -0,0 +1,73 @@
+package com.pepotec.cooperative_taxi_managment.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Réplica de lectura (ver ReadReplicaDataSource).
+ *
+ * Solo con read-replica.url: envuelve el DataSource en un ReadReplicaDataSource con un pool
+ * Hikari propio para la réplica (read-replica.username, read-replica.password y
+ * read-replica.hikari.*; usuario y clave por defecto los del primario). El envoltorio se
+ * aplica antes que los demás (métricas, planes de consulta) para que estos midan las
+ * conexiones de ambos pools.
+ */
+@Configuration
+@ConditionalOnProperty(name = "read-replica.url")
+public class ReadReplicaConfig {
+
+    private static final String DEFAULT_POOL_NAME = "cooperative-taxi-replica";
+
+    @Bean
+    public static BeanPostProcessor readReplicaDataSourcePostProcessor(Environment environment) {
+        return new ReadReplicaPostProcessor(environment);
+    }
+
+    private static final class ReadReplicaPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+
+        private ReadReplicaPostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof ReadReplicaDataSource)) {
+                return new ReadReplicaDataSource(dataSource, replicaDataSource(),
+                    environment.getProperty("read-replica.retry-after-ms", Long.class, 30_000L));
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        private HikariDataSource replicaDataSource() {
+            HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(environment.getRequiredProperty("read-replica.url"))
+                .username(environment.getProperty("read-replica.username", environment.getProperty("spring.datasource.username")))
+                .password(environment.getProperty("read-replica.password", environment.getProperty("spring.datasource.password")))
+                .build();
+            Binder.get(environment).bind("read-replica.hikari", Bindable.ofInstance(replica));
+            if (replica.getPoolName() == null) {
+                replica.setPoolName(DEFAULT_POOL_NAME);
+            }
+            replica.setReadOnly(true);
+            return replica;
+        }
+    }
+}
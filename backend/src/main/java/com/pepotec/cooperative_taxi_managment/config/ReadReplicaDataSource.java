@@ -0,0 +1,77 @@
+package com.pepotec.cooperative_taxi_managment.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * DataSource que envía las transacciones de solo lectura (@Transactional(readOnly = true)) a
+ * la réplica y el resto al primario.
+ *
+ * La conexión física se obtiene recién en la primera sentencia (LazyConnectionDataSourceProxy),
+ * cuando el administrador de transacciones ya la marcó como de solo lectura. Si la réplica no
+ * entrega una conexión, se usa el primario y no se la vuelve a intentar durante retryAfterMillis.
+ *
+ * Las transacciones de solo lectura que abre Spring Data por su cuenta (un repository llamado
+ * fuera de una transacción de servicio, como las validaciones previas a un alta o la
+ * inicialización de la caja) siguen en el primario, para no leer datos atrasados por la
+ * demora de replicación justo antes de escribir.
+ */
+public class ReadReplicaDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicaDataSource.class);
+
+    private static final String REPOSITORY_TRANSACTION_PREFIX = "org.springframework.data.";
+
+    private final DataSource replica;
+    private final long retryAfterMillis;
+    private volatile long replicaRetryAt;
+
+    public ReadReplicaDataSource(DataSource primary, DataSource replica, long retryAfterMillis) {
+        super(primary);
+        this.replica = replica;
+        this.retryAfterMillis = retryAfterMillis;
+        setReadOnlyDataSource(new DelegatingDataSource(replica) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return getReadOnlyConnection();
+            }
+        });
+    }
+
+    private Connection getReadOnlyConnection() throws SQLException {
+        if (!isRepositoryTransaction() && System.currentTimeMillis() >= replicaRetryAt) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                replicaRetryAt = System.currentTimeMillis() + retryAfterMillis;
+                log.warn("Read replica unavailable, read-only transactions use the primary for the next {} ms: {}",
+                    retryAfterMillis, e.getMessage());
+            }
+        }
+        Connection connection = obtainTargetDataSource().getConnection();
+        connection.setReadOnly(true);
+        return connection;
+    }
+
+    private static boolean isRepositoryTransaction() {
+        String name = TransactionSynchronizationManager.getCurrentTransactionName();
+        return name != null && name.startsWith(REPOSITORY_TRANSACTION_PREFIX);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (replica instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.pepotec.cooperative_taxi_managment.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import jakarta.persistence.SharedCacheMode;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuración del caché de segundo nivel de Hibernate (JCache sobre Caffeine, local a la instancia).
+ *
+ * Solo se cachean los datos de referencia marcados con @Cacheable (marcas, modelos y tipos de
+ * ingreso/gasto) y las consultas de sus repositories marcadas como cacheables. Hibernate
+ * actualiza o invalida las regiones al guardar o borrar estas entidades, y las consultas
+ * cacheadas se invalidan cuando cambia cualquiera de sus tablas.
+ *
+ * Las estadísticas de Hibernate quedan habilitadas para que Micrometer publique los aciertos
+ * y fallos por región (hibernate.second.level.cache.requests en /actuator/metrics).
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String BRANDS_REGION = "reference.brands";
+    public static final String MODELS_REGION = "reference.models";
+    public static final String TYPES_REGION = "reference.types";
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Value("${reference-data.cache.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    @Value("${reference-data.cache.max-entries:10000}")
+    private long maxEntries;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        for (String region : new String[] {BRANDS_REGION, MODELS_REGION, TYPES_REGION, QUERY_RESULTS_REGION}) {
+            if (cacheManager.getCache(region) == null) {
+                cacheManager.createCache(region, boundedRegion());
+            }
+        }
+        // La región de timestamps no debe expirar: es la que invalida los resultados de consultas
+        if (cacheManager.getCache(UPDATE_TIMESTAMPS_REGION) == null) {
+            cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, new CaffeineConfiguration<Object, Object>());
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private CaffeineConfiguration<Object, Object> boundedRegion() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MINUTES.toNanos(ttlMinutes)));
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
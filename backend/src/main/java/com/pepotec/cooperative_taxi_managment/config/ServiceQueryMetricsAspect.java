@@ -0,0 +1,63 @@
+package com.pepotec.cooperative_taxi_managment.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+
+import java.util.List;
+
+/**
+ * Mide cada método público de los @Service: una observación app.service (timer con el tiempo
+ * total del método y span si hay tracer) más las métricas app.db.* de las sentencias que
+ * ejecutó, incluidas las de los servicios que llama. La diferencia entre app.service y
+ * app.db.time es el tiempo fuera de la base (armado de DTOs, validaciones).
+ *
+ * También abre el seguimiento de QueryDetector en el método más externo; en modo FAIL la
+ * excepción se lanza después de cerrar el ámbito y solo si el método terminó bien.
+ *
+ * Se ubica por fuera de @Transactional para incluir las sentencias del flush al confirmar.
+ */
+@Aspect
+@Order(0)
+public class ServiceQueryMetricsAspect {
+
+    private final ObservationRegistry observationRegistry;
+    private final QueryMetricsRecorder recorder;
+    private final QueryDetector queryDetector;
+
+    public ServiceQueryMetricsAspect(ObservationRegistry observationRegistry, QueryMetricsRecorder recorder,
+                                     QueryDetector queryDetector) {
+        this.observationRegistry = observationRegistry;
+        this.recorder = recorder;
+        this.queryDetector = queryDetector;
+    }
+
+    @Around("@within(org.springframework.stereotype.Service) && execution(public * *(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        String name = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        Observation observation = Observation.createNotStarted("app.service", observationRegistry)
+            .lowCardinalityKeyValue("method", name)
+            .start();
+        QueryMetricsScope scope = QueryMetricsScope.open(name);
+        queryDetector.start(scope);
+        List<String> findings = List.of();
+        Object result;
+        try (Observation.Scope ignored = observation.openScope()) {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            scope.close();
+            recorder.record(QueryMetricsRecorder.LAYER_SERVICE, name, scope);
+            recorder.annotate(observation.getContext(), scope);
+            observation.stop();
+            findings = queryDetector.report(scope);
+        }
+        queryDetector.failOnFindings(name, findings);
+        return result;
+    }
+}
@@ -2,6 +2,8 @@ package com.pepotec.cooperative_taxi_managment.controllers;
 
 import com.pepotec.cooperative_taxi_managment.models.dto.accounthistory.AccountHistoryCreateDTO;
 import com.pepotec.cooperative_taxi_managment.models.dto.accounthistory.AccountHistoryDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.accounthistory.MonthlyCloseResultDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.page.KeysetPageDTO;
 import com.pepotec.cooperative_taxi_managment.services.AccountHistoryService;
 import com.pepotec.cooperative_taxi_managment.services.AccountHistorySchedulerService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,8 +16,10 @@ import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -109,6 +113,37 @@ public class AccountHistoryController {
         return ResponseEntity.ok(accountHistoryService.listAll());
     }
 
+    @Operation(
+        summary = "Listar historiales de cuenta paginados",
+        description = "Devuelve una página ordenada por ID. Para pedir la siguiente se envía el nextCursor recibido como afterId.",
+        tags = {"Account History"},
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Página obtenida", content = @Content(schema = @Schema(implementation = KeysetPageDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Tamaño de página o cursor inválido")
+        }
+    )
+    @GetMapping("/list/page")
+    public ResponseEntity<KeysetPageDTO<AccountHistoryDTO>> listPage(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(accountHistoryService.listPage(afterId, size));
+    }
+
+    @Operation(
+        summary = "Exportar historiales de cuenta (NDJSON)",
+        description = "Devuelve todos los registros como NDJSON (un objeto JSON por línea), escribiéndolos a medida que se leen de la base.",
+        tags = {"Account History"},
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Exportación en curso", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE))
+        }
+    )
+    @GetMapping(value = "/list/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(accountHistoryService.streamAll());
+    }
+
     @Operation(
         summary = "Listar historiales por cuenta de socio",
         description = "Obtiene una lista de todos los historiales asociados a una cuenta de socio específica.",
@@ -261,30 +296,24 @@ public class AccountHistoryController {
         description = "Ejecuta manualmente la generación automática de historiales de cuenta para el mes anterior. " +
                      "Este endpoint está diseñado para pruebas y permite ejecutar el proceso que normalmente se ejecuta " +
                      "automáticamente el día 1 de cada mes a las 00:00:00. Genera historiales para todas las cuentas " +
-                     "activas (socios, abonados y vehículos) con el saldo actual de cada una.",
+                     "activas (socios, abonados y vehículos) con el saldo actual de cada una, omitiendo las que ya " +
+                     "tienen historial para el período, y devuelve la cantidad creada por tipo de cuenta.",
         tags = {"Account History"},
         responses = {
             @ApiResponse(
                 responseCode = "200",
-                description = "Proceso de generación de historiales iniciado exitosamente",
+                description = "Historiales generados exitosamente",
                 content = @Content(
                     mediaType = "application/json",
-                    schema = @Schema(example = "{\"message\": \"Generación de historiales iniciada. Revisa los logs para ver el progreso.\"}")
+                    schema = @Schema(implementation = MonthlyCloseResultDTO.class)
                 )
             ),
-            @ApiResponse(responseCode = "500", description = "Error al iniciar el proceso de generación")
+            @ApiResponse(responseCode = "500", description = "Error durante la generación de historiales")
         }
     )
     @PostMapping("/generate-monthly-histories")
-    public ResponseEntity<java.util.Map<String, String>> generateMonthlyHistories() {
-        // Ejecutar el método del scheduler manualmente
-        accountHistorySchedulerService.generateMonthlyAccountHistories();
-        
-        java.util.Map<String, String> response = new java.util.HashMap<>();
-        response.put("message", "Generación de historiales iniciada. Revisa los logs para ver el progreso.");
-        response.put("timestamp", java.time.LocalDateTime.now().toString());
-        
-        return ResponseEntity.ok(response);
+    public ResponseEntity<MonthlyCloseResultDTO> generateMonthlyHistories() {
+        // Ejecutar manualmente el cierre que normalmente lanza el scheduler
+        return ResponseEntity.ok(accountHistorySchedulerService.closePreviousMonth());
     }
 }
-
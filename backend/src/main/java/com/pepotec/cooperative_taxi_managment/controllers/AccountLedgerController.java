@@ -0,0 +1,91 @@
+package com.pepotec.cooperative_taxi_managment.controllers;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.accountledger.AccountBalanceAtDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.accountledger.AccountStatementDTO;
+import com.pepotec.cooperative_taxi_managment.services.AccountLedgerService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@ApiResponses(
+    value = {
+        @ApiResponse(responseCode = "200", description = "Operación exitosa"),
+        @ApiResponse(responseCode = "400", description = "Datos inválidos"),
+        @ApiResponse(responseCode = "404", description = "Recurso no encontrado"),
+        @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    }
+)
+@Tag(
+    name = "Account Ledger",
+    description = "API para consultar el libro de saldos de cuentas: saldos a una fecha y extractos"
+)
+@RestController
+@RequestMapping("/account-ledger")
+public class AccountLedgerController {
+
+    @Autowired
+    private AccountLedgerService accountLedgerService;
+
+    @Operation(
+        summary = "Obtener el saldo de una cuenta a una fecha",
+        description = "Devuelve el saldo de la cuenta al final del día indicado. Se debe indicar solo una cuenta (socio, abonado o vehículo).",
+        tags = {"Account Ledger"},
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Saldo obtenido",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = AccountBalanceAtDTO.class)
+                )
+            ),
+            @ApiResponse(responseCode = "400", description = "Parámetros inválidos"),
+            @ApiResponse(responseCode = "404", description = "Cuenta no encontrada")
+        }
+    )
+    @GetMapping("/balance-at")
+    public ResponseEntity<AccountBalanceAtDTO> getBalanceAt(
+            @RequestParam(required = false) Long memberAccountId,
+            @RequestParam(required = false) Long subscriberAccountId,
+            @RequestParam(required = false) Long vehicleAccountId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date) {
+        return ResponseEntity.ok(accountLedgerService.getBalanceAt(memberAccountId, subscriberAccountId, vehicleAccountId, date));
+    }
+
+    @Operation(
+        summary = "Obtener el extracto de una cuenta",
+        description = "Devuelve el saldo inicial, los asientos con su saldo corrido y el saldo final de la cuenta entre dos fechas (inclusive).",
+        tags = {"Account Ledger"},
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Extracto obtenido",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = AccountStatementDTO.class)
+                )
+            ),
+            @ApiResponse(responseCode = "400", description = "Parámetros inválidos"),
+            @ApiResponse(responseCode = "404", description = "Cuenta no encontrada")
+        }
+    )
+    @GetMapping("/statement")
+    public ResponseEntity<AccountStatementDTO> getStatement(
+            @RequestParam(required = false) Long memberAccountId,
+            @RequestParam(required = false) Long subscriberAccountId,
+            @RequestParam(required = false) Long vehicleAccountId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate) {
+        return ResponseEntity.ok(accountLedgerService.getStatement(memberAccountId, subscriberAccountId, vehicleAccountId,
+            startDate, endDate));
+    }
+}
@@ -0,0 +1,116 @@
+package com.pepotec.cooperative_taxi_managment.controllers;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.accountmovement.AccountMovementLineDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.settlementallocation.SettlementAllocationDetailDTO;
+import com.pepotec.cooperative_taxi_managment.services.AccountMovementReportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@ApiResponses(
+    value = {
+        @ApiResponse(responseCode = "200", description = "Operación exitosa"),
+        @ApiResponse(responseCode = "400", description = "Datos inválidos"),
+        @ApiResponse(responseCode = "404", description = "Recurso no encontrado"),
+        @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    }
+)
+@Tag(
+    name = "Account Movement Report",
+    description = "API de consulta de movimientos de cuenta (ingresos, gastos mensuales y arreglos de taller) y sus asignaciones de pago"
+)
+@RestController
+@RequestMapping("/account-movement-report")
+public class AccountMovementReportController {
+
+    @Autowired
+    private AccountMovementReportService accountMovementReportService;
+
+    @Operation(
+        summary = "Listar los movimientos de cuenta de una cuenta por períodos",
+        description = "Devuelve los ingresos, gastos mensuales y arreglos de taller activos de la cuenta entre dos períodos (inclusive), con el monto asignado por pagos a cada uno. Se debe indicar solo una cuenta (socio, abonado o vehículo).",
+        tags = {"Account Movement Report"},
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Movimientos obtenidos",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = AccountMovementLineDTO.class)
+                )
+            ),
+            @ApiResponse(responseCode = "400", description = "Parámetros inválidos"),
+            @ApiResponse(responseCode = "404", description = "Cuenta no encontrada")
+        }
+    )
+    @GetMapping("/lines")
+    public ResponseEntity<List<AccountMovementLineDTO>> listLines(
+            @RequestParam(required = false) Long memberAccountId,
+            @RequestParam(required = false) Long subscriberAccountId,
+            @RequestParam(required = false) Long vehicleAccountId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth fromYearMonth,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth toYearMonth) {
+        return ResponseEntity.ok(accountMovementReportService.listLines(memberAccountId, subscriberAccountId,
+            vehicleAccountId, fromYearMonth, toYearMonth));
+    }
+
+    @Operation(
+        summary = "Listar las asignaciones de pago de una cuenta por períodos",
+        description = "Devuelve las asignaciones de pago activas de los movimientos de la cuenta entre dos períodos (inclusive), con los datos del recibo, liquidación o movimiento de dinero que pagó cada una. Se debe indicar solo una cuenta (socio, abonado o vehículo).",
+        tags = {"Account Movement Report"},
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Asignaciones obtenidas",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = SettlementAllocationDetailDTO.class)
+                )
+            ),
+            @ApiResponse(responseCode = "400", description = "Parámetros inválidos"),
+            @ApiResponse(responseCode = "404", description = "Cuenta no encontrada")
+        }
+    )
+    @GetMapping("/allocations")
+    public ResponseEntity<List<SettlementAllocationDetailDTO>> listAllocations(
+            @RequestParam(required = false) Long memberAccountId,
+            @RequestParam(required = false) Long subscriberAccountId,
+            @RequestParam(required = false) Long vehicleAccountId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth fromYearMonth,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth toYearMonth) {
+        return ResponseEntity.ok(accountMovementReportService.listAllocations(memberAccountId, subscriberAccountId,
+            vehicleAccountId, fromYearMonth, toYearMonth));
+    }
+
+    @Operation(
+        summary = "Listar las asignaciones de pago de un movimiento de cuenta",
+        description = "Devuelve las asignaciones de pago activas del movimiento de cuenta indicado, con los datos del medio de pago.",
+        tags = {"Account Movement Report"},
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Asignaciones obtenidas",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = SettlementAllocationDetailDTO.class)
+                )
+            ),
+            @ApiResponse(responseCode = "400", description = "ID inválido")
+        }
+    )
+    @GetMapping("/allocations/by-account-movement/{accountMovementId}")
+    public ResponseEntity<List<SettlementAllocationDetailDTO>> listAllocationsByAccountMovement(
+            @PathVariable Long accountMovementId) {
+        return ResponseEntity.ok(accountMovementReportService.listAllocationsByAccountMovement(accountMovementId));
+    }
+}
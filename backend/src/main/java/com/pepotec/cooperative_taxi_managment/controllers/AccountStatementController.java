@@ -0,0 +1,99 @@
+package com.pepotec.cooperative_taxi_managment.controllers;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.accountstatement.AccountStatementLineDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.accountstatement.AccountStatementPageDTO;
+import com.pepotec.cooperative_taxi_managment.services.AccountStatementService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+@ApiResponses(
+    value = {
+        @ApiResponse(responseCode = "200", description = "Operación exitosa"),
+        @ApiResponse(responseCode = "400", description = "Datos inválidos"),
+        @ApiResponse(responseCode = "404", description = "Recurso no encontrado"),
+        @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    }
+)
+@Tag(
+    name = "Account Statement",
+    description = "API del extracto combinado de una cuenta: movimientos de dinero, movimientos de cuenta, adelantos, liquidaciones de sueldo y asignaciones de pago ordenados por fecha, con saldo corrido"
+)
+@RestController
+@RequestMapping("/account-statement")
+public class AccountStatementController {
+
+    @Autowired
+    private AccountStatementService accountStatementService;
+
+    @Operation(
+        summary = "Obtener una página del extracto combinado de una cuenta",
+        description = "Devuelve las líneas de todos los orígenes de la cuenta entre dos fechas (inclusive), ordenadas por fecha, con el saldo corrido y el saldo previo a la página. Para la página siguiente se envía nextCursor como afterCursor. Se debe indicar solo una cuenta (socio, abonado o vehículo).",
+        tags = {"Account Statement"},
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Página obtenida",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = AccountStatementPageDTO.class)
+                )
+            ),
+            @ApiResponse(responseCode = "400", description = "Parámetros inválidos"),
+            @ApiResponse(responseCode = "404", description = "Cuenta no encontrada")
+        }
+    )
+    @GetMapping("/page")
+    public ResponseEntity<AccountStatementPageDTO> getPage(
+            @RequestParam(required = false) Long memberAccountId,
+            @RequestParam(required = false) Long subscriberAccountId,
+            @RequestParam(required = false) Long vehicleAccountId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+            @RequestParam(required = false) String afterCursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(accountStatementService.getPage(memberAccountId, subscriberAccountId,
+            vehicleAccountId, startDate, endDate, afterCursor, size));
+    }
+
+    @Operation(
+        summary = "Exportar el extracto combinado de una cuenta (NDJSON)",
+        description = "Devuelve todas las líneas del extracto entre dos fechas (inclusive) como NDJSON (un objeto JSON por línea), escribiéndolas a medida que se leen de la base. Se debe indicar solo una cuenta (socio, abonado o vehículo).",
+        tags = {"Account Statement"},
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Exportación en curso",
+                content = @Content(
+                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = AccountStatementLineDTO.class)
+                )
+            ),
+            @ApiResponse(responseCode = "400", description = "Parámetros inválidos"),
+            @ApiResponse(responseCode = "404", description = "Cuenta no encontrada")
+        }
+    )
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream(
+            @RequestParam(required = false) Long memberAccountId,
+            @RequestParam(required = false) Long subscriberAccountId,
+            @RequestParam(required = false) Long vehicleAccountId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(accountStatementService.stream(memberAccountId, subscriberAccountId, vehicleAccountId,
+                startDate, endDate));
+    }
+}
@@ -0,0 +1,76 @@
+package com.pepotec.cooperative_taxi_managment.controllers;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.balancereconciliation.BalanceReconciliationReportDTO;
+import com.pepotec.cooperative_taxi_managment.services.BalanceReconciliationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@ApiResponses(
+    value = {
+        @ApiResponse(responseCode = "200", description = "Operación exitosa"),
+        @ApiResponse(responseCode = "400", description = "Datos inválidos"),
+        @ApiResponse(responseCode = "404", description = "Recurso no encontrado"),
+        @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    }
+)
+@Tag(
+    name = "Balance Reconciliation",
+    description = "API para verificar que los saldos de las cuentas coincidan con sus movimientos"
+)
+@RestController
+@RequestMapping("/balance-reconciliations")
+public class BalanceReconciliationController {
+
+    @Autowired
+    private BalanceReconciliationService balanceReconciliationService;
+
+    @Operation(
+        summary = "Ejecutar la conciliación de saldos",
+        description = "Suma los movimientos posteriores a la última conciliación y compara el saldo esperado con el real de cada cuenta. " +
+                      "Con fullCheck=true recalcula todas las cuentas desde cero. La conciliación también se ejecuta automáticamente cada noche.",
+        tags = {"Balance Reconciliation"},
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Conciliación ejecutada",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = BalanceReconciliationReportDTO.class)
+                )
+            ),
+            @ApiResponse(responseCode = "400", description = "Ya hay una conciliación en curso")
+        }
+    )
+    @PostMapping("/run")
+    public ResponseEntity<BalanceReconciliationReportDTO> run(@RequestParam(defaultValue = "false") boolean fullCheck) {
+        return ResponseEntity.ok(balanceReconciliationService.reconcile(fullCheck));
+    }
+
+    @Operation(
+        summary = "Obtener el último reporte de conciliación",
+        description = "Devuelve la última conciliación terminada y las cuentas cuyo saldo difiere del esperado.",
+        tags = {"Balance Reconciliation"},
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Reporte encontrado",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = BalanceReconciliationReportDTO.class)
+                )
+            ),
+            @ApiResponse(responseCode = "404", description = "Todavía no se ejecutó ninguna conciliación")
+        }
+    )
+    @GetMapping("/latest")
+    public ResponseEntity<BalanceReconciliationReportDTO> getLatest() {
+        return ResponseEntity.ok(balanceReconciliationService.getLatestReport());
+    }
+}
@@ -1,7 +1,10 @@
 package com.pepotec.cooperative_taxi_managment.controllers;
 
+import com.pepotec.cooperative_taxi_managment.models.dto.movement.MovementBatchResultDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.movement.cash.CashMovementBatchCreateDTO;
 import com.pepotec.cooperative_taxi_managment.models.dto.movement.cash.CashMovementCreateDTO;
 import com.pepotec.cooperative_taxi_managment.models.dto.movement.cash.CashMovementDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.page.KeysetPageDTO;
 import com.pepotec.cooperative_taxi_managment.services.CashMovementService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,8 +15,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -52,6 +57,21 @@ public class CashMovementController {
         return ResponseEntity.ok(cashMovementService.create(dto));
     }
 
+    @Operation(
+        summary = "Crear movimientos en efectivo en lote",
+        description = "Crea hasta 1000 movimientos en una única transacción. Si algún movimiento es inválido no se guarda ninguno.",
+        tags = {"Cash Movements"},
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Movimientos creados", content = @Content(schema = @Schema(implementation = MovementBatchResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Datos inválidos"),
+            @ApiResponse(responseCode = "404", description = "Cuenta no encontrada")
+        }
+    )
+    @PostMapping("/create/bulk")
+    public ResponseEntity<MovementBatchResultDTO> createBatch(@Valid @RequestBody CashMovementBatchCreateDTO dto) {
+        return ResponseEntity.ok(cashMovementService.createBatch(dto.getMovements()));
+    }
+
     @Operation(
         summary = "Obtener movimiento por ID",
         description = "Devuelve un movimiento de caja por su ID.",
@@ -79,6 +99,37 @@ public class CashMovementController {
         return ResponseEntity.ok(cashMovementService.listAll());
     }
 
+    @Operation(
+        summary = "Listar movimientos en efectivo paginados",
+        description = "Devuelve una página ordenada por ID. Para pedir la siguiente se envía el nextCursor recibido como afterId.",
+        tags = {"Cash Movements"},
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Página obtenida", content = @Content(schema = @Schema(implementation = KeysetPageDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Tamaño de página o cursor inválido")
+        }
+    )
+    @GetMapping("/list/page")
+    public ResponseEntity<KeysetPageDTO<CashMovementDTO>> listPage(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(cashMovementService.listPage(afterId, size));
+    }
+
+    @Operation(
+        summary = "Exportar movimientos en efectivo (NDJSON)",
+        description = "Devuelve todos los registros como NDJSON (un objeto JSON por línea), escribiéndolos a medida que se leen de la base.",
+        tags = {"Cash Movements"},
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Exportación en curso", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE))
+        }
+    )
+    @GetMapping(value = "/list/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(cashMovementService.streamAll());
+    }
+
     @Operation(
         summary = "Listar movimientos activos",
         description = "Lista movimientos de caja con active=true.",
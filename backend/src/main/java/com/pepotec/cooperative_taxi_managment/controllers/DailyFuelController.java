@@ -3,7 +3,13 @@ package com.pepotec.cooperative_taxi_managment.controllers;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.beans.factory.annotation.Autowired;
 import com.pepotec.cooperative_taxi_managment.services.DailyFuelService;
+import com.pepotec.cooperative_taxi_managment.models.dto.csvimport.CsvImportResultDTO;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.IOException;
+import java.io.InputStream;
+import com.pepotec.cooperative_taxi_managment.services.DailyFuelImportService;
 import com.pepotec.cooperative_taxi_managment.models.dto.dailyfuel.DailyFuelDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.page.KeysetPageDTO;
 import com.pepotec.cooperative_taxi_managment.models.dto.dailyfuel.DailyFuelCreateDTO;
 import org.springframework.web.bind.annotation.RequestMapping;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,12 +21,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
 import java.time.LocalDate;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -46,6 +54,9 @@ public class DailyFuelController {
     @Autowired
     private DailyFuelService dailyFuelService;
 
+    @Autowired
+    private DailyFuelImportService dailyFuelImportService;
+
     @Operation(
         summary = "Crear un nuevo registro de combustible diario",
         description = "Crea un nuevo registro de combustible diario para un chofer y vehículo existentes.",
@@ -74,6 +85,38 @@ public class DailyFuelController {
             .body(dailyFuelService.createDailyFuel(driverId, vehicleId, settlementId, dailyFuel));
     }
 
+    @Operation(
+        summary = "Importar combustibles diarios desde CSV",
+        description = "Importa un archivo CSV (separado por comas o punto y coma) con una línea por ticket de " +
+            "combustible. Columnas obligatorias: driver_dni, license_plate, settlement_id, ticket_issue_date, " +
+            "submission_date, amount, fuel_type. Opcionales: cooperative_percentage, driver_percentage (fechas " +
+            "dd/MM/yyyy). La importación es atómica: si alguna línea es inválida no se guarda ninguna y se " +
+            "informa el error de cada línea.",
+        tags = {"Daily Fuel"},
+        responses = {
+            @ApiResponse(
+                responseCode = "201",
+                description = "Archivo importado",
+                content = @Content(schema = @Schema(implementation = CsvImportResultDTO.class))
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Líneas inválidas (no se importó nada) o encabezado incompleto",
+                content = @Content(schema = @Schema(implementation = CsvImportResultDTO.class))
+            )
+        }
+    )
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<CsvImportResultDTO> importDailyFuels(@RequestParam("file") MultipartFile file) throws IOException {
+        CsvImportResultDTO result;
+        try (InputStream input = file.getInputStream()) {
+            result = dailyFuelImportService.importDailyFuels(input);
+        }
+        return ResponseEntity
+            .status(result.getRejected() > 0 ? HttpStatus.BAD_REQUEST : HttpStatus.CREATED)
+            .body(result);
+    }
+
     @Operation(
         summary = "Actualizar un registro de combustible diario existente",
         description = "Actualiza los datos de un registro de combustible diario existente por su ID.",
@@ -157,6 +200,37 @@ public class DailyFuelController {
         return ResponseEntity.ok(dailyFuelService.getAllDailyFuels());
     }
 
+    @Operation(
+        summary = "Listar combustibles diarios paginados",
+        description = "Devuelve una página ordenada por ID. Para pedir la siguiente se envía el nextCursor recibido como afterId.",
+        tags = {"Daily Fuel"},
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Página obtenida", content = @Content(schema = @Schema(implementation = KeysetPageDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Tamaño de página o cursor inválido")
+        }
+    )
+    @GetMapping("/list/page")
+    public ResponseEntity<KeysetPageDTO<DailyFuelDTO>> getDailyFuelsPage(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(dailyFuelService.getDailyFuelsPage(afterId, size));
+    }
+
+    @Operation(
+        summary = "Exportar combustibles diarios (NDJSON)",
+        description = "Devuelve todos los registros como NDJSON (un objeto JSON por línea), escribiéndolos a medida que se leen de la base.",
+        tags = {"Daily Fuel"},
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Exportación en curso", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE))
+        }
+    )
+    @GetMapping(value = "/list/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllDailyFuels() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(dailyFuelService.streamAllDailyFuels());
+    }
+
     @Operation(
         summary = "Obtener registros de combustible diario por vehículo",
         description = "Retorna una lista de registros de combustible diario filtrados por vehículo.",
@@ -4,6 +4,7 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.beans.factory.annotation.Autowired;
 import com.pepotec.cooperative_taxi_managment.services.MemberService;
 import com.pepotec.cooperative_taxi_managment.models.dto.person.member.MemberDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.person.member.MemberBatchCreateDTO;
 import org.springframework.web.bind.annotation.RequestMapping;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -79,6 +80,41 @@ public class MemberController {
             .body(memberService.createMember(member));
     }
 
+    /**
+     * Crear miembros en lote
+     */
+    @Operation(
+        summary = "Crear miembros en lote",
+        description = "Crea hasta 1000 miembros (con sus cuentas) en una sola transacción. " +
+                      "La unicidad de DNI, CUIT y Email se valida para todo el lote y se informan todos los conflictos juntos; " +
+                      "si hay alguno no se crea ningún miembro.",
+        tags = {"Members"},
+        responses = {
+            @ApiResponse(
+                responseCode = "201", 
+                description = "Miembros creados exitosamente", 
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = MemberDTO.class)
+                )
+            ),
+            @ApiResponse(
+                responseCode = "400", 
+                description = "Datos inválidos"
+            ),
+            @ApiResponse(
+                responseCode = "409", 
+                description = "Conflicto - DNI, CUIT o Email ya existen o se repiten en el lote"
+            )
+        }
+    )
+    @PostMapping("/create/bulk")
+    public ResponseEntity<List<MemberDTO>> createMembers(@Valid @RequestBody MemberBatchCreateDTO batch) {
+        return ResponseEntity
+            .status(HttpStatus.CREATED)
+            .body(memberService.createMembers(batch.getMembers()));
+    }
+
     /**
      * Actualizar un miembro existente
      */
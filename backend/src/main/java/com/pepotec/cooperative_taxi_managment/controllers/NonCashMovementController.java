@@ -1,7 +1,10 @@
 package com.pepotec.cooperative_taxi_managment.controllers;
 
+import com.pepotec.cooperative_taxi_managment.models.dto.movement.MovementBatchResultDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.movement.noncash.NonCashMovementBatchCreateDTO;
 import com.pepotec.cooperative_taxi_managment.models.dto.movement.noncash.NonCashMovementCreateDTO;
 import com.pepotec.cooperative_taxi_managment.models.dto.movement.noncash.NonCashMovementDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.page.KeysetPageDTO;
 import com.pepotec.cooperative_taxi_managment.services.NonCashMovementService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,8 +15,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -52,6 +57,21 @@ public class NonCashMovementController {
         return ResponseEntity.ok(nonCashMovementService.create(dto));
     }
 
+    @Operation(
+        summary = "Crear movimientos no efectivos en lote",
+        description = "Crea hasta 1000 movimientos en una única transacción. Si algún movimiento es inválido no se guarda ninguno.",
+        tags = {"Non Cash Movements"},
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Movimientos creados", content = @Content(schema = @Schema(implementation = MovementBatchResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Datos inválidos"),
+            @ApiResponse(responseCode = "404", description = "Cuenta no encontrada")
+        }
+    )
+    @PostMapping("/create/bulk")
+    public ResponseEntity<MovementBatchResultDTO> createBatch(@Valid @RequestBody NonCashMovementBatchCreateDTO dto) {
+        return ResponseEntity.ok(nonCashMovementService.createBatch(dto.getMovements()));
+    }
+
     @Operation(
         summary = "Obtener movimiento no efectivo por ID",
         description = "Devuelve un movimiento sin efectivo por su ID.",
@@ -79,6 +99,37 @@ public class NonCashMovementController {
         return ResponseEntity.ok(nonCashMovementService.listAll());
     }
 
+    @Operation(
+        summary = "Listar movimientos sin efectivo paginados",
+        description = "Devuelve una página ordenada por ID. Para pedir la siguiente se envía el nextCursor recibido como afterId.",
+        tags = {"Non Cash Movements"},
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Página obtenida", content = @Content(schema = @Schema(implementation = KeysetPageDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Tamaño de página o cursor inválido")
+        }
+    )
+    @GetMapping("/list/page")
+    public ResponseEntity<KeysetPageDTO<NonCashMovementDTO>> listPage(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(nonCashMovementService.listPage(afterId, size));
+    }
+
+    @Operation(
+        summary = "Exportar movimientos sin efectivo (NDJSON)",
+        description = "Devuelve todos los registros como NDJSON (un objeto JSON por línea), escribiéndolos a medida que se leen de la base.",
+        tags = {"Non Cash Movements"},
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Exportación en curso", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE))
+        }
+    )
+    @GetMapping(value = "/list/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(nonCashMovementService.streamAll());
+    }
+
     @Operation(
         summary = "Listar movimientos no efectivos activos",
         description = "Lista movimientos sin efectivo con active=true.",
@@ -1,6 +1,7 @@
 package com.pepotec.cooperative_taxi_managment.controllers;
 
 import com.pepotec.cooperative_taxi_managment.models.dto.receipt.ReceiptCreateDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.receipt.ReceiptBatchCreateDTO;
 import com.pepotec.cooperative_taxi_managment.models.dto.receipt.ReceiptDTO;
 import com.pepotec.cooperative_taxi_managment.models.enums.ReceiptType;
 import com.pepotec.cooperative_taxi_managment.services.ReceiptService;
@@ -65,6 +66,32 @@ public class ReceiptController {
             .body(receiptService.create(dto));
     }
 
+    @Operation(
+        summary = "Crear recibos en lote",
+        description = "Crea hasta 1000 recibos en una sola transacción. La unicidad de cuenta + período y de número + talonario + tipo " +
+                      "se valida para todo el lote y se informan todos los conflictos juntos; si hay alguno no se crea ningún recibo.",
+        tags = {"Receipts"},
+        responses = {
+            @ApiResponse(
+                responseCode = "201",
+                description = "Recibos creados exitosamente",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ReceiptDTO.class)
+                )
+            ),
+            @ApiResponse(responseCode = "400", description = "Datos inválidos"),
+            @ApiResponse(responseCode = "404", description = "Cuenta de socio o abonado no encontrada"),
+            @ApiResponse(responseCode = "409", description = "Recibos que ya existen o se repiten en el lote")
+        }
+    )
+    @PostMapping("/create/bulk")
+    public ResponseEntity<List<ReceiptDTO>> createBatch(@Valid @RequestBody ReceiptBatchCreateDTO batch) {
+        return ResponseEntity
+            .status(HttpStatus.CREATED)
+            .body(receiptService.createBatch(batch.getReceipts()));
+    }
+
     @Operation(
         summary = "Obtener un recibo por ID",
         description = "Obtiene los detalles de un recibo específico por su ID.",
@@ -3,8 +3,15 @@ package com.pepotec.cooperative_taxi_managment.controllers;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.beans.factory.annotation.Autowired;
 import com.pepotec.cooperative_taxi_managment.services.TicketTaxiService;
+import com.pepotec.cooperative_taxi_managment.models.dto.csvimport.CsvImportResultDTO;
+import org.springframework.web.multipart.MultipartFile;
+import java.io.IOException;
+import java.io.InputStream;
+import com.pepotec.cooperative_taxi_managment.services.TicketTaxiImportService;
 import com.pepotec.cooperative_taxi_managment.models.dto.tickettaxi.TicketTaxiDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.page.KeysetPageDTO;
 import com.pepotec.cooperative_taxi_managment.models.dto.tickettaxi.TicketTaxiCreateDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.tickettaxi.TicketTaxiTotalsDTO;
 import org.springframework.web.bind.annotation.RequestMapping;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -15,12 +22,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
 import java.time.LocalDate;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -45,6 +54,9 @@ public class TicketTaxiController {
     @Autowired
     private TicketTaxiService ticketTaxiService;
 
+    @Autowired
+    private TicketTaxiImportService ticketTaxiImportService;
+
     @Operation(
         summary = "Crear un nuevo ticket de taxi",
         description = "Crea un nuevo ticket de taxi asociado a un vehículo y una rendición existentes.",
@@ -72,6 +84,37 @@ public class TicketTaxiController {
             .body(ticketTaxiService.createTicketTaxi(settlementId, vehicleId, ticketTaxi));
     }
 
+    @Operation(
+        summary = "Importar tickets de taxi desde CSV",
+        description = "Importa un archivo CSV (separado por comas o punto y coma) con una línea por ticket. " +
+            "Columnas obligatorias: settlement_id, license_plate, amount. Opcionales: ticket_number, start_date, " +
+            "cut_date, free_kilometers, occupied_kilometers, trips (fechas dd/MM/yyyy). La importación es " +
+            "atómica: si alguna línea es inválida no se guarda ninguna y se informa el error de cada línea.",
+        tags = {"Ticket Taxi"},
+        responses = {
+            @ApiResponse(
+                responseCode = "201",
+                description = "Archivo importado",
+                content = @Content(schema = @Schema(implementation = CsvImportResultDTO.class))
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "Líneas inválidas (no se importó nada) o encabezado incompleto",
+                content = @Content(schema = @Schema(implementation = CsvImportResultDTO.class))
+            )
+        }
+    )
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<CsvImportResultDTO> importTicketTaxis(@RequestParam("file") MultipartFile file) throws IOException {
+        CsvImportResultDTO result;
+        try (InputStream input = file.getInputStream()) {
+            result = ticketTaxiImportService.importTicketTaxis(input);
+        }
+        return ResponseEntity
+            .status(result.getRejected() > 0 ? HttpStatus.BAD_REQUEST : HttpStatus.CREATED)
+            .body(result);
+    }
+
     @Operation(
         summary = "Actualizar un ticket de taxi existente",
         description = "Actualiza los datos de un ticket de taxi existente por su ID.",
@@ -177,6 +220,37 @@ public class TicketTaxiController {
         return ResponseEntity.ok(ticketTaxiService.getAllTicketTaxis());
     }
 
+    @Operation(
+        summary = "Listar tickets de taxi paginados",
+        description = "Devuelve una página ordenada por ID. Para pedir la siguiente se envía el nextCursor recibido como afterId.",
+        tags = {"Ticket Taxi"},
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Página obtenida", content = @Content(schema = @Schema(implementation = KeysetPageDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Tamaño de página o cursor inválido")
+        }
+    )
+    @GetMapping("/list/page")
+    public ResponseEntity<KeysetPageDTO<TicketTaxiDTO>> getTicketTaxisPage(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(ticketTaxiService.getTicketTaxisPage(afterId, size));
+    }
+
+    @Operation(
+        summary = "Exportar tickets de taxi (NDJSON)",
+        description = "Devuelve todos los registros como NDJSON (un objeto JSON por línea), escribiéndolos a medida que se leen de la base.",
+        tags = {"Ticket Taxi"},
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Exportación en curso", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE))
+        }
+    )
+    @GetMapping(value = "/list/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllTicketTaxis() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(ticketTaxiService.streamAllTicketTaxis());
+    }
+
     @Operation(
         summary = "Obtener tickets de taxi por vehículo",
         description = "Retorna una lista de tickets de taxi filtrados por vehículo.",
@@ -358,5 +432,89 @@ public class TicketTaxiController {
     ) {
         return ResponseEntity.ok(ticketTaxiService.getTicketTaxisBySettlementAndCutDateRange(settlementId, startDate, endDate));
     }
-}
 
+    @Operation(
+        summary = "Obtener totales de tickets de una rendición",
+        description = "Retorna monto total, kilómetros libres y ocupados, viajes y cantidad de tickets de una rendición, " +
+                     "calculados con una consulta agregada.",
+        tags = {"Ticket Taxi"},
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Totales calculados exitosamente",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = TicketTaxiTotalsDTO.class)
+                )
+            )
+        }
+    )
+    @GetMapping("/totals/by-settlement/{settlementId}")
+    public ResponseEntity<TicketTaxiTotalsDTO> getTotalsBySettlement(@PathVariable Long settlementId) {
+        return ResponseEntity.ok(ticketTaxiService.getTotalsBySettlement(settlementId));
+    }
+
+    @Operation(
+        summary = "Obtener totales de tickets de varias rendiciones",
+        description = "Retorna los totales de tickets de cada rendición indicada, en el mismo orden, con una sola consulta. " +
+                     "Las rendiciones sin tickets se devuelven con totales en cero.",
+        tags = {"Ticket Taxi"},
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Totales calculados exitosamente",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = TicketTaxiTotalsDTO.class)
+                )
+            )
+        }
+    )
+    @GetMapping("/totals/by-settlements")
+    public ResponseEntity<List<TicketTaxiTotalsDTO>> getTotalsBySettlements(@RequestParam List<Long> settlementIds) {
+        return ResponseEntity.ok(ticketTaxiService.getTotalsBySettlements(settlementIds));
+    }
+
+    @Operation(
+        summary = "Obtener totales de tickets de un vehículo",
+        description = "Retorna los totales de todos los tickets de un vehículo, calculados con una consulta agregada.",
+        tags = {"Ticket Taxi"},
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Totales calculados exitosamente",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = TicketTaxiTotalsDTO.class)
+                )
+            )
+        }
+    )
+    @GetMapping("/totals/by-vehicle/{vehicleId}")
+    public ResponseEntity<TicketTaxiTotalsDTO> getTotalsByVehicle(@PathVariable Long vehicleId) {
+        return ResponseEntity.ok(ticketTaxiService.getTotalsByVehicle(vehicleId));
+    }
+
+    @Operation(
+        summary = "Obtener totales por vehículo en un rango de fechas de corte",
+        description = "Retorna los totales de tickets agrupados por vehículo para los tickets con fecha de corte en el rango.",
+        tags = {"Ticket Taxi"},
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "Totales calculados exitosamente",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = TicketTaxiTotalsDTO.class)
+                )
+            )
+        }
+    )
+    @GetMapping("/totals/by-cut-date-range")
+    public ResponseEntity<List<TicketTaxiTotalsDTO>> getVehicleTotalsByCutDateRange(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        return ResponseEntity.ok(ticketTaxiService.getVehicleTotalsByCutDateRange(startDate, endDate));
+    }
+}
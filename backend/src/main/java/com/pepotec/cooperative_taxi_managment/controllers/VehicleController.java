@@ -5,6 +5,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import com.pepotec.cooperative_taxi_managment.services.VehicleService;
 import com.pepotec.cooperative_taxi_managment.models.dto.vehicle.VehicleDTO;
 import com.pepotec.cooperative_taxi_managment.models.dto.vehicle.VehicleCreateDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.vehicle.VehicleBatchCreateDTO;
 import org.springframework.web.bind.annotation.RequestMapping;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -68,6 +69,32 @@ public class VehicleController {
             .body(vehicleService.createVehicle(vehicle));
     }
 
+    @Operation(
+        summary = "Crear vehículos en lote",
+        description = "Crea hasta 1000 vehículos (con sus cuentas) en una sola transacción. " +
+                      "La unicidad de patente, licencia, motor y chasis se valida para todo el lote y se informan todos los conflictos juntos; " +
+                      "si hay alguno no se crea ningún vehículo.",
+        tags = {"Vehicles"},
+        responses = {
+            @ApiResponse(
+                responseCode = "201",
+                description = "Vehículos creados exitosamente",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = VehicleDTO.class)
+                )
+            ),
+            @ApiResponse(responseCode = "400", description = "Datos inválidos"),
+            @ApiResponse(responseCode = "409", description = "Conflicto - Patente, número de licencia, motor o chasis ya existen o se repiten en el lote")
+        }
+    )
+    @PostMapping("/create/bulk")
+    public ResponseEntity<List<VehicleDTO>> createVehicles(@Valid @RequestBody VehicleBatchCreateDTO batch) {
+        return ResponseEntity
+            .status(HttpStatus.CREATED)
+            .body(vehicleService.createVehicles(batch.getVehicles()));
+    }
+
     @Operation(
         summary = "Actualizar un vehículo existente",
         description = "Actualiza los datos de un vehículo existente por su ID.",
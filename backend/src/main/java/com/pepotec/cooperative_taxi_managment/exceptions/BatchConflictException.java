@@ -0,0 +1,18 @@
+package com.pepotec.cooperative_taxi_managment.exceptions;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.batch.BatchConflictDTO;
+
+import java.util.List;
+
+public class BatchConflictException extends RuntimeException {
+    private List<BatchConflictDTO> conflicts;
+
+    public BatchConflictException(List<BatchConflictDTO> conflicts) {
+        super(String.format("Se encontraron %d conflictos de unicidad en el lote", conflicts.size()));
+        this.conflicts = conflicts;
+    }
+
+    public List<BatchConflictDTO> getConflicts() {
+        return conflicts;
+    }
+}
@@ -100,6 +100,27 @@ public class GlobalControllerException {
         return problemDetail;
     }
 
+    /*
+     * Manejador de excepción para BatchConflictException
+     * Retorna un ProblemDetail con el status CONFLICT, el título "Conflictos en el lote"
+     * y la lista completa de conflictos de unicidad encontrados
+     */
+
+    @ExceptionHandler(BatchConflictException.class)
+    public ProblemDetail handleBatchConflictException(
+        BatchConflictException ex, 
+        HttpServletRequest request) 
+    {
+        ProblemDetail problemDetail = createProblemDetail(
+            HttpStatus.CONFLICT, 
+            "Conflictos en el lote", 
+            ex.getMessage(), 
+            request
+        );
+        problemDetail.setProperty("conflicts", ex.getConflicts());
+        return problemDetail;
+    }
+
     /*
      * Manejador de excepción para MemberAlreadyInactiveException
      * Retorna un ProblemDetail con el status BAD_REQUEST, el título "Miembro ya inactivo"
@@ -0,0 +1,32 @@
+package com.pepotec.cooperative_taxi_managment.models.dto.accounthistory;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * DTO con el resultado de un cierre mensual de historiales de cuenta.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MonthlyCloseResultDTO {
+    private YearMonth yearMonth; // Período cerrado
+    private LocalDate registrationDate; // Fecha de registro de los historiales creados
+
+    // Historiales creados por tipo de cuenta (las cuentas que ya tenían historial se omiten)
+    private Integer memberAccountHistoriesCreated;
+    private Integer subscriberAccountHistoriesCreated;
+    private Integer vehicleAccountHistoriesCreated;
+    private Integer totalCreated;
+
+    // Tramos del cierre (ver AccountHistoryCloseChunkEntity)
+    private Integer chunksProcessed; // procesados en esta ejecución
+    private Integer chunksFailed; // fallidos en esta ejecución
+    private Integer chunksPending; // pendientes o fallidos al terminar (se reanudan en la próxima ejecución)
+}
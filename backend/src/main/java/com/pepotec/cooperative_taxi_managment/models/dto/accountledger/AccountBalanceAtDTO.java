@@ -0,0 +1,23 @@
+package com.pepotec.cooperative_taxi_managment.models.dto.accountledger;
+
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO con el saldo de una cuenta al final de un día.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AccountBalanceAtDTO {
+    private AccountType accountType;
+    private Long accountId;
+    private LocalDate date;
+    private Double balance;
+}
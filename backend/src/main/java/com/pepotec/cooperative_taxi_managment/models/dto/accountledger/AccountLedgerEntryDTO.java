@@ -0,0 +1,28 @@
+package com.pepotec.cooperative_taxi_managment.models.dto.accountledger;
+
+import com.pepotec.cooperative_taxi_managment.models.enums.LedgerEntryType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO para representar un asiento del libro de saldos de una cuenta.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AccountLedgerEntryDTO {
+    private Long id;
+    private LedgerEntryType entryType;
+    private Long movementId; // null si la imputación no tiene movimiento asociado
+    private LocalDate movementDate;
+    private Double delta;
+    private Double balanceAfter; // Saldo de la cuenta luego del asiento
+    private LocalDate postedOn;
+    private LocalDateTime postedAt;
+}
@@ -0,0 +1,27 @@
+package com.pepotec.cooperative_taxi_managment.models.dto.accountledger;
+
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO con el extracto de una cuenta para un rango de fechas.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AccountStatementDTO {
+    private AccountType accountType;
+    private Long accountId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Double openingBalance; // Saldo al final del día anterior a startDate
+    private Double closingBalance; // Saldo al final de endDate
+    private List<AccountLedgerEntryDTO> entries;
+}
@@ -0,0 +1,34 @@
+package com.pepotec.cooperative_taxi_managment.models.dto.accountmovement;
+
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountMovementKind;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * DTO de solo lectura con una fila del listado de movimientos de una cuenta (ingresos,
+ * gastos mensuales y arreglos de taller), con lo asignado por pagos hasta el momento.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AccountMovementLineDTO {
+    private Long id;
+    private AccountMovementKind kind;
+    private String yearMonth; // Formato YYYY-MM
+    private Double amount;
+    private Boolean added;
+    @DateTimeFormat(pattern = "dd/MM/yyyy")
+    private LocalDate addedDate;
+    private String note;
+    private Integer currentInstallment;
+    private Integer finalInstallment;
+    private String typeName; // Tipo de ingreso o gasto; en arreglos, el tipo de arreglo
+    private Double remainingBalance; // Solo arreglos de taller
+    private Double allocatedAmount; // Suma de las asignaciones de pago activas
+}
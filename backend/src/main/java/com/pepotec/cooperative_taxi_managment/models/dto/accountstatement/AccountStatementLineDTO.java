@@ -0,0 +1,35 @@
+package com.pepotec.cooperative_taxi_managment.models.dto.accountstatement;
+
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountMovementKind;
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountStatementSource;
+import com.pepotec.cooperative_taxi_managment.models.enums.MovementType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * DTO de solo lectura con una línea del extracto combinado de una cuenta.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AccountStatementLineDTO {
+    private AccountStatementSource source;
+    private Long id; // ID en la tabla de origen
+    @DateTimeFormat(pattern = "dd/MM/yyyy")
+    private LocalDate date;
+    private String description;
+    private Double amount;
+    private Double delta; // Efecto sobre el saldo (solo los movimientos de dinero, salvo ADVANCE, y las imputaciones directas)
+    private Double balance; // Saldo corrido luego de la línea
+    private MovementType movementType; // Solo movimientos de dinero
+    private AccountMovementKind accountMovementKind; // Solo movimientos de cuenta
+    private String yearMonth; // Período YYYY-MM de movimientos de cuenta y liquidaciones
+    private Long accountMovementId; // Solo asignaciones de pago
+    private String cursor; // Posición de la línea, para pedir la página siguiente
+}
@@ -0,0 +1,32 @@
+package com.pepotec.cooperative_taxi_managment.models.dto.accountstatement;
+
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Página del extracto combinado de una cuenta para un rango de fechas.
+ * Para pedir la página siguiente se envía nextCursor como afterCursor.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AccountStatementPageDTO {
+    private AccountType accountType;
+    private Long accountId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Double openingBalance; // Saldo antes de la primera línea de la página
+    private List<AccountStatementLineDTO> lines;
+
+    // Posición de la última línea de la página (null si la página está vacía)
+    private String nextCursor;
+
+    private Boolean hasMore;
+}
@@ -0,0 +1,25 @@
+package com.pepotec.cooperative_taxi_managment.models.dto.balancereconciliation;
+
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO con una cuenta cuyo saldo no coincide con el que explican sus movimientos.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class AccountBalanceDriftDTO {
+    private AccountType accountType;
+    private Long accountId;
+    private Double actualBalance;
+    private Double expectedBalance;
+    private Double drift; // actualBalance - expectedBalance
+    private LocalDateTime checkedAt;
+}
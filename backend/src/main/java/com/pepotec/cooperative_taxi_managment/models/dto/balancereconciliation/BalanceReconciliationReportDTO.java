@@ -0,0 +1,27 @@
+package com.pepotec.cooperative_taxi_managment.models.dto.balancereconciliation;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO con el resultado de una conciliación de saldos y las cuentas con diferencias.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BalanceReconciliationReportDTO {
+    private Long runId;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Boolean fullCheck;
+    private Integer accountsChecked;
+    private Integer accountsRecomputed; // Cuentas recalculadas desde cero (sin punto de control)
+    private Integer driftedAccounts;
+    private List<AccountBalanceDriftDTO> drifts;
+}
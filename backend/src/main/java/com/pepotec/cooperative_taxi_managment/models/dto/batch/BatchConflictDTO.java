@@ -0,0 +1,21 @@
+package com.pepotec.cooperative_taxi_managment.models.dto.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO que describe un conflicto de unicidad de un registro dentro de una carga en lote.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BatchConflictDTO {
+    private Integer index; // Posición del registro en el lote (desde 1)
+    private String fieldName;
+    private String fieldValue;
+    private Integer duplicateOfIndex; // Registro del mismo lote con el mismo valor (null si el conflicto es con la base)
+    private String message;
+}
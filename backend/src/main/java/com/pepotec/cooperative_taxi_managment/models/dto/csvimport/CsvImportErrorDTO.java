@@ -0,0 +1,19 @@
+package com.pepotec.cooperative_taxi_managment.models.dto.csvimport;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Error de una línea de un archivo importado (la línea 1 es el encabezado).
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CsvImportErrorDTO {
+
+    private Integer line;
+    private String message;
+}
@@ -0,0 +1,28 @@
+package com.pepotec.cooperative_taxi_managment.models.dto.csvimport;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado de la importación de un archivo CSV.
+ * La importación es atómica: si alguna línea es rechazada no se guarda ninguna
+ * (imported = 0) y errors indica el motivo de cada línea rechazada.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CsvImportResultDTO {
+
+    private Integer linesRead;
+    private Integer imported;
+    private Integer rejected;
+    private List<CsvImportErrorDTO> errors;
+
+    /** true si hubo más líneas rechazadas que las incluidas en errors */
+    private Boolean errorsTruncated;
+}
@@ -0,0 +1,23 @@
+package com.pepotec.cooperative_taxi_managment.models.dto.movement;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Resultado de una carga en lote de movimientos.
+ * Los IDs se devuelven en el mismo orden en que llegaron los movimientos.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MovementBatchResultDTO {
+
+    private Integer created;
+    private Integer accountsUpdated;
+    private List<Long> movementIds;
+}
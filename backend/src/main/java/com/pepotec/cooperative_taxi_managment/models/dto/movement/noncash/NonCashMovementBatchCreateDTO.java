@@ -0,0 +1,26 @@
+package com.pepotec.cooperative_taxi_managment.models.dto.movement.noncash;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO usado para crear en lote movimientos de dinero sin efectivo.
+ * Todo el lote se valida antes de guardar: si un movimiento es inválido no se guarda ninguno.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class NonCashMovementBatchCreateDTO {
+
+    @NotEmpty(message = "The batch must contain at least one movement")
+    @Size(max = 1000, message = "The batch cannot contain more than 1000 movements")
+    private List<@Valid NonCashMovementCreateDTO> movements;
+}
@@ -0,0 +1,25 @@
+package com.pepotec.cooperative_taxi_managment.models.dto.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Página de un listado paginado por keyset.
+ * Para pedir la página siguiente se envía nextCursor como afterId.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class KeysetPageDTO<T> {
+    private List<T> items;
+
+    // ID del último elemento de la página (null si la página está vacía)
+    private Long nextCursor;
+
+    private Boolean hasMore;
+}
@@ -0,0 +1,26 @@
+package com.pepotec.cooperative_taxi_managment.models.dto.receipt;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO usado para crear recibos en lote.
+ * Todo el lote se valida antes de guardar: si un registro es inválido o duplicado no se guarda ninguno.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReceiptBatchCreateDTO {
+
+    @NotEmpty(message = "The batch must contain at least one receipt")
+    @Size(max = 1000, message = "The batch cannot contain more than 1000 receipts")
+    private List<@Valid ReceiptCreateDTO> receipts;
+}
@@ -0,0 +1,42 @@
+package com.pepotec.cooperative_taxi_managment.models.dto.settlementallocation;
+
+import com.pepotec.cooperative_taxi_managment.models.enums.MovementType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * DTO de solo lectura con una asignación de pago y los datos del medio con que se pagó.
+ *
+ * Solo uno de receiptId, payrollSettlementId o movementId será no-null (XOR), y solo se
+ * completan los campos de ese medio de pago.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SettlementAllocationDetailDTO {
+    private Long id;
+    private Long accountMovementId;
+    private Double allocatedAmount;
+    @DateTimeFormat(pattern = "dd/MM/yyyy")
+    private LocalDate allocationDate;
+    private String note;
+
+    private Long receiptId;
+    private Integer receiptBookletNumber;
+    private Integer receiptNumber;
+
+    private Long payrollSettlementId;
+    private String payrollSettlementYearMonth; // Formato YYYY-MM
+
+    private Long movementId;
+    @DateTimeFormat(pattern = "dd/MM/yyyy")
+    private LocalDate movementDate;
+    private String movementDescription;
+    private MovementType movementType;
+}
@@ -0,0 +1,30 @@
+package com.pepotec.cooperative_taxi_managment.models.dto.tickettaxi;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con los totales de tickets de taxi de un grupo (rendición o vehículo),
+ * calculados con una consulta agregada sin cargar los tickets.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TicketTaxiTotalsDTO {
+    private Long groupId; // ID de la rendición o del vehículo, según la consulta
+    private Long ticketCount;
+    private Double totalAmount;
+    private Double totalFreeKilometers;
+    private Double totalOccupiedKilometers;
+    private Long totalTrips;
+
+    /**
+     * Totales en cero para un grupo sin tickets.
+     */
+    public static TicketTaxiTotalsDTO empty(Long groupId) {
+        return new TicketTaxiTotalsDTO(groupId, 0L, 0.0, 0.0, 0.0, 0L);
+    }
+}
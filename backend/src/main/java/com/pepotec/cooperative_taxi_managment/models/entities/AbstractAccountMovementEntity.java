@@ -23,7 +23,17 @@ import java.time.LocalDate;
  * (como ingreso o egreso según la clase), independientemente de si está completamente pagado o no.
  */
 @Entity
-@Table(name = "account_movements")
+@Table(name = "account_movements", indexes = {
+    // Cuenta, período y agregado están en esta tabla (no en las de las subclases)
+    @Index(name = "idx_member_account_period_added", 
+           columnList = "id_member_account, period, added"),
+    @Index(name = "idx_subscriber_account_period_added", 
+           columnList = "id_subscriber_account, period, added"),
+    @Index(name = "idx_vehicle_account_period_added", 
+           columnList = "id_vehicle_account, period, added"),
+    @Index(name = "idx_account_movement_period_active", columnList = "period, active"),
+    @Index(name = "idx_account_movement_added_active", columnList = "added, active")
+})
 @Inheritance(strategy = InheritanceType.JOINED)
 @Data
 @NoArgsConstructor
@@ -20,9 +20,15 @@ import java.time.LocalDate;
  * Esto evita duplicación de columnas comunes en la base de datos.
  */
 @Entity
-@Table(name = "movements")
+@Table(name = "movements", indexes = {
+    @Index(name = "idx_movement_date", columnList = "date"),
+    @Index(name = "idx_movement_active_date", columnList = "active, date"),
+    // Filtros por cuenta y extracto por cuenta y fecha (AccountStatementRepository)
+    @Index(name = "idx_movement_member_account_date", columnList = "id_member_account, date"),
+    @Index(name = "idx_movement_subscriber_account_date", columnList = "id_subscriber_account, date"),
+    @Index(name = "idx_movement_vehicle_account_date", columnList = "id_vehicle_account, date")
+})
 @Inheritance(strategy = InheritanceType.JOINED)
-@DiscriminatorColumn(name = "movement_type", discriminatorType = DiscriminatorType.STRING)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,6 +1,8 @@
 package com.pepotec.cooperative_taxi_managment.models.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -15,9 +17,14 @@ import lombok.experimental.SuperBuilder;
  * Utiliza estrategia JOINED para la herencia, donde las clases hijas
  * (IncomeTypeEntity y ExpenseTypeEntity) tienen sus propias tablas.
  * Esto evita duplicación de columnas comunes en la base de datos.
+ *
+ * Se guarda en el caché de segundo nivel; con herencia, Hibernate exige declararlo en la
+ * entidad raíz y la región es compartida por tipos de ingreso y de gasto.
  */
 @Entity
 @Table(name = "types")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "reference.types")
 @Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn(name = "type_category", discriminatorType = DiscriminatorType.STRING)
 @Data
@@ -0,0 +1,64 @@
+package com.pepotec.cooperative_taxi_managment.models.entities;
+
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountType;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Punto de control de la conciliación de saldos de una cuenta.
+ *
+ * expectedBalance es el saldo que explican los movimientos activos, los movimientos de cuenta
+ * agregados y las imputaciones directas del libro de saldos hasta las marcas de la última
+ * conciliación (BalanceReconciliationRunEntity). La siguiente conciliación solo suma lo
+ * posterior a esas marcas; drift es la diferencia entre el saldo real y el esperado.
+ */
+@Entity
+@Table(name = "account_balance_checkpoints", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"account_type", "account_id"}, name = "uk_account_balance_checkpoint")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountBalanceCheckpointEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_account_balance_checkpoint", unique = true, nullable = false)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_type", nullable = false, length = 20)
+    @NotNull(message = "The account type cannot be null")
+    private AccountType accountType;
+
+    @Column(name = "account_id", nullable = false)
+    @NotNull(message = "The account ID cannot be null")
+    private Long accountId;
+
+    @Column(name = "expected_balance", nullable = false)
+    @NotNull(message = "The expected balance cannot be null")
+    private Double expectedBalance;
+
+    @Column(name = "actual_balance", nullable = false)
+    @NotNull(message = "The actual balance cannot be null")
+    private Double actualBalance;
+
+    @Column(name = "drift", nullable = false)
+    @NotNull(message = "The drift cannot be null")
+    private Double drift; // actualBalance - expectedBalance
+
+    // Último recálculo completo (sin partir del punto de control)
+    @Column(name = "last_full_check", nullable = false)
+    @NotNull(message = "The last full check date cannot be null")
+    private LocalDate lastFullCheck;
+
+    @Column(name = "checked_at", nullable = false)
+    @NotNull(message = "The checked timestamp cannot be null")
+    private LocalDateTime checkedAt;
+}
@@ -0,0 +1,78 @@
+package com.pepotec.cooperative_taxi_managment.models.entities;
+
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountType;
+import com.pepotec.cooperative_taxi_managment.models.enums.CloseChunkStatus;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entidad que registra el avance del cierre mensual de historiales de cuenta.
+ *
+ * El cierre divide las cuentas de cada tipo en tramos de IDs [rangeStart, rangeEnd].
+ * Cada tramo se procesa en su propia transacción y, al confirmarse, queda en COMPLETED
+ * en la misma transacción que inserta sus historiales. Si el cierre se interrumpe,
+ * la siguiente ejecución para el mismo período solo procesa los tramos pendientes o fallidos.
+ */
+@Entity
+@Table(name = "account_history_close_chunks", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"period", "account_type", "range_start"},
+                     name = "uk_account_history_close_chunk")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountHistoryCloseChunkEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_account_history_close_chunk", unique = true, nullable = false)
+    private Long id;
+
+    // Período cerrado en formato "YYYY-MM" (igual que AccountHistoryEntity)
+    @Column(name = "period", nullable = false, length = 7)
+    @NotNull(message = "The period cannot be null")
+    private String period;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_type", nullable = false, length = 20)
+    @NotNull(message = "The account type cannot be null")
+    private AccountType accountType;
+
+    @Column(name = "range_start", nullable = false)
+    @NotNull(message = "The range start cannot be null")
+    private Long rangeStart; // primer ID de cuenta del tramo (inclusive)
+
+    @Column(name = "range_end", nullable = false)
+    @NotNull(message = "The range end cannot be null")
+    private Long rangeEnd; // último ID de cuenta del tramo (inclusive)
+
+    // Fecha de registro de los historiales; se conserva para que una reanudación use la misma
+    @Column(name = "registration_date", nullable = false)
+    @NotNull(message = "The registration date cannot be null")
+    private LocalDate registrationDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @NotNull(message = "The status cannot be null")
+    @Builder.Default
+    private CloseChunkStatus status = CloseChunkStatus.PENDING;
+
+    @Column(name = "rows_created")
+    private Integer rowsCreated;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
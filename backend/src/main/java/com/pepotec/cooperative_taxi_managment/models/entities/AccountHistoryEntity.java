@@ -26,6 +26,9 @@ import java.time.LocalDate;
                      name = "uk_subscriber_account_history_period"),
     @UniqueConstraint(columnNames = {"id_vehicle_account", "period"}, 
                      name = "uk_vehicle_account_history_period")
+}, indexes = {
+    @Index(name = "idx_account_history_period", columnList = "period"),
+    @Index(name = "idx_account_history_registration_active", columnList = "registration_date, active")
 })
 @Getter
 @Setter
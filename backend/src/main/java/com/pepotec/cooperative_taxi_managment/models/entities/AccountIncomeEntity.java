@@ -21,14 +21,7 @@ import java.util.List;
  * incomeType.monthlyRecurrence = true
  */
 @Entity
-@Table(name = "account_incomes", indexes = {
-    @Index(name = "idx_member_account_period_added", 
-           columnList = "id_member_account, period, added"),
-    @Index(name = "idx_subscriber_account_period_added", 
-           columnList = "id_subscriber_account, period, added"),
-    @Index(name = "idx_vehicle_account_period_added", 
-           columnList = "id_vehicle_account, period, added")
-})
+@Table(name = "account_incomes")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
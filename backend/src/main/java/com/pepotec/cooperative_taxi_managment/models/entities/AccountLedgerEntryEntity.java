@@ -0,0 +1,72 @@
+package com.pepotec.cooperative_taxi_managment.models.entities;
+
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountType;
+import com.pepotec.cooperative_taxi_managment.models.enums.LedgerEntryType;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Asiento del libro de saldos de cuentas (solo se insertan, nunca se modifican).
+ *
+ * Cada imputación sobre el saldo de una cuenta deja un asiento con el delta aplicado y el
+ * saldo resultante (balanceAfter). El saldo de una cuenta en una fecha es el balanceAfter
+ * del último asiento hasta esa fecha, y un extracto es un rango de asientos: ambas consultas
+ * se resuelven con el índice (account_type, account_id, posted_on, id_ledger_entry).
+ */
+@Entity
+@Table(name = "account_ledger_entries", indexes = {
+    @Index(name = "idx_ledger_account_posted", columnList = "account_type, account_id, posted_on, id_ledger_entry")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountLedgerEntryEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_ledger_entry", unique = true, nullable = false)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_type", nullable = false, length = 20)
+    @NotNull(message = "The account type cannot be null")
+    private AccountType accountType;
+
+    @Column(name = "account_id", nullable = false)
+    @NotNull(message = "The account ID cannot be null")
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 20)
+    @NotNull(message = "The entry type cannot be null")
+    private LedgerEntryType entryType;
+
+    @Column(name = "movement_id")
+    private Long movementId; // CashMovement o NonCashMovement (null si no hay movimiento)
+
+    @Column(name = "movement_date")
+    private LocalDate movementDate;
+
+    @Column(name = "delta", nullable = false)
+    @NotNull(message = "The delta cannot be null")
+    private Double delta;
+
+    @Column(name = "balance_after", nullable = false)
+    @NotNull(message = "The balance after cannot be null")
+    private Double balanceAfter;
+
+    // Fecha de imputación: define el orden del saldo corrido y las consultas por fecha
+    @Column(name = "posted_on", nullable = false)
+    @NotNull(message = "The posted date cannot be null")
+    private LocalDate postedOn;
+
+    @Column(name = "posted_at", nullable = false)
+    @NotNull(message = "The posted timestamp cannot be null")
+    private LocalDateTime postedAt;
+}
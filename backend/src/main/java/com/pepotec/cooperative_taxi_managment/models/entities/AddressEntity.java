@@ -2,6 +2,7 @@ package com.pepotec.cooperative_taxi_managment.models.entities;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import jakarta.persistence.Index;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,7 +16,9 @@ import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
 @Entity
-@Table(name = "addresses")
+@Table(name = "addresses", indexes = {
+    @Index(name = "idx_address_street_numeral_city", columnList = "street, numeral, city")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
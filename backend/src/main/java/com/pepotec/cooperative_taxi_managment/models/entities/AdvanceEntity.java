@@ -9,7 +9,11 @@ import org.springframework.format.annotation.DateTimeFormat;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "advances")
+@Table(name = "advances", indexes = {
+    @Index(name = "idx_advance_date", columnList = "date"),
+    @Index(name = "idx_advance_movement", columnList = "movement_id"),
+    @Index(name = "idx_advance_member_account_date", columnList = "id_member_account, date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
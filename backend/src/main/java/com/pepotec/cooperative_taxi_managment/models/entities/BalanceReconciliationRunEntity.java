@@ -0,0 +1,60 @@
+package com.pepotec.cooperative_taxi_managment.models.entities;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ejecución de la conciliación de saldos de cuentas.
+ *
+ * Guarda el mayor ID de movements, account_movements y account_ledger_entries visible al
+ * conciliar: la siguiente ejecución solo lee las filas con ID mayor a estas marcas.
+ */
+@Entity
+@Table(name = "balance_reconciliation_runs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceReconciliationRunEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_balance_reconciliation_run", unique = true, nullable = false)
+    private Long id;
+
+    @Column(name = "started_at", nullable = false)
+    @NotNull(message = "The start timestamp cannot be null")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "full_check", nullable = false)
+    @NotNull(message = "The full check flag cannot be null")
+    private Boolean fullCheck;
+
+    @Column(name = "movement_watermark", nullable = false)
+    @NotNull(message = "The movement watermark cannot be null")
+    private Long movementWatermark;
+
+    @Column(name = "account_movement_watermark", nullable = false)
+    @NotNull(message = "The account movement watermark cannot be null")
+    private Long accountMovementWatermark;
+
+    @Column(name = "ledger_watermark", nullable = false)
+    @NotNull(message = "The ledger watermark cannot be null")
+    private Long ledgerWatermark;
+
+    @Column(name = "accounts_checked")
+    private Integer accountsChecked;
+
+    @Column(name = "accounts_recomputed")
+    private Integer accountsRecomputed; // cuentas recalculadas desde cero
+
+    @Column(name = "drifted_accounts")
+    private Integer driftedAccounts;
+}
@@ -3,6 +3,7 @@ package com.pepotec.cooperative_taxi_managment.models.entities;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
@@ -12,21 +13,52 @@ import lombok.experimental.SuperBuilder;
  * Entidad que representa movimientos de dinero en EFECTIVO (con billetes).
  * Extiende AbstractMovementEntity y agrega relación con CashRegister.
  * Afecta TANTO una cuenta (si existe) COMO la caja física.
+ *
+ * DTO_GRAPH trae en la misma consulta la caja, las cuentas y sus dueños (relaciones EAGER:
+ * socio con domicilio, abonado, vehículo con modelo y marca), que convertToDTO recorre en
+ * cada fila. Lo usan los listados del repository.
  */
 @Entity
-@Table(name = "cash_movements")
-@DiscriminatorValue("CASH")
+@NamedEntityGraph(
+    name = CashMovementEntity.DTO_GRAPH,
+    attributeNodes = {
+        @NamedAttributeNode(value = "memberAccount", subgraph = "memberAccount"),
+        @NamedAttributeNode(value = "subscriberAccount", subgraph = "subscriberAccount"),
+        @NamedAttributeNode(value = "vehicleAccount", subgraph = "vehicleAccount"),
+        @NamedAttributeNode("cashRegister")
+    },
+    subgraphs = {
+        @NamedSubgraph(name = "memberAccount", attributeNodes = @NamedAttributeNode(value = "member", subgraph = "member")),
+        @NamedSubgraph(name = "member", attributeNodes = @NamedAttributeNode("address")),
+        @NamedSubgraph(name = "subscriberAccount", attributeNodes = @NamedAttributeNode("subscriber")),
+        @NamedSubgraph(name = "vehicleAccount", attributeNodes = @NamedAttributeNode(value = "vehicle", subgraph = "vehicle")),
+        @NamedSubgraph(name = "vehicle", attributeNodes = @NamedAttributeNode(value = "model", subgraph = "model")),
+        @NamedSubgraph(name = "model", attributeNodes = @NamedAttributeNode("brand"))
+    }
+)
+@Table(name = "cash_movements", indexes = {
+    // Reaplicación al arrancar de los movimientos no volcados a la caja (CashRegisterLedgerService)
+    @Index(name = "idx_cash_movement_ledger_flushed", columnList = "ledger_flushed")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
 @EqualsAndHashCode(callSuper = true)
 public class CashMovementEntity extends AbstractMovementEntity {
+
+    public static final String DTO_GRAPH = "CashMovementEntity.dto";
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_cash_register", nullable = false)
     @NotNull(message = "The cash register cannot be null")
     private CashRegisterEntity cashRegister;
+    
+    @Column(name = "ledger_flushed", nullable = false, updatable = false)
+    @Builder.Default
+    // true cuando el delta del movimiento ya está incluido en el monto de la caja.
+    // Solo lo marca CashRegisterLedgerService (en SQL), por eso no se incluye en los UPDATE de la entidad.
+    private Boolean ledgerFlushed = false;
 }
 
 
@@ -2,6 +2,7 @@ package com.pepotec.cooperative_taxi_managment.models.entities;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import jakarta.persistence.Index;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,6 +11,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Column;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Enumerated;
@@ -21,7 +23,15 @@ import java.time.LocalDate;
 import com.pepotec.cooperative_taxi_managment.models.enums.FuelType;
 
 @Entity
-@Table(name = "daily_fuel")
+@Table(name = "daily_fuel", indexes = {
+    @Index(name = "idx_daily_fuel_driver_type_issue", columnList = "id_driver, fuel_type, ticket_issue_date"),
+    @Index(name = "idx_daily_fuel_driver_issue", columnList = "id_driver, ticket_issue_date"),
+    @Index(name = "idx_daily_fuel_vehicle_issue", columnList = "id_vehicle, ticket_issue_date"),
+    @Index(name = "idx_daily_fuel_vehicle_type", columnList = "id_vehicle, fuel_type"),
+    @Index(name = "idx_daily_fuel_issue", columnList = "ticket_issue_date"),
+    @Index(name = "idx_daily_fuel_submission", columnList = "submission_date"),
+    @Index(name = "idx_daily_fuel_type", columnList = "fuel_type")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -32,17 +42,17 @@ public class DailyFuelEntity {
     @Column(name = "id_daily_fuel", unique = true, nullable = false)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_driver", nullable = false)
     @NotNull(message = "The driver cannot be null")
     private DriverEntity driver;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_vehicle", nullable = false)
     @NotNull(message = "The vehicle cannot be null")
     private VehicleEntity vehicle;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_settlement")
     private DriverSettlementEntity settlement;
 
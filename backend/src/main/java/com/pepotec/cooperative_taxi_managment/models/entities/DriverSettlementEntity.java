@@ -2,6 +2,7 @@ package com.pepotec.cooperative_taxi_managment.models.entities;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import jakarta.persistence.Index;
 import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -18,7 +19,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "driver_settlements")
+@Table(name = "driver_settlements", indexes = {
+    @Index(name = "idx_driver_settlement_driver_submission", columnList = "id_driver, submission_date"),
+    @Index(name = "idx_driver_settlement_submission", columnList = "submission_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,9 +20,8 @@ import java.util.List;
  * Extiende AbstractTypeEntity para compartir campos comunes con IncomeTypeEntity.
  */
 @Entity
-@Table(name = "expense_types", uniqueConstraints = {
-    @UniqueConstraint(columnNames = {"name"}, name = "uk_expense_type_name")
-})
+// El nombre es único en la tabla types (ver AbstractTypeEntity)
+@Table(name = "expense_types")
 @DiscriminatorValue("EXPENSE")
 @Data
 @NoArgsConstructor
@@ -0,0 +1,63 @@
+package com.pepotec.cooperative_taxi_managment.models.entities;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.Index;
+import jakarta.persistence.Id;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Column;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.JoinColumn;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+
+/**
+ * Crédito de combustible de un chofer (porcentaje del chofer de un DailyFuel).
+ *
+ * Los créditos solo se insertan: cargar combustible no modifica la fila de FuelReimbursement,
+ * que sería un punto de contención entre las cargas del mismo chofer. El monto pendiente de
+ * reintegro es la suma de los créditos sin reimbursedDate; al reintegrar se marcan con la fecha.
+ */
+@Entity
+@Table(name = "fuel_credit_entries", indexes = {
+    @Index(name = "idx_fuel_credit_account_reimbursed", columnList = "id_member_account, reimbursed_date")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FuelCreditEntryEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id_fuel_credit_entry", unique = true, nullable = false)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_member_account", nullable = false)
+    @NotNull(message = "The member account cannot be null")
+    private MemberAccountEntity memberAccount;
+
+    // Sin FK: los combustibles diarios se pueden borrar y el crédito ya otorgado se conserva
+    @Column(name = "id_daily_fuel")
+    private Long dailyFuelId;
+
+    @Column(name = "amount", nullable = false)
+    @NotNull(message = "The amount cannot be null")
+    @Positive(message = "The amount must be positive")
+    private Double amount;
+
+    @Column(name = "created_date", nullable = false)
+    @NotNull(message = "The created date cannot be null")
+    private LocalDate createdDate;
+
+    @Column(name = "reimbursed_date")
+    private LocalDate reimbursedDate;
+}
@@ -20,9 +20,8 @@ import java.util.List;
  * Extiende AbstractTypeEntity para compartir campos comunes con ExpenseTypeEntity.
  */
 @Entity
-@Table(name = "income_types", uniqueConstraints = {
-    @UniqueConstraint(columnNames = {"name"}, name = "uk_income_type_name")
-})
+// El nombre es único en la tabla types (ver AbstractTypeEntity)
+@Table(name = "income_types")
 @DiscriminatorValue("INCOME")
 @Data
 @NoArgsConstructor
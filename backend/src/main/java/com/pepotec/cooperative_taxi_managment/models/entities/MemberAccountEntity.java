@@ -4,6 +4,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Index;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -15,7 +16,10 @@ import lombok.experimental.SuperBuilder;
  * Cuenta asociada a un socio de la cooperativa.
  */
 @Entity
-@Table(name = "member_accounts")
+@Table(name = "member_accounts", indexes = {
+    // Rango de IDs de cuentas activas (cierre mensual por tramos)
+    @Index(name = "idx_member_account_active", columnList = "active, id_account")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -10,15 +10,37 @@ import lombok.experimental.SuperBuilder;
  * Entidad que representa movimientos de dinero SIN EFECTIVO (transferencias, débitos, créditos).
  * Extiende AbstractMovementEntity.
  * Solo afecta una cuenta (si existe), NO afecta la caja física.
+ *
+ * DTO_GRAPH trae en la misma consulta las cuentas y sus dueños (relaciones EAGER:
+ * socio con domicilio, abonado, vehículo con modelo y marca), que convertToDTO recorre en
+ * cada fila. Lo usan los listados del repository.
  */
 @Entity
+@NamedEntityGraph(
+    name = NonCashMovementEntity.DTO_GRAPH,
+    attributeNodes = {
+        @NamedAttributeNode(value = "memberAccount", subgraph = "memberAccount"),
+        @NamedAttributeNode(value = "subscriberAccount", subgraph = "subscriberAccount"),
+        @NamedAttributeNode(value = "vehicleAccount", subgraph = "vehicleAccount")
+    },
+    subgraphs = {
+        @NamedSubgraph(name = "memberAccount", attributeNodes = @NamedAttributeNode(value = "member", subgraph = "member")),
+        @NamedSubgraph(name = "member", attributeNodes = @NamedAttributeNode("address")),
+        @NamedSubgraph(name = "subscriberAccount", attributeNodes = @NamedAttributeNode("subscriber")),
+        @NamedSubgraph(name = "vehicleAccount", attributeNodes = @NamedAttributeNode(value = "vehicle", subgraph = "vehicle")),
+        @NamedSubgraph(name = "vehicle", attributeNodes = @NamedAttributeNode(value = "model", subgraph = "model")),
+        @NamedSubgraph(name = "model", attributeNodes = @NamedAttributeNode("brand"))
+    }
+)
 @Table(name = "non_cash_movements")
-@DiscriminatorValue("NON_CASH")
 @Data
 @NoArgsConstructor
 @SuperBuilder
 @EqualsAndHashCode(callSuper = true)
 public class NonCashMovementEntity extends AbstractMovementEntity {
+
+    public static final String DTO_GRAPH = "NonCashMovementEntity.dto";
+
     // No tiene campos adicionales, solo extiende AbstractMovementEntity
 }
 
@@ -30,6 +30,10 @@ import java.util.List;
 @Entity
 @Table(name = "payroll_settlements", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"id_member_account", "period"}, name = "uk_member_account_period")
+}, indexes = {
+        @Index(name = "idx_payroll_settlement_period", columnList = "period"),
+        @Index(name = "idx_payroll_settlement_payment_date", columnList = "payment_date"),
+        @Index(name = "idx_payroll_settlement_account_payment_date", columnList = "id_member_account, payment_date")
 })
 @Getter
 @Setter
@@ -27,6 +27,10 @@ import java.time.LocalDate;
     // Unicidad: receiptNumber + bookletNumber + receiptType (permite mismo número en diferentes tipos)
     @UniqueConstraint(columnNames = {"receipt_number", "booklet_number", "receipt_type"}, 
                      name = "uk_receipt_booklet_type")
+}, indexes = {
+    @Index(name = "idx_receipt_period", columnList = "period"),
+    @Index(name = "idx_receipt_issue_date_active", columnList = "issue_date, active"),
+    @Index(name = "idx_receipt_type", columnList = "receipt_type")
 })
 @Getter
 @Setter
@@ -33,7 +33,9 @@ import java.time.LocalDate;
     @Index(name = "idx_account_movement", columnList = "id_account_movement"),
     @Index(name = "idx_receipt", columnList = "id_receipt"),
     @Index(name = "idx_payroll_settlement", columnList = "id_payroll_settlement"),
-    @Index(name = "idx_movement", columnList = "id_movement")
+    @Index(name = "idx_movement", columnList = "id_movement"),
+    @Index(name = "idx_allocation_date_active", columnList = "allocation_date, active"),
+    @Index(name = "idx_allocation_account_movement_date", columnList = "id_account_movement, active, allocation_date")
 })
 @Data
 @NoArgsConstructor
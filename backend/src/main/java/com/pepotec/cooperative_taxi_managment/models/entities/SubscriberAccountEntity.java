@@ -4,6 +4,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Index;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -15,7 +16,10 @@ import lombok.experimental.SuperBuilder;
  * Cuenta asociada a un abonado.
  */
 @Entity
-@Table(name = "subscriber_accounts")
+@Table(name = "subscriber_accounts", indexes = {
+    // Rango de IDs de cuentas activas (cierre mensual por tramos)
+    @Index(name = "idx_subscriber_account_active", columnList = "active, id_account")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -2,6 +2,7 @@ package com.pepotec.cooperative_taxi_managment.models.entities;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import jakarta.persistence.Index;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,6 +11,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Column;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.JoinColumn;
 import jakarta.validation.constraints.NotNull;
@@ -18,7 +20,15 @@ import org.springframework.format.annotation.DateTimeFormat;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "ticket_taxi")
+@Table(name = "ticket_taxi", indexes = {
+    @Index(name = "idx_ticket_taxi_vehicle_start", columnList = "id_vehicle, start_date"),
+    @Index(name = "idx_ticket_taxi_vehicle_cut", columnList = "id_vehicle, cut_date"),
+    @Index(name = "idx_ticket_taxi_settlement_start", columnList = "id_settlement, start_date"),
+    @Index(name = "idx_ticket_taxi_settlement_cut", columnList = "id_settlement, cut_date"),
+    @Index(name = "idx_ticket_taxi_start", columnList = "start_date"),
+    @Index(name = "idx_ticket_taxi_cut", columnList = "cut_date"),
+    @Index(name = "idx_ticket_taxi_number", columnList = "ticket_number")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -29,12 +39,12 @@ public class TicketTaxiEntity {
     @Column(name = "id_ticket_taxi", unique = true, nullable = false)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_vehicle", nullable = false)
     @NotNull(message = "The vehicle cannot be null")
     private VehicleEntity vehicle;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_settlement", nullable = false)
     @NotNull(message = "The settlement cannot be null")
     private DriverSettlementEntity settlement;
@@ -25,7 +25,10 @@ import java.util.List;
  * pero también puede actualizarse manualmente.
  */
 @Entity
-@Table(name = "workshop_repairs")
+@Table(name = "workshop_repairs", indexes = {
+    @Index(name = "idx_workshop_repair_type", columnList = "repair_type"),
+    @Index(name = "idx_workshop_repair_remaining_balance", columnList = "remaining_balance")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,21 @@
+package com.pepotec.cooperative_taxi_managment.models.enums;
+
+/**
+ * Enum que representa la clase concreta de un movimiento de cuenta (tabla hija de account_movements).
+ */
+public enum AccountMovementKind {
+    /**
+     * Ingreso de cuenta (account_incomes)
+     */
+    INCOME,
+
+    /**
+     * Gasto mensual (monthly_expenses)
+     */
+    MONTHLY_EXPENSE,
+
+    /**
+     * Arreglo de taller (workshop_repairs)
+     */
+    WORKSHOP_REPAIR
+}
@@ -0,0 +1,40 @@
+package com.pepotec.cooperative_taxi_managment.models.enums;
+
+/**
+ * Enum que representa el origen de una línea del extracto combinado de una cuenta.
+ * En una misma fecha las líneas se ordenan según el orden de declaración.
+ */
+public enum AccountStatementSource {
+    /**
+     * Movimiento de dinero, en efectivo o no (movements)
+     */
+    MOVEMENT,
+
+    /**
+     * Imputación directa sobre el saldo, sin movimiento asociado (asientos DIRECT de
+     * account_ledger_entries: reintegros de combustible, cierre de mes), fechada el día en que
+     * se registró
+     */
+    LEDGER_ENTRY,
+
+    /**
+     * Movimiento de cuenta: ingreso, gasto mensual o arreglo de taller (account_movements),
+     * fechado el primer día de su período
+     */
+    ACCOUNT_MOVEMENT,
+
+    /**
+     * Adelanto (advances), solo cuentas de socio
+     */
+    ADVANCE,
+
+    /**
+     * Liquidación de sueldo (payroll_settlements), fechada el día de pago; solo cuentas de socio
+     */
+    PAYROLL_SETTLEMENT,
+
+    /**
+     * Asignación de pago a un movimiento de cuenta (settlement_allocations)
+     */
+    SETTLEMENT_ALLOCATION
+}
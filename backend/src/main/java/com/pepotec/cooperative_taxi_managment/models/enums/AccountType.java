@@ -0,0 +1,21 @@
+package com.pepotec.cooperative_taxi_managment.models.enums;
+
+/**
+ * Enum que representa el tipo de cuenta corriente.
+ */
+public enum AccountType {
+    /**
+     * Cuenta de socio
+     */
+    MEMBER,
+
+    /**
+     * Cuenta de abonado
+     */
+    SUBSCRIBER,
+
+    /**
+     * Cuenta de vehículo
+     */
+    VEHICLE
+}
@@ -0,0 +1,21 @@
+package com.pepotec.cooperative_taxi_managment.models.enums;
+
+/**
+ * Enum que representa el estado de un tramo del cierre mensual de historiales.
+ */
+public enum CloseChunkStatus {
+    /**
+     * Tramo planificado, todavía no procesado
+     */
+    PENDING,
+
+    /**
+     * Tramo procesado y confirmado
+     */
+    COMPLETED,
+
+    /**
+     * El último intento falló; se reintenta en la próxima ejecución del cierre
+     */
+    FAILED
+}
@@ -0,0 +1,27 @@
+package com.pepotec.cooperative_taxi_managment.models.enums;
+
+/**
+ * Enum que representa el origen de un asiento del libro de saldos de cuentas.
+ */
+public enum LedgerEntryType {
+    /**
+     * Imputación de un movimiento (alta o reimputación al editarlo)
+     */
+    MOVEMENT,
+
+    /**
+     * Reversión de un movimiento editado o dado de baja
+     */
+    REVERSAL,
+
+    /**
+     * Imputación directa sin movimiento asociado (por ejemplo, reintegros de combustible)
+     */
+    DIRECT,
+
+    /**
+     * Diferencia entre el último saldo registrado y el saldo real de la cuenta
+     * (saldo previo al libro o modificado manualmente)
+     */
+    RECONCILIATION
+}
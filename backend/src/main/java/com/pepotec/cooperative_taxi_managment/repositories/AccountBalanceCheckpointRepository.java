@@ -0,0 +1,26 @@
+package com.pepotec.cooperative_taxi_managment.repositories;
+
+import com.pepotec.cooperative_taxi_managment.models.entities.AccountBalanceCheckpointEntity;
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository para los puntos de control de la conciliación de saldos.
+ */
+@Repository
+public interface AccountBalanceCheckpointRepository extends JpaRepository<AccountBalanceCheckpointEntity, Long> {
+
+    List<AccountBalanceCheckpointEntity> findByAccountType(AccountType accountType);
+
+    /**
+     * Puntos de control cuyo saldo real difiere del esperado en al menos la tolerancia indicada.
+     */
+    @Query("SELECT c FROM AccountBalanceCheckpointEntity c WHERE ABS(c.drift) >= :tolerance " +
+           "ORDER BY c.accountType, c.accountId")
+    List<AccountBalanceCheckpointEntity> findDrifted(@Param("tolerance") Double tolerance);
+}
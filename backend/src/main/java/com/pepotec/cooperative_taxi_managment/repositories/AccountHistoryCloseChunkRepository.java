@@ -0,0 +1,66 @@
+package com.pepotec.cooperative_taxi_managment.repositories;
+
+import com.pepotec.cooperative_taxi_managment.models.entities.AccountHistoryCloseChunkEntity;
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountType;
+import com.pepotec.cooperative_taxi_managment.models.enums.CloseChunkStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Repository para el avance por tramos del cierre mensual de historiales.
+ */
+@Repository
+public interface AccountHistoryCloseChunkRepository extends JpaRepository<AccountHistoryCloseChunkEntity, Long> {
+
+    /**
+     * Busca los tramos de un período que todavía no se completaron.
+     * @param period Período en formato "YYYY-MM"
+     * @param status Estado a excluir (COMPLETED)
+     * @return Tramos pendientes o fallidos, ordenados por ID
+     */
+    List<AccountHistoryCloseChunkEntity> findByPeriodAndStatusNotOrderById(String period, CloseChunkStatus status);
+
+    /**
+     * Obtiene el inicio de los tramos ya planificados para un período y tipo de cuenta.
+     * @param period Período en formato "YYYY-MM"
+     * @param accountType Tipo de cuenta
+     * @return IDs de inicio de los tramos existentes
+     */
+    @Query("SELECT c.rangeStart FROM AccountHistoryCloseChunkEntity c WHERE c.period = :period AND c.accountType = :accountType")
+    Set<Long> findRangeStartsByPeriodAndAccountType(
+        @Param("period") String period,
+        @Param("accountType") AccountType accountType
+    );
+
+    /**
+     * Cuenta los tramos de un período según su estado.
+     * @param period Período en formato "YYYY-MM"
+     * @param status Estado
+     * @return Cantidad de tramos
+     */
+    long countByPeriodAndStatus(String period, CloseChunkStatus status);
+
+    /**
+     * Vuelve a PENDING los tramos completados de un período que empiezan en los IDs indicados.
+     * @param period Período en formato "YYYY-MM"
+     * @param accountType Tipo de cuenta
+     * @param rangeStarts IDs de inicio de los tramos
+     * @return Cantidad de tramos reabiertos
+     */
+    @Modifying
+    @Query("UPDATE AccountHistoryCloseChunkEntity c SET c.status = com.pepotec.cooperative_taxi_managment.models.enums.CloseChunkStatus.PENDING " +
+        "WHERE c.period = :period AND c.accountType = :accountType " +
+        "AND c.status = com.pepotec.cooperative_taxi_managment.models.enums.CloseChunkStatus.COMPLETED AND c.rangeStart IN :rangeStarts")
+    int reopenCompleted(
+        @Param("period") String period,
+        @Param("accountType") AccountType accountType,
+        @Param("rangeStarts") Collection<Long> rangeStarts
+    );
+}
@@ -1,7 +1,10 @@
 package com.pepotec.cooperative_taxi_managment.repositories;
 
 import com.pepotec.cooperative_taxi_managment.models.entities.AccountHistoryEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.Query;
@@ -10,11 +13,16 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+
 /**
  * Repository para historiales mensuales de cuentas.
+ *
+ * Los INSERT nativos declaran la tabla que modifican (HINT_NATIVE_SPACES); sin eso Hibernate
+ * vaciaría todo el caché de segundo nivel en cada ejecución.
  */
 @Repository
-public interface AccountHistoryRepository extends JpaRepository<AccountHistoryEntity, Long> {
+public interface AccountHistoryRepository extends JpaRepository<AccountHistoryEntity, Long>, KeysetPagingRepository<AccountHistoryEntity> {
     
     /**
      * Busca historiales por cuenta de socio.
@@ -153,5 +161,124 @@ public interface AccountHistoryRepository extends JpaRepository<AccountHistoryEn
      * @return Lista de historiales activos registrados en el rango
      */
     List<AccountHistoryEntity> findByRegistrationDateBetweenAndActiveTrue(LocalDate startDate, LocalDate endDate);
-}
 
+    /**
+     * Crea en una sola sentencia el historial del período para las cuentas de socio activas
+     * con ID en [fromId, toId], con su saldo actual. Omite las cuentas que ya tienen un
+     * historial (activo o no) en ese período.
+     * @param period Período en formato "YYYY-MM"
+     * @param registrationDate Fecha de registro
+     * @param fromId Primer ID de cuenta del tramo (inclusive)
+     * @param toId Último ID de cuenta del tramo (inclusive)
+     * @return Cantidad de historiales creados
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "account_histories"))
+    @Query(value = "INSERT INTO account_histories (id_member_account, period, registration_date, month_end_balance, active) " +
+        "SELECT a.id_account, :period, :registrationDate, a.balance, true FROM member_accounts a " +
+        "WHERE a.active = true AND a.id_account BETWEEN :fromId AND :toId " +
+        "AND NOT EXISTS (SELECT 1 FROM account_histories h " +
+        "WHERE h.id_member_account = a.id_account AND h.period = :period)", nativeQuery = true)
+    int insertMonthlySnapshotForMemberAccounts(
+        @Param("period") String period,
+        @Param("registrationDate") LocalDate registrationDate,
+        @Param("fromId") Long fromId,
+        @Param("toId") Long toId
+    );
+    
+    /**
+     * Crea en una sola sentencia el historial del período para las cuentas de abonado activas
+     * con ID en [fromId, toId], con su saldo actual. Omite las cuentas que ya tienen un
+     * historial (activo o no) en ese período.
+     * @param period Período en formato "YYYY-MM"
+     * @param registrationDate Fecha de registro
+     * @param fromId Primer ID de cuenta del tramo (inclusive)
+     * @param toId Último ID de cuenta del tramo (inclusive)
+     * @return Cantidad de historiales creados
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "account_histories"))
+    @Query(value = "INSERT INTO account_histories (id_subscriber_account, period, registration_date, month_end_balance, active) " +
+        "SELECT a.id_account, :period, :registrationDate, a.balance, true FROM subscriber_accounts a " +
+        "WHERE a.active = true AND a.id_account BETWEEN :fromId AND :toId " +
+        "AND NOT EXISTS (SELECT 1 FROM account_histories h " +
+        "WHERE h.id_subscriber_account = a.id_account AND h.period = :period)", nativeQuery = true)
+    int insertMonthlySnapshotForSubscriberAccounts(
+        @Param("period") String period,
+        @Param("registrationDate") LocalDate registrationDate,
+        @Param("fromId") Long fromId,
+        @Param("toId") Long toId
+    );
+    
+    /**
+     * Crea en una sola sentencia el historial del período para las cuentas de vehículo activas
+     * con ID en [fromId, toId], con su saldo actual. Omite las cuentas que ya tienen un
+     * historial (activo o no) en ese período.
+     * @param period Período en formato "YYYY-MM"
+     * @param registrationDate Fecha de registro
+     * @param fromId Primer ID de cuenta del tramo (inclusive)
+     * @param toId Último ID de cuenta del tramo (inclusive)
+     * @return Cantidad de historiales creados
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "account_histories"))
+    @Query(value = "INSERT INTO account_histories (id_vehicle_account, period, registration_date, month_end_balance, active) " +
+        "SELECT a.id_account, :period, :registrationDate, a.balance, true FROM vehicle_accounts a " +
+        "WHERE a.active = true AND a.id_account BETWEEN :fromId AND :toId " +
+        "AND NOT EXISTS (SELECT 1 FROM account_histories h " +
+        "WHERE h.id_vehicle_account = a.id_account AND h.period = :period)", nativeQuery = true)
+    int insertMonthlySnapshotForVehicleAccounts(
+        @Param("period") String period,
+        @Param("registrationDate") LocalDate registrationDate,
+        @Param("fromId") Long fromId,
+        @Param("toId") Long toId
+    );
+    
+    /**
+     * Obtiene el inicio de los tramos de cierre (alineados a chunkSize) con cuentas de socio
+     * activas sin historial en el período, como las creadas o reactivadas después de completar
+     * el tramo.
+     * @param period Período en formato "YYYY-MM"
+     * @param chunkSize Tamaño de los tramos del cierre
+     * @return IDs de inicio de los tramos con historiales faltantes
+     */
+    @Query(value = "SELECT DISTINCT a.id_account - MOD(a.id_account - 1, :chunkSize) FROM member_accounts a " +
+        "WHERE a.active = true AND NOT EXISTS (SELECT 1 FROM account_histories h " +
+        "WHERE h.id_member_account = a.id_account AND h.period = :period)", nativeQuery = true)
+    List<Long> findCloseRangeStartsMissingMemberAccountHistories(
+        @Param("period") String period,
+        @Param("chunkSize") int chunkSize
+    );
+    
+    /**
+     * Obtiene el inicio de los tramos de cierre (alineados a chunkSize) con cuentas de abonado
+     * activas sin historial en el período, como las creadas o reactivadas después de completar
+     * el tramo.
+     * @param period Período en formato "YYYY-MM"
+     * @param chunkSize Tamaño de los tramos del cierre
+     * @return IDs de inicio de los tramos con historiales faltantes
+     */
+    @Query(value = "SELECT DISTINCT a.id_account - MOD(a.id_account - 1, :chunkSize) FROM subscriber_accounts a " +
+        "WHERE a.active = true AND NOT EXISTS (SELECT 1 FROM account_histories h " +
+        "WHERE h.id_subscriber_account = a.id_account AND h.period = :period)", nativeQuery = true)
+    List<Long> findCloseRangeStartsMissingSubscriberAccountHistories(
+        @Param("period") String period,
+        @Param("chunkSize") int chunkSize
+    );
+    
+    /**
+     * Obtiene el inicio de los tramos de cierre (alineados a chunkSize) con cuentas de vehículo
+     * activas sin historial en el período, como las creadas o reactivadas después de completar
+     * el tramo.
+     * @param period Período en formato "YYYY-MM"
+     * @param chunkSize Tamaño de los tramos del cierre
+     * @return IDs de inicio de los tramos con historiales faltantes
+     */
+    @Query(value = "SELECT DISTINCT a.id_account - MOD(a.id_account - 1, :chunkSize) FROM vehicle_accounts a " +
+        "WHERE a.active = true AND NOT EXISTS (SELECT 1 FROM account_histories h " +
+        "WHERE h.id_vehicle_account = a.id_account AND h.period = :period)", nativeQuery = true)
+    List<Long> findCloseRangeStartsMissingVehicleAccountHistories(
+        @Param("period") String period,
+        @Param("chunkSize") int chunkSize
+    );
+}
@@ -0,0 +1,50 @@
+package com.pepotec.cooperative_taxi_managment.repositories;
+
+import com.pepotec.cooperative_taxi_managment.models.entities.AccountLedgerEntryEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Inserción en lote de asientos del libro de saldos con JDBC
+ * (los IDs son IDENTITY, por lo que Hibernate no agruparía los INSERT).
+ */
+@Repository
+public class AccountLedgerBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_ENTRY =
+        "INSERT INTO account_ledger_entries (account_type, account_id, entry_type, movement_id, movement_date, " +
+        "delta, balance_after, posted_on, posted_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<AccountLedgerEntryEntity> entries) {
+        jdbcTemplate.batchUpdate(INSERT_ENTRY, entries, BATCH_SIZE, (ps, entry) -> {
+            ps.setString(1, entry.getAccountType().name());
+            ps.setLong(2, entry.getAccountId());
+            ps.setString(3, entry.getEntryType().name());
+            if (entry.getMovementId() != null) {
+                ps.setLong(4, entry.getMovementId());
+            } else {
+                ps.setNull(4, Types.BIGINT);
+            }
+            if (entry.getMovementDate() != null) {
+                ps.setDate(5, Date.valueOf(entry.getMovementDate()));
+            } else {
+                ps.setNull(5, Types.DATE);
+            }
+            ps.setDouble(6, entry.getDelta());
+            ps.setDouble(7, entry.getBalanceAfter());
+            ps.setDate(8, Date.valueOf(entry.getPostedOn()));
+            ps.setTimestamp(9, Timestamp.valueOf(entry.getPostedAt()));
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package com.pepotec.cooperative_taxi_managment.repositories;
+
+import com.pepotec.cooperative_taxi_managment.models.entities.AccountLedgerEntryEntity;
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lecturas del libro de saldos. Todas ordenan por (posted_on, id) para recorrer
+ * el índice idx_ledger_account_posted sin ordenar en memoria.
+ */
+@Repository
+public interface AccountLedgerEntryRepository extends JpaRepository<AccountLedgerEntryEntity, Long> {
+
+    /**
+     * Saldo del último asiento de la cuenta, leído con bloqueo (SELECT ... FOR UPDATE).
+     * Es una lectura actual y no la foto de la transacción: con REPEATABLE READ una lectura
+     * consistente podría no ver los asientos de una transacción que se confirmó mientras ésta
+     * esperaba el bloqueo de la cuenta.
+     * @param accountType Tipo de cuenta (nombre del enum AccountType)
+     * @param accountId ID de la cuenta
+     * @return Saldo del último asiento (vacío si la cuenta no tiene asientos)
+     */
+    @Query(value = "SELECT balance_after FROM account_ledger_entries " +
+        "WHERE account_type = :accountType AND account_id = :accountId " +
+        "ORDER BY posted_on DESC, id_ledger_entry DESC LIMIT 1 FOR UPDATE", nativeQuery = true)
+    Optional<Double> findLastBalanceForUpdate(@Param("accountType") String accountType, @Param("accountId") Long accountId);
+
+    /**
+     * Último asiento de la cuenta imputado hasta la fecha indicada (inclusive).
+     */
+    Optional<AccountLedgerEntryEntity> findFirstByAccountTypeAndAccountIdAndPostedOnLessThanEqualOrderByPostedOnDescIdDesc(
+        AccountType accountType, Long accountId, LocalDate date);
+
+    /**
+     * Asientos de la cuenta imputados en el rango de fechas (inclusive), en orden de imputación.
+     */
+    List<AccountLedgerEntryEntity> findByAccountTypeAndAccountIdAndPostedOnBetweenOrderByPostedOnAscIdAsc(
+        AccountType accountType, Long accountId, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,173 @@
+package com.pepotec.cooperative_taxi_managment.repositories;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.accountmovement.AccountMovementLineDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.settlementallocation.SettlementAllocationDetailDTO;
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountMovementKind;
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountType;
+import com.pepotec.cooperative_taxi_managment.models.enums.MovementType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Consultas de solo lectura (proyecciones) para los listados de movimientos de cuenta y
+ * de asignaciones de pago.
+ *
+ * Los movimientos de cuenta y de dinero usan herencia JOINED: una consulta polimórfica por
+ * entidades une todas las tablas hijas (incluida account_expenses, que no tiene columnas) y
+ * trae todas sus columnas, y luego cada fila carga por separado su tipo y sus asignaciones.
+ * Aquí cada listado es una sola consulta que une solo las tablas de las que lee columnas y
+ * devuelve directamente los DTO. La clase concreta de cada movimiento de cuenta se deduce
+ * de la tabla hija que tiene la fila; de los movimientos de dinero solo se lee la tabla
+ * movements (efectivo o no es indistinto para la asignación).
+ */
+@Repository
+public class AccountMovementReportRepository {
+
+    private static final String LINE_SELECT =
+        "SELECT am.id_account_movement, am.period, am.amount, am.added, am.added_date, am.note, " +
+        "am.current_installment, am.final_installment, " +
+        "CASE WHEN ai.id_account_movement IS NOT NULL THEN 'INCOME' " +
+        "WHEN me.id_account_movement IS NOT NULL THEN 'MONTHLY_EXPENSE' ELSE 'WORKSHOP_REPAIR' END AS kind, " +
+        "COALESCE(it.name, et.name) AS type_name, wr.repair_type, wr.remaining_balance, " +
+        "(SELECT COALESCE(SUM(sa.allocated_amount), 0) FROM settlement_allocations sa " +
+        "WHERE sa.id_account_movement = am.id_account_movement AND sa.active = TRUE) AS allocated_amount " +
+        "FROM account_movements am " +
+        "LEFT JOIN account_incomes ai ON ai.id_account_movement = am.id_account_movement " +
+        "LEFT JOIN types it ON it.id_type = ai.id_income_type " +
+        "LEFT JOIN monthly_expenses me ON me.id_account_movement = am.id_account_movement " +
+        "LEFT JOIN types et ON et.id_type = me.id_expense_type " +
+        "LEFT JOIN workshop_repairs wr ON wr.id_account_movement = am.id_account_movement ";
+
+    private static final String ALLOCATION_SELECT =
+        "SELECT sa.id_settlement_allocation, sa.id_account_movement, sa.allocated_amount, sa.allocation_date, sa.note, " +
+        "sa.id_receipt, r.booklet_number, r.receipt_number, " +
+        "sa.id_payroll_settlement, ps.period AS payroll_period, " +
+        "sa.id_movement, m.date AS movement_date, m.description AS movement_description, m.movement_type " +
+        "FROM settlement_allocations sa " +
+        "LEFT JOIN receipts r ON r.id_receipt = sa.id_receipt " +
+        "LEFT JOIN payroll_settlements ps ON ps.id_payroll_settlement = sa.id_payroll_settlement " +
+        "LEFT JOIN movements m ON m.id_movement = sa.id_movement ";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Movimientos de cuenta activos de una cuenta con período entre fromPeriod y toPeriod
+     * (inclusive, formato YYYY-MM), ordenados por período e ID.
+     * Usa el índice (cuenta, period, added) de account_movements.
+     */
+    public List<AccountMovementLineDTO> findLines(AccountType accountType, Long accountId,
+                                                  String fromPeriod, String toPeriod) {
+        return jdbcTemplate.query(
+            LINE_SELECT +
+            "WHERE am." + accountColumn(accountType) + " = :accountId " +
+            "AND am.period BETWEEN :fromPeriod AND :toPeriod AND am.active = TRUE " +
+            "ORDER BY am.period, am.id_account_movement",
+            new MapSqlParameterSource().addValue("accountId", accountId)
+                .addValue("fromPeriod", fromPeriod).addValue("toPeriod", toPeriod),
+            (rs, rowNum) -> toLine(rs));
+    }
+
+    /**
+     * Siguiente tramo de movimientos de cuenta activos de una cuenta, ordenados por período e
+     * ID, a partir de (afterPeriod, afterId) exclusive y hasta toPeriod inclusive.
+     */
+    public List<AccountMovementLineDTO> findLinesAfter(AccountType accountType, Long accountId, String afterPeriod,
+                                                       long afterId, String toPeriod, int limit) {
+        return jdbcTemplate.query(
+            LINE_SELECT +
+            "WHERE am." + accountColumn(accountType) + " = :accountId " +
+            "AND am.period >= :afterPeriod AND am.period <= :toPeriod AND am.active = TRUE " +
+            "AND (am.period > :afterPeriod OR am.id_account_movement > :afterId) " +
+            "ORDER BY am.period, am.id_account_movement LIMIT :limit",
+            new MapSqlParameterSource().addValue("accountId", accountId)
+                .addValue("afterPeriod", afterPeriod).addValue("afterId", afterId)
+                .addValue("toPeriod", toPeriod).addValue("limit", limit),
+            (rs, rowNum) -> toLine(rs));
+    }
+
+    /**
+     * Asignaciones de pago activas de los movimientos de una cuenta con período entre
+     * fromPeriod y toPeriod (inclusive), ordenadas por movimiento y fecha de asignación.
+     */
+    public List<SettlementAllocationDetailDTO> findAllocations(AccountType accountType, Long accountId,
+                                                               String fromPeriod, String toPeriod) {
+        return jdbcTemplate.query(
+            ALLOCATION_SELECT +
+            "JOIN account_movements am ON am.id_account_movement = sa.id_account_movement " +
+            "WHERE am." + accountColumn(accountType) + " = :accountId " +
+            "AND am.period BETWEEN :fromPeriod AND :toPeriod AND am.active = TRUE AND sa.active = TRUE " +
+            "ORDER BY sa.id_account_movement, sa.allocation_date, sa.id_settlement_allocation",
+            new MapSqlParameterSource().addValue("accountId", accountId)
+                .addValue("fromPeriod", fromPeriod).addValue("toPeriod", toPeriod),
+            (rs, rowNum) -> toAllocation(rs));
+    }
+
+    /**
+     * Asignaciones de pago activas de un movimiento de cuenta, ordenadas por fecha de asignación.
+     */
+    public List<SettlementAllocationDetailDTO> findAllocationsByAccountMovement(Long accountMovementId) {
+        return jdbcTemplate.query(
+            ALLOCATION_SELECT +
+            "WHERE sa.id_account_movement = :accountMovementId AND sa.active = TRUE " +
+            "ORDER BY sa.allocation_date, sa.id_settlement_allocation",
+            new MapSqlParameterSource().addValue("accountMovementId", accountMovementId),
+            (rs, rowNum) -> toAllocation(rs));
+    }
+
+    private AccountMovementLineDTO toLine(ResultSet rs) throws SQLException {
+        String typeName = rs.getString("type_name");
+        return AccountMovementLineDTO.builder()
+            .id(rs.getLong("id_account_movement"))
+            .kind(AccountMovementKind.valueOf(rs.getString("kind")))
+            .yearMonth(rs.getString("period"))
+            .amount(rs.getDouble("amount"))
+            .added(rs.getBoolean("added"))
+            .addedDate(rs.getObject("added_date", LocalDate.class))
+            .note(rs.getString("note"))
+            .currentInstallment(rs.getObject("current_installment", Integer.class))
+            .finalInstallment(rs.getObject("final_installment", Integer.class))
+            .typeName(typeName != null ? typeName : rs.getString("repair_type"))
+            .remainingBalance(rs.getObject("remaining_balance", Double.class))
+            .allocatedAmount(rs.getDouble("allocated_amount"))
+            .build();
+    }
+
+    private SettlementAllocationDetailDTO toAllocation(ResultSet rs) throws SQLException {
+        String movementType = rs.getString("movement_type");
+        return SettlementAllocationDetailDTO.builder()
+            .id(rs.getLong("id_settlement_allocation"))
+            .accountMovementId(rs.getObject("id_account_movement", Long.class))
+            .allocatedAmount(rs.getDouble("allocated_amount"))
+            .allocationDate(rs.getObject("allocation_date", LocalDate.class))
+            .note(rs.getString("note"))
+            .receiptId(rs.getObject("id_receipt", Long.class))
+            .receiptBookletNumber(rs.getObject("booklet_number", Integer.class))
+            .receiptNumber(rs.getObject("receipt_number", Integer.class))
+            .payrollSettlementId(rs.getObject("id_payroll_settlement", Long.class))
+            .payrollSettlementYearMonth(rs.getString("payroll_period"))
+            .movementId(rs.getObject("id_movement", Long.class))
+            .movementDate(rs.getObject("movement_date", LocalDate.class))
+            .movementDescription(rs.getString("movement_description"))
+            .movementType(movementType != null ? MovementType.valueOf(movementType) : null)
+            .build();
+    }
+
+    private String accountColumn(AccountType accountType) {
+        switch (accountType) {
+            case MEMBER:
+                return "id_member_account";
+            case SUBSCRIBER:
+                return "id_subscriber_account";
+            default:
+                return "id_vehicle_account";
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.pepotec.cooperative_taxi_managment.repositories;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.accountstatement.AccountStatementLineDTO;
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountStatementSource;
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountType;
+import com.pepotec.cooperative_taxi_managment.models.enums.MovementType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Consultas por tramos (keyset por fecha e ID) de cada origen del extracto combinado de una
+ * cuenta. Cada consulta recorre el índice (cuenta, fecha) de su tabla a partir de la última
+ * fila leída, por lo que ninguna trae más de limit filas ni deja un cursor abierto entre
+ * tramos. Los movimientos de cuenta se leen con AccountMovementReportRepository.findLinesAfter.
+ */
+@Repository
+public class AccountStatementRepository {
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Movimientos de dinero activos de la cuenta posteriores a (afterDate, afterId) y hasta
+     * toDate inclusive, ordenados por fecha e ID.
+     */
+    public List<AccountStatementLineDTO> findMovements(AccountType accountType, Long accountId, LocalDate afterDate,
+                                                       long afterId, LocalDate toDate, int limit) {
+        return jdbcTemplate.query(
+            "SELECT m.id_movement, m.date, m.description, m.amount, m.is_income, m.movement_type FROM movements m " +
+            "WHERE m." + accountColumn(accountType) + " = :accountId AND m.active = TRUE " +
+            "AND m.date >= :afterDate AND m.date <= :toDate AND (m.date > :afterDate OR m.id_movement > :afterId) " +
+            "ORDER BY m.date, m.id_movement LIMIT :limit",
+            keyset(accountId, afterDate, afterId, toDate, limit),
+            (rs, rowNum) -> {
+                MovementType movementType = MovementType.valueOf(rs.getString("movement_type"));
+                double amount = rs.getDouble("amount");
+                return AccountStatementLineDTO.builder()
+                    .source(AccountStatementSource.MOVEMENT)
+                    .id(rs.getLong("id_movement"))
+                    .date(rs.getObject("date", LocalDate.class))
+                    .description(rs.getString("description"))
+                    .amount(amount)
+                    .delta(balanceDelta(movementType, rs.getBoolean("is_income"), amount))
+                    .movementType(movementType)
+                    .build();
+            });
+    }
+
+    /**
+     * Adelantos activos de una cuenta de socio posteriores a (afterDate, afterId) y hasta
+     * toDate inclusive, ordenados por fecha e ID.
+     */
+    public List<AccountStatementLineDTO> findAdvances(Long memberAccountId, LocalDate afterDate, long afterId,
+                                                      LocalDate toDate, int limit) {
+        return jdbcTemplate.query(
+            "SELECT a.id_advance, a.date, a.notes, a.amount FROM advances a " +
+            "WHERE a.id_member_account = :accountId AND a.active = TRUE " +
+            "AND a.date >= :afterDate AND a.date <= :toDate AND (a.date > :afterDate OR a.id_advance > :afterId) " +
+            "ORDER BY a.date, a.id_advance LIMIT :limit",
+            keyset(memberAccountId, afterDate, afterId, toDate, limit),
+            (rs, rowNum) -> AccountStatementLineDTO.builder()
+                .source(AccountStatementSource.ADVANCE)
+                .id(rs.getLong("id_advance"))
+                .date(rs.getObject("date", LocalDate.class))
+                .description(rs.getString("notes"))
+                .amount(rs.getDouble("amount"))
+                .delta(0.0)
+                .build());
+    }
+
+    /**
+     * Liquidaciones de sueldo activas y pagadas de una cuenta de socio con fecha de pago
+     * posterior a (afterDate, afterId) y hasta toDate inclusive, ordenadas por fecha de pago e ID.
+     */
+    public List<AccountStatementLineDTO> findPayrollSettlements(Long memberAccountId, LocalDate afterDate, long afterId,
+                                                                LocalDate toDate, int limit) {
+        return jdbcTemplate.query(
+            "SELECT ps.id_payroll_settlement, ps.payment_date, ps.period, ps.net_salary FROM payroll_settlements ps " +
+            "WHERE ps.id_member_account = :accountId AND ps.active = TRUE " +
+            "AND ps.payment_date >= :afterDate AND ps.payment_date <= :toDate " +
+            "AND (ps.payment_date > :afterDate OR ps.id_payroll_settlement > :afterId) " +
+            "ORDER BY ps.payment_date, ps.id_payroll_settlement LIMIT :limit",
+            keyset(memberAccountId, afterDate, afterId, toDate, limit),
+            (rs, rowNum) -> AccountStatementLineDTO.builder()
+                .source(AccountStatementSource.PAYROLL_SETTLEMENT)
+                .id(rs.getLong("id_payroll_settlement"))
+                .date(rs.getObject("payment_date", LocalDate.class))
+                .description("Liquidación de sueldo " + rs.getString("period"))
+                .amount(rs.getDouble("net_salary"))
+                .delta(0.0)
+                .yearMonth(rs.getString("period"))
+                .build());
+    }
+
+    /**
+     * Asignaciones de pago activas de los movimientos de cuenta de la cuenta con fecha de
+     * asignación posterior a (afterDate, afterId) y hasta toDate inclusive, ordenadas por
+     * fecha de asignación e ID. Entra por el índice de cuenta de account_movements y, por cada
+     * movimiento de cuenta, por el índice (movimiento, activa, fecha) de settlement_allocations:
+     * solo se leen y ordenan las asignaciones de la cuenta dentro del rango de fechas.
+     */
+    public List<AccountStatementLineDTO> findAllocations(AccountType accountType, Long accountId, LocalDate afterDate,
+                                                         long afterId, LocalDate toDate, int limit) {
+        return jdbcTemplate.query(
+            "SELECT sa.id_settlement_allocation, sa.allocation_date, sa.note, sa.allocated_amount, sa.id_account_movement " +
+            "FROM account_movements am " +
+            "JOIN settlement_allocations sa ON sa.id_account_movement = am.id_account_movement " +
+            "WHERE am." + accountColumn(accountType) + " = :accountId AND sa.active = TRUE " +
+            "AND sa.allocation_date >= :afterDate AND sa.allocation_date <= :toDate " +
+            "AND (sa.allocation_date > :afterDate OR sa.id_settlement_allocation > :afterId) " +
+            "ORDER BY sa.allocation_date, sa.id_settlement_allocation LIMIT :limit",
+            keyset(accountId, afterDate, afterId, toDate, limit),
+            (rs, rowNum) -> AccountStatementLineDTO.builder()
+                .source(AccountStatementSource.SETTLEMENT_ALLOCATION)
+                .id(rs.getLong("id_settlement_allocation"))
+                .date(rs.getObject("allocation_date", LocalDate.class))
+                .description(rs.getString("note"))
+                .amount(rs.getDouble("allocated_amount"))
+                .delta(0.0)
+                .accountMovementId(rs.getObject("id_account_movement", Long.class))
+                .build());
+    }
+
+    /**
+     * Imputaciones directas (asientos DIRECT del libro de saldos) de la cuenta registradas
+     * después de (afterDate, afterId) y hasta toDate inclusive, ordenadas por fecha e ID.
+     * Recorre el índice (tipo, cuenta, fecha, ID) del libro.
+     */
+    public List<AccountStatementLineDTO> findLedgerEntries(AccountType accountType, Long accountId, LocalDate afterDate,
+                                                           long afterId, LocalDate toDate, int limit) {
+        return jdbcTemplate.query(
+            "SELECT le.id_ledger_entry, le.posted_on, le.delta FROM account_ledger_entries le " +
+            "WHERE le.account_type = :accountType AND le.account_id = :accountId AND le.entry_type = 'DIRECT' " +
+            "AND le.posted_on >= :afterDate AND le.posted_on <= :toDate " +
+            "AND (le.posted_on > :afterDate OR le.id_ledger_entry > :afterId) " +
+            "ORDER BY le.posted_on, le.id_ledger_entry LIMIT :limit",
+            keyset(accountId, afterDate, afterId, toDate, limit).addValue("accountType", accountType.name()),
+            (rs, rowNum) -> {
+                double delta = rs.getDouble("delta");
+                return AccountStatementLineDTO.builder()
+                    .source(AccountStatementSource.LEDGER_ENTRY)
+                    .id(rs.getLong("id_ledger_entry"))
+                    .date(rs.getObject("posted_on", LocalDate.class))
+                    .description("Imputación directa")
+                    .amount(Math.abs(delta))
+                    .delta(delta)
+                    .build();
+            });
+    }
+
+    /**
+     * Saldo de la cuenta según las líneas del extracto que lo mueven: movimientos de dinero
+     * activos (ADVANCE no afecta el saldo) por su fecha e imputaciones directas por su fecha de
+     * registro, anteriores a date, más los de esa fecha con ID hasta movementThroughId y
+     * ledgerThroughId inclusive respectivamente.
+     */
+    public double sumBalanceThrough(AccountType accountType, Long accountId, LocalDate date,
+                                    long movementThroughId, long ledgerThroughId) {
+        Double balance = jdbcTemplate.queryForObject(
+            "SELECT (SELECT COALESCE(SUM(CASE WHEN m.is_income = TRUE THEN m.amount ELSE -m.amount END), 0) " +
+            "FROM movements m " +
+            "WHERE m." + accountColumn(accountType) + " = :accountId AND m.active = TRUE " +
+            "AND m.movement_type <> 'ADVANCE' AND m.date <= :date " +
+            "AND (m.date < :date OR m.id_movement <= :movementThroughId)) + " +
+            "(SELECT COALESCE(SUM(le.delta), 0) FROM account_ledger_entries le " +
+            "WHERE le.account_type = :accountType AND le.account_id = :accountId AND le.entry_type = 'DIRECT' " +
+            "AND le.posted_on <= :date AND (le.posted_on < :date OR le.id_ledger_entry <= :ledgerThroughId))",
+            new MapSqlParameterSource().addValue("accountId", accountId).addValue("accountType", accountType.name())
+                .addValue("date", date)
+                .addValue("movementThroughId", movementThroughId).addValue("ledgerThroughId", ledgerThroughId),
+            Double.class);
+        return balance != null ? balance : 0.0;
+    }
+
+    /**
+     * Mismo criterio que BalanceUpdateService: ADVANCE no afecta el saldo.
+     */
+    private static double balanceDelta(MovementType movementType, boolean isIncome, double amount) {
+        if (movementType == MovementType.ADVANCE) {
+            return 0.0;
+        }
+        return isIncome ? amount : -amount;
+    }
+
+    private static MapSqlParameterSource keyset(Long accountId, LocalDate afterDate, long afterId,
+                                                LocalDate toDate, int limit) {
+        return new MapSqlParameterSource().addValue("accountId", accountId)
+            .addValue("afterDate", afterDate).addValue("afterId", afterId)
+            .addValue("toDate", toDate).addValue("limit", limit);
+    }
+
+    private String accountColumn(AccountType accountType) {
+        switch (accountType) {
+            case MEMBER:
+                return "id_member_account";
+            case SUBSCRIBER:
+                return "id_subscriber_account";
+            default:
+                return "id_vehicle_account";
+        }
+    }
+}
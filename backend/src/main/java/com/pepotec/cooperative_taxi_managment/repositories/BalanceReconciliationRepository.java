@@ -0,0 +1,200 @@
+package com.pepotec.cooperative_taxi_managment.repositories;
+
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Consultas de agregación de la conciliación de saldos, agrupadas por cuenta.
+ *
+ * Las sumas incrementales filtran por rango de ID (clave primaria), por lo que solo leen
+ * las filas nuevas desde la conciliación anterior. Los recálculos completos filtran por
+ * las cuentas indicadas y usan los índices de las claves foráneas de cuenta.
+ */
+@Repository
+public class BalanceReconciliationRepository {
+
+    private static final int IN_CLAUSE_SIZE = 500;
+
+    private static final String MOVEMENT_DELTA =
+        "SUM(CASE WHEN m.is_income = TRUE THEN m.amount ELSE -m.amount END)";
+
+    // Los ingresos de cuenta suman y los gastos (account_expenses y sus subclases) restan
+    private static final String ACCOUNT_MOVEMENT_DELTA =
+        "SUM(CASE WHEN ai.id_account_movement IS NOT NULL THEN am.amount ELSE -am.amount END)";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    public long maxMovementId() {
+        return maxId("SELECT COALESCE(MAX(id_movement), 0) FROM movements");
+    }
+
+    public long maxAccountMovementId() {
+        return maxId("SELECT COALESCE(MAX(id_account_movement), 0) FROM account_movements");
+    }
+
+    public long maxLedgerEntryId() {
+        return maxId("SELECT COALESCE(MAX(id_ledger_entry), 0) FROM account_ledger_entries");
+    }
+
+    /**
+     * Saldo actual de todas las cuentas del tipo indicado.
+     */
+    public Map<Long, Double> findBalances(AccountType accountType) {
+        Map<Long, Double> balances = new HashMap<>();
+        jdbcTemplate.query("SELECT id_account, balance FROM " + accountTable(accountType),
+            rs -> {
+                balances.put(rs.getLong(1), rs.getDouble(2));
+            });
+        return balances;
+    }
+
+    /**
+     * Suma de los movimientos activos con ID en (fromId, toId], por cuenta.
+     */
+    public Map<Long, Double> sumMovementsInRange(AccountType accountType, long fromId, long toId) {
+        String column = accountColumn(accountType);
+        return sumByAccount(
+            "SELECT m." + column + ", " + MOVEMENT_DELTA + " FROM movements m " +
+            "WHERE m.id_movement > :fromId AND m.id_movement <= :toId AND m." + column + " IS NOT NULL " +
+            "AND m.active = TRUE AND m.movement_type <> 'ADVANCE' GROUP BY m." + column,
+            new MapSqlParameterSource().addValue("fromId", fromId).addValue("toId", toId));
+    }
+
+    /**
+     * Suma de los movimientos de cuenta activos y agregados al saldo con ID en (fromId, toId], por cuenta.
+     */
+    public Map<Long, Double> sumAccountMovementsInRange(AccountType accountType, long fromId, long toId) {
+        String column = accountColumn(accountType);
+        return sumByAccount(
+            "SELECT am." + column + ", " + ACCOUNT_MOVEMENT_DELTA + " FROM account_movements am " +
+            "LEFT JOIN account_incomes ai ON ai.id_account_movement = am.id_account_movement " +
+            "WHERE am.id_account_movement > :fromId AND am.id_account_movement <= :toId AND am." + column + " IS NOT NULL " +
+            "AND am.active = TRUE AND am.added = TRUE GROUP BY am." + column,
+            new MapSqlParameterSource().addValue("fromId", fromId).addValue("toId", toId));
+    }
+
+    /**
+     * Suma de las imputaciones directas (sin movimiento) del libro de saldos con ID en (fromId, toId], por cuenta.
+     */
+    public Map<Long, Double> sumDirectEntriesInRange(AccountType accountType, long fromId, long toId) {
+        return sumByAccount(
+            "SELECT l.account_id, SUM(l.delta) FROM account_ledger_entries l " +
+            "WHERE l.id_ledger_entry > :fromId AND l.id_ledger_entry <= :toId " +
+            "AND l.account_type = :accountType AND l.entry_type = 'DIRECT' GROUP BY l.account_id",
+            new MapSqlParameterSource().addValue("fromId", fromId).addValue("toId", toId)
+                .addValue("accountType", accountType.name()));
+    }
+
+    /**
+     * Cuentas con asientos en (fromId, toId] que corresponden a movimientos anteriores a la marca
+     * de movimientos: ediciones, bajas o movimientos confirmados después de la conciliación anterior.
+     * Su suma incremental no es confiable y deben recalcularse completas.
+     */
+    public Set<Long> findAccountsWithChangedMovements(AccountType accountType, long fromId, long toId,
+                                                      long movementWatermark) {
+        Set<Long> accountIds = new HashSet<>();
+        jdbcTemplate.query(
+            "SELECT DISTINCT l.account_id FROM account_ledger_entries l " +
+            "WHERE l.id_ledger_entry > :fromId AND l.id_ledger_entry <= :toId " +
+            "AND l.account_type = :accountType AND l.movement_id <= :movementWatermark",
+            new MapSqlParameterSource().addValue("fromId", fromId).addValue("toId", toId)
+                .addValue("accountType", accountType.name()).addValue("movementWatermark", movementWatermark),
+            rs -> {
+                accountIds.add(rs.getLong(1));
+            });
+        return accountIds;
+    }
+
+    /**
+     * Suma completa de los movimientos activos hasta el ID indicado, para las cuentas dadas.
+     */
+    public Map<Long, Double> sumMovements(AccountType accountType, Collection<Long> accountIds, long toId) {
+        String column = accountColumn(accountType);
+        return sumByAccountIn(
+            "SELECT m." + column + ", " + MOVEMENT_DELTA + " FROM movements m " +
+            "WHERE m." + column + " IN (:accountIds) AND m.id_movement <= :toId " +
+            "AND m.active = TRUE AND m.movement_type <> 'ADVANCE' GROUP BY m." + column,
+            accountIds, new MapSqlParameterSource().addValue("toId", toId));
+    }
+
+    /**
+     * Suma completa de los movimientos de cuenta agregados hasta el ID indicado, para las cuentas dadas.
+     */
+    public Map<Long, Double> sumAccountMovements(AccountType accountType, Collection<Long> accountIds, long toId) {
+        String column = accountColumn(accountType);
+        return sumByAccountIn(
+            "SELECT am." + column + ", " + ACCOUNT_MOVEMENT_DELTA + " FROM account_movements am " +
+            "LEFT JOIN account_incomes ai ON ai.id_account_movement = am.id_account_movement " +
+            "WHERE am." + column + " IN (:accountIds) AND am.id_account_movement <= :toId " +
+            "AND am.active = TRUE AND am.added = TRUE GROUP BY am." + column,
+            accountIds, new MapSqlParameterSource().addValue("toId", toId));
+    }
+
+    /**
+     * Suma completa de las imputaciones directas del libro de saldos hasta el ID indicado, para las cuentas dadas.
+     */
+    public Map<Long, Double> sumDirectEntries(AccountType accountType, Collection<Long> accountIds, long toId) {
+        return sumByAccountIn(
+            "SELECT l.account_id, SUM(l.delta) FROM account_ledger_entries l " +
+            "WHERE l.account_type = :accountType AND l.account_id IN (:accountIds) " +
+            "AND l.id_ledger_entry <= :toId AND l.entry_type = 'DIRECT' GROUP BY l.account_id",
+            accountIds, new MapSqlParameterSource().addValue("toId", toId).addValue("accountType", accountType.name()));
+    }
+
+    private long maxId(String sql) {
+        Long max = jdbcTemplate.getJdbcTemplate().queryForObject(sql, Long.class);
+        return max != null ? max : 0L;
+    }
+
+    private Map<Long, Double> sumByAccount(String sql, MapSqlParameterSource params) {
+        Map<Long, Double> sums = new HashMap<>();
+        jdbcTemplate.query(sql, params, rs -> {
+            sums.put(rs.getLong(1), rs.getDouble(2));
+        });
+        return sums;
+    }
+
+    private Map<Long, Double> sumByAccountIn(String sql, Collection<Long> accountIds, MapSqlParameterSource params) {
+        Map<Long, Double> sums = new HashMap<>();
+        List<Long> ids = new ArrayList<>(accountIds);
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_SIZE) {
+            params.addValue("accountIds", ids.subList(from, Math.min(from + IN_CLAUSE_SIZE, ids.size())));
+            sums.putAll(sumByAccount(sql, params));
+        }
+        return sums;
+    }
+
+    private String accountTable(AccountType accountType) {
+        switch (accountType) {
+            case MEMBER:
+                return "member_accounts";
+            case SUBSCRIBER:
+                return "subscriber_accounts";
+            default:
+                return "vehicle_accounts";
+        }
+    }
+
+    private String accountColumn(AccountType accountType) {
+        switch (accountType) {
+            case MEMBER:
+                return "id_member_account";
+            case SUBSCRIBER:
+                return "id_subscriber_account";
+            default:
+                return "id_vehicle_account";
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.pepotec.cooperative_taxi_managment.repositories;
+
+import com.pepotec.cooperative_taxi_managment.models.entities.BalanceReconciliationRunEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository para las ejecuciones de la conciliación de saldos.
+ */
+@Repository
+public interface BalanceReconciliationRunRepository extends JpaRepository<BalanceReconciliationRunEntity, Long> {
+
+    /**
+     * Última conciliación terminada: sus marcas son el punto de partida de la siguiente.
+     */
+    Optional<BalanceReconciliationRunEntity> findFirstByFinishedAtIsNotNullOrderByIdDesc();
+}
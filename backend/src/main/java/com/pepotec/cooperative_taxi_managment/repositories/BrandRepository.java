@@ -1,12 +1,23 @@
 package com.pepotec.cooperative_taxi_managment.repositories;
 
 import com.pepotec.cooperative_taxi_managment.models.entities.BrandEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 @Repository
 public interface BrandRepository extends JpaRepository<BrandEntity, Long> {
+    // Resultado guardado en el caché de consultas (datos de referencia, ver SecondLevelCacheConfig)
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Override
+    List<BrandEntity> findAll();
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<BrandEntity> findByName(String name);
 }
 
@@ -1,23 +1,56 @@
 package com.pepotec.cooperative_taxi_managment.repositories;
 
 import com.pepotec.cooperative_taxi_managment.models.entities.CashMovementEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * Repository para movimientos de dinero en efectivo.
  */
 @Repository
-public interface CashMovementRepository extends JpaRepository<CashMovementEntity, Long> {
-    
+public interface CashMovementRepository extends JpaRepository<CashMovementEntity, Long>, KeysetPagingRepository<CashMovementEntity> {
+
+    /**
+     * Todos los movimientos, con las cuentas y sus dueños (ver CashMovementEntity.DTO_GRAPH).
+     */
+    @Override
+    @EntityGraph(CashMovementEntity.DTO_GRAPH)
+    List<CashMovementEntity> findAll();
+
+    @Override
+    @EntityGraph(CashMovementEntity.DTO_GRAPH)
+    List<CashMovementEntity> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    @Override
+    @EntityGraph(CashMovementEntity.DTO_GRAPH)
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<CashMovementEntity> streamAllByOrderByIdAsc();
+
     /**
      * Busca movimientos activos.
      * @param active Estado activo
      * @return Lista de movimientos activos
      */
+    @EntityGraph(CashMovementEntity.DTO_GRAPH)
     List<CashMovementEntity> findByActive(Boolean active);
     
     /**
@@ -26,6 +59,7 @@ public interface CashMovementRepository extends JpaRepository<CashMovementEntity
      * @param endDate Fecha final
      * @return Lista de movimientos en el rango
      */
+    @EntityGraph(CashMovementEntity.DTO_GRAPH)
     List<CashMovementEntity> findByDateBetween(LocalDate startDate, LocalDate endDate);
     
     /**
@@ -35,6 +69,7 @@ public interface CashMovementRepository extends JpaRepository<CashMovementEntity
      * @param active Estado activo
      * @return Lista de movimientos activos en el rango
      */
+    @EntityGraph(CashMovementEntity.DTO_GRAPH)
     List<CashMovementEntity> findByDateBetweenAndActive(LocalDate startDate, LocalDate endDate, Boolean active);
     
     /**
@@ -42,6 +77,7 @@ public interface CashMovementRepository extends JpaRepository<CashMovementEntity
      * @param memberAccountId ID de la cuenta de socio
      * @return Lista de movimientos asociados a la cuenta
      */
+    @EntityGraph(CashMovementEntity.DTO_GRAPH)
     List<CashMovementEntity> findByMemberAccountId(Long memberAccountId);
     
     /**
@@ -49,6 +85,7 @@ public interface CashMovementRepository extends JpaRepository<CashMovementEntity
      * @param subscriberAccountId ID de la cuenta de abonado
      * @return Lista de movimientos asociados a la cuenta
      */
+    @EntityGraph(CashMovementEntity.DTO_GRAPH)
     List<CashMovementEntity> findBySubscriberAccountId(Long subscriberAccountId);
     
     /**
@@ -56,9 +93,38 @@ public interface CashMovementRepository extends JpaRepository<CashMovementEntity
      * @param vehicleAccountId ID de la cuenta de vehículo
      * @return Lista de movimientos asociados a la cuenta
      */
+    @EntityGraph(CashMovementEntity.DTO_GRAPH)
     List<CashMovementEntity> findByVehicleAccountId(Long vehicleAccountId);
+    
+    /**
+     * Suma con signo (ingreso +, egreso -) los movimientos de caja cuyo delta todavía no se
+     * volcó al monto de la caja, incluyendo los inactivos.
+     * @return Suma con signo de los montos (0 si no hay movimientos pendientes)
+     */
+    @Query(value = "SELECT COALESCE(SUM(CASE WHEN m.is_income = TRUE THEN m.amount ELSE -m.amount END), 0) " +
+        "FROM cash_movements c JOIN movements m ON m.id_movement = c.id_movement " +
+        "WHERE c.ledger_flushed = FALSE", nativeQuery = true)
+    Double sumSignedAmountNotFlushed();
+    
+    /**
+     * Marca como volcados a la caja los movimientos indicados.
+     * Se ejecuta en la misma transacción que suma su delta al monto de la caja.
+     * Declara la tabla que modifica (HINT_NATIVE_SPACES) para no vaciar todo el caché de
+     * segundo nivel en cada volcado.
+     * @param ids IDs de los movimientos
+     * @return Cantidad de filas afectadas
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "cash_movements"))
+    @Query(value = "UPDATE cash_movements SET ledger_flushed = TRUE WHERE id_movement IN (:ids)", nativeQuery = true)
+    int markLedgerFlushed(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Marca como volcados a la caja todos los movimientos pendientes.
+     * @return Cantidad de filas afectadas
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "cash_movements"))
+    @Query(value = "UPDATE cash_movements SET ledger_flushed = TRUE WHERE ledger_flushed = FALSE", nativeQuery = true)
+    int markAllLedgerFlushed();
 }
-
-
-
-
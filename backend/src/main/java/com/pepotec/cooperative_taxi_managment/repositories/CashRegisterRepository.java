@@ -2,9 +2,13 @@ package com.pepotec.cooperative_taxi_managment.repositories;
 
 import com.pepotec.cooperative_taxi_managment.models.entities.CashRegisterEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository para la entidad CashRegister.
@@ -25,8 +29,32 @@ public interface CashRegisterRepository extends JpaRepository<CashRegisterEntity
      * @return La caja activa (debería ser solo una)
      */
     CashRegisterEntity findByActive(Boolean active);
+    
+    /**
+     * Suma un delta al monto de la caja directamente en SQL (UPDATE ... SET amount = amount + :delta).
+     * @param id ID de la caja
+     * @param delta Monto a sumar (negativo para restar)
+     * @return Cantidad de filas afectadas (0 si la caja no existe)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CashRegisterEntity c SET c.amount = c.amount + :delta WHERE c.id = :id")
+    int addToAmount(@Param("id") Long id, @Param("delta") Double delta);
+    
+    /**
+     * Lee solo el monto actual de la caja.
+     * @param id ID de la caja
+     * @return Monto de la caja (si existe)
+     */
+    @Query("SELECT c.amount FROM CashRegisterEntity c WHERE c.id = :id")
+    Optional<Double> findAmountById(@Param("id") Long id);
+    
+    /**
+     * Sobrescribe el monto de la caja.
+     * @param id ID de la caja
+     * @param amount Nuevo monto
+     * @return Cantidad de filas afectadas (0 si la caja no existe)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CashRegisterEntity c SET c.amount = :amount WHERE c.id = :id")
+    int overwriteAmount(@Param("id") Long id, @Param("amount") Double amount);
 }
-
-
-
-
@@ -0,0 +1,43 @@
+package com.pepotec.cooperative_taxi_managment.repositories;
+
+import com.pepotec.cooperative_taxi_managment.models.entities.DailyFuelEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Inserción en lote de combustibles diarios con JDBC (ver MovementBatchRepository).
+ * No devuelve los IDs generados: se usa en importaciones, que solo informan cantidades.
+ *
+ * Usa la conexión de la transacción JPA en curso: debe llamarse dentro de una transacción.
+ */
+@Repository
+public class DailyFuelBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_DAILY_FUEL =
+        "INSERT INTO daily_fuel (id_driver, id_vehicle, id_settlement, ticket_issue_date, submission_date, " +
+        "amount, fuel_type, cooperative_percentage, driver_percentage) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<DailyFuelEntity> dailyFuels) {
+        jdbcTemplate.batchUpdate(INSERT_DAILY_FUEL, dailyFuels, BATCH_SIZE, (ps, dailyFuel) -> {
+            ps.setLong(1, dailyFuel.getDriver().getId());
+            ps.setLong(2, dailyFuel.getVehicle().getId());
+            ps.setObject(3, dailyFuel.getSettlement() != null ? dailyFuel.getSettlement().getId() : null, Types.BIGINT);
+            ps.setDate(4, Date.valueOf(dailyFuel.getTicketIssueDate()));
+            ps.setDate(5, Date.valueOf(dailyFuel.getSubmissionDate()));
+            ps.setDouble(6, dailyFuel.getAmount());
+            ps.setString(7, dailyFuel.getFuelType().name());
+            ps.setObject(8, dailyFuel.getCooperativePercentage(), Types.DOUBLE);
+            ps.setObject(9, dailyFuel.getDriverPercentage(), Types.DOUBLE);
+        });
+    }
+}
@@ -3,12 +3,15 @@ package com.pepotec.cooperative_taxi_managment.repositories;
 import com.pepotec.cooperative_taxi_managment.models.entities.DailyFuelEntity;
 import com.pepotec.cooperative_taxi_managment.models.enums.FuelType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface DailyFuelRepository extends JpaRepository<DailyFuelEntity, Long> {
+public interface DailyFuelRepository extends JpaRepository<DailyFuelEntity, Long>, KeysetPagingRepository<DailyFuelEntity> {
     List<DailyFuelEntity> findByVehicleId(Long vehicleId);
     List<DailyFuelEntity> findByDriverId(Long driverId);
     List<DailyFuelEntity> findByTicketIssueDateBetween(LocalDate startDate, LocalDate endDate);
@@ -21,8 +24,17 @@ public interface DailyFuelRepository extends JpaRepository<DailyFuelEntity, Long
     
     /**
      * Busca el último DailyFuel del mismo tipo de combustible para un chofer específico.
-     * Ordena por fecha de emisión del ticket de forma descendente.
+     * Ordena por fecha de emisión del ticket de forma descendente (y por ID ante igual fecha),
+     * recorriendo el índice idx_daily_fuel_driver_type_issue.
      */
-    java.util.Optional<DailyFuelEntity> findFirstByDriverIdAndFuelTypeOrderByTicketIssueDateDesc(Long driverId, FuelType fuelType);
-}
+    java.util.Optional<DailyFuelEntity> findFirstByDriverIdAndFuelTypeOrderByTicketIssueDateDescIdDesc(Long driverId, FuelType fuelType);
 
+    /**
+     * Variante por lote de findFirstByDriverIdAndFuelTypeOrderByTicketIssueDateDescIdDesc: para cada
+     * chofer y tipo de combustible, los registros con la fecha de emisión más reciente.
+     */
+    @Query("SELECT d FROM DailyFuelEntity d WHERE (d.driver.id, d.fuelType, d.ticketIssueDate) IN " +
+           "(SELECT d2.driver.id, d2.fuelType, MAX(d2.ticketIssueDate) FROM DailyFuelEntity d2 " +
+           "WHERE d2.driver.id IN :driverIds GROUP BY d2.driver.id, d2.fuelType)")
+    List<DailyFuelEntity> findLatestByDriverIdIn(@Param("driverIds") Collection<Long> driverIds);
+}
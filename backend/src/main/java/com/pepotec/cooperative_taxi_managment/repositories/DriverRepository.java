@@ -2,7 +2,11 @@ package com.pepotec.cooperative_taxi_managment.repositories;
 
 import com.pepotec.cooperative_taxi_managment.models.entities.DriverEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -10,4 +14,12 @@ public interface DriverRepository extends JpaRepository<DriverEntity, Long> {
     Optional<DriverEntity> findByDniAndLeaveDateIsNull(String dni);
     Optional<DriverEntity> findByCuitAndLeaveDateIsNull(String cuit);
     Optional<DriverEntity> findByEmailAndLeaveDateIsNull(String email);
+    List<DriverEntity> findByDniInAndLeaveDateIsNull(Collection<String> dnis);
+
+    /**
+     * Carga en una sola consulta los choferes indicados junto con su domicilio.
+     * Usado por BatchDtoAssembler para armar DTOs de listados sin N+1.
+     */
+    @Query("SELECT d FROM DriverEntity d LEFT JOIN FETCH d.address WHERE d.id IN :ids")
+    List<DriverEntity> findAllWithAddressByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -2,8 +2,11 @@ package com.pepotec.cooperative_taxi_managment.repositories;
 
 import com.pepotec.cooperative_taxi_managment.models.entities.DriverSettlementEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,5 +18,12 @@ public interface DriverSettlementRepository extends JpaRepository<DriverSettleme
     List<DriverSettlementEntity> findBySubmissionDateBetween(LocalDate startDate, LocalDate endDate);
     
     List<DriverSettlementEntity> findByDriverIdAndSubmissionDateBetween(Long driverId, LocalDate startDate, LocalDate endDate);
-}
 
+    
+    /**
+     * Carga en una sola consulta las rendiciones indicadas junto con su chofer y domicilio.
+     * Usado por BatchDtoAssembler para armar DTOs de listados sin N+1.
+     */
+    @Query("SELECT s FROM DriverSettlementEntity s JOIN FETCH s.driver d LEFT JOIN FETCH d.address WHERE s.id IN :ids")
+    List<DriverSettlementEntity> findAllWithDriverByIdIn(@Param("ids") Collection<Long> ids);
+}
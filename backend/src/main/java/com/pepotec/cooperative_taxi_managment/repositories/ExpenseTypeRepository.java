@@ -1,12 +1,16 @@
 package com.pepotec.cooperative_taxi_managment.repositories;
 
 import com.pepotec.cooperative_taxi_managment.models.entities.ExpenseTypeEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 /**
  * Repository para tipos de gasto.
  */
@@ -18,6 +22,7 @@ public interface ExpenseTypeRepository extends JpaRepository<ExpenseTypeEntity,
      * @param name Nombre del tipo de gasto
      * @return Tipo de gasto encontrado (si existe)
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<ExpenseTypeEntity> findByName(String name);
     
     /**
@@ -31,12 +36,14 @@ public interface ExpenseTypeRepository extends JpaRepository<ExpenseTypeEntity,
      * Busca todos los tipos de gasto activos.
      * @return Lista de tipos de gasto activos
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<ExpenseTypeEntity> findByActiveTrue();
     
     /**
      * Busca todos los tipos de gasto con recurrencia mensual activos.
      * @return Lista de tipos de gasto recurrentes mensualmente y activos
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<ExpenseTypeEntity> findByMonthlyRecurrenceTrueAndActiveTrue();
 }
 
@@ -0,0 +1,29 @@
+package com.pepotec.cooperative_taxi_managment.repositories;
+
+import com.pepotec.cooperative_taxi_managment.models.entities.FuelCreditEntryEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface FuelCreditEntryRepository extends JpaRepository<FuelCreditEntryEntity, Long> {
+
+    /**
+     * Suma de los créditos pendientes de reintegro de una cuenta (índice id_member_account, reimbursed_date).
+     */
+    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM FuelCreditEntryEntity e " +
+           "WHERE e.memberAccount.id = :memberAccountId AND e.reimbursedDate IS NULL")
+    Double sumPendingByMemberAccountId(@Param("memberAccountId") Long memberAccountId);
+
+    /**
+     * Créditos pendientes de una cuenta, bloqueados para marcarlos como reintegrados.
+     * Los créditos que se confirmen después quedan pendientes para el próximo reintegro.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<FuelCreditEntryEntity> findByMemberAccountIdAndReimbursedDateIsNull(Long memberAccountId);
+}
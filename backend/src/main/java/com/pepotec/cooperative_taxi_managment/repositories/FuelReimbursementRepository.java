@@ -1,7 +1,11 @@
 package com.pepotec.cooperative_taxi_managment.repositories;
 
 import com.pepotec.cooperative_taxi_managment.models.entities.FuelReimbursementEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,5 +18,16 @@ public interface FuelReimbursementRepository extends JpaRepository<FuelReimburse
      * Con OneToOne, solo puede haber uno por cuenta.
      */
     Optional<FuelReimbursementEntity> findByMemberAccountId(Long memberAccountId);
+
+    /**
+     * Busca el FuelReimbursement de la cuenta bloqueando su fila (SELECT ... FOR UPDATE) hasta
+     * el fin de la transacción, para que dos reintegros concurrentes no paguen el mismo
+     * accumulatedAmount.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM FuelReimbursementEntity f WHERE f.memberAccount.id = :memberAccountId")
+    Optional<FuelReimbursementEntity> findByMemberAccountIdForUpdate(@Param("memberAccountId") Long memberAccountId);
+
+    boolean existsByMemberAccountId(Long memberAccountId);
 }
 
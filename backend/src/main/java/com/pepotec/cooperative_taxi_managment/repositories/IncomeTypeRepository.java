@@ -1,12 +1,16 @@
 package com.pepotec.cooperative_taxi_managment.repositories;
 
 import com.pepotec.cooperative_taxi_managment.models.entities.IncomeTypeEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 /**
  * Repository para tipos de ingreso.
  */
@@ -18,6 +22,7 @@ public interface IncomeTypeRepository extends JpaRepository<IncomeTypeEntity, Lo
      * @param name Nombre del tipo de ingreso
      * @return Tipo de ingreso encontrado (si existe)
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<IncomeTypeEntity> findByName(String name);
     
     /**
@@ -31,12 +36,14 @@ public interface IncomeTypeRepository extends JpaRepository<IncomeTypeEntity, Lo
      * Busca todos los tipos de ingreso activos.
      * @return Lista de tipos de ingreso activos
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<IncomeTypeEntity> findByActiveTrue();
     
     /**
      * Busca todos los tipos de ingreso con recurrencia mensual activos.
      * @return Lista de tipos de ingreso recurrentes mensualmente y activos
      */
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<IncomeTypeEntity> findByMonthlyRecurrenceTrueAndActiveTrue();
 }
 
@@ -0,0 +1,43 @@
+package com.pepotec.cooperative_taxi_managment.repositories;
+
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+/**
+ * Consultas comunes para recorrer tablas grandes sin materializarlas completas.
+ * Lo extienden los repositories de las entidades con listados voluminosos.
+ */
+@NoRepositoryBean
+public interface KeysetPagingRepository<T> {
+
+    /**
+     * Busca la página siguiente a un ID (paginación por keyset: WHERE id > :afterId ORDER BY id).
+     * A diferencia de OFFSET, el costo no crece con el número de página.
+     * @param afterId Último ID de la página anterior (0 para la primera)
+     * @param limit Cantidad máxima de filas
+     * @return Entidades ordenadas por ID ascendente
+     */
+    List<T> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    /**
+     * Recorre todas las filas ordenadas por ID como un Stream.
+     * Con MySQL el fetch size solo se respeta con useCursorFetch=true en la URL: el driver
+     * trae las filas de a bloques mediante un cursor del servidor (y permite ejecutar otras
+     * consultas en la misma conexión mientras tanto) en lugar de cargar el resultado completo.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     * @return Stream de entidades ordenadas por ID ascendente
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<T> streamAllByOrderByIdAsc();
+}
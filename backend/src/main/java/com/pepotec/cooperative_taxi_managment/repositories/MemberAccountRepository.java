@@ -2,8 +2,12 @@ package com.pepotec.cooperative_taxi_managment.repositories;
 
 import com.pepotec.cooperative_taxi_managment.models.entities.MemberAccountEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +17,12 @@ public interface MemberAccountRepository extends JpaRepository<MemberAccountEnti
     Optional<MemberAccountEntity> findByMemberId(Long memberId);
     Optional<MemberAccountEntity> findByMemberIdAndActiveTrue(Long memberId);
 
+    /**
+     * Solo el ID de la cuenta activa del socio, sin cargar la cuenta ni el socio.
+     */
+    @Query("SELECT a.id FROM MemberAccountEntity a WHERE a.member.id = :memberId AND a.active = true")
+    Optional<Long> findActiveIdByMemberId(@Param("memberId") Long memberId);
+
     List<MemberAccountEntity> findByActiveTrue();
 
     // Filtros por datos de persona (Member hereda de Person)
@@ -21,7 +31,36 @@ public interface MemberAccountRepository extends JpaRepository<MemberAccountEnti
     List<MemberAccountEntity> findByMemberFatherSurnameContainingIgnoreCase(String fatherSurname);
 
     Optional<MemberAccountEntity> findByMemberDni(String dni);
-}
 
+    /**
+     * Suma un delta al balance directamente en SQL (UPDATE ... SET balance = balance + :delta),
+     * evitando el read-modify-write en Java y la pérdida de actualizaciones concurrentes.
+     * @param id ID de la cuenta
+     * @param delta Monto a sumar (negativo para restar)
+     * @param lastModified Fecha de última modificación
+     * @return Cantidad de filas afectadas (0 si la cuenta no existe)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MemberAccountEntity a SET a.balance = a.balance + :delta, a.lastModified = :lastModified WHERE a.id = :id")
+    int addToBalance(@Param("id") Long id, @Param("delta") Double delta, @Param("lastModified") LocalDate lastModified);
 
+    /**
+     * Lee solo el balance actual de la cuenta.
+     * @param id ID de la cuenta
+     * @return Balance de la cuenta (si existe)
+     */
+    @Query("SELECT a.balance FROM MemberAccountEntity a WHERE a.id = :id")
+    Optional<Double> findBalanceById(@Param("id") Long id);
 
+    /**
+     * Obtiene el menor ID de cuenta activa (0 si no hay cuentas activas).
+     */
+    @Query("SELECT COALESCE(MIN(a.id), 0) FROM MemberAccountEntity a WHERE a.active = true")
+    Long findMinActiveId();
+
+    /**
+     * Obtiene el mayor ID de cuenta activa (0 si no hay cuentas activas).
+     */
+    @Query("SELECT COALESCE(MAX(a.id), 0) FROM MemberAccountEntity a WHERE a.active = true")
+    Long findMaxActiveId();
+}
@@ -2,7 +2,11 @@ package com.pepotec.cooperative_taxi_managment.repositories;
 
 import com.pepotec.cooperative_taxi_managment.models.entities.MemberEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -10,4 +14,17 @@ public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
     Optional<MemberEntity> findByDniAndLeaveDateIsNull(String dni);
     Optional<MemberEntity> findByCuitAndLeaveDateIsNull(String cuit);
     Optional<MemberEntity> findByEmailAndLeaveDateIsNull(String email);
+
+    /*
+     * Variantes por lote de las búsquedas anteriores: devuelven solo los valores que ya existen
+     * en socios activos, con una consulta IN por columna (usadas por BatchUniquenessValidator).
+     */
+    @Query("SELECT m.dni FROM MemberEntity m WHERE m.dni IN :dnis AND m.leaveDate IS NULL")
+    List<String> findExistingDnis(@Param("dnis") Collection<String> dnis);
+
+    @Query("SELECT m.cuit FROM MemberEntity m WHERE m.cuit IN :cuits AND m.leaveDate IS NULL")
+    List<String> findExistingCuits(@Param("cuits") Collection<String> cuits);
+
+    @Query("SELECT m.email FROM MemberEntity m WHERE m.email IN :emails AND m.leaveDate IS NULL")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
 }
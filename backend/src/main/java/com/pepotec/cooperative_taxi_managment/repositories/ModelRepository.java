@@ -1,14 +1,25 @@
 package com.pepotec.cooperative_taxi_managment.repositories;
 
 import com.pepotec.cooperative_taxi_managment.models.entities.ModelEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 import java.util.List;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 @Repository
 public interface ModelRepository extends JpaRepository<ModelEntity, Long> {
+    // Resultado guardado en el caché de consultas (datos de referencia, ver SecondLevelCacheConfig)
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    @Override
+    List<ModelEntity> findAll();
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<ModelEntity> findByNameAndBrandId(String name, Long brandId);
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     List<ModelEntity> findByBrandId(Long brandId);
 }
 
@@ -0,0 +1,117 @@
+package com.pepotec.cooperative_taxi_managment.repositories;
+
+import com.pepotec.cooperative_taxi_managment.models.entities.AbstractMovementEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.CashMovementEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.NonCashMovementEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Inserción en lote de movimientos con JDBC.
+ *
+ * Los movimientos usan IDs IDENTITY, por lo que Hibernate no agrupa sus INSERT en lotes:
+ * cada save() es un viaje a la base. Aquí se inserta la tabla movements con executeBatch()
+ * y se leen las claves generadas para completar las tablas hijas (cash_movements /
+ * non_cash_movements), también en lote. Con rewriteBatchedStatements=true el driver de
+ * MySQL envía cada lote como un único INSERT multi-fila.
+ *
+ * Usa la conexión de la transacción JPA en curso: debe llamarse dentro de una transacción.
+ */
+@Repository
+public class MovementBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_MOVEMENT =
+        "INSERT INTO movements (id_member_account, id_subscriber_account, id_vehicle_account, " +
+        "description, amount, date, movement_type, is_income, active) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_CASH_MOVEMENT =
+        "INSERT INTO cash_movements (id_movement, id_cash_register, ledger_flushed) VALUES (?, ?, FALSE)";
+
+    private static final String INSERT_NON_CASH_MOVEMENT =
+        "INSERT INTO non_cash_movements (id_movement) VALUES (?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserta los movimientos en efectivo y les asigna el ID generado.
+     */
+    public void insertCashMovements(List<CashMovementEntity> movements) {
+        insertMovements(movements);
+        jdbcTemplate.batchUpdate(INSERT_CASH_MOVEMENT, movements, BATCH_SIZE, (ps, movement) -> {
+            ps.setLong(1, movement.getId());
+            ps.setLong(2, movement.getCashRegister().getId());
+        });
+    }
+
+    /**
+     * Inserta los movimientos sin efectivo y les asigna el ID generado.
+     */
+    public void insertNonCashMovements(List<NonCashMovementEntity> movements) {
+        insertMovements(movements);
+        jdbcTemplate.batchUpdate(INSERT_NON_CASH_MOVEMENT, movements, BATCH_SIZE, (ps, movement) ->
+            ps.setLong(1, movement.getId()));
+    }
+
+    private void insertMovements(List<? extends AbstractMovementEntity> movements) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_MOVEMENT, Statement.RETURN_GENERATED_KEYS)) {
+                for (int from = 0; from < movements.size(); from += BATCH_SIZE) {
+                    List<? extends AbstractMovementEntity> chunk =
+                        movements.subList(from, Math.min(from + BATCH_SIZE, movements.size()));
+                    for (AbstractMovementEntity movement : chunk) {
+                        bindMovement(ps, movement);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                    assignGeneratedIds(ps, chunk);
+                }
+            }
+            return null;
+        });
+    }
+
+    private void bindMovement(PreparedStatement ps, AbstractMovementEntity movement) throws SQLException {
+        setNullableId(ps, 1, movement.getMemberAccount() != null ? movement.getMemberAccount().getId() : null);
+        setNullableId(ps, 2, movement.getSubscriberAccount() != null ? movement.getSubscriberAccount().getId() : null);
+        setNullableId(ps, 3, movement.getVehicleAccount() != null ? movement.getVehicleAccount().getId() : null);
+        ps.setString(4, movement.getDescription());
+        ps.setDouble(5, movement.getAmount());
+        ps.setDate(6, Date.valueOf(movement.getDate()));
+        ps.setString(7, movement.getMovementType().name());
+        ps.setBoolean(8, movement.getIsIncome());
+        ps.setBoolean(9, movement.getActive());
+    }
+
+    private void setNullableId(PreparedStatement ps, int index, Long id) throws SQLException {
+        if (id != null) {
+            ps.setLong(index, id);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    private void assignGeneratedIds(PreparedStatement ps, List<? extends AbstractMovementEntity> chunk) throws SQLException {
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            for (AbstractMovementEntity movement : chunk) {
+                if (!keys.next()) {
+                    throw new DataRetrievalFailureException("The database did not return an ID for every inserted movement");
+                }
+                movement.setId(keys.getLong(1));
+            }
+        }
+    }
+}
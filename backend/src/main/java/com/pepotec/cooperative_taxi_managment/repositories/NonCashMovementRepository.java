@@ -1,23 +1,51 @@
 package com.pepotec.cooperative_taxi_managment.repositories;
 
 import com.pepotec.cooperative_taxi_managment.models.entities.NonCashMovementEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * Repository para movimientos de dinero sin efectivo.
  */
 @Repository
-public interface NonCashMovementRepository extends JpaRepository<NonCashMovementEntity, Long> {
-    
+public interface NonCashMovementRepository extends JpaRepository<NonCashMovementEntity, Long>, KeysetPagingRepository<NonCashMovementEntity> {
+
+    /**
+     * Todos los movimientos, con las cuentas y sus dueños (ver NonCashMovementEntity.DTO_GRAPH).
+     */
+    @Override
+    @EntityGraph(NonCashMovementEntity.DTO_GRAPH)
+    List<NonCashMovementEntity> findAll();
+
+    @Override
+    @EntityGraph(NonCashMovementEntity.DTO_GRAPH)
+    List<NonCashMovementEntity> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    @Override
+    @EntityGraph(NonCashMovementEntity.DTO_GRAPH)
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<NonCashMovementEntity> streamAllByOrderByIdAsc();
+
     /**
      * Busca movimientos activos.
      * @param active Estado activo
      * @return Lista de movimientos activos
      */
+    @EntityGraph(NonCashMovementEntity.DTO_GRAPH)
     List<NonCashMovementEntity> findByActive(Boolean active);
     
     /**
@@ -26,6 +54,7 @@ public interface NonCashMovementRepository extends JpaRepository<NonCashMovement
      * @param endDate Fecha final
      * @return Lista de movimientos en el rango
      */
+    @EntityGraph(NonCashMovementEntity.DTO_GRAPH)
     List<NonCashMovementEntity> findByDateBetween(LocalDate startDate, LocalDate endDate);
     
     /**
@@ -35,6 +64,7 @@ public interface NonCashMovementRepository extends JpaRepository<NonCashMovement
      * @param active Estado activo
      * @return Lista de movimientos activos en el rango
      */
+    @EntityGraph(NonCashMovementEntity.DTO_GRAPH)
     List<NonCashMovementEntity> findByDateBetweenAndActive(LocalDate startDate, LocalDate endDate, Boolean active);
     
     /**
@@ -42,6 +72,7 @@ public interface NonCashMovementRepository extends JpaRepository<NonCashMovement
      * @param memberAccountId ID de la cuenta de socio
      * @return Lista de movimientos asociados a la cuenta
      */
+    @EntityGraph(NonCashMovementEntity.DTO_GRAPH)
     List<NonCashMovementEntity> findByMemberAccountId(Long memberAccountId);
     
     /**
@@ -49,6 +80,7 @@ public interface NonCashMovementRepository extends JpaRepository<NonCashMovement
      * @param subscriberAccountId ID de la cuenta de abonado
      * @return Lista de movimientos asociados a la cuenta
      */
+    @EntityGraph(NonCashMovementEntity.DTO_GRAPH)
     List<NonCashMovementEntity> findBySubscriberAccountId(Long subscriberAccountId);
     
     /**
@@ -56,6 +88,7 @@ public interface NonCashMovementRepository extends JpaRepository<NonCashMovement
      * @param vehicleAccountId ID de la cuenta de vehículo
      * @return Lista de movimientos asociados a la cuenta
      */
+    @EntityGraph(NonCashMovementEntity.DTO_GRAPH)
     List<NonCashMovementEntity> findByVehicleAccountId(Long vehicleAccountId);
 }
 
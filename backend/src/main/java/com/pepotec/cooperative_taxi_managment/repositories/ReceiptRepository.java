@@ -8,6 +8,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -151,5 +152,35 @@ public interface ReceiptRepository extends JpaRepository<ReceiptEntity, Long> {
         @Param("bookletNumber") Integer bookletNumber,
         @Param("receiptType") ReceiptType receiptType
     );
-}
 
+    /**
+     * Recibos de las cuentas de socio indicadas en alguno de los períodos indicados.
+     * Devuelve un superconjunto de los pares (cuenta, período) buscados: el filtro exacto
+     * se hace en memoria (usado por BatchUniquenessValidator).
+     */
+    @Query("SELECT r FROM ReceiptEntity r WHERE r.memberAccount.id IN :memberAccountIds AND r.yearMonth IN :periods")
+    List<ReceiptEntity> findByMemberAccountIdInAndPeriodIn(
+        @Param("memberAccountIds") Collection<Long> memberAccountIds,
+        @Param("periods") Collection<String> periods
+    );
+
+    /**
+     * Recibos de las cuentas de abonado indicadas en alguno de los períodos indicados
+     * (superconjunto de los pares buscados, igual que findByMemberAccountIdInAndPeriodIn).
+     */
+    @Query("SELECT r FROM ReceiptEntity r WHERE r.subscriberAccount.id IN :subscriberAccountIds AND r.yearMonth IN :periods")
+    List<ReceiptEntity> findBySubscriberAccountIdInAndPeriodIn(
+        @Param("subscriberAccountIds") Collection<Long> subscriberAccountIds,
+        @Param("periods") Collection<String> periods
+    );
+
+    /**
+     * Recibos de los talonarios indicados con alguno de los números indicados
+     * (superconjunto de las ternas número + talonario + tipo buscadas).
+     */
+    @Query("SELECT r FROM ReceiptEntity r WHERE r.bookletNumber IN :bookletNumbers AND r.receiptNumber IN :receiptNumbers")
+    List<ReceiptEntity> findByBookletNumberInAndReceiptNumberIn(
+        @Param("bookletNumbers") Collection<Integer> bookletNumbers,
+        @Param("receiptNumbers") Collection<Integer> receiptNumbers
+    );
+}
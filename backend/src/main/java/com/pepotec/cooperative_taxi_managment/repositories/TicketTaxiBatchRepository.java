@@ -0,0 +1,54 @@
+package com.pepotec.cooperative_taxi_managment.repositories;
+
+import com.pepotec.cooperative_taxi_managment.models.entities.TicketTaxiEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Inserción en lote de tickets de taxi con JDBC (ver MovementBatchRepository).
+ * No devuelve los IDs generados: se usa en importaciones, que solo informan cantidades.
+ *
+ * Usa la conexión de la transacción JPA en curso: debe llamarse dentro de una transacción.
+ */
+@Repository
+public class TicketTaxiBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_TICKET =
+        "INSERT INTO ticket_taxi (id_vehicle, id_settlement, ticket_number, start_date, cut_date, " +
+        "amount, free_kilometers, occupied_kilometers, trips) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<TicketTaxiEntity> tickets) {
+        jdbcTemplate.batchUpdate(INSERT_TICKET, tickets, BATCH_SIZE, (ps, ticket) -> {
+            ps.setLong(1, ticket.getVehicle().getId());
+            ps.setLong(2, ticket.getSettlement().getId());
+            ps.setString(3, ticket.getTicketNumber());
+            setNullableDate(ps, 4, ticket.getStartDate());
+            setNullableDate(ps, 5, ticket.getCutDate());
+            ps.setDouble(6, ticket.getAmount());
+            ps.setObject(7, ticket.getFreeKilometers(), Types.DOUBLE);
+            ps.setObject(8, ticket.getOccupiedKilometers(), Types.DOUBLE);
+            ps.setObject(9, ticket.getTrips(), Types.INTEGER);
+        });
+    }
+
+    private void setNullableDate(PreparedStatement ps, int index, LocalDate date) throws SQLException {
+        if (date != null) {
+            ps.setDate(index, Date.valueOf(date));
+        } else {
+            ps.setNull(index, Types.DATE);
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package com.pepotec.cooperative_taxi_managment.repositories;
 
 import com.pepotec.cooperative_taxi_managment.models.entities.TicketTaxiEntity;
+import com.pepotec.cooperative_taxi_managment.models.dto.tickettaxi.TicketTaxiTotalsDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TicketTaxiRepository extends JpaRepository<TicketTaxiEntity, Long> {
+public interface TicketTaxiRepository extends JpaRepository<TicketTaxiEntity, Long>, KeysetPagingRepository<TicketTaxiEntity> {
     List<TicketTaxiEntity> findByVehicleId(Long vehicleId);
     List<TicketTaxiEntity> findBySettlementId(Long settlementId);
     List<TicketTaxiEntity> findByStartDateBetween(LocalDate startDate, LocalDate endDate);
@@ -18,5 +22,44 @@ public interface TicketTaxiRepository extends JpaRepository<TicketTaxiEntity, Lo
     List<TicketTaxiEntity> findByVehicleIdAndCutDateBetween(Long vehicleId, LocalDate startDate, LocalDate endDate);
     List<TicketTaxiEntity> findBySettlementIdAndStartDateBetween(Long settlementId, LocalDate startDate, LocalDate endDate);
     List<TicketTaxiEntity> findBySettlementIdAndCutDateBetween(Long settlementId, LocalDate startDate, LocalDate endDate);
-}
 
+    /**
+     * Totales de tickets (monto, kilómetros, viajes y cantidad) por rendición, en una sola consulta.
+     * Las rendiciones sin tickets no aparecen en el resultado.
+     * @param settlementIds IDs de las rendiciones
+     * @return Un TicketTaxiTotalsDTO por rendición con tickets (groupId = ID de rendición)
+     */
+    @Query("SELECT new com.pepotec.cooperative_taxi_managment.models.dto.tickettaxi.TicketTaxiTotalsDTO(" +
+        "t.settlement.id, COUNT(t), COALESCE(SUM(t.amount), 0.0), COALESCE(SUM(t.freeKilometers), 0.0), " +
+        "COALESCE(SUM(t.occupiedKilometers), 0.0), COALESCE(SUM(t.trips), 0L)) " +
+        "FROM TicketTaxiEntity t WHERE t.settlement.id IN :settlementIds GROUP BY t.settlement.id")
+    List<TicketTaxiTotalsDTO> findTotalsBySettlementIds(@Param("settlementIds") Collection<Long> settlementIds);
+
+    /**
+     * Totales de tickets por vehículo, en una sola consulta.
+     * Los vehículos sin tickets no aparecen en el resultado.
+     * @param vehicleIds IDs de los vehículos
+     * @return Un TicketTaxiTotalsDTO por vehículo con tickets (groupId = ID de vehículo)
+     */
+    @Query("SELECT new com.pepotec.cooperative_taxi_managment.models.dto.tickettaxi.TicketTaxiTotalsDTO(" +
+        "t.vehicle.id, COUNT(t), COALESCE(SUM(t.amount), 0.0), COALESCE(SUM(t.freeKilometers), 0.0), " +
+        "COALESCE(SUM(t.occupiedKilometers), 0.0), COALESCE(SUM(t.trips), 0L)) " +
+        "FROM TicketTaxiEntity t WHERE t.vehicle.id IN :vehicleIds GROUP BY t.vehicle.id")
+    List<TicketTaxiTotalsDTO> findTotalsByVehicleIds(@Param("vehicleIds") Collection<Long> vehicleIds);
+
+    /**
+     * Totales por vehículo de los tickets con fecha de corte en el rango.
+     * @param startDate Fecha inicial
+     * @param endDate Fecha final
+     * @return Un TicketTaxiTotalsDTO por vehículo con tickets en el rango (groupId = ID de vehículo)
+     */
+    @Query("SELECT new com.pepotec.cooperative_taxi_managment.models.dto.tickettaxi.TicketTaxiTotalsDTO(" +
+        "t.vehicle.id, COUNT(t), COALESCE(SUM(t.amount), 0.0), COALESCE(SUM(t.freeKilometers), 0.0), " +
+        "COALESCE(SUM(t.occupiedKilometers), 0.0), COALESCE(SUM(t.trips), 0L)) " +
+        "FROM TicketTaxiEntity t WHERE t.cutDate BETWEEN :startDate AND :endDate " +
+        "GROUP BY t.vehicle.id ORDER BY t.vehicle.id")
+    List<TicketTaxiTotalsDTO> findVehicleTotalsByCutDateBetween(
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
+}
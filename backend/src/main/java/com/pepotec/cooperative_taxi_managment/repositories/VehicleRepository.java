@@ -2,7 +2,10 @@ package com.pepotec.cooperative_taxi_managment.repositories;
 
 import com.pepotec.cooperative_taxi_managment.models.entities.VehicleEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
@@ -13,7 +16,31 @@ public interface VehicleRepository extends JpaRepository<VehicleEntity, Long> {
     Optional<VehicleEntity> findByEngineNumber(String engineNumber);
     Optional<VehicleEntity> findByChassisNumber(String chassisNumber);
     List<VehicleEntity> findByModelId(Long modelId);
+
+    /*
+     * Variantes por lote de las búsquedas por campo único: devuelven solo los valores que ya
+     * existen, con una consulta IN por columna (usadas por BatchUniquenessValidator).
+     */
+    @Query("SELECT v.licensePlate FROM VehicleEntity v WHERE v.licensePlate IN :values")
+    List<String> findExistingLicensePlates(@Param("values") Collection<String> values);
+
+    @Query("SELECT v.licenseNumber FROM VehicleEntity v WHERE v.licenseNumber IN :values")
+    List<String> findExistingLicenseNumbers(@Param("values") Collection<String> values);
+
+    @Query("SELECT v.engineNumber FROM VehicleEntity v WHERE v.engineNumber IN :values")
+    List<String> findExistingEngineNumbers(@Param("values") Collection<String> values);
+
+    @Query("SELECT v.chassisNumber FROM VehicleEntity v WHERE v.chassisNumber IN :values")
+    List<String> findExistingChassisNumbers(@Param("values") Collection<String> values);
+
+    List<VehicleEntity> findByLicensePlateIn(Collection<String> licensePlates);
     List<VehicleEntity> findByActiveTrue();
     List<VehicleEntity> findByActiveTrueAndLeaveDateIsNull();
-}
 
+    /**
+     * Carga en una sola consulta los vehículos indicados junto con su modelo y marca.
+     * Usado por BatchDtoAssembler para armar DTOs de listados sin N+1.
+     */
+    @Query("SELECT v FROM VehicleEntity v JOIN FETCH v.model m JOIN FETCH m.brand WHERE v.id IN :ids")
+    List<VehicleEntity> findAllWithModelByIdIn(@Param("ids") Collection<Long> ids);
+}
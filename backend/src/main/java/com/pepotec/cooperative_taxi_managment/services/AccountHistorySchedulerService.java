@@ -1,178 +1,328 @@
 package com.pepotec.cooperative_taxi_managment.services;
 
-import com.pepotec.cooperative_taxi_managment.models.dto.accounthistory.AccountHistoryCreateDTO;
+import com.pepotec.cooperative_taxi_managment.exceptions.InvalidDataException;
+import com.pepotec.cooperative_taxi_managment.models.dto.accounthistory.MonthlyCloseResultDTO;
+import com.pepotec.cooperative_taxi_managment.models.entities.AccountHistoryCloseChunkEntity;
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountType;
+import com.pepotec.cooperative_taxi_managment.models.enums.CloseChunkStatus;
+import com.pepotec.cooperative_taxi_managment.repositories.AccountHistoryCloseChunkRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.AccountHistoryRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.MemberAccountRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.SubscriberAccountRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.VehicleAccountRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Servicio que se encarga de generar automáticamente los historiales de cuenta
  * al inicio de cada mes.
- * 
+ *
  * Se ejecuta el día 1 de cada mes a las 00:00:00 para crear los historiales
  * del mes anterior con el saldo de cierre de cada cuenta activa.
+ *
+ * El cierre se divide en tramos de IDs por tipo de cuenta (ver AccountHistoryCloseChunkEntity).
+ * Cada tramo es un INSERT ... SELECT en su propia transacción y se procesa en paralelo en un
+ * pool acotado; así una falla o un bloqueo largo solo afecta a su tramo. El avance queda
+ * registrado en la tabla de tramos, por lo que un cierre interrumpido se reanuda desde los
+ * tramos pendientes en lugar de empezar de nuevo. Los tramos completados se reabren si tienen
+ * cuentas activas sin historial (creadas o reactivadas después de completarlos).
  */
 @Service
 public class AccountHistorySchedulerService {
 
     private static final Logger logger = LoggerFactory.getLogger(AccountHistorySchedulerService.class);
 
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Autowired
+    private AccountHistoryRepository accountHistoryRepository;
+
     @Autowired
-    private AccountHistoryService accountHistoryService;
+    private AccountHistoryCloseChunkRepository chunkRepository;
 
     @Autowired
-    private MemberAccountService memberAccountService;
+    private MemberAccountRepository memberAccountRepository;
 
     @Autowired
-    private SubscriberAccountService subscriberAccountService;
+    private SubscriberAccountRepository subscriberAccountRepository;
 
     @Autowired
-    private VehicleAccountService vehicleAccountService;
+    private VehicleAccountRepository vehicleAccountRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${account-history.close.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${account-history.close.threads:4}")
+    private int threads;
+
+    // Pool propio (no un bean Executor) para no reemplazar el executor por defecto de Spring Boot
+    private ThreadPoolTaskExecutor executor;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("account-history-close-");
+        // Si la cola se llena, el hilo que lanzó el cierre procesa el tramo él mismo
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
 
     /**
      * Genera automáticamente los historiales de cuenta para el mes anterior.
-     * 
+     *
      * Se ejecuta automáticamente el día 1 de cada mes a las 00:00:00 mediante @Scheduled.
-     * También puede ser llamado manualmente desde un endpoint de administración.
-     * 
+     *
      * Ejemplo: Si se ejecuta el 01/01/2026 a las 00:00:00, crea historiales
      * para diciembre 2025 (period = "2025-12") con el saldo actual de cada cuenta.
      */
     @Scheduled(cron = "0 0 0 1 * ?") // Ejecuta el día 1 de cada mes a las 00:00:00
-    @Transactional
     public void generateMonthlyAccountHistories() {
         logger.info("Starting automatic generation of account histories for previous month");
 
         try {
-            // Obtener el mes anterior
-            YearMonth previousMonth = YearMonth.now().minusMonths(1);
-            LocalDate registrationDate = LocalDate.now(); // Fecha actual (día 1 del nuevo mes)
+            closePreviousMonth();
+        } catch (Exception e) {
+            logger.error("Error generating account histories automatically", e);
+            // No relanzamos la excepción para que el scheduler continúe funcionando
+        }
+    }
 
-            logger.info("Generating account histories for period: {} (registration date: {})", 
-                previousMonth, registrationDate);
+    /**
+     * Cierra el mes anterior al actual. También puede ser llamado manualmente
+     * desde un endpoint de administración.
+     *
+     * @return Cantidad de historiales creados por tipo de cuenta
+     */
+    public MonthlyCloseResultDTO closePreviousMonth() {
+        // Obtener el mes anterior
+        YearMonth previousMonth = YearMonth.now().minusMonths(1);
+        LocalDate registrationDate = LocalDate.now(); // Fecha actual (día 1 del nuevo mes)
+        return closeMonth(previousMonth, registrationDate);
+    }
 
-            // Generar historiales para cuentas de socios activas
-            generateMemberAccountHistories(previousMonth, registrationDate);
+    /**
+     * Crea los historiales del período para todas las cuentas activas (socios, abonados
+     * y vehículos) con su saldo actual.
+     *
+     * Primero planifica los tramos que falten para el período, reabre los completados que
+     * tengan cuentas activas sin historial y luego procesa en paralelo los que no estén
+     * completos. Es idempotente: volver a ejecutarlo para el mismo período solo procesa los
+     * tramos pendientes, fallidos o con historiales faltantes. Si el período ya tenía tramos,
+     * se conserva la fecha de registro con la que se planificaron.
+     *
+     * @param period Período a cerrar
+     * @param registrationDate Fecha de registro de los historiales
+     * @return Historiales creados en esta ejecución por tipo de cuenta y estado de los tramos
+     */
+    public MonthlyCloseResultDTO closeMonth(YearMonth period, LocalDate registrationDate) {
+        if (!running.compareAndSet(false, true)) {
+            throw new InvalidDataException("A monthly close is already running");
+        }
+        try {
+            String periodStr = period.toString();
+            logger.info("Generating account histories for period: {} (registration date: {})",
+                period, registrationDate);
 
-            // Generar historiales para cuentas de abonados activas
-            generateSubscriberAccountHistories(previousMonth, registrationDate);
+            newTransaction().executeWithoutResult(status -> {
+                planChunks(periodStr, registrationDate);
+                reopenChunksWithMissingHistories(periodStr);
+            });
 
-            // Generar historiales para cuentas de vehículos activas
-            generateVehicleAccountHistories(previousMonth, registrationDate);
+            List<AccountHistoryCloseChunkEntity> pending =
+                chunkRepository.findByPeriodAndStatusNotOrderById(periodStr, CloseChunkStatus.COMPLETED);
+            logger.info("Processing {} pending chunks for period {}", pending.size(), period);
 
-            logger.info("Successfully completed automatic generation of account histories");
-        } catch (Exception e) {
-            logger.error("Error generating account histories automatically", e);
-            // No relanzamos la excepción para que el scheduler continúe funcionando
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+            for (AccountHistoryCloseChunkEntity chunk : pending) {
+                futures.add(CompletableFuture.supplyAsync(() -> processChunk(chunk.getId()), executor));
+            }
+
+            Map<AccountType, Integer> created = new EnumMap<>(AccountType.class);
+            for (AccountType type : AccountType.values()) {
+                created.put(type, 0);
+            }
+            int failed = 0;
+            for (int i = 0; i < pending.size(); i++) {
+                int rows = futures.get(i).join();
+                if (rows < 0) {
+                    failed++;
+                } else {
+                    created.merge(pending.get(i).getAccountType(), rows, Integer::sum);
+                }
+            }
+
+            int members = created.get(AccountType.MEMBER);
+            int subscribers = created.get(AccountType.SUBSCRIBER);
+            int vehicles = created.get(AccountType.VEHICLE);
+            logger.info("Created account histories for period {}: {} member, {} subscriber, {} vehicle ({} chunks failed)",
+                period, members, subscribers, vehicles, failed);
+
+            return MonthlyCloseResultDTO.builder()
+                .yearMonth(period)
+                .registrationDate(registrationDate)
+                .memberAccountHistoriesCreated(members)
+                .subscriberAccountHistoriesCreated(subscribers)
+                .vehicleAccountHistoriesCreated(vehicles)
+                .totalCreated(members + subscribers + vehicles)
+                .chunksProcessed(pending.size() - failed)
+                .chunksFailed(failed)
+                .chunksPending((int) (chunkRepository.countByPeriodAndStatus(periodStr, CloseChunkStatus.PENDING)
+                    + chunkRepository.countByPeriodAndStatus(periodStr, CloseChunkStatus.FAILED)))
+                .build();
+        } finally {
+            running.set(false);
         }
     }
 
     /**
-     * Genera historiales para todas las cuentas de socios activas.
+     * Registra los tramos que todavía no existen para el período. Los tramos están alineados
+     * a múltiplos de chunkSize, de modo que volver a planificar produce los mismos rangos y
+     * solo agrega los de cuentas creadas después de la planificación anterior.
      */
-    private void generateMemberAccountHistories(YearMonth period, LocalDate registrationDate) {
-        logger.debug("Generating member account histories");
-        
-        memberAccountService.getActiveMemberAccounts().forEach(account -> {
-            try {
-                // Verificar si ya existe un historial para este período
-                String periodStr = period.toString();
-                if (accountHistoryService.listByMemberAccount(account.getId()).stream()
-                    .anyMatch(h -> h.getYearMonth() != null && h.getYearMonth().toString().equals(periodStr))) {
-                    logger.debug("Account history already exists for member account {} and period {}", 
-                        account.getId(), period);
-                    return;
-                }
+    private void planChunks(String period, LocalDate registrationDate) {
+        planChunks(period, registrationDate, AccountType.MEMBER,
+            memberAccountRepository.findMinActiveId(), memberAccountRepository.findMaxActiveId());
+        planChunks(period, registrationDate, AccountType.SUBSCRIBER,
+            subscriberAccountRepository.findMinActiveId(), subscriberAccountRepository.findMaxActiveId());
+        planChunks(period, registrationDate, AccountType.VEHICLE,
+            vehicleAccountRepository.findMinActiveId(), vehicleAccountRepository.findMaxActiveId());
+    }
 
-                AccountHistoryCreateDTO dto = AccountHistoryCreateDTO.builder()
-                    .memberAccountId(account.getId())
-                    .yearMonth(period)
-                    .registrationDate(registrationDate)
-                    .monthEndBalance(account.getBalance())
-                    .build();
-
-                accountHistoryService.create(dto);
-                logger.debug("Created account history for member account {} with balance {}", 
-                    account.getId(), account.getBalance());
-            } catch (Exception e) {
-                logger.error("Error creating account history for member account {}", account.getId(), e);
-                // Continuamos con la siguiente cuenta aunque falle una
+    private void planChunks(String period, LocalDate registrationDate, AccountType type, long minId, long maxId) {
+        if (maxId <= 0) {
+            return;
+        }
+        Set<Long> planned = chunkRepository.findRangeStartsByPeriodAndAccountType(period, type);
+        List<AccountHistoryCloseChunkEntity> chunks = new ArrayList<>();
+        for (long bucket = (minId - 1) / chunkSize; bucket <= (maxId - 1) / chunkSize; bucket++) {
+            long rangeStart = bucket * chunkSize + 1;
+            if (planned.contains(rangeStart)) {
+                continue;
             }
-        });
+            chunks.add(AccountHistoryCloseChunkEntity.builder()
+                .period(period)
+                .accountType(type)
+                .rangeStart(rangeStart)
+                .rangeEnd(rangeStart + chunkSize - 1)
+                .registrationDate(registrationDate)
+                .build());
+        }
+        chunkRepository.saveAll(chunks);
     }
 
     /**
-     * Genera historiales para todas las cuentas de abonados activas.
+     * Vuelve a PENDING los tramos completados que tienen cuentas activas sin historial en el
+     * período. El INSERT del tramo omite las cuentas que ya tienen historial, por lo que
+     * procesarlo de nuevo solo agrega las que faltan.
      */
-    private void generateSubscriberAccountHistories(YearMonth period, LocalDate registrationDate) {
-        logger.debug("Generating subscriber account histories");
-        
-        subscriberAccountService.getActiveSubscriberAccounts().forEach(account -> {
-            try {
-                // Verificar si ya existe un historial para este período
-                String periodStr = period.toString();
-                if (accountHistoryService.listBySubscriberAccount(account.getId()).stream()
-                    .anyMatch(h -> h.getYearMonth() != null && h.getYearMonth().toString().equals(periodStr))) {
-                    logger.debug("Account history already exists for subscriber account {} and period {}", 
-                        account.getId(), period);
-                    return;
-                }
+    private void reopenChunksWithMissingHistories(String period) {
+        if (chunkRepository.countByPeriodAndStatus(period, CloseChunkStatus.COMPLETED) == 0) {
+            return;
+        }
+        reopenChunks(period, AccountType.MEMBER,
+            accountHistoryRepository.findCloseRangeStartsMissingMemberAccountHistories(period, chunkSize));
+        reopenChunks(period, AccountType.SUBSCRIBER,
+            accountHistoryRepository.findCloseRangeStartsMissingSubscriberAccountHistories(period, chunkSize));
+        reopenChunks(period, AccountType.VEHICLE,
+            accountHistoryRepository.findCloseRangeStartsMissingVehicleAccountHistories(period, chunkSize));
+    }
 
-                AccountHistoryCreateDTO dto = AccountHistoryCreateDTO.builder()
-                    .subscriberAccountId(account.getId())
-                    .yearMonth(period)
-                    .registrationDate(registrationDate)
-                    .monthEndBalance(account.getBalance())
-                    .build();
-
-                accountHistoryService.create(dto);
-                logger.debug("Created account history for subscriber account {} with balance {}", 
-                    account.getId(), account.getBalance());
-            } catch (Exception e) {
-                logger.error("Error creating account history for subscriber account {}", account.getId(), e);
-                // Continuamos con la siguiente cuenta aunque falle una
-            }
-        });
+    private void reopenChunks(String period, AccountType type, List<Long> rangeStarts) {
+        if (rangeStarts.isEmpty()) {
+            return;
+        }
+        int reopened = chunkRepository.reopenCompleted(period, type, rangeStarts);
+        if (reopened > 0) {
+            logger.info("Reopened {} completed {} chunks for period {} with missing account histories",
+                reopened, type, period);
+        }
     }
 
     /**
-     * Genera historiales para todas las cuentas de vehículos activas.
+     * Procesa un tramo en su propia transacción: inserta los historiales y marca el tramo
+     * como COMPLETED en la misma transacción. Si falla, registra el error en otra transacción.
+     *
+     * @return Historiales creados, o -1 si el tramo falló
      */
-    private void generateVehicleAccountHistories(YearMonth period, LocalDate registrationDate) {
-        logger.debug("Generating vehicle account histories");
-        
-        vehicleAccountService.getActiveVehicleAccounts().forEach(account -> {
-            try {
-                // Verificar si ya existe un historial para este período
-                String periodStr = period.toString();
-                if (accountHistoryService.listByVehicleAccount(account.getId()).stream()
-                    .anyMatch(h -> h.getYearMonth() != null && h.getYearMonth().toString().equals(periodStr))) {
-                    logger.debug("Account history already exists for vehicle account {} and period {}", 
-                        account.getId(), period);
-                    return;
+    private int processChunk(Long chunkId) {
+        try {
+            return newTransaction().execute(status -> {
+                AccountHistoryCloseChunkEntity chunk = chunkRepository.findById(chunkId).orElseThrow();
+                if (chunk.getStatus() == CloseChunkStatus.COMPLETED) {
+                    return 0;
                 }
+                int rows = insertSnapshot(chunk);
+                chunk.setStatus(CloseChunkStatus.COMPLETED);
+                chunk.setRowsCreated((chunk.getRowsCreated() != null ? chunk.getRowsCreated() : 0) + rows);
+                chunk.setAttempts(chunk.getAttempts() + 1);
+                chunk.setLastError(null);
+                chunk.setCompletedAt(LocalDateTime.now());
+                chunkRepository.save(chunk);
+                return rows;
+            });
+        } catch (Exception e) {
+            logger.error("Error processing account history close chunk {}", chunkId, e);
+            String error = String.valueOf(e.getMessage());
+            newTransaction().executeWithoutResult(status ->
+                chunkRepository.findById(chunkId).ifPresent(chunk -> {
+                    chunk.setStatus(CloseChunkStatus.FAILED);
+                    chunk.setAttempts(chunk.getAttempts() + 1);
+                    chunk.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+                    chunkRepository.save(chunk);
+                }));
+            return -1;
+        }
+    }
 
-                AccountHistoryCreateDTO dto = AccountHistoryCreateDTO.builder()
-                    .vehicleAccountId(account.getId())
-                    .yearMonth(period)
-                    .registrationDate(registrationDate)
-                    .monthEndBalance(account.getBalance())
-                    .build();
-
-                accountHistoryService.create(dto);
-                logger.debug("Created account history for vehicle account {} with balance {}", 
-                    account.getId(), account.getBalance());
-            } catch (Exception e) {
-                logger.error("Error creating account history for vehicle account {}", account.getId(), e);
-                // Continuamos con la siguiente cuenta aunque falle una
-            }
-        });
+    private int insertSnapshot(AccountHistoryCloseChunkEntity chunk) {
+        return switch (chunk.getAccountType()) {
+            case MEMBER -> accountHistoryRepository.insertMonthlySnapshotForMemberAccounts(
+                chunk.getPeriod(), chunk.getRegistrationDate(), chunk.getRangeStart(), chunk.getRangeEnd());
+            case SUBSCRIBER -> accountHistoryRepository.insertMonthlySnapshotForSubscriberAccounts(
+                chunk.getPeriod(), chunk.getRegistrationDate(), chunk.getRangeStart(), chunk.getRangeEnd());
+            case VEHICLE -> accountHistoryRepository.insertMonthlySnapshotForVehicleAccounts(
+                chunk.getPeriod(), chunk.getRegistrationDate(), chunk.getRangeStart(), chunk.getRangeEnd());
+        };
     }
-}
 
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+}
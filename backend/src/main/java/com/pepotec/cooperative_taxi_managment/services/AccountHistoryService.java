@@ -3,6 +3,7 @@ package com.pepotec.cooperative_taxi_managment.services;
 import com.pepotec.cooperative_taxi_managment.exceptions.ResourceNotFoundException;
 import com.pepotec.cooperative_taxi_managment.models.dto.accounthistory.AccountHistoryCreateDTO;
 import com.pepotec.cooperative_taxi_managment.models.dto.accounthistory.AccountHistoryDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.page.KeysetPageDTO;
 import com.pepotec.cooperative_taxi_managment.models.entities.AccountHistoryEntity;
 import com.pepotec.cooperative_taxi_managment.models.entities.MemberAccountEntity;
 import com.pepotec.cooperative_taxi_managment.models.entities.SubscriberAccountEntity;
@@ -12,6 +13,7 @@ import com.pepotec.cooperative_taxi_managment.validators.AccountHistoryValidator
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -24,6 +26,9 @@ public class AccountHistoryService {
     @Autowired
     private AccountHistoryRepository accountHistoryRepository;
 
+    @Autowired
+    private KeysetListingService keysetListingService;
+
     @Autowired
     private MemberAccountService memberAccountService;
 
@@ -78,34 +83,56 @@ public class AccountHistoryService {
         return convertToDTO(accountHistoryRepository.save(entity));
     }
 
+    @Transactional(readOnly = true)
     public AccountHistoryDTO getById(Long id) {
         return convertToDTO(findEntityById(id));
     }
 
+    @Transactional(readOnly = true)
     public List<AccountHistoryDTO> listAll() {
         return accountHistoryRepository.findAll().stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Página de historiales de cuenta ordenada por ID, a partir del último ID recibido.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<AccountHistoryDTO> listPage(Long afterId, Integer size) {
+        return keysetListingService.page(afterId, size,
+            accountHistoryRepository::findByIdGreaterThanOrderByIdAsc, AccountHistoryEntity::getId, this::convertToDTOs);
+    }
+
+    /**
+     * Exporta todos los registros como NDJSON, leyendo la tabla como Stream.
+     */
+    public StreamingResponseBody streamAll() {
+        return keysetListingService.ndjson(accountHistoryRepository::streamAllByOrderByIdAsc, this::convertToDTOs);
+    }
+
+    @Transactional(readOnly = true)
     public List<AccountHistoryDTO> listByMemberAccount(Long memberAccountId) {
         return accountHistoryRepository.findByMemberAccountIdAndActiveTrue(memberAccountId).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<AccountHistoryDTO> listBySubscriberAccount(Long subscriberAccountId) {
         return accountHistoryRepository.findBySubscriberAccountIdAndActiveTrue(subscriberAccountId).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<AccountHistoryDTO> listByVehicleAccount(Long vehicleAccountId) {
         return accountHistoryRepository.findByVehicleAccountIdAndActiveTrue(vehicleAccountId).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<AccountHistoryDTO> listByPeriod(YearMonth yearMonth) {
         String periodStr = yearMonth != null ? yearMonth.toString() : null;
         return accountHistoryRepository.findByPeriod(periodStr).stream()
@@ -113,6 +140,7 @@ public class AccountHistoryService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<AccountHistoryDTO> listByRegistrationDateRange(LocalDate startDate, LocalDate endDate) {
         return accountHistoryRepository.findByRegistrationDateBetweenAndActiveTrue(startDate, endDate).stream()
                 .map(this::convertToDTO)
@@ -171,6 +199,10 @@ public class AccountHistoryService {
                 .orElseThrow(() -> new ResourceNotFoundException(id, "Account History"));
     }
 
+    private List<AccountHistoryDTO> convertToDTOs(List<AccountHistoryEntity> entities) {
+        return entities.stream().map(this::convertToDTO).collect(Collectors.toList());
+    }
+
     private AccountHistoryDTO convertToDTO(AccountHistoryEntity entity) {
         if (entity == null) return null;
         
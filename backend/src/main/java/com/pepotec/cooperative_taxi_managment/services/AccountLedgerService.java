@@ -0,0 +1,299 @@
+package com.pepotec.cooperative_taxi_managment.services;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.accountledger.AccountBalanceAtDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.accountledger.AccountLedgerEntryDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.accountledger.AccountStatementDTO;
+import com.pepotec.cooperative_taxi_managment.models.entities.AbstractAccountEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.AbstractMovementEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.AccountLedgerEntryEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.MemberAccountEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.SubscriberAccountEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.VehicleAccountEntity;
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountType;
+import com.pepotec.cooperative_taxi_managment.models.enums.LedgerEntryType;
+import com.pepotec.cooperative_taxi_managment.repositories.AccountLedgerBatchRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.AccountLedgerEntryRepository;
+import com.pepotec.cooperative_taxi_managment.validators.AccountLedgerValidator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Libro de saldos de cuentas: registra cada imputación de BalanceUpdateService con el saldo
+ * resultante y responde saldos a una fecha y extractos por rango de fechas.
+ *
+ * Los asientos de una transacción se acumulan en memoria y se insertan en lote justo antes
+ * del commit. Para entonces los movimientos nuevos ya tienen su ID, y la fila de cada cuenta
+ * sigue bloqueada por el UPDATE de saldo, por lo que los asientos de una misma cuenta quedan
+ * en el orden en que se imputaron.
+ *
+ * Si el saldo previo a una imputación no coincide con el último saldo registrado (leído con
+ * bloqueo, ver lastRecordedBalance; saldo anterior al libro o modificado a mano) se inserta antes un asiento RECONCILIATION por la
+ * diferencia, de modo que el saldo corrido del libro siempre coincide con el de la cuenta.
+ */
+@Service
+public class AccountLedgerService {
+
+    // Diferencias menores a medio centavo se consideran errores de redondeo
+    private static final double TOLERANCE = 0.005;
+
+    @Autowired
+    private AccountLedgerEntryRepository accountLedgerEntryRepository;
+
+    @Autowired
+    private AccountLedgerBatchRepository accountLedgerBatchRepository;
+
+    @Autowired
+    private AccountLedgerValidator accountLedgerValidator;
+
+    @Autowired
+    @Lazy
+    private MemberAccountService memberAccountService;
+
+    @Autowired
+    @Lazy
+    private SubscriberAccountService subscriberAccountService;
+
+    @Autowired
+    @Lazy
+    private VehicleAccountService vehicleAccountService;
+
+    /**
+     * Registra una imputación sobre el saldo de una cuenta.
+     *
+     * @param account Cuenta imputada
+     * @param delta Monto sumado al saldo (negativo si se restó)
+     * @param balanceAfter Saldo de la cuenta luego de la imputación
+     * @param entryType Origen del asiento
+     * @param movement Movimiento que originó la imputación (null si no hay)
+     */
+    public void record(AbstractAccountEntity account, double delta, double balanceAfter,
+                       LedgerEntryType entryType, AbstractMovementEntity movement) {
+        AccountType accountType = accountTypeOf(account);
+        if (accountType == null) {
+            return;
+        }
+        PendingEntries pending = pendingEntries();
+        String key = accountType + ":" + account.getId();
+        LocalDateTime now = LocalDateTime.now();
+
+        double balanceBefore = balanceAfter - delta;
+        double lastBalance = pending.lastBalances.computeIfAbsent(key, k -> lastRecordedBalance(accountType, account.getId()));
+        if (Math.abs(balanceBefore - lastBalance) >= TOLERANCE) {
+            pending.entries.add(new PendingEntry(AccountLedgerEntryEntity.builder()
+                .accountType(accountType)
+                .accountId(account.getId())
+                .entryType(LedgerEntryType.RECONCILIATION)
+                .delta(balanceBefore - lastBalance)
+                .balanceAfter(balanceBefore)
+                .postedOn(now.toLocalDate())
+                .postedAt(now)
+                .build(), null));
+        }
+
+        pending.entries.add(new PendingEntry(AccountLedgerEntryEntity.builder()
+            .accountType(accountType)
+            .accountId(account.getId())
+            .entryType(entryType)
+            .movementDate(movement != null ? movement.getDate() : null)
+            .delta(delta)
+            .balanceAfter(balanceAfter)
+            .postedOn(now.toLocalDate())
+            .postedAt(now)
+            .build(), movement));
+        pending.lastBalances.put(key, balanceAfter);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(pending);
+        }
+    }
+
+    /**
+     * Obtiene el saldo de una cuenta al final del día indicado.
+     * Solo uno de memberAccountId, subscriberAccountId o vehicleAccountId debe estar presente.
+     */
+    @Transactional(readOnly = true)
+    public AccountBalanceAtDTO getBalanceAt(Long memberAccountId, Long subscriberAccountId,
+                                            Long vehicleAccountId, LocalDate date) {
+        accountLedgerValidator.validateBalanceAtFields(memberAccountId, subscriberAccountId, vehicleAccountId, date);
+        AccountType accountType = resolveAccountType(memberAccountId, subscriberAccountId, vehicleAccountId);
+        Long accountId = firstNonNull(memberAccountId, subscriberAccountId, vehicleAccountId);
+
+        return AccountBalanceAtDTO.builder()
+            .accountType(accountType)
+            .accountId(accountId)
+            .date(date)
+            .balance(balanceAt(accountType, accountId, date))
+            .build();
+    }
+
+    /**
+     * Obtiene el extracto de una cuenta entre dos fechas (inclusive): saldo inicial,
+     * asientos del período con su saldo corrido y saldo final.
+     * Solo uno de memberAccountId, subscriberAccountId o vehicleAccountId debe estar presente.
+     */
+    @Transactional(readOnly = true)
+    public AccountStatementDTO getStatement(Long memberAccountId, Long subscriberAccountId,
+                                            Long vehicleAccountId, LocalDate startDate, LocalDate endDate) {
+        accountLedgerValidator.validateStatementFields(memberAccountId, subscriberAccountId, vehicleAccountId,
+            startDate, endDate);
+        AccountType accountType = resolveAccountType(memberAccountId, subscriberAccountId, vehicleAccountId);
+        Long accountId = firstNonNull(memberAccountId, subscriberAccountId, vehicleAccountId);
+
+        Double openingBalance = balanceAt(accountType, accountId, startDate.minusDays(1));
+        List<AccountLedgerEntryEntity> entries = accountLedgerEntryRepository
+            .findByAccountTypeAndAccountIdAndPostedOnBetweenOrderByPostedOnAscIdAsc(accountType, accountId, startDate, endDate);
+        Double closingBalance = entries.isEmpty()
+            ? openingBalance
+            : entries.get(entries.size() - 1).getBalanceAfter();
+
+        return AccountStatementDTO.builder()
+            .accountType(accountType)
+            .accountId(accountId)
+            .startDate(startDate)
+            .endDate(endDate)
+            .openingBalance(openingBalance)
+            .closingBalance(closingBalance)
+            .entries(entries.stream().map(this::convertToDTO).collect(Collectors.toList()))
+            .build();
+    }
+
+    /**
+     * Tipo de cuenta según la clase de la entidad (null si no es una cuenta conocida).
+     */
+    public AccountType accountTypeOf(AbstractAccountEntity account) {
+        if (account instanceof MemberAccountEntity) {
+            return AccountType.MEMBER;
+        }
+        if (account instanceof SubscriberAccountEntity) {
+            return AccountType.SUBSCRIBER;
+        }
+        if (account instanceof VehicleAccountEntity) {
+            return AccountType.VEHICLE;
+        }
+        return null;
+    }
+
+    private Double balanceAt(AccountType accountType, Long accountId, LocalDate date) {
+        return accountLedgerEntryRepository
+            .findFirstByAccountTypeAndAccountIdAndPostedOnLessThanEqualOrderByPostedOnDescIdDesc(accountType, accountId, date)
+            .map(AccountLedgerEntryEntity::getBalanceAfter)
+            .orElse(0.0);
+    }
+
+    /**
+     * Último saldo registrado de la cuenta. Se llama después del UPDATE de saldo, con la fila de
+     * la cuenta ya bloqueada, y lee con bloqueo para ver los asientos que confirmó la transacción
+     * que tenía la cuenta antes (una lectura consistente no los vería y se registraría un
+     * RECONCILIATION de más).
+     */
+    private double lastRecordedBalance(AccountType accountType, Long accountId) {
+        return accountLedgerEntryRepository.findLastBalanceForUpdate(accountType.name(), accountId).orElse(0.0);
+    }
+
+    /**
+     * Verifica que la cuenta exista y devuelve su tipo.
+     */
+    private AccountType resolveAccountType(Long memberAccountId, Long subscriberAccountId, Long vehicleAccountId) {
+        if (memberAccountId != null) {
+            memberAccountService.getMemberAccountEntityById(memberAccountId);
+            return AccountType.MEMBER;
+        }
+        if (subscriberAccountId != null) {
+            subscriberAccountService.getSubscriberAccountEntityById(subscriberAccountId);
+            return AccountType.SUBSCRIBER;
+        }
+        vehicleAccountService.getVehicleAccountEntityById(vehicleAccountId);
+        return AccountType.VEHICLE;
+    }
+
+    private Long firstNonNull(Long memberAccountId, Long subscriberAccountId, Long vehicleAccountId) {
+        if (memberAccountId != null) {
+            return memberAccountId;
+        }
+        return subscriberAccountId != null ? subscriberAccountId : vehicleAccountId;
+    }
+
+    /**
+     * Asientos pendientes de la transacción en curso. Se registran en la transacción la primera
+     * vez que se piden y se escriben en beforeCommit (si no hay transacción, se escriben al registrar).
+     */
+    private PendingEntries pendingEntries() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new PendingEntries();
+        }
+        PendingEntries pending = (PendingEntries) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            PendingEntries created = new PendingEntries();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    write(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(AccountLedgerService.this);
+                }
+            });
+            pending = created;
+        }
+        return pending;
+    }
+
+    private void write(PendingEntries pending) {
+        if (pending.entries.isEmpty()) {
+            return;
+        }
+        List<AccountLedgerEntryEntity> entries = new ArrayList<>(pending.entries.size());
+        for (PendingEntry entry : pending.entries) {
+            if (entry.movement != null) {
+                entry.entry.setMovementId(entry.movement.getId());
+            }
+            entries.add(entry.entry);
+        }
+        accountLedgerBatchRepository.insertAll(entries);
+        pending.entries.clear();
+    }
+
+    private AccountLedgerEntryDTO convertToDTO(AccountLedgerEntryEntity entry) {
+        return AccountLedgerEntryDTO.builder()
+            .id(entry.getId())
+            .entryType(entry.getEntryType())
+            .movementId(entry.getMovementId())
+            .movementDate(entry.getMovementDate())
+            .delta(entry.getDelta())
+            .balanceAfter(entry.getBalanceAfter())
+            .postedOn(entry.getPostedOn())
+            .postedAt(entry.getPostedAt())
+            .build();
+    }
+
+    private static class PendingEntries {
+        private final List<PendingEntry> entries = new ArrayList<>();
+        // Último saldo registrado por cuenta (incluye los asientos aún no escritos)
+        private final Map<String, Double> lastBalances = new HashMap<>();
+    }
+
+    private static class PendingEntry {
+        private final AccountLedgerEntryEntity entry;
+        private final AbstractMovementEntity movement;
+
+        private PendingEntry(AccountLedgerEntryEntity entry, AbstractMovementEntity movement) {
+            this.entry = entry;
+            this.movement = movement;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.pepotec.cooperative_taxi_managment.services;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.accountmovement.AccountMovementLineDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.settlementallocation.SettlementAllocationDetailDTO;
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountType;
+import com.pepotec.cooperative_taxi_managment.repositories.AccountMovementReportRepository;
+import com.pepotec.cooperative_taxi_managment.validators.AccountMovementReportValidator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Listados de solo lectura de movimientos de cuenta (ingresos, gastos mensuales y arreglos
+ * de taller) y de sus asignaciones de pago, armados con proyecciones de una sola consulta
+ * (ver AccountMovementReportRepository) en lugar de cargar las entidades de la jerarquía.
+ */
+@Service
+public class AccountMovementReportService {
+
+    @Autowired
+    private AccountMovementReportRepository accountMovementReportRepository;
+
+    @Autowired
+    private AccountMovementReportValidator accountMovementReportValidator;
+
+    @Autowired
+    @Lazy
+    private MemberAccountService memberAccountService;
+
+    @Autowired
+    @Lazy
+    private SubscriberAccountService subscriberAccountService;
+
+    @Autowired
+    @Lazy
+    private VehicleAccountService vehicleAccountService;
+
+    /**
+     * Movimientos de cuenta activos de una cuenta entre dos períodos (inclusive), con lo
+     * asignado por pagos a cada uno.
+     * Solo uno de memberAccountId, subscriberAccountId o vehicleAccountId debe estar presente.
+     */
+    @Transactional(readOnly = true)
+    public List<AccountMovementLineDTO> listLines(Long memberAccountId, Long subscriberAccountId, Long vehicleAccountId,
+                                                  YearMonth fromYearMonth, YearMonth toYearMonth) {
+        accountMovementReportValidator.validateListFields(memberAccountId, subscriberAccountId, vehicleAccountId,
+            fromYearMonth, toYearMonth);
+        AccountType accountType = resolveAccountType(memberAccountId, subscriberAccountId, vehicleAccountId);
+        return accountMovementReportRepository.findLines(accountType,
+            firstNonNull(memberAccountId, subscriberAccountId, vehicleAccountId),
+            fromYearMonth.toString(), toYearMonth.toString());
+    }
+
+    /**
+     * Asignaciones de pago activas de los movimientos de una cuenta entre dos períodos (inclusive).
+     * Solo uno de memberAccountId, subscriberAccountId o vehicleAccountId debe estar presente.
+     */
+    @Transactional(readOnly = true)
+    public List<SettlementAllocationDetailDTO> listAllocations(Long memberAccountId, Long subscriberAccountId,
+                                                               Long vehicleAccountId, YearMonth fromYearMonth,
+                                                               YearMonth toYearMonth) {
+        accountMovementReportValidator.validateListFields(memberAccountId, subscriberAccountId, vehicleAccountId,
+            fromYearMonth, toYearMonth);
+        AccountType accountType = resolveAccountType(memberAccountId, subscriberAccountId, vehicleAccountId);
+        return accountMovementReportRepository.findAllocations(accountType,
+            firstNonNull(memberAccountId, subscriberAccountId, vehicleAccountId),
+            fromYearMonth.toString(), toYearMonth.toString());
+    }
+
+    /**
+     * Asignaciones de pago activas de un movimiento de cuenta.
+     */
+    @Transactional(readOnly = true)
+    public List<SettlementAllocationDetailDTO> listAllocationsByAccountMovement(Long accountMovementId) {
+        accountMovementReportValidator.validateAccountMovementId(accountMovementId);
+        return accountMovementReportRepository.findAllocationsByAccountMovement(accountMovementId);
+    }
+
+    /**
+     * Verifica que la cuenta exista y devuelve su tipo.
+     */
+    private AccountType resolveAccountType(Long memberAccountId, Long subscriberAccountId, Long vehicleAccountId) {
+        if (memberAccountId != null) {
+            memberAccountService.getMemberAccountEntityById(memberAccountId);
+            return AccountType.MEMBER;
+        }
+        if (subscriberAccountId != null) {
+            subscriberAccountService.getSubscriberAccountEntityById(subscriberAccountId);
+            return AccountType.SUBSCRIBER;
+        }
+        vehicleAccountService.getVehicleAccountEntityById(vehicleAccountId);
+        return AccountType.VEHICLE;
+    }
+
+    private Long firstNonNull(Long memberAccountId, Long subscriberAccountId, Long vehicleAccountId) {
+        if (memberAccountId != null) {
+            return memberAccountId;
+        }
+        return subscriberAccountId != null ? subscriberAccountId : vehicleAccountId;
+    }
+}
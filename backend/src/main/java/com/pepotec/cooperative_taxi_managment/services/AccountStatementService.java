@@ -0,0 +1,361 @@
+package com.pepotec.cooperative_taxi_managment.services;
+
+import com.pepotec.cooperative_taxi_managment.exceptions.InvalidDataException;
+import com.pepotec.cooperative_taxi_managment.models.dto.accountmovement.AccountMovementLineDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.accountstatement.AccountStatementLineDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.accountstatement.AccountStatementPageDTO;
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountStatementSource;
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountType;
+import com.pepotec.cooperative_taxi_managment.repositories.AccountMovementReportRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.AccountStatementRepository;
+import com.pepotec.cooperative_taxi_managment.validators.AccountStatementValidator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.StreamSupport;
+
+/**
+ * Extracto combinado de una cuenta: movimientos de dinero, imputaciones directas, movimientos
+ * de cuenta, adelantos, liquidaciones de sueldo y asignaciones de pago en una sola secuencia
+ * ordenada por fecha (y en la misma fecha, por origen e ID), con saldo corrido.
+ *
+ * Cada origen se lee por tramos con una consulta keyset sobre su índice (cuenta, fecha) (ver
+ * AccountStatementRepository) y los orígenes se intercalan con una mezcla de k vías: en
+ * memoria solo está el tramo en curso de cada origen, sin importar el largo del extracto.
+ *
+ * El saldo corrido sigue las reglas de BalanceUpdateService: lo mueven los movimientos de
+ * dinero (salvo ADVANCE) y las imputaciones directas del libro de saldos (reintegros de
+ * combustible, cierre de mes); las demás líneas son informativas (delta 0). El saldo inicial es
+ * la suma de esas mismas líneas anteriores a la posición, cada una con la fecha con la que
+ * aparece en el extracto (la del movimiento o la de registro de la imputación): un movimiento
+ * cargado con fecha pasada o futura se cuenta una sola vez, en su fecha, y una página
+ * intermedia arranca con el mismo saldo que tendría en el extracto completo.
+ */
+@Service
+public class AccountStatementService {
+
+    private static final int STREAM_CHUNK_SIZE = 500;
+
+    private static final Comparator<AccountStatementLineDTO> LINE_ORDER = Comparator
+        .comparing(AccountStatementLineDTO::getDate)
+        .thenComparing(AccountStatementLineDTO::getSource)
+        .thenComparing(AccountStatementLineDTO::getId);
+
+    @Autowired
+    private AccountStatementRepository accountStatementRepository;
+
+    @Autowired
+    private AccountMovementReportRepository accountMovementReportRepository;
+
+    @Autowired
+    private AccountStatementValidator accountStatementValidator;
+
+    @Autowired
+    private KeysetListingService keysetListingService;
+
+
+    @Autowired
+    @Lazy
+    private MemberAccountService memberAccountService;
+
+    @Autowired
+    @Lazy
+    private SubscriberAccountService subscriberAccountService;
+
+    @Autowired
+    @Lazy
+    private VehicleAccountService vehicleAccountService;
+
+    /**
+     * Página del extracto de una cuenta entre dos fechas (inclusive), a partir de la línea
+     * indicada por afterCursor (null para la primera página).
+     * Solo uno de memberAccountId, subscriberAccountId o vehicleAccountId debe estar presente.
+     */
+    @Transactional(readOnly = true)
+    public AccountStatementPageDTO getPage(Long memberAccountId, Long subscriberAccountId, Long vehicleAccountId,
+                                           LocalDate startDate, LocalDate endDate, String afterCursor, Integer size) {
+        accountStatementValidator.validateStatementFields(memberAccountId, subscriberAccountId, vehicleAccountId,
+            startDate, endDate);
+        accountStatementValidator.validateCursor(afterCursor);
+        int pageSize = size != null ? size : KeysetListingService.DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > KeysetListingService.MAX_PAGE_SIZE) {
+            throw new InvalidDataException("The page size must be between 1 and " + KeysetListingService.MAX_PAGE_SIZE);
+        }
+        AccountType accountType = resolveAccountType(memberAccountId, subscriberAccountId, vehicleAccountId);
+        Long accountId = firstNonNull(memberAccountId, subscriberAccountId, vehicleAccountId);
+        Position after = afterCursor != null ? Position.parse(afterCursor) : Position.before(startDate);
+
+        // Cada origen puede aportar a lo sumo pageSize + 1 líneas a la página
+        MergedStatement statement = merge(accountType, accountId, endDate, after, pageSize + 1);
+        double openingBalance = statement.balance;
+        List<AccountStatementLineDTO> lines = new ArrayList<>(pageSize);
+        while (lines.size() < pageSize && statement.hasNext()) {
+            lines.add(statement.next());
+        }
+
+        return AccountStatementPageDTO.builder()
+            .accountType(accountType)
+            .accountId(accountId)
+            .startDate(startDate)
+            .endDate(endDate)
+            .openingBalance(openingBalance)
+            .lines(lines)
+            .nextCursor(lines.isEmpty() ? null : lines.get(lines.size() - 1).getCursor())
+            .hasMore(statement.hasNext())
+            .build();
+    }
+
+    /**
+     * Exporta el extracto completo de una cuenta entre dos fechas (inclusive) como NDJSON,
+     * escribiendo las líneas a medida que se mezclan. La cuenta y los parámetros se validan
+     * antes de empezar la respuesta.
+     * Solo uno de memberAccountId, subscriberAccountId o vehicleAccountId debe estar presente.
+     */
+    public StreamingResponseBody stream(Long memberAccountId, Long subscriberAccountId, Long vehicleAccountId,
+                                        LocalDate startDate, LocalDate endDate) {
+        accountStatementValidator.validateStatementFields(memberAccountId, subscriberAccountId, vehicleAccountId,
+            startDate, endDate);
+        AccountType accountType = resolveAccountType(memberAccountId, subscriberAccountId, vehicleAccountId);
+        Long accountId = firstNonNull(memberAccountId, subscriberAccountId, vehicleAccountId);
+
+        return keysetListingService.ndjson(
+            () -> StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                merge(accountType, accountId, endDate, Position.before(startDate), STREAM_CHUNK_SIZE),
+                Spliterator.ORDERED | Spliterator.NONNULL), false),
+            lines -> lines);
+    }
+
+    /**
+     * Arma la mezcla de los orígenes de la cuenta a partir de la posición after. Cada origen
+     * hace su primera consulta al armarla y las siguientes a medida que se consume su tramo.
+     */
+    private MergedStatement merge(AccountType accountType, Long accountId, LocalDate endDate,
+                                  Position after, int chunkSize) {
+        List<SourceReader> readers = new ArrayList<>();
+        readers.add(new SourceReader(AccountStatementSource.MOVEMENT, after, chunkSize,
+            (afterDate, afterId, limit) -> accountStatementRepository.findMovements(accountType, accountId,
+                afterDate, afterId, endDate, limit)));
+        readers.add(new SourceReader(AccountStatementSource.LEDGER_ENTRY, after, chunkSize,
+            (afterDate, afterId, limit) -> accountStatementRepository.findLedgerEntries(accountType, accountId,
+                afterDate, afterId, endDate, limit)));
+        readers.add(new SourceReader(AccountStatementSource.ACCOUNT_MOVEMENT, after, chunkSize,
+            (afterDate, afterId, limit) -> findAccountMovements(accountType, accountId, afterDate, afterId,
+                endDate, limit)));
+        if (accountType == AccountType.MEMBER) {
+            readers.add(new SourceReader(AccountStatementSource.ADVANCE, after, chunkSize,
+                (afterDate, afterId, limit) -> accountStatementRepository.findAdvances(accountId,
+                    afterDate, afterId, endDate, limit)));
+            readers.add(new SourceReader(AccountStatementSource.PAYROLL_SETTLEMENT, after, chunkSize,
+                (afterDate, afterId, limit) -> accountStatementRepository.findPayrollSettlements(accountId,
+                    afterDate, afterId, endDate, limit)));
+        }
+        readers.add(new SourceReader(AccountStatementSource.SETTLEMENT_ALLOCATION, after, chunkSize,
+            (afterDate, afterId, limit) -> accountStatementRepository.findAllocations(accountType, accountId,
+                afterDate, afterId, endDate, limit)));
+
+        double openingBalance = accountStatementRepository.sumBalanceThrough(accountType, accountId, after.date,
+            after.throughId(AccountStatementSource.MOVEMENT), after.throughId(AccountStatementSource.LEDGER_ENTRY));
+        return new MergedStatement(readers, openingBalance);
+    }
+
+    /**
+     * Movimientos de cuenta como líneas del extracto, fechados el primer día de su período.
+     * Un período queda después de (afterDate, afterId) si empieza después de afterDate o, si
+     * empieza ese mismo día, por ID.
+     */
+    private List<AccountStatementLineDTO> findAccountMovements(AccountType accountType, Long accountId,
+                                                               LocalDate afterDate, long afterId,
+                                                               LocalDate endDate, int limit) {
+        long periodAfterId = afterDate.getDayOfMonth() == 1 ? afterId : Long.MAX_VALUE;
+        List<AccountMovementLineDTO> movements = accountMovementReportRepository.findLinesAfter(accountType,
+            accountId, YearMonth.from(afterDate).toString(), periodAfterId, YearMonth.from(endDate).toString(), limit);
+        List<AccountStatementLineDTO> lines = new ArrayList<>(movements.size());
+        for (AccountMovementLineDTO movement : movements) {
+            lines.add(AccountStatementLineDTO.builder()
+                .source(AccountStatementSource.ACCOUNT_MOVEMENT)
+                .id(movement.getId())
+                .date(YearMonth.parse(movement.getYearMonth()).atDay(1))
+                .description(movement.getNote() != null ? movement.getTypeName() + " - " + movement.getNote()
+                    : movement.getTypeName())
+                .amount(movement.getAmount())
+                .delta(0.0)
+                .accountMovementKind(movement.getKind())
+                .yearMonth(movement.getYearMonth())
+                .build());
+        }
+        return lines;
+    }
+
+    /**
+     * Verifica que la cuenta exista y devuelve su tipo.
+     */
+    private AccountType resolveAccountType(Long memberAccountId, Long subscriberAccountId, Long vehicleAccountId) {
+        if (memberAccountId != null) {
+            memberAccountService.getMemberAccountEntityById(memberAccountId);
+            return AccountType.MEMBER;
+        }
+        if (subscriberAccountId != null) {
+            subscriberAccountService.getSubscriberAccountEntityById(subscriberAccountId);
+            return AccountType.SUBSCRIBER;
+        }
+        vehicleAccountService.getVehicleAccountEntityById(vehicleAccountId);
+        return AccountType.VEHICLE;
+    }
+
+    private Long firstNonNull(Long memberAccountId, Long subscriberAccountId, Long vehicleAccountId) {
+        if (memberAccountId != null) {
+            return memberAccountId;
+        }
+        return subscriberAccountId != null ? subscriberAccountId : vehicleAccountId;
+    }
+
+    /**
+     * Consulta keyset de un origen: líneas posteriores a (afterDate, afterId), a lo sumo limit.
+     */
+    @FunctionalInterface
+    private interface ChunkQuery {
+        List<AccountStatementLineDTO> find(LocalDate afterDate, long afterId, int limit);
+    }
+
+    /**
+     * Posición en el extracto (fecha, origen, ID); es el cursor de las páginas.
+     */
+    private static final class Position {
+
+        private final LocalDate date;
+        private final AccountStatementSource source;
+        private final long id;
+
+        private Position(LocalDate date, AccountStatementSource source, long id) {
+            this.date = date;
+            this.source = source;
+            this.id = id;
+        }
+
+        /**
+         * Posición anterior a todas las líneas de la fecha indicada.
+         */
+        private static Position before(LocalDate date) {
+            return new Position(date, AccountStatementSource.MOVEMENT, 0L);
+        }
+
+        private static Position parse(String cursor) {
+            String[] parts = cursor.split(":");
+            try {
+                return new Position(LocalDate.parse(parts[0]), AccountStatementSource.valueOf(parts[1]),
+                    Long.parseLong(parts[2]));
+            } catch (RuntimeException e) {
+                throw new InvalidDataException("Invalid cursor: " + cursor);
+            }
+        }
+
+        /**
+         * Último ID del origen incluido hasta la posición en su fecha: after.id si la posición
+         * es de ese origen, todos si es de un origen posterior y ninguno si es de uno anterior.
+         */
+        private long throughId(AccountStatementSource source) {
+            int order = source.compareTo(this.source);
+            return order < 0 ? Long.MAX_VALUE : order == 0 ? id : 0L;
+        }
+
+        private static String format(AccountStatementLineDTO line) {
+            return line.getDate() + ":" + line.getSource() + ":" + line.getId();
+        }
+    }
+
+    /**
+     * Tramo en curso de un origen. El punto de partida depende de dónde está el origen
+     * respecto de la posición: los anteriores en el orden ya entregaron todas sus líneas de
+     * esa fecha, el mismo origen sigue por ID y los posteriores empiezan desde esa fecha.
+     */
+    private static final class SourceReader {
+
+        private final ChunkQuery query;
+        private final int chunkSize;
+        private final ArrayDeque<AccountStatementLineDTO> chunk = new ArrayDeque<>();
+        private LocalDate afterDate;
+        private long afterId;
+        private boolean exhausted;
+
+        private SourceReader(AccountStatementSource source, Position after, int chunkSize, ChunkQuery query) {
+            this.query = query;
+            this.chunkSize = chunkSize;
+            this.afterDate = after.date;
+            int order = source.compareTo(after.source);
+            this.afterId = order < 0 ? Long.MAX_VALUE : order == 0 ? after.id : 0L;
+        }
+
+        private AccountStatementLineDTO peek() {
+            if (chunk.isEmpty() && !exhausted) {
+                List<AccountStatementLineDTO> lines = query.find(afterDate, afterId, chunkSize);
+                exhausted = lines.size() < chunkSize;
+                if (!lines.isEmpty()) {
+                    AccountStatementLineDTO last = lines.get(lines.size() - 1);
+                    afterDate = last.getDate();
+                    afterId = last.getId();
+                }
+                chunk.addAll(lines);
+            }
+            return chunk.peek();
+        }
+
+        private AccountStatementLineDTO poll() {
+            return chunk.poll();
+        }
+    }
+
+    /**
+     * Mezcla de k vías de los orígenes: una cola de prioridad con el origen cuya próxima
+     * línea va primero. Asigna el saldo corrido y el cursor a cada línea entregada.
+     */
+    private static final class MergedStatement implements Iterator<AccountStatementLineDTO> {
+
+        private final PriorityQueue<SourceReader> queue =
+            new PriorityQueue<>((a, b) -> LINE_ORDER.compare(a.peek(), b.peek()));
+        private double balance;
+
+        private MergedStatement(List<SourceReader> readers, double openingBalance) {
+            this.balance = openingBalance;
+            for (SourceReader reader : readers) {
+                if (reader.peek() != null) {
+                    queue.add(reader);
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public AccountStatementLineDTO next() {
+            SourceReader reader = queue.poll();
+            if (reader == null) {
+                throw new NoSuchElementException();
+            }
+            AccountStatementLineDTO line = reader.poll();
+            balance += line.getDelta();
+            line.setBalance(balance);
+            line.setCursor(Position.format(line));
+            if (reader.peek() != null) {
+                queue.add(reader);
+            }
+            return line;
+        }
+    }
+}
@@ -108,18 +108,22 @@ public class AdvanceService {
         advanceRepository.save(advance);
     }
 
+    @Transactional(readOnly = true)
     public AdvanceDTO getById(Long id) {
         return convertToDTO(findEntityById(id));
     }
 
+    @Transactional(readOnly = true)
     public List<AdvanceDTO> listAll() {
         return advanceRepository.findAll().stream().map(this::convertToDTO).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<AdvanceDTO> listByAccount(Long memberAccountId) {
         return advanceRepository.findByMemberAccountId(memberAccountId).stream().map(this::convertToDTO).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<AdvanceDTO> listByDateRange(LocalDate startDate, LocalDate endDate) {
         return advanceRepository.findByDateBetween(startDate, endDate).stream().map(this::convertToDTO).collect(Collectors.toList());
     }
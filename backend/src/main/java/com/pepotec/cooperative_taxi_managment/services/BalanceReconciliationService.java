@@ -0,0 +1,267 @@
+package com.pepotec.cooperative_taxi_managment.services;
+
+import com.pepotec.cooperative_taxi_managment.exceptions.InvalidDataException;
+import com.pepotec.cooperative_taxi_managment.exceptions.ResourceNotFoundException;
+import com.pepotec.cooperative_taxi_managment.models.dto.balancereconciliation.AccountBalanceDriftDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.balancereconciliation.BalanceReconciliationReportDTO;
+import com.pepotec.cooperative_taxi_managment.models.entities.AccountBalanceCheckpointEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.BalanceReconciliationRunEntity;
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountType;
+import com.pepotec.cooperative_taxi_managment.repositories.AccountBalanceCheckpointRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.BalanceReconciliationRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.BalanceReconciliationRunRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Conciliación incremental de saldos de cuentas.
+ *
+ * Verifica que el saldo de cada cuenta sea igual a la suma de sus movimientos activos
+ * (salvo ADVANCE), más los movimientos de cuenta agregados al saldo, más las imputaciones
+ * directas registradas en el libro de saldos (reintegros de combustible).
+ *
+ * Cada cuenta tiene un punto de control con el saldo esperado hasta las marcas de ID de la
+ * conciliación anterior, y cada ejecución suma solo las filas posteriores a esas marcas con
+ * consultas agrupadas por rango de clave primaria. Se recalculan desde cero:
+ * - las cuentas sin punto de control,
+ * - las cuentas con movimientos anteriores a la marca editados o dados de baja (detectados
+ *   por sus asientos en el libro de saldos),
+ * - las cuentas cuyo último recálculo completo tiene más de full-check-days días. La primera
+ *   fecha de recálculo se escalona por ID de cuenta para repartir el costo entre los días.
+ */
+@Service
+public class BalanceReconciliationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BalanceReconciliationService.class);
+
+    // Diferencias menores a medio centavo se consideran errores de redondeo
+    private static final double TOLERANCE = 0.005;
+
+    @Autowired
+    private BalanceReconciliationRepository balanceReconciliationRepository;
+
+    @Autowired
+    private AccountBalanceCheckpointRepository accountBalanceCheckpointRepository;
+
+    @Autowired
+    private BalanceReconciliationRunRepository balanceReconciliationRunRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${balance-reconciliation.full-check-days:30}")
+    private int fullCheckDays;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * Conciliación nocturna automática.
+     */
+    @Scheduled(cron = "${balance-reconciliation.cron:0 30 2 * * ?}")
+    public void reconcileNightly() {
+        try {
+            BalanceReconciliationReportDTO report = reconcile(false);
+            logger.info("Balance reconciliation {} finished: {} accounts checked, {} recomputed, {} with drift",
+                report.getRunId(), report.getAccountsChecked(), report.getAccountsRecomputed(), report.getDriftedAccounts());
+        } catch (Exception e) {
+            logger.error("Error running the balance reconciliation", e);
+            // No relanzamos la excepción para que el scheduler continúe funcionando
+        }
+    }
+
+    /**
+     * Ejecuta una conciliación. Todas las lecturas se hacen en una misma transacción, de modo
+     * que los saldos y los movimientos sumados corresponden al mismo estado de la base.
+     *
+     * @param fullCheck true para recalcular todas las cuentas desde cero
+     * @return Reporte de la ejecución con las cuentas con diferencias
+     */
+    public BalanceReconciliationReportDTO reconcile(boolean fullCheck) {
+        if (!running.compareAndSet(false, true)) {
+            throw new InvalidDataException("A balance reconciliation is already running");
+        }
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> runReconciliation(fullCheck));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Obtiene el reporte de la última conciliación terminada con las diferencias vigentes.
+     */
+    @Transactional(readOnly = true)
+    public BalanceReconciliationReportDTO getLatestReport() {
+        BalanceReconciliationRunEntity run = balanceReconciliationRunRepository.findFirstByFinishedAtIsNotNullOrderByIdDesc()
+            .orElseThrow(() -> new ResourceNotFoundException(null, "Conciliación de Saldos"));
+        return buildReport(run, findDrifts());
+    }
+
+    private BalanceReconciliationReportDTO runReconciliation(boolean fullCheck) {
+        BalanceReconciliationRunEntity previous = balanceReconciliationRunRepository
+            .findFirstByFinishedAtIsNotNullOrderByIdDesc()
+            .orElse(null);
+
+        BalanceReconciliationRunEntity run = BalanceReconciliationRunEntity.builder()
+            .startedAt(LocalDateTime.now())
+            .fullCheck(fullCheck || previous == null)
+            .movementWatermark(balanceReconciliationRepository.maxMovementId())
+            .accountMovementWatermark(balanceReconciliationRepository.maxAccountMovementId())
+            .ledgerWatermark(balanceReconciliationRepository.maxLedgerEntryId())
+            .build();
+
+        int checked = 0;
+        int recomputed = 0;
+        for (AccountType accountType : AccountType.values()) {
+            int[] counts = reconcileAccountType(accountType, previous, run);
+            checked += counts[0];
+            recomputed += counts[1];
+        }
+
+        run.setAccountsChecked(checked);
+        run.setAccountsRecomputed(recomputed);
+        List<AccountBalanceDriftDTO> drifts = findDrifts();
+        run.setDriftedAccounts(drifts.size());
+        run.setFinishedAt(LocalDateTime.now());
+        return buildReport(balanceReconciliationRunRepository.save(run), drifts);
+    }
+
+    /**
+     * Concilia las cuentas de un tipo y actualiza los puntos de control que cambiaron.
+     *
+     * @return cantidad de cuentas verificadas y cantidad recalculadas desde cero
+     */
+    private int[] reconcileAccountType(AccountType accountType, BalanceReconciliationRunEntity previous,
+                                       BalanceReconciliationRunEntity run) {
+        LocalDate today = run.getStartedAt().toLocalDate();
+        Map<Long, Double> balances = balanceReconciliationRepository.findBalances(accountType);
+        Map<Long, AccountBalanceCheckpointEntity> checkpoints = accountBalanceCheckpointRepository
+            .findByAccountType(accountType).stream()
+            .collect(Collectors.toMap(AccountBalanceCheckpointEntity::getAccountId, Function.identity()));
+
+        Set<Long> toRecompute = new HashSet<>();
+        Map<Long, Double> movementDeltas = Collections.emptyMap();
+        Map<Long, Double> accountMovementDeltas = Collections.emptyMap();
+        Map<Long, Double> directDeltas = Collections.emptyMap();
+        if (run.getFullCheck()) {
+            toRecompute.addAll(balances.keySet());
+        } else {
+            LocalDate fullCheckDue = today.minusDays(fullCheckDays);
+            for (Long accountId : balances.keySet()) {
+                AccountBalanceCheckpointEntity checkpoint = checkpoints.get(accountId);
+                if (checkpoint == null || !checkpoint.getLastFullCheck().isAfter(fullCheckDue)) {
+                    toRecompute.add(accountId);
+                }
+            }
+            toRecompute.addAll(balanceReconciliationRepository.findAccountsWithChangedMovements(accountType,
+                previous.getLedgerWatermark(), run.getLedgerWatermark(), previous.getMovementWatermark()));
+
+            movementDeltas = balanceReconciliationRepository.sumMovementsInRange(accountType,
+                previous.getMovementWatermark(), run.getMovementWatermark());
+            accountMovementDeltas = balanceReconciliationRepository.sumAccountMovementsInRange(accountType,
+                previous.getAccountMovementWatermark(), run.getAccountMovementWatermark());
+            directDeltas = balanceReconciliationRepository.sumDirectEntriesInRange(accountType,
+                previous.getLedgerWatermark(), run.getLedgerWatermark());
+        }
+        toRecompute.retainAll(balances.keySet());
+
+        Map<Long, Double> movementTotals = balanceReconciliationRepository.sumMovements(accountType,
+            toRecompute, run.getMovementWatermark());
+        Map<Long, Double> accountMovementTotals = balanceReconciliationRepository.sumAccountMovements(accountType,
+            toRecompute, run.getAccountMovementWatermark());
+        Map<Long, Double> directTotals = balanceReconciliationRepository.sumDirectEntries(accountType,
+            toRecompute, run.getLedgerWatermark());
+
+        List<AccountBalanceCheckpointEntity> changed = new ArrayList<>();
+        for (Map.Entry<Long, Double> account : balances.entrySet()) {
+            Long accountId = account.getKey();
+            double actualBalance = account.getValue();
+            AccountBalanceCheckpointEntity checkpoint = checkpoints.get(accountId);
+            boolean recompute = toRecompute.contains(accountId);
+
+            double expectedBalance = recompute
+                ? movementTotals.getOrDefault(accountId, 0.0)
+                    + accountMovementTotals.getOrDefault(accountId, 0.0)
+                    + directTotals.getOrDefault(accountId, 0.0)
+                : checkpoint.getExpectedBalance()
+                    + movementDeltas.getOrDefault(accountId, 0.0)
+                    + accountMovementDeltas.getOrDefault(accountId, 0.0)
+                    + directDeltas.getOrDefault(accountId, 0.0);
+            double drift = actualBalance - expectedBalance;
+
+            if (checkpoint == null) {
+                checkpoint = AccountBalanceCheckpointEntity.builder()
+                    .accountType(accountType)
+                    .accountId(accountId)
+                    // Escalonar el próximo recálculo completo para no recalcular todas las cuentas el mismo día
+                    .lastFullCheck(today.minusDays(accountId % Math.max(1, fullCheckDays)))
+                    .build();
+            } else if (recompute) {
+                checkpoint.setLastFullCheck(today);
+            } else if (Math.abs(checkpoint.getExpectedBalance() - expectedBalance) < TOLERANCE
+                    && Math.abs(checkpoint.getActualBalance() - actualBalance) < TOLERANCE) {
+                continue; // sin cambios desde la conciliación anterior
+            }
+
+            if (Math.abs(drift) >= TOLERANCE
+                    && (checkpoint.getDrift() == null || Math.abs(checkpoint.getDrift() - drift) >= TOLERANCE)) {
+                logger.warn("Balance drift on {} account {}: balance {} but movements explain {} (drift {})",
+                    accountType, accountId, actualBalance, expectedBalance, drift);
+            }
+            checkpoint.setExpectedBalance(expectedBalance);
+            checkpoint.setActualBalance(actualBalance);
+            checkpoint.setDrift(drift);
+            checkpoint.setCheckedAt(run.getStartedAt());
+            changed.add(checkpoint);
+        }
+        accountBalanceCheckpointRepository.saveAll(changed);
+
+        return new int[] {balances.size(), toRecompute.size()};
+    }
+
+    private List<AccountBalanceDriftDTO> findDrifts() {
+        return accountBalanceCheckpointRepository.findDrifted(TOLERANCE).stream()
+            .map(checkpoint -> AccountBalanceDriftDTO.builder()
+                .accountType(checkpoint.getAccountType())
+                .accountId(checkpoint.getAccountId())
+                .actualBalance(checkpoint.getActualBalance())
+                .expectedBalance(checkpoint.getExpectedBalance())
+                .drift(checkpoint.getDrift())
+                .checkedAt(checkpoint.getCheckedAt())
+                .build())
+            .collect(Collectors.toList());
+    }
+
+    private BalanceReconciliationReportDTO buildReport(BalanceReconciliationRunEntity run,
+                                                       List<AccountBalanceDriftDTO> drifts) {
+        return BalanceReconciliationReportDTO.builder()
+            .runId(run.getId())
+            .startedAt(run.getStartedAt())
+            .finishedAt(run.getFinishedAt())
+            .fullCheck(run.getFullCheck())
+            .accountsChecked(run.getAccountsChecked())
+            .accountsRecomputed(run.getAccountsRecomputed())
+            .driftedAccounts(run.getDriftedAccounts())
+            .drifts(drifts)
+            .build();
+    }
+}
@@ -1,16 +1,25 @@
 package com.pepotec.cooperative_taxi_managment.services;
 
 import com.pepotec.cooperative_taxi_managment.models.entities.*;
+import com.pepotec.cooperative_taxi_managment.models.enums.LedgerEntryType;
 import com.pepotec.cooperative_taxi_managment.models.enums.MovementType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Servicio que maneja la lógica de actualización y reversión de saldos
  * en cuentas y caja basándose en el campo isIncome del movimiento.
+ * Toda imputación sobre el saldo de una cuenta queda registrada en el libro de saldos
+ * (AccountLedgerService) con el saldo resultante.
  */
 @Service
 public class BalanceUpdateService {
@@ -27,6 +36,15 @@ public class BalanceUpdateService {
     @Autowired
     private CashRegisterService cashRegisterService;
     
+    @Autowired
+    private CashRegisterLedgerService cashRegisterLedgerService;
+    
+    @Autowired
+    private AccountLedgerService accountLedgerService;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
     /**
      * Aplica un movimiento a las cuentas y caja afectadas.
      * La lógica de suma/resta se basa en el boolean isIncome, NO en MovementType.
@@ -38,15 +56,21 @@ public class BalanceUpdateService {
         // Actualizar cuenta si existe y el tipo de movimiento lo permite
         AbstractAccountEntity account = movement.getAffectedAccount();
         if (account != null && shouldAffectAccount(movement.getMovementType())) {
-            updateAccountBalance(account, movement.getAmount(), movement.getIsIncome());
+            updateAccountBalance(account, movement);
         }
         
         // Actualizar caja si es movimiento en efectivo
         if (movement instanceof CashMovementEntity) {
             CashMovementEntity cashMovement = (CashMovementEntity) movement;
-            updateCashRegisterBalance(cashMovement.getCashRegister(), 
-                                    cashMovement.getAmount(), 
-                                    cashMovement.getIsIncome());
+            if (cashMovement.getId() == null) {
+                // Movimiento nuevo: el delta se acumula en memoria al confirmar la transacción
+                Double amount = cashMovement.getAmount();
+                cashRegisterLedgerService.recordAfterCommit(cashMovement, cashMovement.getIsIncome() ? amount : -amount);
+            } else {
+                updateCashRegisterBalance(cashMovement.getCashRegister(), 
+                                        cashMovement.getAmount(), 
+                                        cashMovement.getIsIncome());
+            }
         }
         
         // TODO: Si es ADVANCE, crear instancia de Advance (a implementar cuando se cree la entidad Advance)
@@ -55,6 +79,51 @@ public class BalanceUpdateService {
         // }
     }
     
+    /**
+     * Aplica un lote de movimientos nuevos ya insertados (con ID asignado).
+     * Los deltas se suman en memoria: se ejecuta un único UPDATE por cuenta afectada
+     * y un único registro en el acumulador de caja para todos los movimientos en efectivo.
+     * El libro de saldos recibe un asiento por movimiento, con el saldo corrido calculado
+     * a partir del saldo que devuelve el UPDATE.
+     * 
+     * @param movements Movimientos a aplicar
+     */
+    @Transactional
+    public void applyMovementBatch(List<? extends AbstractMovementEntity> movements) {
+        Map<String, List<AbstractMovementEntity>> movementsByAccount = new LinkedHashMap<>();
+        double cashDelta = 0;
+        List<Long> cashMovementIds = new ArrayList<>();
+        
+        for (AbstractMovementEntity movement : movements) {
+            AbstractAccountEntity account = movement.getAffectedAccount();
+            if (account != null && shouldAffectAccount(movement.getMovementType())) {
+                // Las cuentas de distinto tipo pueden compartir ID
+                String key = Hibernate.getClass(account).getSimpleName() + ":" + account.getId();
+                movementsByAccount.computeIfAbsent(key, k -> new ArrayList<>()).add(movement);
+            }
+            
+            if (movement instanceof CashMovementEntity) {
+                cashDelta += deltaOf(movement);
+                cashMovementIds.add(movement.getId());
+            }
+        }
+        
+        for (List<AbstractMovementEntity> accountMovements : movementsByAccount.values()) {
+            AbstractAccountEntity account = accountMovements.get(0).getAffectedAccount();
+            double netDelta = accountMovements.stream().mapToDouble(this::deltaOf).sum();
+            double runningBalance = updateBalance(account, netDelta) - netDelta;
+            for (AbstractMovementEntity movement : accountMovements) {
+                double delta = deltaOf(movement);
+                runningBalance += delta;
+                accountLedgerService.record(account, delta, runningBalance, LedgerEntryType.MOVEMENT, movement);
+            }
+        }
+        
+        if (!cashMovementIds.isEmpty()) {
+            cashRegisterLedgerService.recordBatchAfterCommit(cashMovementIds, cashDelta);
+        }
+    }
+    
     /**
      * Revierte un movimiento (para edición o eliminación).
      * Invierte la operación basándose en isIncome.
@@ -67,12 +136,15 @@ public class BalanceUpdateService {
         AbstractAccountEntity account = movement.getAffectedAccount();
         if (account != null && shouldAffectAccount(movement.getMovementType())) {
             // Invertir: si era ingreso, ahora es egreso y viceversa
-            revertAccountBalance(account, movement.getAmount(), movement.getIsIncome());
+            revertAccountBalance(account, movement);
         }
         
         // Revertir caja si es movimiento en efectivo
         if (movement instanceof CashMovementEntity) {
             CashMovementEntity cashMovement = (CashMovementEntity) movement;
+            // Volcar lo pendiente (y marcar el movimiento) antes de revertir en SQL, para que el
+            // reinicio del acumulador nunca reaplique un movimiento que ya fue editado o dado de baja
+            cashRegisterLedgerService.flush();
             revertCashRegisterBalance(cashMovement.getCashRegister(), 
                                     cashMovement.getAmount(), 
                                     cashMovement.getIsIncome());
@@ -82,43 +154,27 @@ public class BalanceUpdateService {
     /**
      * Actualiza el balance de la cuenta basándose en isIncome.
      * @param account Cuenta a actualizar
-     * @param amount Monto del movimiento
-     * @param isIncome true = suma, false = resta
+     * @param movement Movimiento a imputar (isIncome true = suma, false = resta)
      */
-    private void updateAccountBalance(AbstractAccountEntity account, Double amount, Boolean isIncome) {
-        if (isIncome) {
-            account.setBalance(account.getBalance() + amount);
-        } else {
-            account.setBalance(account.getBalance() - amount);
-        }
-        account.setLastModified(LocalDate.now());
-        saveAccount(account);
+    private void updateAccountBalance(AbstractAccountEntity account, AbstractMovementEntity movement) {
+        double delta = deltaOf(movement);
+        accountLedgerService.record(account, delta, updateBalance(account, delta), LedgerEntryType.MOVEMENT, movement);
     }
     
     /**
      * Revierte el balance de la cuenta (invierte la operación).
      */
-    private void revertAccountBalance(AbstractAccountEntity account, Double amount, Boolean isIncome) {
+    private void revertAccountBalance(AbstractAccountEntity account, AbstractMovementEntity movement) {
         // Invertir: si era ingreso (sumaba), ahora resta; si era egreso (restaba), ahora suma
-        if (isIncome) {
-            account.setBalance(account.getBalance() - amount);
-        } else {
-            account.setBalance(account.getBalance() + amount);
-        }
-        account.setLastModified(LocalDate.now());
-        saveAccount(account);
+        double delta = -deltaOf(movement);
+        accountLedgerService.record(account, delta, updateBalance(account, delta), LedgerEntryType.REVERSAL, movement);
     }
     
     /**
      * Actualiza el balance de la caja basándose en isIncome.
      */
     private void updateCashRegisterBalance(CashRegisterEntity cashRegister, Double amount, Boolean isIncome) {
-        if (isIncome) {
-            cashRegister.setAmount(cashRegister.getAmount() + amount);
-        } else {
-            cashRegister.setAmount(cashRegister.getAmount() - amount);
-        }
-        cashRegisterService.updateAmount(cashRegister.getAmount());
+        applyCashRegisterDelta(cashRegister, isIncome ? amount : -amount);
     }
     
     /**
@@ -126,34 +182,80 @@ public class BalanceUpdateService {
      */
     private void revertCashRegisterBalance(CashRegisterEntity cashRegister, Double amount, Boolean isIncome) {
         // Invertir la operación
-        if (isIncome) {
-            cashRegister.setAmount(cashRegister.getAmount() - amount);
-        } else {
-            cashRegister.setAmount(cashRegister.getAmount() + amount);
-        }
-        cashRegisterService.updateAmount(cashRegister.getAmount());
+        applyCashRegisterDelta(cashRegister, isIncome ? -amount : amount);
     }
     
     /**
-     * Determina si el movimiento debe afectar el balance de la cuenta.
-     * ADVANCE no afecta el balance (independientemente de isIncome).
+     * Suma un delta al balance de la cuenta con un UPDATE atómico en SQL
+     * (balance = balance + delta) según su tipo, y devuelve el balance resultante.
+     * No lee ni reescribe el balance en Java, por lo que las imputaciones concurrentes
+     * sobre la misma cuenta no se pisan entre sí. La imputación se registra en el libro
+     * de saldos como asiento DIRECT (sin movimiento asociado).
+     * 
+     * @param account Cuenta a actualizar
+     * @param delta Monto a sumar (negativo para restar)
+     * @return Balance de la cuenta luego de aplicar el delta
      */
-    private boolean shouldAffectAccount(MovementType type) {
-        return type != MovementType.ADVANCE;
+    @Transactional
+    public Double applyAccountDelta(AbstractAccountEntity account, double delta) {
+        Double newBalance = updateBalance(account, delta);
+        accountLedgerService.record(account, delta, newBalance, LedgerEntryType.DIRECT, null);
+        return newBalance;
     }
     
     /**
-     * Guarda la cuenta actualizada según su tipo.
+     * Ejecuta el UPDATE atómico del balance según el tipo de cuenta, sin registrar el asiento.
      */
-    private void saveAccount(AbstractAccountEntity account) {
+    private Double updateBalance(AbstractAccountEntity account, double delta) {
+        Double newBalance;
         if (account instanceof MemberAccountEntity) {
-            // Actualizar directamente en el repository para evitar dependencias circulares
-            memberAccountService.updateAccountEntity((MemberAccountEntity) account);
+            newBalance = memberAccountService.applyBalanceDelta(account.getId(), delta);
         } else if (account instanceof SubscriberAccountEntity) {
-            subscriberAccountService.updateAccountEntity((SubscriberAccountEntity) account);
+            newBalance = subscriberAccountService.applyBalanceDelta(account.getId(), delta);
         } else if (account instanceof VehicleAccountEntity) {
-            vehicleAccountService.updateAccountEntity((VehicleAccountEntity) account);
+            newBalance = vehicleAccountService.applyBalanceDelta(account.getId(), delta);
+        } else {
+            return account.getBalance();
+        }
+        syncManagedState(account);
+        return newBalance;
+    }
+    
+    /**
+     * Suma un delta al monto de la caja con un UPDATE atómico en SQL
+     * y devuelve el monto resultante.
+     * 
+     * @param cashRegister Caja a actualizar
+     * @param delta Monto a sumar (negativo para restar)
+     * @return Monto de la caja luego de aplicar el delta
+     */
+    @Transactional
+    public Double applyCashRegisterDelta(CashRegisterEntity cashRegister, double delta) {
+        Double newAmount = cashRegisterService.applyDelta(cashRegister.getId(), delta);
+        syncManagedState(cashRegister);
+        return newAmount;
+    }
+    
+    /**
+     * El UPDATE en SQL no pasa por el contexto de persistencia: si la entidad está
+     * gestionada se recarga para que el DTO de respuesta muestre el valor nuevo y para
+     * que Hibernate no vuelva a escribir el valor viejo al hacer flush.
+     */
+    private void syncManagedState(Object entity) {
+        if (entityManager.contains(entity)) {
+            entityManager.refresh(entity);
         }
     }
+    
+    private double deltaOf(AbstractMovementEntity movement) {
+        return movement.getIsIncome() ? movement.getAmount() : -movement.getAmount();
+    }
+    
+    /**
+     * Determina si el movimiento debe afectar el balance de la cuenta.
+     * ADVANCE no afecta el balance (independientemente de isIncome).
+     */
+    private boolean shouldAffectAccount(MovementType type) {
+        return type != MovementType.ADVANCE;
+    }
 }
-
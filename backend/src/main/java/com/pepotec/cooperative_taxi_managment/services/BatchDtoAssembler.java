@@ -0,0 +1,147 @@
+package com.pepotec.cooperative_taxi_managment.services;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.driversettlement.DriverSettlementDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.person.member.driver.DriverDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.vehicle.VehicleDTO;
+import com.pepotec.cooperative_taxi_managment.models.entities.DriverEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.DriverSettlementEntity;
+import com.pepotec.cooperative_taxi_managment.repositories.DriverRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.DriverSettlementRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.VehicleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Arma en lote los DTOs de chofer, vehículo y rendición referenciados por un listado
+ * (combustibles diarios, tickets de taxi, ...).
+ *
+ * En lugar de resolver cada referencia fila por fila, se juntan los IDs de toda la página y
+ * se carga cada tipo de entidad con una única consulta IN (...). Los DTOs se construyen luego
+ * desde memoria y se guardan en un {@link Lookup} que actúa como caché de identidad durante
+ * el request: un mismo chofer o vehículo se convierte una sola vez aunque aparezca en muchas filas.
+ *
+ * Debe usarse dentro de una transacción para que las entidades precargadas queden en el
+ * contexto de persistencia y las conversiones existentes (findById) no vuelvan a consultar la base.
+ */
+@Service
+public class BatchDtoAssembler {
+
+    @Autowired
+    private DriverRepository driverRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private DriverSettlementRepository driverSettlementRepository;
+
+    @Autowired
+    @Lazy
+    private DriverService driverService;
+
+    @Autowired
+    @Lazy
+    private VehicleService vehicleService;
+
+    @Autowired
+    @Lazy
+    private DriverSettlementService driverSettlementService;
+
+    /**
+     * Precarga choferes, vehículos y rendiciones (una consulta por tipo) y devuelve
+     * el Lookup con el que armar los DTOs de la página.
+     *
+     * @param driverIds IDs de choferes referenciados
+     * @param vehicleIds IDs de vehículos referenciados
+     * @param settlementIds IDs de rendiciones referenciadas
+     */
+    public Lookup prefetch(Collection<Long> driverIds, Collection<Long> vehicleIds, Collection<Long> settlementIds) {
+        Lookup lookup = new Lookup();
+
+        Set<Long> settlementsToLoad = nonNull(settlementIds);
+        if (!settlementsToLoad.isEmpty()) {
+            for (DriverSettlementEntity settlement : driverSettlementRepository.findAllWithDriverByIdIn(settlementsToLoad)) {
+                lookup.settlementEntities.put(settlement.getId(), settlement);
+                lookup.loadedDriverIds.add(settlement.getDriver().getId());
+            }
+        }
+
+        // Los choferes de las rendiciones ya vinieron en la consulta anterior
+        Set<Long> driversToLoad = nonNull(driverIds);
+        driversToLoad.removeAll(lookup.loadedDriverIds);
+        if (!driversToLoad.isEmpty()) {
+            for (DriverEntity driver : driverRepository.findAllWithAddressByIdIn(driversToLoad)) {
+                lookup.loadedDriverIds.add(driver.getId());
+            }
+        }
+
+        Set<Long> vehiclesToLoad = nonNull(vehicleIds);
+        if (!vehiclesToLoad.isEmpty()) {
+            vehicleRepository.findAllWithModelByIdIn(vehiclesToLoad);
+        }
+
+        return lookup;
+    }
+
+    private static Set<Long> nonNull(Collection<Long> ids) {
+        if (ids == null) {
+            return new HashSet<>();
+        }
+        return ids.stream().filter(Objects::nonNull).collect(Collectors.toCollection(HashSet::new));
+    }
+
+    /**
+     * Caché de identidad de DTOs para un único listado.
+     */
+    public class Lookup {
+
+        private final Map<Long, DriverSettlementEntity> settlementEntities = new HashMap<>();
+        private final Set<Long> loadedDriverIds = new HashSet<>();
+
+        private final Map<Long, DriverDTO> drivers = new HashMap<>();
+        private final Map<Long, VehicleDTO> vehicles = new HashMap<>();
+        private final Map<Long, DriverSettlementDTO> settlements = new HashMap<>();
+
+        private Lookup() {
+        }
+
+        public DriverDTO driver(Long id) {
+            if (id == null) {
+                return null;
+            }
+            return drivers.computeIfAbsent(id, driverService::getDriverById);
+        }
+
+        public VehicleDTO vehicle(Long id) {
+            if (id == null) {
+                return null;
+            }
+            return vehicles.computeIfAbsent(id, vehicleService::getVehicleById);
+        }
+
+        public DriverSettlementDTO settlement(Long id) {
+            if (id == null) {
+                return null;
+            }
+            DriverSettlementDTO cached = settlements.get(id);
+            if (cached != null) {
+                return cached;
+            }
+            DriverSettlementEntity entity = settlementEntities.get(id);
+            DriverSettlementDTO dto = entity != null
+                ? driverSettlementService.convertToDTO(entity, driver(entity.getDriver().getId()))
+                : driverSettlementService.getDriverSettlementById(id);
+            settlements.put(id, dto);
+            return dto;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.pepotec.cooperative_taxi_managment.services;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.pepotec.cooperative_taxi_managment.models.dto.brand.BrandDTO;
 import com.pepotec.cooperative_taxi_managment.models.entities.BrandEntity;
 import com.pepotec.cooperative_taxi_managment.repositories.BrandRepository;
@@ -20,6 +21,7 @@ public class BrandService {
     @Autowired
     private BrandValidator brandValidator;
 
+    @Transactional
     public BrandDTO createBrand(BrandDTO brand) {
         brandValidator.validateBrandSpecificFields(brand);
         brandValidator.validateUniqueFields(brand, null);
@@ -28,18 +30,21 @@ public class BrandService {
         return convertToDTO(brandRepository.save(brandEntity));
     }
 
+    @Transactional(readOnly = true)
     public BrandDTO getBrandById(Long id) {
         BrandEntity brand = brandRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(id, "Marca"));
         return convertToDTO(brand);
     }
 
+    @Transactional(readOnly = true)
     public List<BrandDTO> getAllBrands() {
         return brandRepository.findAll().stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
 
+    @Transactional
     public BrandDTO updateBrand(BrandDTO brand) {
         if (brand.getId() == null) {
             throw new InvalidDataException("The ID cannot be null for update");
@@ -55,6 +60,7 @@ public class BrandService {
         return convertToDTO(brandRepository.save(brandEntity));
     }
 
+    @Transactional
     public void deleteBrand(Long id) {
         if (id == null) {
             throw new InvalidDataException("The ID cannot be null");
@@ -7,6 +7,8 @@ import com.pepotec.cooperative_taxi_managment.models.dto.movement.cash.CashMovem
 import com.pepotec.cooperative_taxi_managment.models.dto.person.member.account.MemberAccountDTO;
 import com.pepotec.cooperative_taxi_managment.models.dto.person.subscriber.account.SubscriberAccountDTO;
 import com.pepotec.cooperative_taxi_managment.models.dto.vehicle.account.VehicleAccountDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.movement.MovementBatchResultDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.page.KeysetPageDTO;
 import com.pepotec.cooperative_taxi_managment.exceptions.InvalidDataException;
 import com.pepotec.cooperative_taxi_managment.models.entities.CashMovementEntity;
 import com.pepotec.cooperative_taxi_managment.models.entities.CashRegisterEntity;
@@ -14,11 +16,13 @@ import com.pepotec.cooperative_taxi_managment.models.entities.MemberAccountEntit
 import com.pepotec.cooperative_taxi_managment.models.entities.SubscriberAccountEntity;
 import com.pepotec.cooperative_taxi_managment.models.entities.VehicleAccountEntity;
 import com.pepotec.cooperative_taxi_managment.models.enums.MovementType;
+import com.pepotec.cooperative_taxi_managment.repositories.MovementBatchRepository;
 import com.pepotec.cooperative_taxi_managment.repositories.CashMovementRepository;
 import com.pepotec.cooperative_taxi_managment.validators.MovementValidator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -30,6 +34,9 @@ public class CashMovementService {
     @Autowired
     private CashMovementRepository cashMovementRepository;
 
+    @Autowired
+    private KeysetListingService keysetListingService;
+
     @Autowired
     private MovementValidator movementValidator;
 
@@ -51,6 +58,12 @@ public class CashMovementService {
     @Autowired
     private AdvanceService advanceService;
 
+    @Autowired
+    private MovementBatchService movementBatchService;
+
+    @Autowired
+    private MovementBatchRepository movementBatchRepository;
+
     @Transactional
     public CashMovementDTO create(CashMovementCreateDTO dto) {
         movementValidator.validateCashMovementCreate(dto);
@@ -70,22 +83,81 @@ public class CashMovementService {
         return convertToDTO(saved);
     }
 
+    /**
+     * Crea un lote de movimientos en efectivo en una única transacción.
+     * Se valida todo el lote antes de escribir, las cuentas se cargan con una consulta por tipo,
+     * los movimientos se insertan con JDBC en lote y los saldos se actualizan con un UPDATE
+     * por cuenta con el delta neto del lote.
+     */
+    @Transactional
+    public MovementBatchResultDTO createBatch(List<CashMovementCreateDTO> dtos) {
+        movementBatchService.validateAll(dtos, movementValidator::validateCashMovementCreate);
+
+        MovementBatchService.AccountLookup accounts = movementBatchService.preloadAccounts(
+            dtos.stream().map(CashMovementCreateDTO::getMemberAccountId).collect(Collectors.toList()),
+            dtos.stream().map(CashMovementCreateDTO::getSubscriberAccountId).collect(Collectors.toList()),
+            dtos.stream().map(CashMovementCreateDTO::getVehicleAccountId).collect(Collectors.toList()));
+
+        CashRegisterEntity cashRegister = cashRegisterService.getOrCreate();
+        List<CashMovementEntity> entities = dtos.stream()
+            .map(dto -> CashMovementEntity.builder()
+                .description(dto.getDescription())
+                .amount(dto.getAmount())
+                .date(dto.getDate())
+                .movementType(dto.getMovementType())
+                .isIncome(dto.getIsIncome())
+                .active(true)
+                .cashRegister(cashRegister)
+                .memberAccount(accounts.memberAccount(dto.getMemberAccountId()))
+                .subscriberAccount(accounts.subscriberAccount(dto.getSubscriberAccountId()))
+                .vehicleAccount(accounts.vehicleAccount(dto.getVehicleAccountId()))
+                .build())
+            .collect(Collectors.toList());
+
+        movementBatchRepository.insertCashMovements(entities);
+        balanceUpdateService.applyMovementBatch(entities);
+        movementBatchService.createAdvances(entities);
+
+        return movementBatchService.toResult(entities);
+    }
+
+    @Transactional(readOnly = true)
     public CashMovementDTO getById(Long id) {
         return convertToDTO(findEntityById(id));
     }
 
+    @Transactional(readOnly = true)
     public List<CashMovementDTO> listAll() {
         return cashMovementRepository.findAll().stream().map(this::convertToDTO).collect(Collectors.toList());
     }
 
+    /**
+     * Página de movimientos en efectivo ordenada por ID, a partir del último ID recibido.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<CashMovementDTO> listPage(Long afterId, Integer size) {
+        return keysetListingService.page(afterId, size,
+            cashMovementRepository::findByIdGreaterThanOrderByIdAsc, CashMovementEntity::getId, this::convertToDTOs);
+    }
+
+    /**
+     * Exporta todos los registros como NDJSON, leyendo la tabla como Stream.
+     */
+    public StreamingResponseBody streamAll() {
+        return keysetListingService.ndjson(cashMovementRepository::streamAllByOrderByIdAsc, this::convertToDTOs);
+    }
+
+    @Transactional(readOnly = true)
     public List<CashMovementDTO> listActive() {
         return cashMovementRepository.findByActive(true).stream().map(this::convertToDTO).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<CashMovementDTO> listByDateRange(LocalDate startDate, LocalDate endDate) {
         return cashMovementRepository.findByDateBetween(startDate, endDate).stream().map(this::convertToDTO).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<CashMovementDTO> listByAccount(Long memberAccountId, Long subscriberAccountId, Long vehicleAccountId) {
         if (memberAccountId != null) {
             return cashMovementRepository.findByMemberAccountId(memberAccountId).stream().map(this::convertToDTO).collect(Collectors.toList());
@@ -190,6 +262,10 @@ public class CashMovementService {
         entity.setVehicleAccount(vehicleAccount);
     }
 
+    private List<CashMovementDTO> convertToDTOs(List<CashMovementEntity> entities) {
+        return entities.stream().map(this::convertToDTO).collect(Collectors.toList());
+    }
+
     private CashMovementDTO convertToDTO(CashMovementEntity entity) {
         if (entity == null) return null;
 
@@ -225,10 +301,11 @@ public class CashMovementService {
                     .build();
         }
 
+        // Sin monto: el de la entidad no incluye los deltas pendientes en memoria (ni el de este
+        // movimiento, que se acumula al confirmar); el monto actual es el de GET /cash-register
         CashRegisterEntity cashRegister = entity.getCashRegister();
         CashRegisterDTO cashRegisterDTO = CashRegisterDTO.builder()
                 .id(cashRegister.getId())
-                .amount(cashRegister.getAmount())
                 .active(cashRegister.getActive())
                 .build();
 
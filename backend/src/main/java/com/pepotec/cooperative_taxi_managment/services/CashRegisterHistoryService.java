@@ -42,28 +42,31 @@ public class CashRegisterHistoryService {
         CashRegisterHistoryEntity history = cashRegisterHistoryRepository.findByDate(today)
                 .orElseThrow(() -> new ResourceNotFoundException(null, "Historial de Caja del día " + today));
 
-        CashRegisterEntity cashRegister = cashRegisterService.getOrCreate();
-        history.setFinalAmount(cashRegister.getAmount());
+        history.setFinalAmount(cashRegisterService.getCurrentAmount());
         return convertToDTO(cashRegisterHistoryRepository.save(history));
     }
 
+    @Transactional(readOnly = true)
     public CashRegisterHistoryDTO getById(Long id) {
         CashRegisterHistoryEntity history = cashRegisterHistoryRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(id, "Historial de Caja"));
         return convertToDTO(history);
     }
 
+    @Transactional(readOnly = true)
     public CashRegisterHistoryDTO getByDate(LocalDate date) {
         CashRegisterHistoryEntity history = cashRegisterHistoryRepository.findByDate(date)
                 .orElseThrow(() -> new ResourceNotFoundException(null, "Historial de Caja para fecha " + date));
         return convertToDTO(history);
     }
 
+    @Transactional(readOnly = true)
     public List<CashRegisterHistoryDTO> listAll() {
         return cashRegisterHistoryRepository.findAllByOrderByDateDesc()
                 .stream().map(this::convertToDTO).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<CashRegisterHistoryDTO> listByDateRange(LocalDate startDate, LocalDate endDate) {
         return cashRegisterHistoryRepository.findByDateBetween(startDate, endDate)
                 .stream().map(this::convertToDTO).collect(Collectors.toList());
@@ -73,7 +76,7 @@ public class CashRegisterHistoryService {
         CashRegisterEntity cashRegister = cashRegisterService.getOrCreate();
         CashRegisterHistoryEntity history = CashRegisterHistoryEntity.builder()
                 .cashRegister(cashRegister)
-                .initialAmount(cashRegister.getAmount())
+                .initialAmount(cashRegisterService.getCurrentAmount())
                 .finalAmount(null)
                 .date(date)
                 .build();
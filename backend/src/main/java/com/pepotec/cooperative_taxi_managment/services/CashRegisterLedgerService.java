@@ -0,0 +1,208 @@
+package com.pepotec.cooperative_taxi_managment.services;
+
+import com.pepotec.cooperative_taxi_managment.models.entities.CashMovementEntity;
+import com.pepotec.cooperative_taxi_managment.repositories.CashMovementRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.CashRegisterRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Acumulador en memoria de los deltas de caja generados al crear movimientos en efectivo.
+ *
+ * Los movimientos nuevos no actualizan la fila de cash_register dentro de su transacción:
+ * al confirmarse, su delta se suma a un contador striped (LongAdder, en centavos) y un
+ * proceso periódico lo vuelca con un único UPDATE. Así el alta de movimientos en efectivo
+ * no se serializa sobre la fila única de la caja.
+ *
+ * Cada movimiento de caja se inserta con ledger_flushed = FALSE, y el volcado lo marca en la
+ * misma transacción que suma su delta a la caja. Al arrancar se reaplican los movimientos
+ * que siguen sin marcar, de modo que lo acumulado y no volcado antes de una caída no se pierde.
+ * La marca es por movimiento y no un ID máximo porque los deltas llegan en orden de commit,
+ * que no es el orden de los IDs.
+ *
+ * Las ediciones y bajas de movimientos vuelcan primero lo pendiente y luego revierten
+ * directamente en SQL, para que ningún movimiento sin marcar haya cambiado de monto.
+ *
+ * Supone una única instancia de la aplicación sobre la base: la reaplicación al arrancar no
+ * distingue los movimientos sin marcar que dejó una caída de los que otra instancia en marcha
+ * todavía tiene pendientes en memoria, y esos deltas se sumarían dos veces (una al reaplicar y
+ * otra cuando esa instancia los vuelque). Para correr varias instancias hay que volver a
+ * actualizar la caja dentro de la transacción de cada movimiento.
+ */
+@Service
+public class CashRegisterLedgerService implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(CashRegisterLedgerService.class);
+
+    // Máximo de IDs por UPDATE ... IN (...) al marcar los movimientos volcados
+    private static final int MARK_CHUNK_SIZE = 1000;
+
+    @Autowired
+    private CashRegisterRepository cashRegisterRepository;
+
+    @Autowired
+    private CashMovementRepository cashMovementRepository;
+
+    @Autowired
+    @Lazy
+    private CashRegisterService cashRegisterService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final LongAdder pendingCents = new LongAdder();
+
+    private final ConcurrentLinkedQueue<Long> pendingMovementIds = new ConcurrentLinkedQueue<>();
+
+    // Los registros comparten el read lock; el volcado toma el write lock solo para tomar
+    // una foto consistente de (monto pendiente, IDs pendientes) y así no volcar un delta sin su marca.
+    private final ReentrantReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+
+    /**
+     * Registra el delta de un movimiento de caja nuevo. Si hay una transacción activa,
+     * el delta se acumula recién cuando ésta se confirma.
+     *
+     * @param movement Movimiento de caja (su ID se asigna al persistirlo)
+     * @param delta Monto a sumar a la caja (negativo para restar)
+     */
+    public void recordAfterCommit(CashMovementEntity movement, double delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(List.of(movement.getId()), delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(List.of(movement.getId()), delta);
+            }
+        });
+    }
+
+    /**
+     * Registra el delta neto de un lote de movimientos de caja ya insertados, igual que si
+     * cada movimiento se hubiera registrado por separado.
+     *
+     * @param movementIds IDs de los movimientos del lote
+     * @param delta Suma de los montos del lote (negativo para restar)
+     */
+    public void recordBatchAfterCommit(List<Long> movementIds, double delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(movementIds, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(movementIds, delta);
+            }
+        });
+    }
+
+    /**
+     * Vuelca el delta pendiente a cash_register y marca sus movimientos, en una transacción propia.
+     * Se ejecuta periódicamente y antes de cualquier operación que necesite el monto exacto
+     * en la base (ediciones, bajas, ajustes manuales y cierres de caja).
+     */
+    @Scheduled(fixedDelayString = "${cash-register.ledger.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        long cents;
+        List<Long> movementIds = new ArrayList<>();
+        snapshotLock.writeLock().lock();
+        try {
+            cents = pendingCents.sum();
+            for (Long id = pendingMovementIds.poll(); id != null; id = pendingMovementIds.poll()) {
+                movementIds.add(id);
+            }
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+
+        if (cents == 0 && movementIds.isEmpty()) {
+            return;
+        }
+
+        Long cashRegisterId = cashRegisterService.getOrCreate().getId();
+        try {
+            newTransaction().executeWithoutResult(status -> {
+                cashRegisterRepository.addToAmount(cashRegisterId, cents / 100.0);
+                for (int from = 0; from < movementIds.size(); from += MARK_CHUNK_SIZE) {
+                    cashMovementRepository.markLedgerFlushed(
+                        movementIds.subList(from, Math.min(from + MARK_CHUNK_SIZE, movementIds.size())));
+                }
+            });
+        } catch (RuntimeException e) {
+            // El delta sigue en pendingCents; los IDs vuelven a la cola para el próximo volcado
+            pendingMovementIds.addAll(movementIds);
+            throw e;
+        }
+        pendingCents.add(-cents);
+    }
+
+    /**
+     * Vuelca el delta pendiente y lee el monto confirmado en una transacción nueva,
+     * para no quedar atado a la lectura consistente de la transacción del llamador.
+     */
+    public double flushAndGetAmount() {
+        flush();
+        Long cashRegisterId = cashRegisterService.getOrCreate().getId();
+        return newTransaction().execute(status ->
+            cashRegisterRepository.findAmountById(cashRegisterId).orElse(0.0));
+    }
+
+    /**
+     * Reaplica al arrancar los movimientos que no llegaron a volcarse antes de detener la
+     * aplicación. Corre al terminar de crear los beans, antes de que el servidor web acepte
+     * pedidos, para que ningún movimiento nuevo se cuente a la vez en memoria y en la reaplicación.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        replayUnflushedMovements();
+    }
+
+    /**
+     * Suma a la caja los movimientos sin marcar y los marca, en una sola transacción.
+     */
+    public synchronized void replayUnflushedMovements() {
+        Long cashRegisterId = cashRegisterService.getOrCreate().getId();
+        newTransaction().executeWithoutResult(status -> {
+            double unflushed = cashMovementRepository.sumSignedAmountNotFlushed();
+            int movements = cashMovementRepository.markAllLedgerFlushed();
+            if (movements > 0) {
+                cashRegisterRepository.addToAmount(cashRegisterId, unflushed);
+                logger.info("Replayed {} unflushed cash movements into cash register (delta: {})", movements, unflushed);
+            }
+        });
+    }
+
+    private void record(List<Long> movementIds, double delta) {
+        snapshotLock.readLock().lock();
+        try {
+            pendingCents.add(Math.round(delta * 100));
+            pendingMovementIds.addAll(movementIds);
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+}
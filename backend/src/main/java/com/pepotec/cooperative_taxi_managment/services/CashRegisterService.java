@@ -1,5 +1,6 @@
 package com.pepotec.cooperative_taxi_managment.services;
 
+import com.pepotec.cooperative_taxi_managment.exceptions.ResourceNotFoundException;
 import com.pepotec.cooperative_taxi_managment.models.dto.cashregister.CashRegisterDTO;
 import com.pepotec.cooperative_taxi_managment.models.entities.CashRegisterEntity;
 import com.pepotec.cooperative_taxi_managment.repositories.CashRegisterRepository;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public class CashRegisterService {
@@ -16,6 +18,12 @@ public class CashRegisterService {
     @Autowired
     private CashRegisterRepository cashRegisterRepository;
 
+    @Autowired
+    private CashRegisterLedgerService cashRegisterLedgerService;
+
+    // ID de la caja singleton, resuelto una sola vez para no recorrer la tabla en cada movimiento
+    private volatile Long cashRegisterId;
+
     @PostConstruct
     public void initializeCashRegister() {
         getOrCreate();
@@ -26,39 +34,80 @@ public class CashRegisterService {
     */
     @Transactional
     public CashRegisterEntity getOrCreate() {
+        Long knownId = cashRegisterId;
+        if (knownId != null) {
+            Optional<CashRegisterEntity> known = cashRegisterRepository.findById(knownId);
+            if (known.isPresent()) {
+                return known.get();
+            }
+        }
+
         List<CashRegisterEntity> registers = cashRegisterRepository.findAll();
+        CashRegisterEntity entity;
         if (registers.isEmpty()) {
-            CashRegisterEntity entity = new CashRegisterEntity();
+            entity = new CashRegisterEntity();
             entity.setAmount(0.0);
             entity.setActive(true);
-            return cashRegisterRepository.save(entity);
+            entity = cashRegisterRepository.save(entity);
+        } else {
+            entity = registers.get(0);
         }
-        return registers.get(0);
+        cashRegisterId = entity.getId();
+        return entity;
     }
 
     public CashRegisterEntity getCashRegisterEntity() {
         return getOrCreate();
     }
 
+    /**
+     * Devuelve la caja con su monto actual, incluyendo los deltas acumulados en memoria.
+     */
     public CashRegisterDTO getCashRegister() {
-        return convertToDTO(getOrCreate());
+        return convertToDTO(getOrCreate(), getCurrentAmount());
+    }
+
+    /**
+     * Monto actual de la caja: vuelca los deltas pendientes y lee el monto confirmado.
+     */
+    public Double getCurrentAmount() {
+        return cashRegisterLedgerService.flushAndGetAmount();
     }
 
+    /**
+     * Sobrescribe el monto de la caja (ajuste manual tras un arqueo).
+     * Los deltas pendientes se vuelcan antes, ya que el monto indicado los incluye.
+     */
     @Transactional
     public CashRegisterDTO updateAmount(Double amount) {
+        cashRegisterLedgerService.flush();
         CashRegisterEntity entity = getOrCreate();
-        entity.setAmount(amount);
-        return convertToDTO(cashRegisterRepository.save(entity));
+        cashRegisterRepository.overwriteAmount(entity.getId(), amount);
+        return convertToDTO(entity, amount);
     }
 
-    private CashRegisterDTO convertToDTO(CashRegisterEntity entity) {
+    /**
+     * Aplica un delta al monto de la caja con un único UPDATE atómico en SQL
+     * y devuelve el monto resultante.
+     */
+    @Transactional
+    public Double applyDelta(Long id, Double delta) {
+        if (cashRegisterRepository.addToAmount(id, delta) == 0) {
+            throw new ResourceNotFoundException(id, "Caja");
+        }
+        return cashRegisterRepository.findAmountById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(id, "Caja"));
+    }
+
+    /**
+     * El monto se recibe aparte: la entidad no refleja los deltas en memoria ni el UPDATE directo.
+     */
+    private CashRegisterDTO convertToDTO(CashRegisterEntity entity, Double amount) {
         if (entity == null) return null;
         return CashRegisterDTO.builder()
                 .id(entity.getId())
-                .amount(entity.getAmount())
+                .amount(amount)
                 .active(entity.getActive())
                 .build();
     }
 }
-
-
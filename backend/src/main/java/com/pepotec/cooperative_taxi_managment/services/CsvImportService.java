@@ -0,0 +1,173 @@
+package com.pepotec.cooperative_taxi_managment.services;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.csvimport.CsvImportErrorDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.csvimport.CsvImportResultDTO;
+import com.pepotec.cooperative_taxi_managment.services.CsvRecordReader.CsvRecord;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Pipeline de importación de archivos CSV en tramos.
+ *
+ * El archivo se lee línea por línea y se procesa en tramos de CHUNK_SIZE registros: el
+ * handler convierte y valida el tramo, resuelve las referencias con una consulta por tipo
+ * (ver {@link Lookup}) y devuelve las filas listas, que se escriben en lote. En memoria solo
+ * quedan el tramo actual, las referencias ya resueltas y los errores reportados.
+ *
+ * La importación corre en una única transacción: si alguna línea es rechazada se dejan de
+ * escribir tramos (se siguen validando para reportar todos los errores) y al final se
+ * revierte lo escrito.
+ */
+@Service
+public class CsvImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    public <E> CsvImportResultDTO importCsv(InputStream input, Handler<E> handler) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            ImportReport report = new ImportReport();
+            try (CsvRecordReader reader = new CsvRecordReader(input, handler.requiredColumns())) {
+                List<CsvRecord> chunk = new ArrayList<>(CHUNK_SIZE);
+                CsvRecord record;
+                while ((record = reader.next()) != null) {
+                    chunk.add(record);
+                    if (chunk.size() == CHUNK_SIZE) {
+                        processChunk(chunk, handler, report);
+                        chunk.clear();
+                    }
+                }
+                processChunk(chunk, handler, report);
+            }
+
+            if (report.hasErrors()) {
+                status.setRollbackOnly();
+            } else {
+                handler.complete();
+            }
+            return report.toResult();
+        });
+    }
+
+    private <E> void processChunk(List<CsvRecord> chunk, Handler<E> handler, ImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        report.linesRead += chunk.size();
+        List<E> rows = handler.process(chunk, report);
+        if (!report.hasErrors()) {
+            handler.write(rows);
+            report.imported += rows.size();
+        }
+    }
+
+    /**
+     * Lógica específica de cada tipo de archivo. Se crea una instancia por importación,
+     * por lo que puede guardar estado entre tramos (referencias resueltas, acumulados).
+     */
+    public interface Handler<E> {
+
+        /** Columnas que debe tener el encabezado (en minúsculas). */
+        List<String> requiredColumns();
+
+        /**
+         * Convierte y valida un tramo. Las líneas inválidas se informan con
+         * {@link ImportReport#reject} y no se incluyen en el resultado.
+         */
+        List<E> process(List<CsvRecord> chunk, ImportReport report);
+
+        /** Escribe las filas de un tramo sin errores. */
+        void write(List<E> rows);
+
+        /** Se ejecuta al final, solo si no hubo líneas rechazadas. */
+        default void complete() {
+        }
+    }
+
+    /**
+     * Errores por línea de una importación. Guarda los primeros MAX_REPORTED_ERRORS.
+     */
+    public static class ImportReport {
+
+        private final List<CsvImportErrorDTO> errors = new ArrayList<>();
+        private int linesRead;
+        private int imported;
+        private int rejected;
+
+        private ImportReport() {
+        }
+
+        public void reject(int line, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(CsvImportErrorDTO.builder().line(line).message(message).build());
+            }
+        }
+
+        public boolean hasErrors() {
+            return rejected > 0;
+        }
+
+        private CsvImportResultDTO toResult() {
+            return CsvImportResultDTO.builder()
+                .linesRead(linesRead)
+                .imported(hasErrors() ? 0 : imported)
+                .rejected(rejected)
+                .errors(errors)
+                .errorsTruncated(rejected > errors.size())
+                .build();
+        }
+    }
+
+    /**
+     * Referencias de una importación (vehículos por patente, choferes por DNI, etc.)
+     * resueltas en memoria. Cada tramo consulta solo las claves que todavía no se buscaron,
+     * con una consulta IN, y recuerda también las que no existen.
+     */
+    public static class Lookup<K, V> {
+
+        private final Function<Collection<K>, Map<K, V>> loader;
+        private final Map<K, V> found = new HashMap<>();
+        private final Set<K> missing = new HashSet<>();
+
+        public Lookup(Function<Collection<K>, Map<K, V>> loader) {
+            this.loader = loader;
+        }
+
+        public void resolve(Collection<K> keys) {
+            Set<K> pending = keys.stream()
+                .filter(Objects::nonNull)
+                .filter(key -> !found.containsKey(key) && !missing.contains(key))
+                .collect(Collectors.toSet());
+            if (pending.isEmpty()) {
+                return;
+            }
+            found.putAll(loader.apply(pending));
+            pending.stream().filter(key -> !found.containsKey(key)).forEach(missing::add);
+        }
+
+        /**
+         * Valor de una clave ya resuelta, o null si no existe.
+         */
+        public V get(K key) {
+            return key != null ? found.get(key) : null;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.pepotec.cooperative_taxi_managment.services;
+
+import com.pepotec.cooperative_taxi_managment.exceptions.InvalidDataException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Lector de archivos CSV línea por línea: solo mantiene en memoria la línea actual.
+ *
+ * La primera línea es el encabezado con los nombres de columna (sin distinguir mayúsculas).
+ * El separador se detecta en el encabezado: ';' si no contiene comas (exportación de Excel
+ * con configuración regional en español, que además usa coma decimal) y ',' en otro caso.
+ * Admite campos entre comillas dobles con "" como escape; no admite saltos de línea
+ * dentro de un campo. Las líneas vacías se ignoran.
+ */
+public class CsvRecordReader implements Closeable {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final BufferedReader reader;
+    private final char delimiter;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private int lineNumber = 1;
+
+    public CsvRecordReader(InputStream input, List<String> requiredColumns) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String header = readLine();
+        if (header == null) {
+            throw new InvalidDataException("The CSV file is empty");
+        }
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+        this.delimiter = header.indexOf(',') < 0 && header.indexOf(';') >= 0 ? ';' : ',';
+
+        List<String> names = split(header);
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = requiredColumns.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new InvalidDataException("Missing CSV columns: " + String.join(", ", missing));
+        }
+    }
+
+    /**
+     * Devuelve el siguiente registro o null al llegar al final del archivo.
+     */
+    public CsvRecord next() {
+        String line;
+        do {
+            line = readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+        return new CsvRecord(lineNumber, line);
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<String> split(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == delimiter) {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new InvalidDataException("Unclosed quoted field");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    /**
+     * Una línea del archivo con acceso a sus valores por nombre de columna.
+     * Los métodos de conversión lanzan InvalidDataException indicando la columna.
+     */
+    public class CsvRecord {
+
+        private final int lineNumber;
+        private final String line;
+        private List<String> values;
+
+        private CsvRecord(int lineNumber, String line) {
+            this.lineNumber = lineNumber;
+            this.line = line;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        /**
+         * Valor de la columna sin espacios, o null si está vacío.
+         */
+        public String get(String column) {
+            if (values == null) {
+                values = split(line);
+            }
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        public String getRequired(String column) {
+            String value = get(column);
+            if (value == null) {
+                throw new InvalidDataException("Column '" + column + "' cannot be empty");
+            }
+            return value;
+        }
+
+        public Long getLong(String column) {
+            String value = get(column);
+            try {
+                return value != null ? Long.valueOf(value) : null;
+            } catch (NumberFormatException e) {
+                throw invalid(column, value, "an integer");
+            }
+        }
+
+        public Integer getInteger(String column) {
+            String value = get(column);
+            try {
+                return value != null ? Integer.valueOf(value) : null;
+            } catch (NumberFormatException e) {
+                throw invalid(column, value, "an integer");
+            }
+        }
+
+        public Double getDouble(String column) {
+            String value = get(column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Double.valueOf(delimiter == ';' ? value.replace(',', '.') : value);
+            } catch (NumberFormatException e) {
+                throw invalid(column, value, "a number");
+            }
+        }
+
+        /**
+         * Fecha en formato dd/MM/yyyy (el de los DTOs) o ISO yyyy-MM-dd.
+         */
+        public LocalDate getDate(String column) {
+            String value = get(column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return value.indexOf('/') >= 0 ? LocalDate.parse(value, DATE_FORMAT) : LocalDate.parse(value);
+            } catch (DateTimeParseException e) {
+                throw invalid(column, value, "a date (dd/MM/yyyy)");
+            }
+        }
+
+        public <E extends Enum<E>> E getEnum(String column, Class<E> type) {
+            String value = get(column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw invalid(column, value, "one of " + Arrays.toString(type.getEnumConstants()));
+            }
+        }
+
+        private InvalidDataException invalid(String column, String value, String expected) {
+            return new InvalidDataException("Column '" + column + "': '" + value + "' is not " + expected);
+        }
+    }
+}
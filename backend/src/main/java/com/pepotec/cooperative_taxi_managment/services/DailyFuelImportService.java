@@ -0,0 +1,257 @@
+package com.pepotec.cooperative_taxi_managment.services;
+
+import com.pepotec.cooperative_taxi_managment.exceptions.InvalidDataException;
+import com.pepotec.cooperative_taxi_managment.models.dto.csvimport.CsvImportResultDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.dailyfuel.DailyFuelCreateDTO;
+import com.pepotec.cooperative_taxi_managment.models.entities.DailyFuelEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.DriverEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.DriverSettlementEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.VehicleEntity;
+import com.pepotec.cooperative_taxi_managment.models.enums.FuelType;
+import com.pepotec.cooperative_taxi_managment.repositories.DailyFuelBatchRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.DailyFuelRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.DriverRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.DriverSettlementRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.VehicleRepository;
+import com.pepotec.cooperative_taxi_managment.services.CsvImportService.ImportReport;
+import com.pepotec.cooperative_taxi_managment.services.CsvImportService.Lookup;
+import com.pepotec.cooperative_taxi_managment.services.CsvRecordReader.CsvRecord;
+import com.pepotec.cooperative_taxi_managment.validators.DailyFuelValidator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Importación de combustibles diarios desde CSV.
+ *
+ * Columnas: driver_dni, license_plate, settlement_id, ticket_issue_date, submission_date,
+ * amount y fuel_type (obligatorias), cooperative_percentage y driver_percentage. El chofer se
+ * identifica por DNI y el vehículo por patente.
+ *
+ * Aplica las mismas reglas que el alta individual: sin porcentajes se usan los del último
+ * registro del chofer con el mismo combustible (incluidos los anteriores del archivo) o 50/50,
+ * y el crédito del chofer se acumula en su reintegro de combustible, una vez por chofer.
+ */
+@Service
+public class DailyFuelImportService {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("driver_dni", "license_plate", "settlement_id",
+        "ticket_issue_date", "submission_date", "amount", "fuel_type");
+
+    @Autowired
+    private CsvImportService csvImportService;
+
+    @Autowired
+    private DailyFuelValidator dailyFuelValidator;
+
+    @Autowired
+    private DriverRepository driverRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private DriverSettlementRepository driverSettlementRepository;
+
+    @Autowired
+    private DailyFuelRepository dailyFuelRepository;
+
+    @Autowired
+    private DailyFuelBatchRepository dailyFuelBatchRepository;
+
+    @Autowired
+    private DailyFuelService dailyFuelService;
+
+    @Autowired
+    private DriverFuelSplitService driverFuelSplitService;
+
+    public CsvImportResultDTO importDailyFuels(InputStream input) {
+        return csvImportService.importCsv(input, new DailyFuelImportHandler());
+    }
+
+    private class DailyFuelImportHandler implements CsvImportService.Handler<DailyFuelEntity> {
+
+        private final Lookup<String, DriverEntity> drivers = new Lookup<>(dnis ->
+            driverRepository.findByDniInAndLeaveDateIsNull(dnis).stream()
+                .collect(Collectors.toMap(DriverEntity::getDni, Function.identity())));
+
+        private final Lookup<String, VehicleEntity> vehicles = new Lookup<>(plates ->
+            vehicleRepository.findByLicensePlateIn(plates).stream()
+                .collect(Collectors.toMap(vehicle -> normalizePlate(vehicle.getLicensePlate()), Function.identity())));
+
+        private final Lookup<Long, DriverSettlementEntity> settlements = new Lookup<>(ids ->
+            driverSettlementRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(DriverSettlementEntity::getId, Function.identity())));
+
+        /** Último registro por chofer y combustible, para los porcentajes por defecto */
+        private final Map<Long, Map<FuelType, LatestSplit>> latestSplits = new HashMap<>();
+
+        /** Crédito de combustible acumulado por chofer en el archivo */
+        private final Map<Long, Double> driverCredits = new HashMap<>();
+
+        @Override
+        public List<String> requiredColumns() {
+            return REQUIRED_COLUMNS;
+        }
+
+        @Override
+        public List<DailyFuelEntity> process(List<CsvRecord> chunk, ImportReport report) {
+            List<ParsedDailyFuel> parsed = new ArrayList<>(chunk.size());
+            for (CsvRecord record : chunk) {
+                try {
+                    parsed.add(parse(record));
+                } catch (InvalidDataException e) {
+                    report.reject(record.getLineNumber(), e.getMessage());
+                }
+            }
+
+            drivers.resolve(parsed.stream().map(dailyFuel -> dailyFuel.driverDni).collect(Collectors.toSet()));
+            vehicles.resolve(parsed.stream().map(dailyFuel -> dailyFuel.licensePlate).collect(Collectors.toSet()));
+            settlements.resolve(parsed.stream().map(dailyFuel -> dailyFuel.settlementId).collect(Collectors.toSet()));
+            loadLatestSplits(parsed.stream()
+                .map(dailyFuel -> drivers.get(dailyFuel.driverDni))
+                .filter(driver -> driver != null && !latestSplits.containsKey(driver.getId()))
+                .map(DriverEntity::getId)
+                .collect(Collectors.toSet()));
+
+            List<DailyFuelEntity> rows = new ArrayList<>(parsed.size());
+            for (ParsedDailyFuel dailyFuel : parsed) {
+                DriverEntity driver = drivers.get(dailyFuel.driverDni);
+                VehicleEntity vehicle = vehicles.get(dailyFuel.licensePlate);
+                DriverSettlementEntity settlement = settlements.get(dailyFuel.settlementId);
+                if (driver == null) {
+                    report.reject(dailyFuel.line, "Active driver with DNI " + dailyFuel.driverDni + " not found");
+                } else if (vehicle == null) {
+                    report.reject(dailyFuel.line, "Vehicle with license plate " + dailyFuel.licensePlate + " not found");
+                } else if (settlement == null) {
+                    report.reject(dailyFuel.line, "Settlement " + dailyFuel.settlementId + " not found");
+                } else {
+                    rows.add(toEntity(dailyFuel.dailyFuel, driver, vehicle, settlement));
+                }
+            }
+            return rows;
+        }
+
+        @Override
+        public void write(List<DailyFuelEntity> rows) {
+            dailyFuelBatchRepository.insertAll(rows);
+        }
+
+        @Override
+        public void complete() {
+            driverCredits.forEach((driverId, credit) -> {
+                if (credit > 0) {
+                    dailyFuelService.accumulateDriverFuelCredit(driverId, null, credit);
+                }
+            });
+            driverFuelSplitService.onChangedDrivers(latestSplits.keySet());
+        }
+
+        private ParsedDailyFuel parse(CsvRecord record) {
+            DailyFuelCreateDTO dailyFuel = DailyFuelCreateDTO.builder()
+                .ticketIssueDate(record.getDate("ticket_issue_date"))
+                .submissionDate(record.getDate("submission_date"))
+                .amount(record.getDouble("amount"))
+                .fuelType(record.getEnum("fuel_type", FuelType.class))
+                .cooperativePercentage(record.getDouble("cooperative_percentage"))
+                .driverPercentage(record.getDouble("driver_percentage"))
+                .build();
+            dailyFuelValidator.validateDailyFuelCreateFields(dailyFuel);
+
+            ParsedDailyFuel parsed = new ParsedDailyFuel();
+            parsed.line = record.getLineNumber();
+            parsed.driverDni = record.getRequired("driver_dni");
+            parsed.licensePlate = normalizePlate(record.getRequired("license_plate"));
+            parsed.settlementId = record.getLong("settlement_id");
+            dailyFuelValidator.validateSettlementIdNotNull(parsed.settlementId);
+            parsed.dailyFuel = dailyFuel;
+            return parsed;
+        }
+
+        private void loadLatestSplits(Set<Long> driverIds) {
+            if (driverIds.isEmpty()) {
+                return;
+            }
+            driverIds.forEach(driverId -> latestSplits.put(driverId, new EnumMap<>(FuelType.class)));
+            for (DailyFuelEntity latest : dailyFuelRepository.findLatestByDriverIdIn(driverIds)) {
+                recordSplit(latest.getDriver().getId(), latest);
+            }
+        }
+
+        /**
+         * Completa los porcentajes (ver DailyFuelService.assignDefaultPercentages), registra el
+         * registro como el último del chofer si corresponde y acumula el crédito del chofer.
+         */
+        private DailyFuelEntity toEntity(DailyFuelCreateDTO dailyFuel, DriverEntity driver,
+                                         VehicleEntity vehicle, DriverSettlementEntity settlement) {
+            DailyFuelEntity entity = DailyFuelEntity.builder()
+                .driver(driver)
+                .vehicle(vehicle)
+                .settlement(settlement)
+                .ticketIssueDate(dailyFuel.getTicketIssueDate())
+                .submissionDate(dailyFuel.getSubmissionDate())
+                .amount(dailyFuel.getAmount())
+                .fuelType(dailyFuel.getFuelType())
+                .cooperativePercentage(dailyFuel.getCooperativePercentage())
+                .driverPercentage(dailyFuel.getDriverPercentage())
+                .build();
+
+            if (entity.getCooperativePercentage() == null || entity.getDriverPercentage() == null) {
+                LatestSplit latest = latestSplits.get(driver.getId()).get(entity.getFuelType());
+                boolean hasSplit = latest != null && latest.cooperativePercentage != null && latest.driverPercentage != null;
+                entity.setCooperativePercentage(hasSplit ? latest.cooperativePercentage : 50.0);
+                entity.setDriverPercentage(hasSplit ? latest.driverPercentage : 50.0);
+            }
+            recordSplit(driver.getId(), entity);
+
+            if (entity.getDriverPercentage() > 0) {
+                driverCredits.merge(driver.getId(), entity.getAmount() * (entity.getDriverPercentage() / 100.0), Double::sum);
+            }
+            return entity;
+        }
+
+        private void recordSplit(Long driverId, DailyFuelEntity dailyFuel) {
+            Map<FuelType, LatestSplit> byFuelType = latestSplits.get(driverId);
+            LatestSplit current = byFuelType.get(dailyFuel.getFuelType());
+            if (current == null || !dailyFuel.getTicketIssueDate().isBefore(current.ticketIssueDate)) {
+                byFuelType.put(dailyFuel.getFuelType(), new LatestSplit(dailyFuel.getTicketIssueDate(),
+                    dailyFuel.getCooperativePercentage(), dailyFuel.getDriverPercentage()));
+            }
+        }
+    }
+
+    private static String normalizePlate(String licensePlate) {
+        return licensePlate.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static class ParsedDailyFuel {
+        private int line;
+        private String driverDni;
+        private String licensePlate;
+        private Long settlementId;
+        private DailyFuelCreateDTO dailyFuel;
+    }
+
+    private static class LatestSplit {
+        private final LocalDate ticketIssueDate;
+        private final Double cooperativePercentage;
+        private final Double driverPercentage;
+
+        private LatestSplit(LocalDate ticketIssueDate, Double cooperativePercentage, Double driverPercentage) {
+            this.ticketIssueDate = ticketIssueDate;
+            this.cooperativePercentage = cooperativePercentage;
+            this.driverPercentage = driverPercentage;
+        }
+    }
+}
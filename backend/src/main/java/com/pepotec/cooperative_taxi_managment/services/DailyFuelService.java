@@ -3,8 +3,10 @@ package com.pepotec.cooperative_taxi_managment.services;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.pepotec.cooperative_taxi_managment.models.dto.dailyfuel.DailyFuelDTO;
 import com.pepotec.cooperative_taxi_managment.models.dto.dailyfuel.DailyFuelCreateDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.page.KeysetPageDTO;
 import com.pepotec.cooperative_taxi_managment.models.entities.DailyFuelEntity;
 import com.pepotec.cooperative_taxi_managment.models.entities.DriverEntity;
 import com.pepotec.cooperative_taxi_managment.models.entities.VehicleEntity;
@@ -23,6 +25,9 @@ public class DailyFuelService {
     @Autowired
     private DailyFuelRepository dailyFuelRepository;
 
+    @Autowired
+    private KeysetListingService keysetListingService;
+
     @Autowired
     private DriverService driverService;
 
@@ -41,6 +46,12 @@ public class DailyFuelService {
     @Autowired
     private MemberAccountService memberAccountService;
 
+    @Autowired
+    private BatchDtoAssembler batchDtoAssembler;
+
+    @Autowired
+    private DriverFuelSplitService driverFuelSplitService;
+
     @Transactional
     public DailyFuelDTO createDailyFuel(Long driverId, Long vehicleId, Long settlementId, DailyFuelCreateDTO dailyFuel) {
         dailyFuelValidator.validateDailyFuelCreateFields(dailyFuel);
@@ -61,92 +72,101 @@ public class DailyFuelService {
 
         // Guardar el DailyFuel
         dailyFuelEntity = dailyFuelRepository.save(dailyFuelEntity);
+        driverFuelSplitService.onCreated(dailyFuelEntity);
 
         // Acumular crédito del chofer si hay porcentaje del chofer
         if (dailyFuelEntity.getDriverPercentage() != null && dailyFuelEntity.getDriverPercentage() > 0) {
-            accumulateDriverFuelCredit(driverId, dailyFuelEntity.getAmount(), dailyFuelEntity.getDriverPercentage());
+            accumulateDriverFuelCredit(driverId, dailyFuelEntity.getId(),
+                dailyFuelEntity.getAmount(), dailyFuelEntity.getDriverPercentage());
         }
 
         return convertToDTO(dailyFuelEntity);
     }
 
+    @Transactional(readOnly = true)
     public DailyFuelDTO getDailyFuelById(Long id) {
         DailyFuelEntity dailyFuel = dailyFuelRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(id, "Combustible Diario"));
         return convertToDTO(dailyFuel);
     }
 
+    @Transactional(readOnly = true)
     public List<DailyFuelDTO> getAllDailyFuels() {
-        return dailyFuelRepository.findAll().stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(dailyFuelRepository.findAll());
+    }
+
+    /**
+     * Página de combustibles diarios ordenada por ID, a partir del último ID recibido.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<DailyFuelDTO> getDailyFuelsPage(Long afterId, Integer size) {
+        return keysetListingService.page(afterId, size,
+            dailyFuelRepository::findByIdGreaterThanOrderByIdAsc, DailyFuelEntity::getId, this::convertToDTOs);
     }
 
+    /**
+     * Exporta todos los registros como NDJSON, leyendo la tabla como Stream.
+     */
+    public StreamingResponseBody streamAllDailyFuels() {
+        return keysetListingService.ndjson(dailyFuelRepository::streamAllByOrderByIdAsc, this::convertToDTOs);
+    }
+
+    @Transactional(readOnly = true)
     public List<DailyFuelDTO> getDailyFuelsByVehicle(Long vehicleId) {
         dailyFuelValidator.validateVehicleIdNotNull(vehicleId);
-        return dailyFuelRepository.findByVehicleId(vehicleId).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(dailyFuelRepository.findByVehicleId(vehicleId));
     }
 
+    @Transactional(readOnly = true)
     public List<DailyFuelDTO> getDailyFuelsByDriver(Long driverId) {
         dailyFuelValidator.validateDriverIdNotNull(driverId);
-        return dailyFuelRepository.findByDriverId(driverId).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(dailyFuelRepository.findByDriverId(driverId));
     }
 
+    @Transactional(readOnly = true)
     public List<DailyFuelDTO> getDailyFuelsByTicketIssueDateRange(LocalDate startDate, LocalDate endDate) {
         dailyFuelValidator.validateDateRange(startDate, endDate);
-        return dailyFuelRepository.findByTicketIssueDateBetween(startDate, endDate).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(dailyFuelRepository.findByTicketIssueDateBetween(startDate, endDate));
     }
 
+    @Transactional(readOnly = true)
     public List<DailyFuelDTO> getDailyFuelsBySubmissionDateRange(LocalDate startDate, LocalDate endDate) {
         dailyFuelValidator.validateDateRange(startDate, endDate);
-        return dailyFuelRepository.findBySubmissionDateBetween(startDate, endDate).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(dailyFuelRepository.findBySubmissionDateBetween(startDate, endDate));
     }
 
+    @Transactional(readOnly = true)
     public List<DailyFuelDTO> getDailyFuelsByFuelType(FuelType fuelType) {
         dailyFuelValidator.validateFuelTypeNotNull(fuelType);
-        return dailyFuelRepository.findByFuelType(fuelType).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(dailyFuelRepository.findByFuelType(fuelType));
     }
 
+    @Transactional(readOnly = true)
     public List<DailyFuelDTO> getDailyFuelsByVehicleAndTicketIssueDateRange(Long vehicleId, LocalDate startDate, LocalDate endDate) {
         dailyFuelValidator.validateVehicleIdNotNull(vehicleId);
         dailyFuelValidator.validateDateRange(startDate, endDate);
-        return dailyFuelRepository.findByVehicleIdAndTicketIssueDateBetween(vehicleId, startDate, endDate).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(dailyFuelRepository.findByVehicleIdAndTicketIssueDateBetween(vehicleId, startDate, endDate));
     }
 
+    @Transactional(readOnly = true)
     public List<DailyFuelDTO> getDailyFuelsByDriverAndTicketIssueDateRange(Long driverId, LocalDate startDate, LocalDate endDate) {
         dailyFuelValidator.validateDriverIdNotNull(driverId);
         dailyFuelValidator.validateDateRange(startDate, endDate);
-        return dailyFuelRepository.findByDriverIdAndTicketIssueDateBetween(driverId, startDate, endDate).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(dailyFuelRepository.findByDriverIdAndTicketIssueDateBetween(driverId, startDate, endDate));
     }
 
+    @Transactional(readOnly = true)
     public List<DailyFuelDTO> getDailyFuelsByVehicleAndFuelType(Long vehicleId, FuelType fuelType) {
         dailyFuelValidator.validateVehicleIdNotNull(vehicleId);
         dailyFuelValidator.validateFuelTypeNotNull(fuelType);
-        return dailyFuelRepository.findByVehicleIdAndFuelType(vehicleId, fuelType).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(dailyFuelRepository.findByVehicleIdAndFuelType(vehicleId, fuelType));
     }
 
+    @Transactional(readOnly = true)
     public List<DailyFuelDTO> getDailyFuelsByDriverAndFuelType(Long driverId, FuelType fuelType) {
         dailyFuelValidator.validateDriverIdNotNull(driverId);
         dailyFuelValidator.validateFuelTypeNotNull(fuelType);
-        return dailyFuelRepository.findByDriverIdAndFuelType(driverId, fuelType).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(dailyFuelRepository.findByDriverIdAndFuelType(driverId, fuelType));
     }
 
     @Transactional
@@ -158,6 +178,9 @@ public class DailyFuelService {
 
         dailyFuelValidator.validateDailyFuelSpecificFields(dailyFuel);
 
+        // El registro puede dejar de ser el último del chofer/combustible anterior
+        driverFuelSplitService.onChanged(dailyFuelEntity.getDriver().getId(), dailyFuelEntity.getFuelType());
+
         DriverEntity driver = driverService.getDriverEntityById(dailyFuel.getDriver().getId());
         VehicleEntity vehicle = vehicleService.getVehicleEntityById(dailyFuel.getVehicle().getId());
 
@@ -177,9 +200,12 @@ public class DailyFuelService {
             dailyFuelEntity.setSettlement(null);
         }
 
-        return convertToDTO(dailyFuelRepository.save(dailyFuelEntity));
+        DailyFuelEntity saved = dailyFuelRepository.save(dailyFuelEntity);
+        driverFuelSplitService.onChanged(saved.getDriver().getId(), saved.getFuelType());
+        return convertToDTO(saved);
     }
 
+    @Transactional
     public void deleteDailyFuel(Long id) {
         dailyFuelValidator.validateIdNotNull(id);
 
@@ -187,11 +213,13 @@ public class DailyFuelService {
             .orElseThrow(() -> new ResourceNotFoundException(id, "Combustible Diario"));
 
         dailyFuelRepository.delete(dailyFuel);
+        driverFuelSplitService.onChanged(dailyFuel.getDriver().getId(), dailyFuel.getFuelType());
     }
 
     /**
      * Asigna porcentajes por defecto si no se especificaron.
-     * Busca el último DailyFuel del mismo tipo para ese chofer, si no existe usa 50/50.
+     * Usa los del último DailyFuel del mismo tipo para ese chofer (ver DriverFuelSplitService),
+     * si no existe usa 50/50.
      */
     private void assignDefaultPercentages(DailyFuelEntity dailyFuelEntity, Long driverId, FuelType fuelType) {
         // Si ya tiene porcentajes asignados, no hacer nada
@@ -199,15 +227,12 @@ public class DailyFuelService {
             return;
         }
 
-        // Buscar el último DailyFuel del mismo tipo para ese chofer
-        var lastDailyFuel = dailyFuelRepository.findFirstByDriverIdAndFuelTypeOrderByTicketIssueDateDesc(driverId, fuelType);
+        DriverFuelSplitService.FuelSplit lastSplit = driverFuelSplitService.getLatestSplit(driverId, fuelType);
 
-        if (lastDailyFuel.isPresent() && 
-            lastDailyFuel.get().getCooperativePercentage() != null && 
-            lastDailyFuel.get().getDriverPercentage() != null) {
+        if (lastSplit != null) {
             // Usar los porcentajes del último DailyFuel del mismo tipo
-            dailyFuelEntity.setCooperativePercentage(lastDailyFuel.get().getCooperativePercentage());
-            dailyFuelEntity.setDriverPercentage(lastDailyFuel.get().getDriverPercentage());
+            dailyFuelEntity.setCooperativePercentage(lastSplit.getCooperativePercentage());
+            dailyFuelEntity.setDriverPercentage(lastSplit.getDriverPercentage());
         } else {
             // Usar 50/50 por defecto
             dailyFuelEntity.setCooperativePercentage(50.0);
@@ -218,16 +243,22 @@ public class DailyFuelService {
     /**
      * Acumula el crédito de combustible del chofer en su FuelReimbursement.
      */
-    private void accumulateDriverFuelCredit(Long driverId, Double amount, Double driverPercentage) {
+    private void accumulateDriverFuelCredit(Long driverId, Long dailyFuelId, Double amount, Double driverPercentage) {
+        // Calcular el crédito del chofer
+        accumulateDriverFuelCredit(driverId, dailyFuelId, amount * (driverPercentage / 100.0));
+    }
+
+    /**
+     * Acumula un crédito ya calculado (la importación CSV suma los de cada chofer y llama una vez,
+     * sin dailyFuelId). Se registra como un crédito nuevo: no se lee ni modifica el FuelReimbursement.
+     */
+    void accumulateDriverFuelCredit(Long driverId, Long dailyFuelId, Double driverCredit) {
         try {
             // Obtener la cuenta del chofer (Driver extiende Member, así que tiene MemberAccount)
-            var memberAccount = memberAccountService.getMemberAccountByMemberId(driverId);
-            
-            // Calcular el crédito del chofer
-            Double driverCredit = amount * (driverPercentage / 100.0);
+            Long memberAccountId = memberAccountService.getMemberAccountIdByMemberId(driverId);
             
             // Acumular en FuelReimbursement
-            fuelReimbursementService.accumulateFuelCredit(memberAccount.getId(), driverCredit);
+            fuelReimbursementService.recordFuelCredit(memberAccountId, driverCredit, dailyFuelId);
         } catch (ResourceNotFoundException e) {
             // Si no existe la cuenta, no acumular (no debería pasar, pero por seguridad)
             // Log podría ir aquí en producción
@@ -266,6 +297,35 @@ public class DailyFuelService {
         return entity;
     }
 
+    /**
+     * Convierte un listado completo cargando choferes, vehículos y rendiciones
+     * con una consulta por tipo (ver BatchDtoAssembler) en lugar de varias por fila.
+     */
+    private List<DailyFuelDTO> convertToDTOs(List<DailyFuelEntity> dailyFuels) {
+        BatchDtoAssembler.Lookup lookup = batchDtoAssembler.prefetch(
+            dailyFuels.stream().map(dailyFuel -> dailyFuel.getDriver().getId()).collect(Collectors.toSet()),
+            dailyFuels.stream().map(dailyFuel -> dailyFuel.getVehicle().getId()).collect(Collectors.toSet()),
+            dailyFuels.stream()
+                .filter(dailyFuel -> dailyFuel.getSettlement() != null)
+                .map(dailyFuel -> dailyFuel.getSettlement().getId())
+                .collect(Collectors.toSet()));
+
+        return dailyFuels.stream()
+            .map(dailyFuel -> DailyFuelDTO.builder()
+                .id(dailyFuel.getId())
+                .driver(lookup.driver(dailyFuel.getDriver().getId()))
+                .vehicle(lookup.vehicle(dailyFuel.getVehicle().getId()))
+                .settlement(dailyFuel.getSettlement() != null ? lookup.settlement(dailyFuel.getSettlement().getId()) : null)
+                .ticketIssueDate(dailyFuel.getTicketIssueDate())
+                .submissionDate(dailyFuel.getSubmissionDate())
+                .amount(dailyFuel.getAmount())
+                .fuelType(dailyFuel.getFuelType())
+                .cooperativePercentage(dailyFuel.getCooperativePercentage())
+                .driverPercentage(dailyFuel.getDriverPercentage())
+                .build())
+            .collect(Collectors.toList());
+    }
+
     private DailyFuelDTO convertToDTO(DailyFuelEntity dailyFuel) {
         if (dailyFuel == null) {
             return null;
@@ -0,0 +1,171 @@
+package com.pepotec.cooperative_taxi_managment.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pepotec.cooperative_taxi_managment.models.entities.DailyFuelEntity;
+import com.pepotec.cooperative_taxi_managment.models.enums.FuelType;
+import com.pepotec.cooperative_taxi_managment.repositories.DailyFuelRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Último reparto de combustible (porcentajes cooperativa / chofer) por chofer y tipo de
+ * combustible, usado como valor por defecto al cargar combustible sin porcentajes.
+ *
+ * Se mantiene en un caché en memoria (Caffeine) que se carga desde daily_fuel con el índice
+ * (id_driver, fuel_type, ticket_issue_date) y se actualiza al confirmarse cada alta,
+ * modificación o baja de un DailyFuel. Las altas solo reemplazan la entrada si su fecha de
+ * emisión no es anterior; las modificaciones y bajas invalidan las claves afectadas. Las
+ * actualizaciones se aplican con compute sobre la clave, por lo que una carga en curso no
+ * pisa un cambio confirmado mientras tanto. El vencimiento acota cualquier desfasaje con
+ * cambios hechos fuera de la aplicación.
+ */
+@Service
+public class DriverFuelSplitService {
+
+    private static final FuelSplit NO_HISTORY = new FuelSplit(null, null, null);
+
+    @Autowired
+    private DailyFuelRepository dailyFuelRepository;
+
+    @Value("${fuel-split.cache.max-entries:10000}")
+    private long maxEntries;
+
+    @Value("${fuel-split.cache.ttl-minutes:60}")
+    private long ttlMinutes;
+
+    private Cache<SplitKey, FuelSplit> latestSplits;
+
+    @PostConstruct
+    void initCache() {
+        latestSplits = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .build();
+    }
+
+    /**
+     * Último reparto del chofer para el combustible, o null si no tiene cargas con porcentajes.
+     */
+    public FuelSplit getLatestSplit(Long driverId, FuelType fuelType) {
+        FuelSplit split = latestSplits.get(new SplitKey(driverId, fuelType), this::load);
+        return split.hasPercentages() ? split : null;
+    }
+
+    /**
+     * Registra una carga nueva: al confirmarse la transacción pasa a ser el último reparto
+     * si su fecha de emisión no es anterior a la del caché.
+     */
+    public void onCreated(DailyFuelEntity dailyFuel) {
+        SplitKey key = new SplitKey(dailyFuel.getDriver().getId(), dailyFuel.getFuelType());
+        FuelSplit split = new FuelSplit(dailyFuel.getTicketIssueDate(),
+            dailyFuel.getCooperativePercentage(), dailyFuel.getDriverPercentage());
+        afterCommit(() -> latestSplits.asMap().computeIfPresent(key, (ignored, current) ->
+            current.ticketIssueDate == null || !split.ticketIssueDate.isBefore(current.ticketIssueDate) ? split : current));
+    }
+
+    /**
+     * Invalida, al confirmarse la transacción, el reparto de las claves afectadas por una
+     * modificación o baja (la próxima consulta lo recalcula desde la base).
+     */
+    public void onChanged(Long driverId, FuelType fuelType) {
+        SplitKey key = new SplitKey(driverId, fuelType);
+        afterCommit(() -> latestSplits.invalidate(key));
+    }
+
+    /**
+     * Invalida todos los combustibles de los choferes indicados (cargas masivas).
+     */
+    public void onChangedDrivers(Collection<Long> driverIds) {
+        for (Long driverId : driverIds) {
+            for (FuelType fuelType : FuelType.values()) {
+                onChanged(driverId, fuelType);
+            }
+        }
+    }
+
+    private FuelSplit load(SplitKey key) {
+        return dailyFuelRepository
+            .findFirstByDriverIdAndFuelTypeOrderByTicketIssueDateDescIdDesc(key.driverId, key.fuelType)
+            .map(latest -> new FuelSplit(latest.getTicketIssueDate(),
+                latest.getCooperativePercentage(), latest.getDriverPercentage()))
+            .orElse(NO_HISTORY);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Reparto de una carga de combustible (ticketIssueDate null: el chofer no tiene cargas).
+     */
+    public static class FuelSplit {
+
+        private final LocalDate ticketIssueDate;
+        private final Double cooperativePercentage;
+        private final Double driverPercentage;
+
+        private FuelSplit(LocalDate ticketIssueDate, Double cooperativePercentage, Double driverPercentage) {
+            this.ticketIssueDate = ticketIssueDate;
+            this.cooperativePercentage = cooperativePercentage;
+            this.driverPercentage = driverPercentage;
+        }
+
+        public Double getCooperativePercentage() {
+            return cooperativePercentage;
+        }
+
+        public Double getDriverPercentage() {
+            return driverPercentage;
+        }
+
+        private boolean hasPercentages() {
+            return cooperativePercentage != null && driverPercentage != null;
+        }
+    }
+
+    private static final class SplitKey {
+
+        private final Long driverId;
+        private final FuelType fuelType;
+
+        private SplitKey(Long driverId, FuelType fuelType) {
+            this.driverId = driverId;
+            this.fuelType = fuelType;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof SplitKey key)) {
+                return false;
+            }
+            return Objects.equals(driverId, key.driverId) && fuelType == key.fuelType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(driverId, fuelType);
+        }
+    }
+}
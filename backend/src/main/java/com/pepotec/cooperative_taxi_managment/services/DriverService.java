@@ -1,6 +1,7 @@
 package com.pepotec.cooperative_taxi_managment.services;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.pepotec.cooperative_taxi_managment.models.dto.person.member.driver.DriverDTO;
 import com.pepotec.cooperative_taxi_managment.models.entities.DriverEntity;
 import com.pepotec.cooperative_taxi_managment.repositories.DriverRepository;
@@ -41,6 +42,7 @@ public class DriverService {
     @Autowired
     private MemberAccountService memberAccountService;
     
+    @Transactional
     public DriverDTO createDriver(DriverDTO driver) {
         // Validar datos básicos de Person
         personValidator.validatePersonData(driver);
@@ -73,12 +75,14 @@ public class DriverService {
         return convertToDTO(driverSaved);
     }
 
+    @Transactional(readOnly = true)
     public DriverDTO getDriverById(Long id) {
         DriverEntity driver = driverRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(id, "Conductor"));
         return convertToDTO(driver);
     }
 
+    @Transactional(readOnly = true)
     public DriverDTO getDriverByDni(String dni) {
         driverValidator.validateDniNotEmpty(dni);
         
@@ -87,12 +91,14 @@ public class DriverService {
         return convertToDTO(driver);
     }
 
+    @Transactional(readOnly = true)
     public List<DriverDTO> getAllDrivers() {
         return driverRepository.findAll().stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<DriverDTO> getAllDriversActive() {
         return driverRepository.findAll().stream()
             .filter(driver -> driver.getLeaveDate() == null)
@@ -100,6 +106,7 @@ public class DriverService {
             .collect(Collectors.toList());
     }
 
+    @Transactional
     public DriverDTO updateDriver(DriverDTO driver) {
         driverValidator.validateIdNotNullForUpdate(driver.getId());
         
@@ -125,6 +132,7 @@ public class DriverService {
         return convertToDTO(driverRepository.save(driverSaved));
     }
 
+    @Transactional
     public void deleteDriver(Long id) {
         driverValidator.validateIdNotNullForUpdate(id);
 
@@ -140,6 +148,7 @@ public class DriverService {
         driverRepository.save(driverSaved);
     }
 
+    @Transactional
     public void deleteDriver(Long id, LocalDate leaveDate) {
         driverValidator.validateIdNotNullForUpdate(id);
 
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.pepotec.cooperative_taxi_managment.models.dto.driversettlement.DriverSettlementDTO;
 import com.pepotec.cooperative_taxi_managment.models.dto.driversettlement.DriverSettlementCreateDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.person.member.driver.DriverDTO;
 import com.pepotec.cooperative_taxi_managment.models.entities.DriverSettlementEntity;
 import com.pepotec.cooperative_taxi_managment.models.entities.DriverEntity;
 import com.pepotec.cooperative_taxi_managment.repositories.DriverSettlementRepository;
@@ -44,18 +45,21 @@ public class DriverSettlementService {
         return convertToDTO(driverSettlementRepository.save(settlementEntity));
     }
 
+    @Transactional(readOnly = true)
     public DriverSettlementDTO getDriverSettlementById(Long id) {
         DriverSettlementEntity settlement = driverSettlementRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(id, "Rendición de Chofer"));
         return convertToDTO(settlement);
     }
 
+    @Transactional(readOnly = true)
     public List<DriverSettlementDTO> getAllDriverSettlements() {
         return driverSettlementRepository.findAll().stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<DriverSettlementDTO> getDriverSettlementsByDriver(Long driverId) {
         driverSettlementValidator.validateDriverIdNotNull(driverId);
         return driverSettlementRepository.findByDriverId(driverId).stream()
@@ -63,6 +67,7 @@ public class DriverSettlementService {
             .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<DriverSettlementDTO> getDriverSettlementsBySubmissionDate(LocalDate submissionDate) {
         driverSettlementValidator.validateSubmissionDateNotNull(submissionDate);
         return driverSettlementRepository.findBySubmissionDate(submissionDate).stream()
@@ -70,6 +75,7 @@ public class DriverSettlementService {
             .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<DriverSettlementDTO> getDriverSettlementsBySubmissionDateRange(LocalDate startDate, LocalDate endDate) {
         driverSettlementValidator.validateDateRange(startDate, endDate);
         return driverSettlementRepository.findBySubmissionDateBetween(startDate, endDate).stream()
@@ -77,6 +83,7 @@ public class DriverSettlementService {
             .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<DriverSettlementDTO> getDriverSettlementsByDriverAndSubmissionDateRange(Long driverId, LocalDate startDate, LocalDate endDate) {
         driverSettlementValidator.validateDriverIdNotNull(driverId);
         driverSettlementValidator.validateDateRange(startDate, endDate);
@@ -106,6 +113,7 @@ public class DriverSettlementService {
         return convertToDTO(driverSettlementRepository.save(settlementEntity));
     }
 
+    @Transactional
     public void deleteDriverSettlement(Long id) {
         driverSettlementValidator.validateIdNotNull(id);
 
@@ -117,7 +125,7 @@ public class DriverSettlementService {
 
     /**
      * Calcula el total de tickets asociados a una rendición.
-     * Suma todos los montos de los tickets de taxi que pertenecen a esta rendición.
+     * Suma todos los montos de los tickets de taxi que pertenecen a esta rendición (SUM en la base).
      */
     public Double calculateTotalTickets(Long settlementId) {
         driverSettlementValidator.validateSettlementIdNotNullForCalculation(settlementId);
@@ -126,10 +134,8 @@ public class DriverSettlementService {
         driverSettlementRepository.findById(settlementId)
             .orElseThrow(() -> new ResourceNotFoundException(settlementId, "Rendición de Chofer"));
 
-        // Sumar todos los montos de los tickets asociados a esta rendición usando el servicio
-        return ticketTaxiService.getTicketTaxisBySettlement(settlementId).stream()
-            .mapToDouble(ticket -> ticket.getAmount() != null ? ticket.getAmount() : 0.0)
-            .sum();
+        // Sumar los montos de los tickets de la rendición con una consulta agregada
+        return ticketTaxiService.getTotalsBySettlement(settlementId).getTotalAmount();
     }
 
     /**
@@ -183,10 +189,18 @@ public class DriverSettlementService {
             return null;
         }
 
+        return convertToDTO(settlement, driverService.getDriverById(settlement.getDriver().getId()));
+    }
+
+    /**
+     * Convierte la rendición reutilizando un DriverDTO ya armado (usado por BatchDtoAssembler
+     * para no volver a convertir el mismo chofer en cada fila de un listado).
+     */
+    DriverSettlementDTO convertToDTO(DriverSettlementEntity settlement, DriverDTO driver) {
         return DriverSettlementDTO.builder()
             .id(settlement.getId())
             .driverId(settlement.getDriver().getId())
-            .driver(driverService.getDriverById(settlement.getDriver().getId()))
+            .driver(driver)
             .ticketAmount(settlement.getTicketAmount())
             .voucherAmount(settlement.getVoucherAmount())
             .voucherDifference(settlement.getVoucherDifference())
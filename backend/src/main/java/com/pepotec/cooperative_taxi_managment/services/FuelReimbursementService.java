@@ -4,31 +4,57 @@ import com.pepotec.cooperative_taxi_managment.exceptions.InvalidDataException;
 import com.pepotec.cooperative_taxi_managment.exceptions.ResourceNotFoundException;
 import com.pepotec.cooperative_taxi_managment.models.dto.fuelreimbursement.FuelReimbursementDTO;
 import com.pepotec.cooperative_taxi_managment.models.dto.fuelreimbursement.FuelReimbursementCreateDTO;
+import com.pepotec.cooperative_taxi_managment.models.entities.FuelCreditEntryEntity;
 import com.pepotec.cooperative_taxi_managment.models.entities.FuelReimbursementEntity;
 import com.pepotec.cooperative_taxi_managment.models.entities.MemberAccountEntity;
+import com.pepotec.cooperative_taxi_managment.repositories.FuelCreditEntryRepository;
 import com.pepotec.cooperative_taxi_managment.repositories.FuelReimbursementRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.MemberAccountRepository;
 import com.pepotec.cooperative_taxi_managment.validators.FuelReimbursementValidator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+/**
+ * Reintegros de combustible de los choferes.
+ *
+ * Los créditos de cada carga de combustible se guardan como FuelCreditEntry (solo inserción).
+ * El monto acumulado que se informa es un agregado: el accumulatedAmount guardado en
+ * FuelReimbursement (monto inicial y ajustes manuales) más los créditos pendientes.
+ */
 @Service
 public class FuelReimbursementService {
 
     @Autowired
     private FuelReimbursementRepository fuelReimbursementRepository;
 
+    @Autowired
+    private FuelCreditEntryRepository fuelCreditEntryRepository;
+
+    @Autowired
+    private MemberAccountRepository memberAccountRepository;
+
     @Autowired
     private MemberAccountService memberAccountService;
 
+    @Autowired
+    private BalanceUpdateService balanceUpdateService;
+
     @Autowired
     private FuelReimbursementValidator fuelReimbursementValidator;
 
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     /**
      * Crea un nuevo registro de reintegro de combustible para una cuenta de socio.
      * Si ya existe uno activo, lanza excepción.
@@ -58,6 +84,7 @@ public class FuelReimbursementService {
     /**
      * Obtiene un reintegro de combustible por ID.
      */
+    @Transactional(readOnly = true)
     public FuelReimbursementDTO getFuelReimbursementById(Long id) {
         FuelReimbursementEntity fuelReimbursement = fuelReimbursementRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(id, "Reintegro de Combustible"));
@@ -68,6 +95,7 @@ public class FuelReimbursementService {
      * Obtiene el reintegro de combustible para una cuenta de socio.
      * Con OneToOne, solo puede haber uno por cuenta.
      */
+    @Transactional(readOnly = true)
     public FuelReimbursementDTO getFuelReimbursementByMemberAccountId(Long memberAccountId) {
         fuelReimbursementValidator.validateMemberAccountIdNotNull(memberAccountId);
         FuelReimbursementEntity fuelReimbursement = fuelReimbursementRepository
@@ -79,6 +107,7 @@ public class FuelReimbursementService {
     /**
      * Lista todos los reintegros de combustible.
      */
+    @Transactional(readOnly = true)
     public List<FuelReimbursementDTO> getAllFuelReimbursements() {
         return fuelReimbursementRepository.findAll().stream()
             .map(this::convertToDTO)
@@ -90,6 +119,7 @@ public class FuelReimbursementService {
      * Con OneToOne, solo puede haber uno por cuenta.
      * Este método es un alias de getFuelReimbursementByMemberAccountId para mantener compatibilidad.
      */
+    @Transactional(readOnly = true)
     public FuelReimbursementDTO getFuelReimbursementsByMemberAccountId(Long memberAccountId) {
         return getFuelReimbursementByMemberAccountId(memberAccountId);
     }
@@ -100,28 +130,50 @@ public class FuelReimbursementService {
      */
     @Transactional
     public FuelReimbursementDTO accumulateFuelCredit(Long memberAccountId, Double amount) {
+        recordFuelCredit(memberAccountId, amount, null);
+        return getFuelReimbursementByMemberAccountId(memberAccountId);
+    }
+
+    /**
+     * Registra un crédito de combustible sin leer ni modificar la fila de FuelReimbursement
+     * (solo la crea en el primer crédito de la cuenta).
+     * @param dailyFuelId Carga de combustible que origina el crédito (null si no corresponde a una)
+     */
+    @Transactional
+    public void recordFuelCredit(Long memberAccountId, Double amount, Long dailyFuelId) {
         fuelReimbursementValidator.validateMemberAccountIdNotNull(memberAccountId);
         fuelReimbursementValidator.validateAmountPositive(amount);
 
-        Optional<FuelReimbursementEntity> existing = fuelReimbursementRepository
-            .findByMemberAccountId(memberAccountId);
-
-        FuelReimbursementEntity fuelReimbursement;
-        if (existing.isPresent()) {
-            fuelReimbursement = existing.get();
-            fuelReimbursement.setAccumulatedAmount(fuelReimbursement.getAccumulatedAmount() + amount);
-        } else {
-            // Crear nuevo registro si no existe
-            MemberAccountEntity memberAccount = memberAccountService.getMemberAccountEntityById(memberAccountId);
-            fuelReimbursement = FuelReimbursementEntity.builder()
+        if (!fuelReimbursementRepository.existsByMemberAccountId(memberAccountId)) {
+            createEmptyFuelReimbursement(memberAccountService.getMemberAccountEntityById(memberAccountId));
+        }
+
+        fuelCreditEntryRepository.save(FuelCreditEntryEntity.builder()
+            .memberAccount(memberAccountRepository.getReferenceById(memberAccountId))
+            .dailyFuelId(dailyFuelId)
+            .amount(amount)
+            .createdDate(LocalDate.now())
+            .build());
+    }
+
+    /**
+     * Crea el reintegro de la cuenta en una transacción propia, para que dos créditos
+     * simultáneos de una cuenta sin reintegro no fallen: si el otro lo creó primero, la
+     * restricción única rechaza este alta y se usa el existente.
+     */
+    private void createEmptyFuelReimbursement(MemberAccountEntity memberAccount) {
+        TransactionTemplate newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            newTransaction.executeWithoutResult(status -> fuelReimbursementRepository.save(FuelReimbursementEntity.builder()
                 .memberAccount(memberAccount)
-                .accumulatedAmount(amount)
+                .accumulatedAmount(0.0)
                 .createdDate(LocalDate.now())
                 .active(true)
-                .build();
+                .build()));
+        } catch (DataIntegrityViolationException e) {
+            // Ya existe: lo creó un crédito concurrente
         }
-
-        return convertToDTO(fuelReimbursementRepository.save(fuelReimbursement));
     }
 
     /**
@@ -132,23 +184,30 @@ public class FuelReimbursementService {
     public FuelReimbursementDTO reimburseFuelCredit(Long memberAccountId) {
         fuelReimbursementValidator.validateMemberAccountIdNotNull(memberAccountId);
 
+        // Primero el reintegro y después los créditos, ambos bloqueados: un reintegro concurrente
+        // espera y lee el accumulatedAmount ya en 0 y los créditos ya marcados
         FuelReimbursementEntity fuelReimbursement = fuelReimbursementRepository
-            .findByMemberAccountId(memberAccountId)
+            .findByMemberAccountIdForUpdate(memberAccountId)
             .orElseThrow(() -> new ResourceNotFoundException(memberAccountId, "Reintegro de Combustible para la cuenta"));
 
-        if (fuelReimbursement.getAccumulatedAmount() == null || fuelReimbursement.getAccumulatedAmount() <= 0) {
+        // Créditos pendientes bloqueados: cada crédito se reintegra una sola vez
+        List<FuelCreditEntryEntity> pendingCredits = fuelCreditEntryRepository
+            .findByMemberAccountIdAndReimbursedDateIsNull(memberAccountId);
+        double total = fuelReimbursement.getAccumulatedAmount()
+            + pendingCredits.stream().mapToDouble(FuelCreditEntryEntity::getAmount).sum();
+
+        if (total <= 0) {
             throw new InvalidDataException("There is no accumulated amount to reimburse");
         }
 
         // Obtener la cuenta de socio y sumar el monto acumulado al balance
-        MemberAccountEntity memberAccount = fuelReimbursement.getMemberAccount();
-        memberAccount.setBalance(memberAccount.getBalance() + fuelReimbursement.getAccumulatedAmount());
-        memberAccount.setLastModified(LocalDate.now());
-        memberAccountService.updateAccountEntity(memberAccount);
+        balanceUpdateService.applyAccountDelta(fuelReimbursement.getMemberAccount(), total);
 
-        // Resetear el monto acumulado y actualizar fecha de último reintegro
+        // Marcar los créditos, resetear el monto acumulado y actualizar fecha de último reintegro
+        LocalDate today = LocalDate.now();
+        pendingCredits.forEach(credit -> credit.setReimbursedDate(today));
         fuelReimbursement.setAccumulatedAmount(0.0);
-        fuelReimbursement.setLastReimbursementDate(LocalDate.now());
+        fuelReimbursement.setLastReimbursementDate(today);
 
         return convertToDTO(fuelReimbursementRepository.save(fuelReimbursement));
     }
@@ -168,7 +227,9 @@ public class FuelReimbursementService {
         MemberAccountEntity memberAccount = memberAccountService.getMemberAccountEntityById(fuelReimbursement.getMemberAccountId());
 
         entity.setMemberAccount(memberAccount);
-        entity.setAccumulatedAmount(fuelReimbursement.getAccumulatedAmount());
+        // El monto recibido es el total: se guarda descontando los créditos pendientes
+        entity.setAccumulatedAmount(fuelReimbursement.getAccumulatedAmount()
+            - fuelCreditEntryRepository.sumPendingByMemberAccountId(memberAccount.getId()));
         entity.setLastReimbursementDate(fuelReimbursement.getLastReimbursementDate());
         entity.setCreatedDate(fuelReimbursement.getCreatedDate());
         entity.setActive(fuelReimbursement.getActive() != null ? fuelReimbursement.getActive() : true);
@@ -221,7 +282,8 @@ public class FuelReimbursementService {
             .id(entity.getId())
             .memberAccountId(entity.getMemberAccount().getId())
             .memberAccount(memberAccountService.getMemberAccountById(entity.getMemberAccount().getId()))
-            .accumulatedAmount(entity.getAccumulatedAmount())
+            .accumulatedAmount(entity.getAccumulatedAmount()
+                + fuelCreditEntryRepository.sumPendingByMemberAccountId(entity.getMemberAccount().getId()))
             .lastReimbursementDate(entity.getLastReimbursementDate())
             .createdDate(entity.getCreatedDate())
             .active(entity.getActive())
@@ -0,0 +1,131 @@
+package com.pepotec.cooperative_taxi_managment.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.pepotec.cooperative_taxi_managment.exceptions.InvalidDataException;
+import com.pepotec.cooperative_taxi_managment.models.dto.page.KeysetPageDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Soporte común para los listados grandes: paginación por keyset (por ID) y
+ * exportación NDJSON (un objeto JSON por línea) leyendo las filas desde un Stream de JPA.
+ *
+ * En el modo streaming las filas se convierten en bloques de STREAM_CHUNK_SIZE y, después
+ * de escribir cada bloque, se limpia el contexto de persistencia: la memoria usada no
+ * depende del tamaño de la tabla.
+ */
+@Service
+public class KeysetListingService {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+    private static final int STREAM_CHUNK_SIZE = 500;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Arma una página de un listado por keyset. Debe llamarse dentro de una transacción.
+     *
+     * @param afterId Último ID recibido (null o 0 para la primera página)
+     * @param size Tamaño de página (null para el valor por defecto)
+     * @param query Consulta keyset del repository (afterId, limit)
+     * @param idOf Obtiene el ID de una entidad
+     * @param converter Convierte las entidades de la página a DTOs
+     */
+    public <E, D> KeysetPageDTO<D> page(Long afterId, Integer size,
+                                        BiFunction<Long, Limit, List<E>> query,
+                                        Function<E, Long> idOf,
+                                        Function<List<E>, List<D>> converter) {
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new InvalidDataException("The page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (afterId != null && afterId < 0) {
+            throw new InvalidDataException("The cursor cannot be negative");
+        }
+
+        // Se pide una fila de más para saber si existe una página siguiente
+        List<E> rows = query.apply(afterId != null ? afterId : 0L, Limit.of(pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        return KeysetPageDTO.<D>builder()
+            .items(converter.apply(rows))
+            .nextCursor(rows.isEmpty() ? null : idOf.apply(rows.get(rows.size() - 1)))
+            .hasMore(hasMore)
+            .build();
+    }
+
+    /**
+     * Devuelve un cuerpo de respuesta que escribe todas las filas como NDJSON.
+     * La lectura se hace en una transacción de solo lectura abierta mientras dura la escritura.
+     *
+     * @param rows Proveedor del Stream de entidades (se cierra al terminar)
+     * @param converter Convierte un bloque de entidades a DTOs
+     */
+    public <E, D> StreamingResponseBody ndjson(Supplier<Stream<E>> rows, Function<List<E>, List<D>> converter) {
+        return outputStream -> {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            readOnly.executeWithoutResult(status -> {
+                try (Stream<E> stream = rows.get()) {
+                    writeChunks(stream.iterator(), converter, outputStream);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        };
+    }
+
+    private <E, D> void writeChunks(Iterator<E> iterator, Function<List<E>, List<D>> converter,
+                                    OutputStream outputStream) throws IOException {
+        Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+        // El writer es del contenedor: Jackson no debe cerrarlo después de cada fila
+        ObjectWriter rowWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        List<E> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() == STREAM_CHUNK_SIZE || !iterator.hasNext()) {
+                for (D dto : converter.apply(chunk)) {
+                    rowWriter.writeValue(writer, dto);
+                    writer.write('\n');
+                }
+                writer.flush();
+                chunk.clear();
+                entityManager.clear();
+            }
+        }
+        writer.flush();
+    }
+}
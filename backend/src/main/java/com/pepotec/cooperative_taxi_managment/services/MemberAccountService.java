@@ -11,6 +11,7 @@ import com.pepotec.cooperative_taxi_managment.repositories.MemberAccountReposito
 import com.pepotec.cooperative_taxi_managment.validators.MemberAccountValidator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -26,13 +27,10 @@ public class MemberAccountService {
     @org.springframework.context.annotation.Lazy
     private MemberService memberService;
 
-    @Autowired
-    @org.springframework.context.annotation.Lazy
-    private DriverService driverService;
-
     @Autowired
     private MemberAccountValidator memberAccountValidator;
 
+    @Transactional
     public MemberAccountDTO createMemberAccount(Long memberId, MemberAccountCreateDTO account) {
         memberAccountValidator.validateMemberAccountCreateFields(account.getBalance(), account.getLastModified());
 
@@ -41,6 +39,7 @@ public class MemberAccountService {
         return createMemberAccount(member, account);
     }
 
+    @Transactional
     public MemberAccountDTO createMemberAccount(MemberEntity member, MemberAccountCreateDTO account) {
         memberAccountValidator.validateMemberAccountCreateFields(account.getBalance(), account.getLastModified());
         memberAccountValidator.validateUniqueMemberAccount(member.getId());
@@ -55,12 +54,14 @@ public class MemberAccountService {
         return convertToDTO(memberAccountRepository.save(entity));
     }
 
+    @Transactional(readOnly = true)
     public MemberAccountDTO getMemberAccountById(Long id) {
         MemberAccountEntity account = memberAccountRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(id, "Cuenta de Socio"));
         return convertToDTO(account);
     }
 
+    @Transactional(readOnly = true)
     public MemberAccountDTO getMemberAccountByMemberId(Long memberId) {
         memberAccountValidator.validateMemberIdNotNull(memberId);
         MemberAccountEntity account = memberAccountRepository.findByMemberIdAndActiveTrue(memberId)
@@ -68,18 +69,30 @@ public class MemberAccountService {
         return convertToDTO(account);
     }
 
+    /**
+     * ID de la cuenta activa del socio, para los procesos que solo necesitan referenciarla.
+     */
+    public Long getMemberAccountIdByMemberId(Long memberId) {
+        memberAccountValidator.validateMemberIdNotNull(memberId);
+        return memberAccountRepository.findActiveIdByMemberId(memberId)
+            .orElseThrow(() -> new ResourceNotFoundException(memberId, "Cuenta de Socio para el socio"));
+    }
+
+    @Transactional(readOnly = true)
     public List<MemberAccountDTO> getAllMemberAccounts() {
         return memberAccountRepository.findAll().stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<MemberAccountDTO> getActiveMemberAccounts() {
         return memberAccountRepository.findByActiveTrue().stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
 
+    @Transactional
     public MemberAccountDTO updateMemberAccount(MemberAccountDTO account) {
         memberAccountValidator.validateIdNotNullForUpdate(account.getId());
 
@@ -97,6 +110,7 @@ public class MemberAccountService {
         return convertToDTO(memberAccountRepository.save(entity));
     }
 
+    @Transactional
     public void deleteMemberAccount(Long id) {
         memberAccountValidator.validateIdNotNull(id);
 
@@ -132,19 +146,8 @@ public class MemberAccountService {
         }
 
         Long memberId = entity.getMember().getId();
-        MemberDTO memberDTO = null;
-        
-        // Intentar buscar primero en MemberService
-        try {
-            memberDTO = memberService.getMemberById(memberId);
-        } catch (ResourceNotFoundException e) {
-            // Si no se encuentra, intentar buscar en DriverService (ya que DriverEntity extiende MemberEntity)
-            try {
-                memberDTO = driverService.getDriverById(memberId);
-            } catch (ResourceNotFoundException ex) {
-                // Si tampoco se encuentra, dejar memberDTO como null (el campo es opcional)
-            }
-        }
+        // El socio ya viene cargado con la cuenta (DriverEntity extiende MemberEntity)
+        MemberDTO memberDTO = memberService.convertToDTO(entity.getMember());
 
         return MemberAccountDTO.builder()
             .id(entity.getId())
@@ -170,6 +173,19 @@ public class MemberAccountService {
     public MemberAccountEntity updateAccountEntity(MemberAccountEntity entity) {
         return memberAccountRepository.save(entity);
     }
+
+    /**
+     * Aplica un delta al balance con un único UPDATE atómico en SQL y devuelve el balance resultante.
+     * Usado por BalanceUpdateService para que las imputaciones concurrentes no pierdan actualizaciones.
+     */
+    @Transactional
+    public Double applyBalanceDelta(Long id, Double delta) {
+        if (memberAccountRepository.addToBalance(id, delta, LocalDate.now()) == 0) {
+            throw new ResourceNotFoundException(id, "Cuenta de Socio");
+        }
+        return memberAccountRepository.findBalanceById(id)
+            .orElseThrow(() -> new ResourceNotFoundException(id, "Cuenta de Socio"));
+    }
 }
 
 
@@ -14,7 +14,9 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 import com.pepotec.cooperative_taxi_managment.validators.AddressValidator;
+import com.pepotec.cooperative_taxi_managment.validators.BatchUniquenessValidator;
 import com.pepotec.cooperative_taxi_managment.models.dto.person.member.account.MemberAccountCreateDTO;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class MemberService {
@@ -33,8 +35,36 @@ public class MemberService {
 
     @Autowired
     private MemberAccountService memberAccountService;
+
+    @Autowired
+    private BatchUniquenessValidator batchUniquenessValidator;
     
+    @Transactional
     public MemberDTO createMember(MemberDTO member) {
+        validateMemberFields(member);
+        
+        // Validar campos únicos (DNI, CUIT, Email)
+        memberValidator.validateUniqueFields(member, null);
+        
+        return saveNewMember(member);
+    }
+
+    /**
+     * Crea un lote de miembros (con sus cuentas) en una sola transacción.
+     * La unicidad de DNI, CUIT y email se valida para todo el lote con una consulta por campo,
+     * y se informan todos los conflictos juntos: si hay alguno no se guarda ningún miembro.
+     */
+    @Transactional
+    public List<MemberDTO> createMembers(List<MemberDTO> members) {
+        batchUniquenessValidator.validateEach(members, this::validateMemberFields, "Member");
+        batchUniquenessValidator.validateMembers(members);
+
+        return members.stream()
+            .map(this::saveNewMember)
+            .collect(Collectors.toList());
+    }
+
+    private void validateMemberFields(MemberDTO member) {
         // Validar datos básicos de Person
         personValidator.validatePersonData(member);
 
@@ -43,10 +73,9 @@ public class MemberService {
         
         // Validar campos específicos de Member
         memberValidator.validateMemberSpecificFields(member);
-        
-        // Validar campos únicos (DNI, CUIT, Email)
-        memberValidator.validateUniqueFields(member, null);
-        
+    }
+
+    private MemberDTO saveNewMember(MemberDTO member) {
         MemberEntity memberSaved = convertToEntity(member);
         if(memberSaved.getJoinDate() == null) {
             memberSaved.setJoinDate(LocalDate.now());
@@ -63,12 +92,14 @@ public class MemberService {
         return convertToDTO(memberSaved);
     }
 
+    @Transactional(readOnly = true)
     public MemberDTO getMemberById(Long id) {
         MemberEntity member = memberRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(id, "Miembro"));
         return convertToDTO(member);
     }
 
+    @Transactional(readOnly = true)
     public MemberDTO getMemberByDni(String dni) {
         memberValidator.validateDniNotEmpty(dni);
         
@@ -77,14 +108,17 @@ public class MemberService {
         return convertToDTO(member);
     }
 
+    @Transactional(readOnly = true)
     public List<MemberDTO> getAllMembers() {
         return memberRepository.findAll().stream().map(this::convertToDTO).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<MemberDTO> getAllMembersActive() {
         return memberRepository.findAll().stream().filter(member -> member.getLeaveDate() == null).map(this::convertToDTO).collect(Collectors.toList());
     }
 
+    @Transactional
     public MemberDTO updateMember(MemberDTO member) {
         memberValidator.validateIdNotNullForUpdate(member.getId());
         
@@ -123,6 +157,7 @@ public class MemberService {
         return convertToDTO(memberRepository.save(memberSaved));
     }
 
+    @Transactional
     public void deleteMember(Long id) {
         memberValidator.validateIdNotNullForUpdate(id);
 
@@ -138,6 +173,7 @@ public class MemberService {
         memberRepository.save(memberSaved);
     }
 
+    @Transactional
     public void deleteMember(Long id, LocalDate leaveDate) {
         memberValidator.validateIdNotNullForUpdate(id);
 
@@ -153,6 +189,7 @@ public class MemberService {
         memberRepository.save(memberSaved);
     }
     
+    @Transactional
     public void deleteMember(MemberDTO member) {
         if(member.getLeaveDate() != null) {
             throw new MemberAlreadyInactiveException(member.getId());
@@ -165,6 +202,7 @@ public class MemberService {
         memberRepository.save(memberSaved);
     }    
 
+    @Transactional
     public void deleteMember(MemberDTO member, LocalDate leaveDate) {
         if(member.getLeaveDate() != null) {
             throw new MemberAlreadyInactiveException(member.getId());
@@ -203,7 +241,10 @@ public class MemberService {
         return memberEntity;
     }
 
-    private MemberDTO convertToDTO(MemberEntity member) {
+    /**
+     * Convierte un socio ya cargado (para uso interno, sin volver a buscarlo por ID).
+     */
+    public MemberDTO convertToDTO(MemberEntity member) {
         if (member == null) {
             return null;
         }
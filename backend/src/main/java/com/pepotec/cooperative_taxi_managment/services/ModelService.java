@@ -45,24 +45,28 @@ public class ModelService {
         return convertToDTO(saved);
     }
 
+    @Transactional(readOnly = true)
     public ModelDTO getModelById(Long id) {
         ModelEntity model = modelRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(id, "Modelo"));
         return convertToDTO(model);
     }
 
+    @Transactional(readOnly = true)
     public List<ModelDTO> getAllModels() {
         return modelRepository.findAll().stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<ModelDTO> getModelsByBrand(Long brandId) {
         return modelRepository.findByBrandId(brandId).stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
 
+    @Transactional
     public ModelDTO updateModel(ModelDTO model) {
         if (model.getId() == null) {
             throw new InvalidDataException("The ID cannot be null for update");
@@ -83,6 +87,7 @@ public class ModelService {
         return convertToDTO(modelRepository.save(modelEntity));
     }
 
+    @Transactional
     public void deleteModel(Long id) {
         if (id == null) {
             throw new InvalidDataException("The ID cannot be null");
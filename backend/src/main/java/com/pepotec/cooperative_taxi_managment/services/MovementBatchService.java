@@ -0,0 +1,154 @@
+package com.pepotec.cooperative_taxi_managment.services;
+
+import com.pepotec.cooperative_taxi_managment.exceptions.InvalidDataException;
+import com.pepotec.cooperative_taxi_managment.exceptions.ResourceNotFoundException;
+import com.pepotec.cooperative_taxi_managment.models.dto.movement.MovementBatchResultDTO;
+import com.pepotec.cooperative_taxi_managment.models.entities.AbstractMovementEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.MemberAccountEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.SubscriberAccountEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.VehicleAccountEntity;
+import com.pepotec.cooperative_taxi_managment.models.enums.MovementType;
+import com.pepotec.cooperative_taxi_managment.repositories.MemberAccountRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.SubscriberAccountRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.VehicleAccountRepository;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Pasos comunes de la carga en lote de movimientos (efectivo y sin efectivo):
+ * validación de todo el lote antes de escribir, precarga de las cuentas referenciadas
+ * y creación de los adelantos de los movimientos ADVANCE.
+ */
+@Service
+public class MovementBatchService {
+
+    @Autowired
+    private MemberAccountRepository memberAccountRepository;
+
+    @Autowired
+    private SubscriberAccountRepository subscriberAccountRepository;
+
+    @Autowired
+    private VehicleAccountRepository vehicleAccountRepository;
+
+    @Autowired
+    private AdvanceService advanceService;
+
+    /**
+     * Valida cada elemento del lote. El mensaje de error indica la posición del movimiento inválido.
+     */
+    public <D> void validateAll(List<D> dtos, Consumer<D> validator) {
+        for (int i = 0; i < dtos.size(); i++) {
+            try {
+                validator.accept(dtos.get(i));
+            } catch (InvalidDataException e) {
+                throw new InvalidDataException("Movement #" + (i + 1) + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Carga las cuentas referenciadas por el lote con una consulta por tipo de cuenta.
+     *
+     * @throws ResourceNotFoundException si alguna cuenta no existe
+     */
+    public AccountLookup preloadAccounts(Collection<Long> memberAccountIds,
+                                         Collection<Long> subscriberAccountIds,
+                                         Collection<Long> vehicleAccountIds) {
+        AccountLookup lookup = new AccountLookup();
+        load(memberAccountIds, memberAccountRepository::findAllById, MemberAccountEntity::getId,
+            lookup.memberAccounts, "Cuenta de Socio");
+        load(subscriberAccountIds, subscriberAccountRepository::findAllById, SubscriberAccountEntity::getId,
+            lookup.subscriberAccounts, "Cuenta de Abonado");
+        load(vehicleAccountIds, vehicleAccountRepository::findAllById, VehicleAccountEntity::getId,
+            lookup.vehicleAccounts, "Cuenta de Vehículo");
+        return lookup;
+    }
+
+    /**
+     * Crea los adelantos de los movimientos ADVANCE del lote (los movimientos ya deben tener ID).
+     */
+    public void createAdvances(List<? extends AbstractMovementEntity> movements) {
+        for (AbstractMovementEntity movement : movements) {
+            if (movement.getMovementType() != MovementType.ADVANCE) {
+                continue;
+            }
+            MemberAccountEntity account = movement.getMemberAccount();
+            if (account == null) {
+                throw new InvalidDataException("ADVANCE movement requires a MemberAccount");
+            }
+            advanceService.createFromMovement(account, movement.getDate(), movement.getAmount(),
+                movement.getId(), movement.getDescription());
+        }
+    }
+
+    /**
+     * Arma el resultado de la carga con los IDs asignados.
+     */
+    public MovementBatchResultDTO toResult(List<? extends AbstractMovementEntity> movements) {
+        long accountsUpdated = movements.stream()
+            .filter(movement -> movement.getMovementType() != MovementType.ADVANCE)
+            .map(AbstractMovementEntity::getAffectedAccount)
+            .filter(Objects::nonNull)
+            .map(account -> Hibernate.getClass(account).getSimpleName() + ":" + account.getId())
+            .distinct()
+            .count();
+        return MovementBatchResultDTO.builder()
+            .created(movements.size())
+            .accountsUpdated((int) accountsUpdated)
+            .movementIds(movements.stream().map(AbstractMovementEntity::getId).collect(Collectors.toList()))
+            .build();
+    }
+
+    private <E> void load(Collection<Long> ids, Function<Set<Long>, List<E>> finder,
+                          Function<E, Long> idOf, Map<Long, E> target, String resourceName) {
+        Set<Long> wanted = ids.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (wanted.isEmpty()) {
+            return;
+        }
+        for (E account : finder.apply(wanted)) {
+            target.put(idOf.apply(account), account);
+        }
+        for (Long id : wanted) {
+            if (!target.containsKey(id)) {
+                throw new ResourceNotFoundException(id, resourceName);
+            }
+        }
+    }
+
+    /**
+     * Cuentas precargadas de un lote, indexadas por ID.
+     */
+    public static class AccountLookup {
+
+        private final Map<Long, MemberAccountEntity> memberAccounts = new HashMap<>();
+        private final Map<Long, SubscriberAccountEntity> subscriberAccounts = new HashMap<>();
+        private final Map<Long, VehicleAccountEntity> vehicleAccounts = new HashMap<>();
+
+        private AccountLookup() {
+        }
+
+        public MemberAccountEntity memberAccount(Long id) {
+            return id != null ? memberAccounts.get(id) : null;
+        }
+
+        public SubscriberAccountEntity subscriberAccount(Long id) {
+            return id != null ? subscriberAccounts.get(id) : null;
+        }
+
+        public VehicleAccountEntity vehicleAccount(Long id) {
+            return id != null ? vehicleAccounts.get(id) : null;
+        }
+    }
+}
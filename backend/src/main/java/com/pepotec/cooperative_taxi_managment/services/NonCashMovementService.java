@@ -6,17 +6,21 @@ import com.pepotec.cooperative_taxi_managment.models.dto.movement.noncash.NonCas
 import com.pepotec.cooperative_taxi_managment.models.dto.person.member.account.MemberAccountDTO;
 import com.pepotec.cooperative_taxi_managment.models.dto.person.subscriber.account.SubscriberAccountDTO;
 import com.pepotec.cooperative_taxi_managment.models.dto.vehicle.account.VehicleAccountDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.movement.MovementBatchResultDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.page.KeysetPageDTO;
 import com.pepotec.cooperative_taxi_managment.exceptions.InvalidDataException;
 import com.pepotec.cooperative_taxi_managment.models.entities.MemberAccountEntity;
 import com.pepotec.cooperative_taxi_managment.models.entities.NonCashMovementEntity;
 import com.pepotec.cooperative_taxi_managment.models.entities.SubscriberAccountEntity;
 import com.pepotec.cooperative_taxi_managment.models.entities.VehicleAccountEntity;
 import com.pepotec.cooperative_taxi_managment.models.enums.MovementType;
+import com.pepotec.cooperative_taxi_managment.repositories.MovementBatchRepository;
 import com.pepotec.cooperative_taxi_managment.repositories.NonCashMovementRepository;
 import com.pepotec.cooperative_taxi_managment.validators.MovementValidator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.pepotec.cooperative_taxi_managment.models.entities.PayrollSettlementEntity;
 
 import java.time.LocalDate;
@@ -29,6 +33,9 @@ public class NonCashMovementService {
     @Autowired
     private NonCashMovementRepository nonCashMovementRepository;
 
+    @Autowired
+    private KeysetListingService keysetListingService;
+
     @Autowired
     private MovementValidator movementValidator;
 
@@ -47,6 +54,12 @@ public class NonCashMovementService {
     @Autowired
     private AdvanceService advanceService;
 
+    @Autowired
+    private MovementBatchService movementBatchService;
+
+    @Autowired
+    private MovementBatchRepository movementBatchRepository;
+
     @Transactional
     public NonCashMovementDTO create(NonCashMovementCreateDTO dto) {
         movementValidator.validateNonCashMovementCreate(dto);
@@ -66,22 +79,79 @@ public class NonCashMovementService {
         return convertToDTO(saved);
     }
 
+    /**
+     * Crea un lote de movimientos sin efectivo en una única transacción.
+     * Se valida todo el lote antes de escribir, las cuentas se cargan con una consulta por tipo,
+     * los movimientos se insertan con JDBC en lote y los saldos se actualizan con un UPDATE
+     * por cuenta con el delta neto del lote.
+     */
+    @Transactional
+    public MovementBatchResultDTO createBatch(List<NonCashMovementCreateDTO> dtos) {
+        movementBatchService.validateAll(dtos, movementValidator::validateNonCashMovementCreate);
+
+        MovementBatchService.AccountLookup accounts = movementBatchService.preloadAccounts(
+            dtos.stream().map(NonCashMovementCreateDTO::getMemberAccountId).collect(Collectors.toList()),
+            dtos.stream().map(NonCashMovementCreateDTO::getSubscriberAccountId).collect(Collectors.toList()),
+            dtos.stream().map(NonCashMovementCreateDTO::getVehicleAccountId).collect(Collectors.toList()));
+
+        List<NonCashMovementEntity> entities = dtos.stream()
+            .map(dto -> NonCashMovementEntity.builder()
+                .description(dto.getDescription())
+                .amount(dto.getAmount())
+                .date(dto.getDate())
+                .movementType(dto.getMovementType())
+                .isIncome(dto.getIsIncome())
+                .active(true)
+                .memberAccount(accounts.memberAccount(dto.getMemberAccountId()))
+                .subscriberAccount(accounts.subscriberAccount(dto.getSubscriberAccountId()))
+                .vehicleAccount(accounts.vehicleAccount(dto.getVehicleAccountId()))
+                .build())
+            .collect(Collectors.toList());
+
+        movementBatchRepository.insertNonCashMovements(entities);
+        balanceUpdateService.applyMovementBatch(entities);
+        movementBatchService.createAdvances(entities);
+
+        return movementBatchService.toResult(entities);
+    }
+
+    @Transactional(readOnly = true)
     public NonCashMovementDTO getById(Long id) {
         return convertToDTO(findEntityById(id));
     }
 
+    @Transactional(readOnly = true)
     public List<NonCashMovementDTO> listAll() {
         return nonCashMovementRepository.findAll().stream().map(this::convertToDTO).collect(Collectors.toList());
     }
 
+    /**
+     * Página de movimientos sin efectivo ordenada por ID, a partir del último ID recibido.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<NonCashMovementDTO> listPage(Long afterId, Integer size) {
+        return keysetListingService.page(afterId, size,
+            nonCashMovementRepository::findByIdGreaterThanOrderByIdAsc, NonCashMovementEntity::getId, this::convertToDTOs);
+    }
+
+    /**
+     * Exporta todos los registros como NDJSON, leyendo la tabla como Stream.
+     */
+    public StreamingResponseBody streamAll() {
+        return keysetListingService.ndjson(nonCashMovementRepository::streamAllByOrderByIdAsc, this::convertToDTOs);
+    }
+
+    @Transactional(readOnly = true)
     public List<NonCashMovementDTO> listActive() {
         return nonCashMovementRepository.findByActive(true).stream().map(this::convertToDTO).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<NonCashMovementDTO> listByDateRange(LocalDate startDate, LocalDate endDate) {
         return nonCashMovementRepository.findByDateBetween(startDate, endDate).stream().map(this::convertToDTO).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<NonCashMovementDTO> listByAccount(Long memberAccountId, Long subscriberAccountId, Long vehicleAccountId) {
         if (memberAccountId != null) {
             return nonCashMovementRepository.findByMemberAccountId(memberAccountId).stream().map(this::convertToDTO).collect(Collectors.toList());
@@ -182,6 +252,10 @@ public class NonCashMovementService {
         entity.setVehicleAccount(vehicleAccount);
     }
 
+    private List<NonCashMovementDTO> convertToDTOs(List<NonCashMovementEntity> entities) {
+        return entities.stream().map(this::convertToDTO).collect(Collectors.toList());
+    }
+
     private NonCashMovementDTO convertToDTO(NonCashMovementEntity entity) {
         if (entity == null) return null;
 
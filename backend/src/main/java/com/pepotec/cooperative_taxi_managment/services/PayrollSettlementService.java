@@ -145,23 +145,28 @@ public class PayrollSettlementService {
         return convertToDTO(existing);
     }
 
+    @Transactional(readOnly = true)
     public PayrollSettlementDTO getById(Long id) {
         return convertToDTO(findEntityById(id));
     }
 
+    @Transactional(readOnly = true)
     public List<PayrollSettlementDTO> listAll() {
         return payrollSettlementRepository.findAll().stream().map(this::convertToDTO).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<PayrollSettlementDTO> listByAccount(Long memberAccountId) {
         return payrollSettlementRepository.findByMemberAccountId(memberAccountId).stream().map(this::convertToDTO).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<PayrollSettlementDTO> listByPeriod(java.time.YearMonth yearMonth) {
         String yearMonthStr = yearMonth != null ? yearMonth.toString() : null;
         return payrollSettlementRepository.findByYearMonth(yearMonthStr).stream().map(this::convertToDTO).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<PayrollSettlementDTO> listByPaymentDateRange(LocalDate startDate, LocalDate endDate) {
         return payrollSettlementRepository.findByPaymentDateBetween(startDate, endDate).stream().map(this::convertToDTO).collect(Collectors.toList());
     }
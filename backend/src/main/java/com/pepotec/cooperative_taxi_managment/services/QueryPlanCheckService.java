@@ -0,0 +1,230 @@
+package com.pepotec.cooperative_taxi_managment.services;
+
+import com.pepotec.cooperative_taxi_managment.config.QueryPlanCaptureDataSource;
+import com.pepotec.cooperative_taxi_managment.config.QueryPlanCaptureDataSource.QueryPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Verificación de índices al arrancar: obtiene el plan (EXPLAIN) de cada consulta de los
+ * repositories de Spring Data contra el esquema real y advierte las que recorren una tabla
+ * completa sin índice utilizable.
+ *
+ * Cada método de consulta se invoca con argumentos de ejemplo dentro de una transacción de
+ * solo lectura; QueryPlanCaptureDataSource obtiene el plan de la sentencia generada en lugar
+ * de ejecutarla, por lo que no se leen datos. No se verifican los métodos de borrado o
+ * modificación ni las consultas JDBC de los repositories propios (lotes, conciliación).
+ *
+ * Se considera recorrido completo una tabla con type = ALL y sin possible_keys (MySQL): si
+ * MySQL elige recorrer la tabla pudiendo usar un índice (tablas chicas) no se advierte. En H2
+ * el plan no informa los índices posibles y se advierte todo tableScan, por lo que con tablas
+ * vacías aparecen falsos positivos. Las consultas sin WHERE (listados completos) se omiten.
+ *
+ * Solo se ejecuta con query-plan-check.enabled=true (ver QueryPlanCheckConfig).
+ */
+@Service
+@ConditionalOnProperty(name = "query-plan-check.enabled", havingValue = "true")
+public class QueryPlanCheckService {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryPlanCheckService.class);
+
+    private static final Pattern H2_TABLE_SCAN = Pattern.compile("\\.(\\w+)\\.tableScan");
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkQueryPlans() {
+        QueryPlanCaptureDataSource captureDataSource;
+        try {
+            captureDataSource = dataSource.unwrap(QueryPlanCaptureDataSource.class);
+        } catch (Exception e) {
+            logger.warn("Query plan check skipped: the DataSource is not a QueryPlanCaptureDataSource");
+            return;
+        }
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Repositories repositories = new Repositories(applicationContext);
+        int checked = 0;
+        int fullScans = 0;
+        int skipped = 0;
+        for (Class<?> domainType : repositories) {
+            Object repository = repositories.getRepositoryFor(domainType).orElse(null);
+            RepositoryInformation information = repositories.getRequiredRepositoryInformation(domainType);
+            for (Method method : information.getQueryMethods()) {
+                String name = information.getRepositoryInterface().getSimpleName() + "." + method.getName();
+                Object[] args = sampleArguments(method);
+                if (repository == null || args == null || isModifying(method)) {
+                    skipped++;
+                    continue;
+                }
+
+                List<QueryPlan> plans;
+                try {
+                    plans = captureDataSource.capture(() -> readOnly.executeWithoutResult(status -> {
+                        status.setRollbackOnly();
+                        invoke(repository, method, args);
+                    }));
+                } catch (RuntimeException e) {
+                    logger.debug("Query plan check: could not explain {}: {}", name, e.getMessage());
+                    skipped++;
+                    continue;
+                }
+
+                for (QueryPlan plan : plans) {
+                    if (!plan.getSql().toLowerCase(Locale.ROOT).contains(" where ")) {
+                        continue;
+                    }
+                    checked++;
+                    Set<String> tables = scannedTables(plan);
+                    if (!tables.isEmpty()) {
+                        fullScans++;
+                        logger.warn("Full table scan on {} in {}: {}", tables, name, plan.getSql());
+                    }
+                }
+            }
+        }
+        logger.info("Query plan check: {} statements checked, {} with full table scans, {} methods skipped",
+            checked, fullScans, skipped);
+    }
+
+    private Set<String> scannedTables(QueryPlan plan) {
+        Set<String> tables = new TreeSet<>();
+        for (Map<String, Object> row : plan.getRows()) {
+            if (row.containsKey("type")) {
+                if ("ALL".equalsIgnoreCase(String.valueOf(row.get("type"))) && row.get("possible_keys") == null) {
+                    tables.add(String.valueOf(row.get("table")));
+                }
+            } else if (row.containsKey("plan")) {
+                Matcher matcher = H2_TABLE_SCAN.matcher(String.valueOf(row.get("plan")));
+                while (matcher.find()) {
+                    tables.add(matcher.group(1).toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return tables;
+    }
+
+    private boolean isModifying(Method method) {
+        return method.isAnnotationPresent(Modifying.class)
+            || method.getName().startsWith("delete")
+            || method.getName().startsWith("remove");
+    }
+
+    private void invoke(Object repository, Method method, Object[] args) {
+        try {
+            Object result = method.invoke(repository, args);
+            if (result instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        } catch (InvocationTargetException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Argumentos de ejemplo para un método, o null si algún tipo de parámetro no es soportado.
+     */
+    private Object[] sampleArguments(Method method) {
+        Type[] types = method.getGenericParameterTypes();
+        Object[] args = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            args[i] = sampleValue(types[i]);
+            if (args[i] == null) {
+                return null;
+            }
+        }
+        return args;
+    }
+
+    private Object sampleValue(Type type) {
+        if (type instanceof ParameterizedType parameterized
+            && parameterized.getRawType() instanceof Class<?> raw && Collection.class.isAssignableFrom(raw)) {
+            Object element = sampleValue(parameterized.getActualTypeArguments()[0]);
+            if (element == null) {
+                return null;
+            }
+            List<Object> values = new ArrayList<>();
+            values.add(element);
+            return values;
+        }
+        if (!(type instanceof Class<?> clazz)) {
+            return null;
+        }
+        if (clazz == Long.class || clazz == long.class) {
+            return 1L;
+        }
+        if (clazz == Integer.class || clazz == int.class) {
+            return 1;
+        }
+        if (clazz == Double.class || clazz == double.class) {
+            return 1.0;
+        }
+        if (clazz == Boolean.class || clazz == boolean.class) {
+            return Boolean.TRUE;
+        }
+        if (clazz == String.class) {
+            return "x";
+        }
+        if (clazz == LocalDate.class) {
+            return LocalDate.now();
+        }
+        if (clazz == LocalDateTime.class) {
+            return LocalDateTime.now();
+        }
+        if (clazz.isEnum()) {
+            return clazz.getEnumConstants()[0];
+        }
+        if (clazz == Limit.class) {
+            return Limit.of(20);
+        }
+        if (clazz == Pageable.class) {
+            return Pageable.ofSize(20);
+        }
+        if (clazz == Sort.class) {
+            return Sort.unsorted();
+        }
+        return null;
+    }
+}
@@ -8,6 +8,7 @@ import com.pepotec.cooperative_taxi_managment.models.entities.ReceiptEntity;
 import com.pepotec.cooperative_taxi_managment.models.entities.SubscriberAccountEntity;
 import com.pepotec.cooperative_taxi_managment.models.enums.ReceiptType;
 import com.pepotec.cooperative_taxi_managment.repositories.ReceiptRepository;
+import com.pepotec.cooperative_taxi_managment.validators.BatchUniquenessValidator;
 import com.pepotec.cooperative_taxi_managment.validators.ReceiptValidator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -33,6 +34,9 @@ public class ReceiptService {
     @Autowired
     private ReceiptValidator receiptValidator;
 
+    @Autowired
+    private BatchUniquenessValidator batchUniquenessValidator;
+
     @Transactional
     public ReceiptDTO create(ReceiptCreateDTO dto) {
         receiptValidator.validateCreateFields(dto);
@@ -44,6 +48,27 @@ public class ReceiptService {
         // Validar unicidad: receiptNumber + bookletNumber + receiptType
         receiptValidator.validateUniqueReceiptBooklet(dto.getReceiptNumber(), dto.getBookletNumber(), dto.getReceiptType(), null);
 
+        return saveNewReceipt(dto);
+    }
+
+    /**
+     * Crea un lote de recibos en una sola transacción.
+     * La unicidad de cuenta + período y de número + talonario + tipo se valida para todo el lote
+     * con una consulta por clave, y se informan todos los conflictos juntos: si hay alguno no se guarda ningún recibo.
+     */
+    @Transactional
+    public List<ReceiptDTO> createBatch(List<ReceiptCreateDTO> dtos) {
+        batchUniquenessValidator.validateEach(dtos, receiptValidator::validateCreateFields, "Receipt");
+        batchUniquenessValidator.validateReceipts(dtos);
+
+        return dtos.stream()
+                .map(this::saveNewReceipt)
+                .collect(Collectors.toList());
+    }
+
+    private ReceiptDTO saveNewReceipt(ReceiptCreateDTO dto) {
+        String periodStr = dto.getYearMonth() != null ? dto.getYearMonth().toString() : null;
+
         // Obtener cuenta según el tipo
         MemberAccountEntity memberAccount = null;
         SubscriberAccountEntity subscriberAccount = null;
@@ -69,28 +94,33 @@ public class ReceiptService {
         return convertToDTO(receiptRepository.save(entity));
     }
 
+    @Transactional(readOnly = true)
     public ReceiptDTO getById(Long id) {
         return convertToDTO(findEntityById(id));
     }
 
+    @Transactional(readOnly = true)
     public List<ReceiptDTO> listAll() {
         return receiptRepository.findAll().stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<ReceiptDTO> listByMemberAccount(Long memberAccountId) {
         return receiptRepository.findByMemberAccountIdAndActiveTrue(memberAccountId).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<ReceiptDTO> listBySubscriberAccount(Long subscriberAccountId) {
         return receiptRepository.findBySubscriberAccountIdAndActiveTrue(subscriberAccountId).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<ReceiptDTO> listByPeriod(YearMonth yearMonth) {
         String periodStr = yearMonth != null ? yearMonth.toString() : null;
         return receiptRepository.findByPeriod(periodStr).stream()
@@ -98,12 +128,14 @@ public class ReceiptService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<ReceiptDTO> listByReceiptType(ReceiptType receiptType) {
         return receiptRepository.findByReceiptType(receiptType).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<ReceiptDTO> listByIssueDateRange(LocalDate startDate, LocalDate endDate) {
         return receiptRepository.findByIssueDateBetweenAndActiveTrue(startDate, endDate).stream()
                 .map(this::convertToDTO)
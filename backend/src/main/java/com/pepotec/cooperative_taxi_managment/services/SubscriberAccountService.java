@@ -10,6 +10,7 @@ import com.pepotec.cooperative_taxi_managment.repositories.SubscriberAccountRepo
 import com.pepotec.cooperative_taxi_managment.validators.SubscriberAccountValidator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -28,6 +29,7 @@ public class SubscriberAccountService {
     @Autowired
     private SubscriberAccountValidator subscriberAccountValidator;
 
+    @Transactional
     public SubscriberAccountDTO createSubscriberAccount(Long subscriberId, SubscriberAccountCreateDTO account) {
         subscriberAccountValidator.validateSubscriberAccountCreateFields(account.getBalance(), account.getLastModified());
 
@@ -45,12 +47,14 @@ public class SubscriberAccountService {
         return convertToDTO(subscriberAccountRepository.save(entity));
     }
 
+    @Transactional(readOnly = true)
     public SubscriberAccountDTO getSubscriberAccountById(Long id) {
         SubscriberAccountEntity account = subscriberAccountRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(id, "Cuenta de Abonado"));
         return convertToDTO(account);
     }
 
+    @Transactional(readOnly = true)
     public SubscriberAccountDTO getSubscriberAccountBySubscriberId(Long subscriberId) {
         subscriberAccountValidator.validateSubscriberIdNotNull(subscriberId);
         SubscriberAccountEntity account = subscriberAccountRepository.findBySubscriberIdAndActiveTrue(subscriberId)
@@ -58,18 +62,21 @@ public class SubscriberAccountService {
         return convertToDTO(account);
     }
 
+    @Transactional(readOnly = true)
     public List<SubscriberAccountDTO> getAllSubscriberAccounts() {
         return subscriberAccountRepository.findAll().stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<SubscriberAccountDTO> getActiveSubscriberAccounts() {
         return subscriberAccountRepository.findByActiveTrue().stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
 
+    @Transactional
     public SubscriberAccountDTO updateSubscriberAccount(SubscriberAccountDTO account) {
         subscriberAccountValidator.validateIdNotNullForUpdate(account.getId());
 
@@ -87,6 +94,7 @@ public class SubscriberAccountService {
         return convertToDTO(subscriberAccountRepository.save(entity));
     }
 
+    @Transactional
     public void deleteSubscriberAccount(Long id) {
         subscriberAccountValidator.validateIdNotNull(id);
 
@@ -124,7 +132,7 @@ public class SubscriberAccountService {
         return SubscriberAccountDTO.builder()
             .id(entity.getId())
             .subscriberId(entity.getSubscriber().getId())
-            .subscriber(subscriberService.getSubscriberById(entity.getSubscriber().getId()))
+            .subscriber(subscriberService.convertToDTO(entity.getSubscriber()))
             .balance(entity.getBalance())
             .lastModified(entity.getLastModified())
             .active(entity.getActive())
@@ -138,6 +146,19 @@ public class SubscriberAccountService {
         return subscriberAccountRepository.save(entity);
     }
 
+    /**
+     * Aplica un delta al balance con un único UPDATE atómico en SQL y devuelve el balance resultante.
+     * Usado por BalanceUpdateService para que las imputaciones concurrentes no pierdan actualizaciones.
+     */
+    @Transactional
+    public Double applyBalanceDelta(Long id, Double delta) {
+        if (subscriberAccountRepository.addToBalance(id, delta, LocalDate.now()) == 0) {
+            throw new ResourceNotFoundException(id, "Cuenta de Abonado");
+        }
+        return subscriberAccountRepository.findBalanceById(id)
+            .orElseThrow(() -> new ResourceNotFoundException(id, "Cuenta de Abonado"));
+    }
+
     /**
      * Método auxiliar para obtener la entidad por ID (uso interno).
      */
@@ -1,6 +1,7 @@
 package com.pepotec.cooperative_taxi_managment.services;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.pepotec.cooperative_taxi_managment.models.dto.person.subscriber.SubscriberDTO;
 import com.pepotec.cooperative_taxi_managment.models.entities.SubscriberEntity;
 import com.pepotec.cooperative_taxi_managment.repositories.SubscriberRepository;
@@ -28,6 +29,7 @@ public class SubscriberService {
     @Autowired
     private SubscriberAccountService subscriberAccountService;
 
+    @Transactional
     public SubscriberDTO createSubscriber(SubscriberDTO subscriber) {
         // Validar datos básicos de Person
         personValidator.validatePersonData(subscriber);
@@ -51,12 +53,14 @@ public class SubscriberService {
         return convertToDTO(subscriberSaved);
     }
 
+    @Transactional(readOnly = true)
     public SubscriberDTO getSubscriberById(Long id) {
         SubscriberEntity subscriber = subscriberRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(id, "Suscriptor"));
         return convertToDTO(subscriber);
     }
 
+    @Transactional(readOnly = true)
     public SubscriberDTO getSubscriberByDni(String dni) {
         subscriberValidator.validateDniNotEmpty(dni);
         
@@ -65,12 +69,14 @@ public class SubscriberService {
         return convertToDTO(subscriber);
     }
 
+    @Transactional(readOnly = true)
     public List<SubscriberDTO> getAllSubscribers() {
         return subscriberRepository.findAll().stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
 
+    @Transactional
     public SubscriberDTO updateSubscriber(SubscriberDTO subscriber) {
         subscriberValidator.validateIdNotNullForUpdate(subscriber.getId());
         
@@ -93,6 +99,7 @@ public class SubscriberService {
         return convertToDTO(subscriberRepository.save(subscriberSaved));
     }
 
+    @Transactional
     public void deleteSubscriber(Long id) {
         subscriberValidator.validateIdNotNullForUpdate(id);
 
@@ -123,7 +130,10 @@ public class SubscriberService {
         entity.setLicenceNumbers(dto.getLicenceNumbers());
     }
 
-    private SubscriberDTO convertToDTO(SubscriberEntity subscriber) {
+    /**
+     * Convierte un suscriptor ya cargado (para uso interno, sin volver a buscarlo por ID).
+     */
+    public SubscriberDTO convertToDTO(SubscriberEntity subscriber) {
         if (subscriber == null) {
             return null;
         }
@@ -143,6 +153,7 @@ public class SubscriberService {
             .build();
     }
 
+    @Transactional(readOnly = true)
     public List<SubscriberDTO> getAllSubscribersActive() {
         return subscriberRepository.findAll().stream()
             .filter(subscriber -> subscriber.getActive().equals(true))
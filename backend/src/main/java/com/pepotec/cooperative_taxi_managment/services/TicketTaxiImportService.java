@@ -0,0 +1,152 @@
+package com.pepotec.cooperative_taxi_managment.services;
+
+import com.pepotec.cooperative_taxi_managment.exceptions.InvalidDataException;
+import com.pepotec.cooperative_taxi_managment.models.dto.csvimport.CsvImportResultDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.tickettaxi.TicketTaxiCreateDTO;
+import com.pepotec.cooperative_taxi_managment.models.entities.DriverSettlementEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.TicketTaxiEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.VehicleEntity;
+import com.pepotec.cooperative_taxi_managment.repositories.DriverSettlementRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.TicketTaxiBatchRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.VehicleRepository;
+import com.pepotec.cooperative_taxi_managment.services.CsvImportService.ImportReport;
+import com.pepotec.cooperative_taxi_managment.services.CsvImportService.Lookup;
+import com.pepotec.cooperative_taxi_managment.services.CsvRecordReader.CsvRecord;
+import com.pepotec.cooperative_taxi_managment.validators.TicketTaxiValidator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Importación de tickets de taxi desde CSV.
+ *
+ * Columnas: settlement_id, license_plate y amount (obligatorias), ticket_number, start_date,
+ * cut_date, free_kilometers, occupied_kilometers y trips. El vehículo se identifica por patente.
+ */
+@Service
+public class TicketTaxiImportService {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("settlement_id", "license_plate", "amount");
+
+    @Autowired
+    private CsvImportService csvImportService;
+
+    @Autowired
+    private TicketTaxiValidator ticketTaxiValidator;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private DriverSettlementRepository driverSettlementRepository;
+
+    @Autowired
+    private TicketTaxiBatchRepository ticketTaxiBatchRepository;
+
+    public CsvImportResultDTO importTicketTaxis(InputStream input) {
+        return csvImportService.importCsv(input, new TicketTaxiImportHandler());
+    }
+
+    private class TicketTaxiImportHandler implements CsvImportService.Handler<TicketTaxiEntity> {
+
+        private final Lookup<String, VehicleEntity> vehicles = new Lookup<>(plates ->
+            vehicleRepository.findByLicensePlateIn(plates).stream()
+                .collect(Collectors.toMap(vehicle -> normalizePlate(vehicle.getLicensePlate()), Function.identity())));
+
+        private final Lookup<Long, DriverSettlementEntity> settlements = new Lookup<>(ids ->
+            driverSettlementRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(DriverSettlementEntity::getId, Function.identity())));
+
+        @Override
+        public List<String> requiredColumns() {
+            return REQUIRED_COLUMNS;
+        }
+
+        @Override
+        public List<TicketTaxiEntity> process(List<CsvRecord> chunk, ImportReport report) {
+            List<ParsedTicket> parsed = new ArrayList<>(chunk.size());
+            for (CsvRecord record : chunk) {
+                try {
+                    parsed.add(parse(record));
+                } catch (InvalidDataException e) {
+                    report.reject(record.getLineNumber(), e.getMessage());
+                }
+            }
+
+            vehicles.resolve(parsed.stream().map(ticket -> ticket.licensePlate).collect(Collectors.toSet()));
+            settlements.resolve(parsed.stream().map(ticket -> ticket.settlementId).collect(Collectors.toSet()));
+
+            List<TicketTaxiEntity> rows = new ArrayList<>(parsed.size());
+            for (ParsedTicket ticket : parsed) {
+                VehicleEntity vehicle = vehicles.get(ticket.licensePlate);
+                DriverSettlementEntity settlement = settlements.get(ticket.settlementId);
+                if (vehicle == null) {
+                    report.reject(ticket.line, "Vehicle with license plate " + ticket.licensePlate + " not found");
+                } else if (settlement == null) {
+                    report.reject(ticket.line, "Settlement " + ticket.settlementId + " not found");
+                } else {
+                    rows.add(toEntity(ticket.ticket, vehicle, settlement));
+                }
+            }
+            return rows;
+        }
+
+        @Override
+        public void write(List<TicketTaxiEntity> rows) {
+            ticketTaxiBatchRepository.insertAll(rows);
+        }
+
+        private ParsedTicket parse(CsvRecord record) {
+            TicketTaxiCreateDTO ticket = TicketTaxiCreateDTO.builder()
+                .ticketNumber(record.get("ticket_number"))
+                .startDate(record.getDate("start_date"))
+                .cutDate(record.getDate("cut_date"))
+                .amount(record.getDouble("amount"))
+                .freeKilometers(record.getDouble("free_kilometers"))
+                .occupiedKilometers(record.getDouble("occupied_kilometers"))
+                .trips(record.getInteger("trips"))
+                .build();
+            ticketTaxiValidator.validateTicketTaxiCreateFields(ticket);
+
+            ParsedTicket parsed = new ParsedTicket();
+            parsed.line = record.getLineNumber();
+            parsed.licensePlate = normalizePlate(record.getRequired("license_plate"));
+            parsed.settlementId = record.getLong("settlement_id");
+            ticketTaxiValidator.validateSettlementIdNotNull(parsed.settlementId);
+            parsed.ticket = ticket;
+            return parsed;
+        }
+    }
+
+    private static TicketTaxiEntity toEntity(TicketTaxiCreateDTO ticket, VehicleEntity vehicle,
+                                             DriverSettlementEntity settlement) {
+        return TicketTaxiEntity.builder()
+            .vehicle(vehicle)
+            .settlement(settlement)
+            .ticketNumber(ticket.getTicketNumber())
+            .startDate(ticket.getStartDate())
+            .cutDate(ticket.getCutDate())
+            .amount(ticket.getAmount())
+            .freeKilometers(ticket.getFreeKilometers())
+            .occupiedKilometers(ticket.getOccupiedKilometers())
+            .trips(ticket.getTrips())
+            .build();
+    }
+
+    private static String normalizePlate(String licensePlate) {
+        return licensePlate.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static class ParsedTicket {
+        private int line;
+        private String licensePlate;
+        private Long settlementId;
+        private TicketTaxiCreateDTO ticket;
+    }
+}
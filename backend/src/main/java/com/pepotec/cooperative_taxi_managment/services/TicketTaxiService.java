@@ -3,8 +3,11 @@ package com.pepotec.cooperative_taxi_managment.services;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.pepotec.cooperative_taxi_managment.models.dto.tickettaxi.TicketTaxiDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.tickettaxi.TicketTaxiTotalsDTO;
 import com.pepotec.cooperative_taxi_managment.models.dto.tickettaxi.TicketTaxiCreateDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.page.KeysetPageDTO;
 import com.pepotec.cooperative_taxi_managment.models.entities.TicketTaxiEntity;
 import com.pepotec.cooperative_taxi_managment.models.entities.VehicleEntity;
 import com.pepotec.cooperative_taxi_managment.repositories.TicketTaxiRepository;
@@ -12,7 +15,10 @@ import com.pepotec.cooperative_taxi_managment.exceptions.ResourceNotFoundExcepti
 import com.pepotec.cooperative_taxi_managment.exceptions.InvalidDataException;
 import com.pepotec.cooperative_taxi_managment.validators.TicketTaxiValidator;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,6 +27,9 @@ public class TicketTaxiService {
     @Autowired
     private TicketTaxiRepository ticketTaxiRepository;
 
+    @Autowired
+    private KeysetListingService keysetListingService;
+
     @Autowired
     private VehicleService vehicleService;
 
@@ -30,6 +39,9 @@ public class TicketTaxiService {
     @Autowired
     private TicketTaxiValidator ticketTaxiValidator;
 
+    @Autowired
+    private BatchDtoAssembler batchDtoAssembler;
+
     @Transactional
     public TicketTaxiDTO createTicketTaxi(Long settlementId, Long vehicleId, TicketTaxiCreateDTO ticketTaxi) {
         ticketTaxiValidator.validateTicketTaxiCreateFields(ticketTaxi);
@@ -44,12 +56,14 @@ public class TicketTaxiService {
         return convertToDTO(ticketTaxiRepository.save(ticketTaxiEntity));
     }
 
+    @Transactional(readOnly = true)
     public TicketTaxiDTO getTicketTaxiById(Long id) {
         TicketTaxiEntity ticketTaxi = ticketTaxiRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(id, "Ticket de Taxi"));
         return convertToDTO(ticketTaxi);
     }
 
+    @Transactional(readOnly = true)
     public TicketTaxiDTO getTicketTaxiByTicketNumber(String ticketNumber) {
         ticketTaxiValidator.validateTicketNumberNotEmpty(ticketNumber);
 
@@ -58,72 +72,124 @@ public class TicketTaxiService {
         return convertToDTO(ticketTaxi);
     }
 
+    @Transactional(readOnly = true)
     public List<TicketTaxiDTO> getAllTicketTaxis() {
-        return ticketTaxiRepository.findAll().stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(ticketTaxiRepository.findAll());
+    }
+
+    /**
+     * Página de tickets de taxi ordenada por ID, a partir del último ID recibido.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<TicketTaxiDTO> getTicketTaxisPage(Long afterId, Integer size) {
+        return keysetListingService.page(afterId, size,
+            ticketTaxiRepository::findByIdGreaterThanOrderByIdAsc, TicketTaxiEntity::getId, this::convertToDTOs);
+    }
+
+    /**
+     * Exporta todos los registros como NDJSON, leyendo la tabla como Stream.
+     */
+    public StreamingResponseBody streamAllTicketTaxis() {
+        return keysetListingService.ndjson(ticketTaxiRepository::streamAllByOrderByIdAsc, this::convertToDTOs);
     }
 
+    @Transactional(readOnly = true)
     public List<TicketTaxiDTO> getTicketTaxisByVehicle(Long vehicleId) {
         ticketTaxiValidator.validateVehicleIdNotNull(vehicleId);
-        return ticketTaxiRepository.findByVehicleId(vehicleId).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(ticketTaxiRepository.findByVehicleId(vehicleId));
     }
 
+    @Transactional(readOnly = true)
     public List<TicketTaxiDTO> getTicketTaxisBySettlement(Long settlementId) {
         ticketTaxiValidator.validateSettlementIdNotNull(settlementId);
-        return ticketTaxiRepository.findBySettlementId(settlementId).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(ticketTaxiRepository.findBySettlementId(settlementId));
     }
 
+    @Transactional(readOnly = true)
     public List<TicketTaxiDTO> getTicketTaxisByStartDateRange(LocalDate startDate, LocalDate endDate) {
         ticketTaxiValidator.validateDateRange(startDate, endDate);
-        return ticketTaxiRepository.findByStartDateBetween(startDate, endDate).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(ticketTaxiRepository.findByStartDateBetween(startDate, endDate));
     }
 
+    @Transactional(readOnly = true)
     public List<TicketTaxiDTO> getTicketTaxisByCutDateRange(LocalDate startDate, LocalDate endDate) {
         ticketTaxiValidator.validateDateRange(startDate, endDate);
-        return ticketTaxiRepository.findByCutDateBetween(startDate, endDate).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(ticketTaxiRepository.findByCutDateBetween(startDate, endDate));
     }
 
+    @Transactional(readOnly = true)
     public List<TicketTaxiDTO> getTicketTaxisByVehicleAndStartDateRange(Long vehicleId, LocalDate startDate, LocalDate endDate) {
         ticketTaxiValidator.validateVehicleIdNotNull(vehicleId);
         ticketTaxiValidator.validateDateRange(startDate, endDate);
-        return ticketTaxiRepository.findByVehicleIdAndStartDateBetween(vehicleId, startDate, endDate).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(ticketTaxiRepository.findByVehicleIdAndStartDateBetween(vehicleId, startDate, endDate));
     }
 
+    @Transactional(readOnly = true)
     public List<TicketTaxiDTO> getTicketTaxisByVehicleAndCutDateRange(Long vehicleId, LocalDate startDate, LocalDate endDate) {
         ticketTaxiValidator.validateVehicleIdNotNull(vehicleId);
         ticketTaxiValidator.validateDateRange(startDate, endDate);
-        return ticketTaxiRepository.findByVehicleIdAndCutDateBetween(vehicleId, startDate, endDate).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(ticketTaxiRepository.findByVehicleIdAndCutDateBetween(vehicleId, startDate, endDate));
     }
 
+    @Transactional(readOnly = true)
     public List<TicketTaxiDTO> getTicketTaxisBySettlementAndStartDateRange(Long settlementId, LocalDate startDate, LocalDate endDate) {
         ticketTaxiValidator.validateSettlementIdNotNull(settlementId);
         ticketTaxiValidator.validateDateRange(startDate, endDate);
-        return ticketTaxiRepository.findBySettlementIdAndStartDateBetween(settlementId, startDate, endDate).stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return convertToDTOs(ticketTaxiRepository.findBySettlementIdAndStartDateBetween(settlementId, startDate, endDate));
     }
 
+    @Transactional(readOnly = true)
     public List<TicketTaxiDTO> getTicketTaxisBySettlementAndCutDateRange(Long settlementId, LocalDate startDate, LocalDate endDate) {
         ticketTaxiValidator.validateSettlementIdNotNull(settlementId);
         ticketTaxiValidator.validateDateRange(startDate, endDate);
-        return ticketTaxiRepository.findBySettlementIdAndCutDateBetween(settlementId, startDate, endDate).stream()
-            .map(this::convertToDTO)
+        return convertToDTOs(ticketTaxiRepository.findBySettlementIdAndCutDateBetween(settlementId, startDate, endDate));
+    }
+
+    /**
+     * Totales de tickets de una rendición (monto, kilómetros, viajes y cantidad)
+     * calculados con una consulta agregada, sin cargar los tickets.
+     */
+    @Transactional(readOnly = true)
+    public TicketTaxiTotalsDTO getTotalsBySettlement(Long settlementId) {
+        ticketTaxiValidator.validateSettlementIdNotNull(settlementId);
+        return getTotalsBySettlements(List.of(settlementId)).get(0);
+    }
+
+    /**
+     * Totales de tickets de varias rendiciones en una sola consulta.
+     * Devuelve un elemento por ID pedido, en el mismo orden (en cero si la rendición no tiene tickets).
+     */
+    @Transactional(readOnly = true)
+    public List<TicketTaxiTotalsDTO> getTotalsBySettlements(Collection<Long> settlementIds) {
+        ticketTaxiValidator.validateSettlementIdsNotEmpty(settlementIds);
+        Map<Long, TicketTaxiTotalsDTO> totals = ticketTaxiRepository.findTotalsBySettlementIds(settlementIds).stream()
+            .collect(Collectors.toMap(TicketTaxiTotalsDTO::getGroupId, Function.identity()));
+        return settlementIds.stream()
+            .distinct()
+            .map(id -> totals.getOrDefault(id, TicketTaxiTotalsDTO.empty(id)))
             .collect(Collectors.toList());
     }
 
+    /**
+     * Totales de tickets de un vehículo calculados con una consulta agregada.
+     */
+    @Transactional(readOnly = true)
+    public TicketTaxiTotalsDTO getTotalsByVehicle(Long vehicleId) {
+        ticketTaxiValidator.validateVehicleIdNotNull(vehicleId);
+        return ticketTaxiRepository.findTotalsByVehicleIds(List.of(vehicleId)).stream()
+            .findFirst()
+            .orElse(TicketTaxiTotalsDTO.empty(vehicleId));
+    }
+
+    /**
+     * Totales por vehículo de los tickets con fecha de corte en el rango.
+     */
+    @Transactional(readOnly = true)
+    public List<TicketTaxiTotalsDTO> getVehicleTotalsByCutDateRange(LocalDate startDate, LocalDate endDate) {
+        ticketTaxiValidator.validateDateRange(startDate, endDate);
+        return ticketTaxiRepository.findVehicleTotalsByCutDateBetween(startDate, endDate);
+    }
+
     @Transactional
     public TicketTaxiDTO updateTicketTaxi(TicketTaxiDTO ticketTaxi) {
         ticketTaxiValidator.validateIdNotNullForUpdate(ticketTaxi.getId());
@@ -149,6 +215,7 @@ public class TicketTaxiService {
         return convertToDTO(ticketTaxiRepository.save(ticketTaxiEntity));
     }
 
+    @Transactional
     public void deleteTicketTaxi(Long id) {
         ticketTaxiValidator.validateIdNotNull(id);
 
@@ -192,6 +259,35 @@ public class TicketTaxiService {
         return entity;
     }
 
+    /**
+     * Convierte un listado completo cargando vehículos y rendiciones (con su chofer)
+     * con una consulta por tipo (ver BatchDtoAssembler) en lugar de varias por fila.
+     */
+    private List<TicketTaxiDTO> convertToDTOs(List<TicketTaxiEntity> ticketTaxis) {
+        BatchDtoAssembler.Lookup lookup = batchDtoAssembler.prefetch(
+            List.of(),
+            ticketTaxis.stream().map(ticketTaxi -> ticketTaxi.getVehicle().getId()).collect(Collectors.toSet()),
+            ticketTaxis.stream()
+                .filter(ticketTaxi -> ticketTaxi.getSettlement() != null)
+                .map(ticketTaxi -> ticketTaxi.getSettlement().getId())
+                .collect(Collectors.toSet()));
+
+        return ticketTaxis.stream()
+            .map(ticketTaxi -> TicketTaxiDTO.builder()
+                .id(ticketTaxi.getId())
+                .vehicle(lookup.vehicle(ticketTaxi.getVehicle().getId()))
+                .settlement(ticketTaxi.getSettlement() != null ? lookup.settlement(ticketTaxi.getSettlement().getId()) : null)
+                .ticketNumber(ticketTaxi.getTicketNumber())
+                .startDate(ticketTaxi.getStartDate())
+                .cutDate(ticketTaxi.getCutDate())
+                .amount(ticketTaxi.getAmount())
+                .freeKilometers(ticketTaxi.getFreeKilometers())
+                .occupiedKilometers(ticketTaxi.getOccupiedKilometers())
+                .trips(ticketTaxi.getTrips())
+                .build())
+            .collect(Collectors.toList());
+    }
+
     private TicketTaxiDTO convertToDTO(TicketTaxiEntity ticketTaxi) {
         if (ticketTaxi == null) {
             return null;
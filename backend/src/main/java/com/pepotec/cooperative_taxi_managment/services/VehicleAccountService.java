@@ -10,6 +10,7 @@ import com.pepotec.cooperative_taxi_managment.repositories.VehicleAccountReposit
 import com.pepotec.cooperative_taxi_managment.validators.VehicleAccountValidator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -28,6 +29,7 @@ public class VehicleAccountService {
     @Autowired
     private VehicleAccountValidator vehicleAccountValidator;
 
+    @Transactional
     public VehicleAccountDTO createVehicleAccount(Long vehicleId, VehicleAccountCreateDTO account) {
         vehicleAccountValidator.validateVehicleAccountCreateFields(account.getBalance(), account.getLastModified());
 
@@ -45,12 +47,14 @@ public class VehicleAccountService {
         return convertToDTO(vehicleAccountRepository.save(entity));
     }
 
+    @Transactional(readOnly = true)
     public VehicleAccountDTO getVehicleAccountById(Long id) {
         VehicleAccountEntity account = vehicleAccountRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(id, "Cuenta de Vehículo"));
         return convertToDTO(account);
     }
 
+    @Transactional(readOnly = true)
     public VehicleAccountDTO getVehicleAccountByVehicleId(Long vehicleId) {
         vehicleAccountValidator.validateVehicleIdNotNull(vehicleId);
         VehicleAccountEntity account = vehicleAccountRepository.findByVehicleIdAndActiveTrue(vehicleId)
@@ -58,18 +62,21 @@ public class VehicleAccountService {
         return convertToDTO(account);
     }
 
+    @Transactional(readOnly = true)
     public List<VehicleAccountDTO> getAllVehicleAccounts() {
         return vehicleAccountRepository.findAll().stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<VehicleAccountDTO> getActiveVehicleAccounts() {
         return vehicleAccountRepository.findByActiveTrue().stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
 
+    @Transactional
     public VehicleAccountDTO updateVehicleAccount(VehicleAccountDTO account) {
         vehicleAccountValidator.validateIdNotNullForUpdate(account.getId());
 
@@ -87,6 +94,7 @@ public class VehicleAccountService {
         return convertToDTO(vehicleAccountRepository.save(entity));
     }
 
+    @Transactional
     public void deleteVehicleAccount(Long id) {
         vehicleAccountValidator.validateIdNotNull(id);
 
@@ -124,7 +132,7 @@ public class VehicleAccountService {
         return VehicleAccountDTO.builder()
             .id(entity.getId())
             .vehicleId(entity.getVehicle().getId())
-            .vehicle(vehicleService.getVehicleById(entity.getVehicle().getId()))
+            .vehicle(vehicleService.convertToDTO(entity.getVehicle()))
             .balance(entity.getBalance())
             .lastModified(entity.getLastModified())
             .active(entity.getActive())
@@ -138,6 +146,19 @@ public class VehicleAccountService {
         return vehicleAccountRepository.save(entity);
     }
 
+    /**
+     * Aplica un delta al balance con un único UPDATE atómico en SQL y devuelve el balance resultante.
+     * Usado por BalanceUpdateService para que las imputaciones concurrentes no pierdan actualizaciones.
+     */
+    @Transactional
+    public Double applyBalanceDelta(Long id, Double delta) {
+        if (vehicleAccountRepository.addToBalance(id, delta, LocalDate.now()) == 0) {
+            throw new ResourceNotFoundException(id, "Cuenta de Vehículo");
+        }
+        return vehicleAccountRepository.findBalanceById(id)
+            .orElseThrow(() -> new ResourceNotFoundException(id, "Cuenta de Vehículo"));
+    }
+
     /**
      * Método auxiliar para obtener la entidad por ID (uso interno).
      */
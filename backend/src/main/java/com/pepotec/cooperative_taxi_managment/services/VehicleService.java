@@ -10,6 +10,8 @@ import com.pepotec.cooperative_taxi_managment.repositories.VehicleRepository;
 import com.pepotec.cooperative_taxi_managment.exceptions.ResourceNotFoundException;
 import com.pepotec.cooperative_taxi_managment.exceptions.InvalidDataException;
 import com.pepotec.cooperative_taxi_managment.validators.VehicleValidator;
+import com.pepotec.cooperative_taxi_managment.validators.BatchUniquenessValidator;
+import org.springframework.transaction.annotation.Transactional;
 import com.pepotec.cooperative_taxi_managment.models.dto.vehicle.account.VehicleAccountCreateDTO;
 import java.time.LocalDate;
 import java.util.List;
@@ -30,6 +32,10 @@ public class VehicleService {
     @Autowired
     private VehicleAccountService vehicleAccountService;
 
+    @Autowired
+    private BatchUniquenessValidator batchUniquenessValidator;
+
+    @Transactional
     public VehicleDTO createVehicle(VehicleCreateDTO vehicle) {
         vehicleValidator.validateVehicleCreateFields(vehicle);
         // Para unicidad usamos los valores del createDTO
@@ -46,6 +52,25 @@ public class VehicleService {
             null
         );
 
+        return saveNewVehicle(vehicle);
+    }
+
+    /**
+     * Crea un lote de vehículos (con sus cuentas) en una sola transacción.
+     * La unicidad de patente, licencia, motor y chasis se valida para todo el lote con una
+     * consulta por campo, y se informan todos los conflictos juntos: si hay alguno no se guarda ningún vehículo.
+     */
+    @Transactional
+    public List<VehicleDTO> createVehicles(List<VehicleCreateDTO> vehicles) {
+        batchUniquenessValidator.validateEach(vehicles, vehicleValidator::validateVehicleCreateFields, "Vehicle");
+        batchUniquenessValidator.validateVehicles(vehicles);
+
+        return vehicles.stream()
+            .map(this::saveNewVehicle)
+            .collect(Collectors.toList());
+    }
+
+    private VehicleDTO saveNewVehicle(VehicleCreateDTO vehicle) {
         ModelEntity model = modelService.getModelEntityById(vehicle.getModelId());
 
         VehicleEntity vehicleEntity = VehicleEntity.builder()
@@ -71,12 +96,14 @@ public class VehicleService {
         return convertToDTO(vehicleEntity);
     }
 
+    @Transactional(readOnly = true)
     public VehicleDTO getVehicleById(Long id) {
         VehicleEntity vehicle = vehicleRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(id, "Vehículo"));
         return convertToDTO(vehicle);
     }
 
+    @Transactional(readOnly = true)
     public VehicleDTO getVehicleByLicensePlate(String licensePlate) {
         if (licensePlate == null || licensePlate.trim().isEmpty()) {
             throw new InvalidDataException("The license plate cannot be empty");
@@ -87,24 +114,28 @@ public class VehicleService {
         return convertToDTO(vehicle);
     }
 
+    @Transactional(readOnly = true)
     public List<VehicleDTO> getAllVehicles() {
         return vehicleRepository.findAll().stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<VehicleDTO> getActiveVehicles() {
         return vehicleRepository.findByActiveTrueAndLeaveDateIsNull().stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<VehicleDTO> getVehiclesByModel(Long modelId) {
         return vehicleRepository.findByModelId(modelId).stream()
             .map(this::convertToDTO)
             .collect(Collectors.toList());
     }
 
+    @Transactional
     public VehicleDTO updateVehicle(VehicleDTO vehicle) {
         if (vehicle.getId() == null) {
             throw new InvalidDataException("The ID cannot be null for update");
@@ -129,6 +160,7 @@ public class VehicleService {
         return convertToDTO(vehicleRepository.save(vehicleEntity));
     }
 
+    @Transactional
     public void deleteVehicle(Long id) {
         if (id == null) {
             throw new InvalidDataException("The ID cannot be null");
@@ -142,6 +174,7 @@ public class VehicleService {
         vehicleRepository.save(vehicle);
     }
 
+    @Transactional
     public void deleteVehicle(Long id, LocalDate leaveDate) {
         if (id == null) {
             throw new InvalidDataException("The ID cannot be null");
@@ -168,7 +201,10 @@ public class VehicleService {
             .build();
     }
 
-    private VehicleDTO convertToDTO(VehicleEntity vehicle) {
+    /**
+     * Convierte un vehículo ya cargado (para uso interno, sin volver a buscarlo por ID).
+     */
+    public VehicleDTO convertToDTO(VehicleEntity vehicle) {
         if (vehicle == null) {
             return null;
         }
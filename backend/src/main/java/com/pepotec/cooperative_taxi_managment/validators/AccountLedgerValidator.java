@@ -0,0 +1,49 @@
+package com.pepotec.cooperative_taxi_managment.validators;
+
+import com.pepotec.cooperative_taxi_managment.exceptions.InvalidDataException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Validator para las consultas del libro de saldos de cuentas.
+ */
+@Component
+public class AccountLedgerValidator {
+
+    /**
+     * Valida los parámetros de una consulta de saldo a una fecha.
+     */
+    public void validateBalanceAtFields(Long memberAccountId, Long subscriberAccountId, Long vehicleAccountId,
+                                        LocalDate date) {
+        validateOnlyOneAccount(memberAccountId, subscriberAccountId, vehicleAccountId);
+        if (date == null) {
+            throw new InvalidDataException("The date cannot be null");
+        }
+    }
+
+    /**
+     * Valida los parámetros de una consulta de extracto.
+     */
+    public void validateStatementFields(Long memberAccountId, Long subscriberAccountId, Long vehicleAccountId,
+                                        LocalDate startDate, LocalDate endDate) {
+        validateOnlyOneAccount(memberAccountId, subscriberAccountId, vehicleAccountId);
+        if (startDate == null || endDate == null) {
+            throw new InvalidDataException("The start and end dates cannot be null");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidDataException("The start date cannot be after the end date");
+        }
+    }
+
+    private void validateOnlyOneAccount(Long memberAccountId, Long subscriberAccountId, Long vehicleAccountId) {
+        int accountCount = 0;
+        if (memberAccountId != null) accountCount++;
+        if (subscriberAccountId != null) accountCount++;
+        if (vehicleAccountId != null) accountCount++;
+
+        if (accountCount != 1) {
+            throw new InvalidDataException("Exactly one account must be specified (memberAccountId, subscriberAccountId or vehicleAccountId)");
+        }
+    }
+}
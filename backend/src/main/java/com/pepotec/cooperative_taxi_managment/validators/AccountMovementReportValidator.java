@@ -0,0 +1,43 @@
+package com.pepotec.cooperative_taxi_managment.validators;
+
+import com.pepotec.cooperative_taxi_managment.exceptions.InvalidDataException;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * Validator para las consultas de movimientos de cuenta y asignaciones de pago por cuenta.
+ */
+@Component
+public class AccountMovementReportValidator {
+
+    /**
+     * Valida los parámetros de un listado por cuenta y rango de períodos.
+     */
+    public void validateListFields(Long memberAccountId, Long subscriberAccountId, Long vehicleAccountId,
+                                   YearMonth fromYearMonth, YearMonth toYearMonth) {
+        int accountCount = 0;
+        if (memberAccountId != null) accountCount++;
+        if (subscriberAccountId != null) accountCount++;
+        if (vehicleAccountId != null) accountCount++;
+
+        if (accountCount != 1) {
+            throw new InvalidDataException("Exactly one account must be specified (memberAccountId, subscriberAccountId or vehicleAccountId)");
+        }
+        if (fromYearMonth == null || toYearMonth == null) {
+            throw new InvalidDataException("The start and end periods cannot be null");
+        }
+        if (fromYearMonth.isAfter(toYearMonth)) {
+            throw new InvalidDataException("The start period cannot be after the end period");
+        }
+    }
+
+    /**
+     * Valida el ID de movimiento de cuenta.
+     */
+    public void validateAccountMovementId(Long accountMovementId) {
+        if (accountMovementId == null || accountMovementId <= 0) {
+            throw new InvalidDataException("The account movement ID must be positive");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.pepotec.cooperative_taxi_managment.validators;
+
+import com.pepotec.cooperative_taxi_managment.exceptions.InvalidDataException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.regex.Pattern;
+
+/**
+ * Validator para las consultas del extracto combinado de una cuenta.
+ */
+@Component
+public class AccountStatementValidator {
+
+    // fecha:origen:ID, por ejemplo 2024-03-05:MOVEMENT:1234
+    private static final Pattern CURSOR = Pattern.compile("\\d{4}-\\d{2}-\\d{2}:[A-Z_]+:\\d+");
+
+    /**
+     * Valida los parámetros de un extracto por cuenta y rango de fechas.
+     */
+    public void validateStatementFields(Long memberAccountId, Long subscriberAccountId, Long vehicleAccountId,
+                                        LocalDate startDate, LocalDate endDate) {
+        int accountCount = 0;
+        if (memberAccountId != null) accountCount++;
+        if (subscriberAccountId != null) accountCount++;
+        if (vehicleAccountId != null) accountCount++;
+
+        if (accountCount != 1) {
+            throw new InvalidDataException("Exactly one account must be specified (memberAccountId, subscriberAccountId or vehicleAccountId)");
+        }
+        if (startDate == null || endDate == null) {
+            throw new InvalidDataException("The start and end dates cannot be null");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidDataException("The start date cannot be after the end date");
+        }
+    }
+
+    /**
+     * Valida el formato del cursor de página (null para la primera página).
+     */
+    public void validateCursor(String cursor) {
+        if (cursor != null && !CURSOR.matcher(cursor).matches()) {
+            throw new InvalidDataException("The cursor must have the format yyyy-MM-dd:SOURCE:id");
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.pepotec.cooperative_taxi_managment.validators;
+
+import com.pepotec.cooperative_taxi_managment.exceptions.BatchConflictException;
+import com.pepotec.cooperative_taxi_managment.exceptions.InvalidDataException;
+import com.pepotec.cooperative_taxi_managment.models.dto.batch.BatchConflictDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.person.PersonDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.receipt.ReceiptCreateDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.vehicle.VehicleCreateDTO;
+import com.pepotec.cooperative_taxi_managment.repositories.MemberRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.ReceiptRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.VehicleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Validator de unicidad para cargas en lote (socios, vehículos y recibos).
+ *
+ * En lugar de consultar cada campo único de cada registro (como validateUniqueFields de
+ * MemberValidator o VehicleValidator), junta los valores de todo el lote y los busca con
+ * una consulta IN por columna. Informa todos los conflictos juntos, tanto con registros
+ * existentes como entre registros del mismo lote, mediante BatchConflictException.
+ *
+ * Los valores de texto se comparan sin distinguir mayúsculas ni espacios en los extremos,
+ * igual que la collation por defecto de MySQL.
+ */
+@Component
+public class BatchUniquenessValidator {
+
+    private static final int IN_CLAUSE_SIZE = 1000;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private ReceiptRepository receiptRepository;
+
+    /**
+     * Valida cada registro del lote. El mensaje de error indica la posición del registro inválido.
+     * @param items Registros del lote
+     * @param validator Validación de un registro
+     * @param label Nombre del registro para el mensaje (ej: "Member", "Vehicle")
+     */
+    public <D> void validateEach(List<D> items, Consumer<D> validator, String label) {
+        for (int i = 0; i < items.size(); i++) {
+            try {
+                validator.accept(items.get(i));
+            } catch (InvalidDataException e) {
+                throw new InvalidDataException(label + " #" + (i + 1) + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Valida que DNI, CUIT y email del lote no estén repetidos ni pertenezcan a socios activos.
+     * @param members Socios a crear
+     * @throws BatchConflictException con todos los conflictos encontrados
+     */
+    public void validateMembers(List<? extends PersonDTO> members) {
+        List<BatchConflictDTO> conflicts = new ArrayList<>();
+        checkColumn(members, PersonDTO::getDni, memberRepository::findExistingDnis, "DNI", "miembro", conflicts);
+        checkColumn(members, PersonDTO::getCuit, memberRepository::findExistingCuits, "CUIT", "miembro", conflicts);
+        checkColumn(members, PersonDTO::getEmail, memberRepository::findExistingEmails, "Email", "miembro", conflicts);
+        throwIfAny(conflicts);
+    }
+
+    /**
+     * Valida que patente, número de licencia, número de motor y número de chasis del lote
+     * no estén repetidos ni pertenezcan a vehículos existentes.
+     * @param vehicles Vehículos a crear
+     * @throws BatchConflictException con todos los conflictos encontrados
+     */
+    public void validateVehicles(List<VehicleCreateDTO> vehicles) {
+        List<BatchConflictDTO> conflicts = new ArrayList<>();
+        checkColumn(vehicles, VehicleCreateDTO::getLicensePlate, vehicleRepository::findExistingLicensePlates,
+            "patente", "vehículo", conflicts);
+        checkColumn(vehicles, VehicleCreateDTO::getLicenseNumber, vehicleRepository::findExistingLicenseNumbers,
+            "número de licencia", "vehículo", conflicts);
+        checkColumn(vehicles, VehicleCreateDTO::getEngineNumber, vehicleRepository::findExistingEngineNumbers,
+            "número de motor", "vehículo", conflicts);
+        checkColumn(vehicles, VehicleCreateDTO::getChassisNumber, vehicleRepository::findExistingChassisNumbers,
+            "número de chasis", "vehículo", conflicts);
+        throwIfAny(conflicts);
+    }
+
+    /**
+     * Valida la unicidad de cuenta + período y de número + talonario + tipo de los recibos del lote,
+     * contra los recibos existentes y dentro del lote.
+     * @param receipts Recibos a crear
+     * @throws BatchConflictException con todos los conflictos encontrados
+     */
+    public void validateReceipts(List<ReceiptCreateDTO> receipts) {
+        List<BatchConflictDTO> conflicts = new ArrayList<>();
+        Set<String> periods = receipts.stream()
+            .map(ReceiptCreateDTO::getYearMonth)
+            .filter(Objects::nonNull)
+            .map(Object::toString)
+            .collect(Collectors.toSet());
+
+        Set<String> existingMemberPeriods = findInChunks(
+            periods.isEmpty() ? List.<Long>of() : distinct(receipts, ReceiptCreateDTO::getMemberAccountId),
+            ids -> receiptRepository.findByMemberAccountIdInAndPeriodIn(ids, periods)).stream()
+            .map(receipt -> accountPeriodKey(receipt.getMemberAccount().getId(), receipt.getYearMonth()))
+            .collect(Collectors.toSet());
+        checkKeys(receipts,
+            dto -> dto.getMemberAccountId() != null ? accountPeriodKey(dto.getMemberAccountId(), period(dto)) : null,
+            existingMemberPeriods, "cuenta de socio y período", "recibo", conflicts);
+
+        Set<String> existingSubscriberPeriods = findInChunks(
+            periods.isEmpty() ? List.<Long>of() : distinct(receipts, ReceiptCreateDTO::getSubscriberAccountId),
+            ids -> receiptRepository.findBySubscriberAccountIdInAndPeriodIn(ids, periods)).stream()
+            .map(receipt -> accountPeriodKey(receipt.getSubscriberAccount().getId(), receipt.getYearMonth()))
+            .collect(Collectors.toSet());
+        checkKeys(receipts,
+            dto -> dto.getSubscriberAccountId() != null ? accountPeriodKey(dto.getSubscriberAccountId(), period(dto)) : null,
+            existingSubscriberPeriods, "cuenta de abonado y período", "recibo", conflicts);
+
+        Set<Integer> receiptNumbers = new HashSet<>(distinct(receipts, ReceiptCreateDTO::getReceiptNumber));
+        Set<String> existingBooklets = findInChunks(
+            receiptNumbers.isEmpty() ? List.<Integer>of() : distinct(receipts, ReceiptCreateDTO::getBookletNumber),
+            booklets -> receiptRepository.findByBookletNumberInAndReceiptNumberIn(booklets, receiptNumbers)).stream()
+            .map(receipt -> bookletKey(receipt.getReceiptNumber(), receipt.getBookletNumber(), receipt.getReceiptType()))
+            .collect(Collectors.toSet());
+        checkKeys(receipts,
+            dto -> dto.getReceiptNumber() != null && dto.getBookletNumber() != null
+                ? bookletKey(dto.getReceiptNumber(), dto.getBookletNumber(), dto.getReceiptType())
+                : null,
+            existingBooklets, "número, talonario y tipo", "recibo", conflicts);
+
+        throwIfAny(conflicts);
+    }
+
+    /**
+     * Busca los valores de una columna única con consultas IN y registra los conflictos.
+     */
+    private <T> void checkColumn(List<T> items, Function<T, String> getter,
+                                 Function<Collection<String>, List<String>> finder,
+                                 String fieldName, String resourceType, List<BatchConflictDTO> conflicts) {
+        Set<String> existing = findInChunks(distinct(items, getter), finder).stream()
+            .map(this::normalize)
+            .collect(Collectors.toSet());
+        checkKeys(items, item -> normalize(getter.apply(item)), existing, fieldName, resourceType, conflicts,
+            item -> getter.apply(item));
+    }
+
+    private <T> void checkKeys(List<T> items, Function<T, String> keyOf, Set<String> existingKeys,
+                               String fieldName, String resourceType, List<BatchConflictDTO> conflicts) {
+        checkKeys(items, keyOf, existingKeys, fieldName, resourceType, conflicts, keyOf);
+    }
+
+    /**
+     * Registra un conflicto por cada registro cuya clave ya existe o se repite en un registro anterior del lote.
+     */
+    private <T> void checkKeys(List<T> items, Function<T, String> keyOf, Set<String> existingKeys,
+                               String fieldName, String resourceType, List<BatchConflictDTO> conflicts,
+                               Function<T, String> displayOf) {
+        Map<String, Integer> firstIndexByKey = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            String key = keyOf.apply(item);
+            if (key == null) {
+                continue;
+            }
+            int index = i + 1;
+            String value = displayOf.apply(item);
+            if (existingKeys.contains(key)) {
+                conflicts.add(BatchConflictDTO.builder()
+                    .index(index)
+                    .fieldName(fieldName)
+                    .fieldValue(value)
+                    .message(String.format("Ya existe un %s con %s: %s", resourceType, fieldName, value))
+                    .build());
+            }
+            Integer firstIndex = firstIndexByKey.putIfAbsent(key, index);
+            if (firstIndex != null) {
+                conflicts.add(BatchConflictDTO.builder()
+                    .index(index)
+                    .fieldName(fieldName)
+                    .fieldValue(value)
+                    .duplicateOfIndex(firstIndex)
+                    .message(String.format("El %s %s se repite en el registro #%d del lote", fieldName, value, firstIndex))
+                    .build());
+            }
+        }
+    }
+
+    private <T, V> List<V> distinct(List<T> items, Function<T, V> getter) {
+        return new ArrayList<>(items.stream()
+            .map(getter)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
+
+    private <V, R> List<R> findInChunks(List<V> values, Function<Collection<V>, List<R>> finder) {
+        List<R> results = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += IN_CLAUSE_SIZE) {
+            results.addAll(finder.apply(values.subList(from, Math.min(from + IN_CLAUSE_SIZE, values.size()))));
+        }
+        return results;
+    }
+
+    private void throwIfAny(List<BatchConflictDTO> conflicts) {
+        if (!conflicts.isEmpty()) {
+            conflicts.sort(Comparator.comparing(BatchConflictDTO::getIndex));
+            throw new BatchConflictException(conflicts);
+        }
+    }
+
+    private String normalize(String value) {
+        return value != null ? value.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private String period(ReceiptCreateDTO dto) {
+        return dto.getYearMonth() != null ? dto.getYearMonth().toString() : null;
+    }
+
+    private String accountPeriodKey(Long accountId, String period) {
+        return accountId + " / " + period;
+    }
+
+    private String bookletKey(Integer receiptNumber, Integer bookletNumber, Object receiptType) {
+        return receiptNumber + " / " + bookletNumber + " / " + receiptType;
+    }
+}
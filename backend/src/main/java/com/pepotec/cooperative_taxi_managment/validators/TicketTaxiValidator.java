@@ -6,6 +6,8 @@ import com.pepotec.cooperative_taxi_managment.models.dto.tickettaxi.TicketTaxiCr
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Objects;
 
 @Component
 public class TicketTaxiValidator {
@@ -154,5 +156,17 @@ public class TicketTaxiValidator {
             throw new InvalidDataException("The start date cannot be after the end date");
         }
     }
-}
 
+    /**
+     * Valida que la lista de IDs de rendición no esté vacía ni contenga nulos.
+     * @param settlementIds IDs de rendición a validar
+     */
+    public void validateSettlementIdsNotEmpty(Collection<Long> settlementIds) {
+        if (settlementIds == null || settlementIds.isEmpty()) {
+            throw new InvalidDataException("The settlement IDs cannot be empty");
+        }
+        if (settlementIds.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidDataException("The settlement IDs cannot contain null values");
+        }
+    }
+}
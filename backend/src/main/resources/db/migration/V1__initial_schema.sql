@@ -0,0 +1,711 @@
+-- Esquema inicial: tablas, claves primarias, únicas y foráneas, e índices existentes.
+-- Generado a partir de las entidades (dialecto MySQL), con los mismos nombres de restricción
+-- que creaba ddl-auto=update: las bases existentes se registran en esta versión sin
+-- ejecutarla (spring.flyway.baseline-on-migrate) y continúan desde V2.
+
+create table account_balance_checkpoints (
+    actual_balance float(53) not null,
+    drift float(53) not null,
+    expected_balance float(53) not null,
+    last_full_check date not null,
+    account_id bigint not null,
+    checked_at datetime(6) not null,
+    id_account_balance_checkpoint bigint not null auto_increment,
+    account_type enum ('MEMBER','SUBSCRIBER','VEHICLE') not null,
+    primary key (id_account_balance_checkpoint)
+) engine=InnoDB;
+
+create table account_expenses (
+    id_account_movement bigint not null,
+    primary key (id_account_movement)
+) engine=InnoDB;
+
+create table account_histories (
+    active bit not null,
+    month_end_balance float(53) not null,
+    registration_date date not null,
+    period varchar(7) not null,
+    id_account_history bigint not null auto_increment,
+    id_member_account bigint,
+    id_subscriber_account bigint,
+    id_vehicle_account bigint,
+    primary key (id_account_history)
+) engine=InnoDB;
+
+create table account_history_close_chunks (
+    attempts integer not null,
+    registration_date date not null,
+    rows_created integer,
+    period varchar(7) not null,
+    completed_at datetime(6),
+    id_account_history_close_chunk bigint not null auto_increment,
+    range_end bigint not null,
+    range_start bigint not null,
+    last_error varchar(500),
+    account_type enum ('MEMBER','SUBSCRIBER','VEHICLE') not null,
+    status enum ('COMPLETED','FAILED','PENDING') not null,
+    primary key (id_account_history_close_chunk)
+) engine=InnoDB;
+
+create table account_incomes (
+    id_account_movement bigint not null,
+    id_income_type bigint,
+    primary key (id_account_movement)
+) engine=InnoDB;
+
+create table account_ledger_entries (
+    balance_after float(53) not null,
+    delta float(53) not null,
+    movement_date date,
+    posted_on date not null,
+    account_id bigint not null,
+    id_ledger_entry bigint not null auto_increment,
+    movement_id bigint,
+    posted_at datetime(6) not null,
+    account_type enum ('MEMBER','SUBSCRIBER','VEHICLE') not null,
+    entry_type enum ('DIRECT','MOVEMENT','RECONCILIATION','REVERSAL') not null,
+    primary key (id_ledger_entry)
+) engine=InnoDB;
+
+create table account_movements (
+    active bit not null,
+    added bit not null,
+    added_date date,
+    amount float(53) not null,
+    current_installment integer,
+    final_installment integer,
+    period varchar(7) not null,
+    id_account_movement bigint not null auto_increment,
+    id_member_account bigint,
+    id_subscriber_account bigint,
+    id_vehicle_account bigint,
+    note varchar(500),
+    primary key (id_account_movement)
+) engine=InnoDB;
+
+create table addresses (
+    apartment varchar(5),
+    floor varchar(5),
+    numeral varchar(5) not null,
+    id_address bigint not null auto_increment,
+    city varchar(50) not null,
+    street varchar(50) not null,
+    primary key (id_address)
+) engine=InnoDB;
+
+create table advances (
+    active bit not null,
+    amount float(53) not null,
+    date date not null,
+    id_advance bigint not null auto_increment,
+    id_member_account bigint not null,
+    id_payroll_settlement bigint,
+    movement_id bigint,
+    notes varchar(255),
+    primary key (id_advance)
+) engine=InnoDB;
+
+create table balance_reconciliation_runs (
+    accounts_checked integer,
+    accounts_recomputed integer,
+    drifted_accounts integer,
+    full_check bit not null,
+    account_movement_watermark bigint not null,
+    finished_at datetime(6),
+    id_balance_reconciliation_run bigint not null auto_increment,
+    ledger_watermark bigint not null,
+    movement_watermark bigint not null,
+    started_at datetime(6) not null,
+    primary key (id_balance_reconciliation_run)
+) engine=InnoDB;
+
+create table brands (
+    id_brand bigint not null auto_increment,
+    name varchar(50) not null,
+    primary key (id_brand)
+) engine=InnoDB;
+
+create table cash_movements (
+    id_cash_register bigint not null,
+    id_movement bigint not null,
+    primary key (id_movement)
+) engine=InnoDB;
+
+create table cash_register (
+    active bit not null,
+    amount float(53) not null,
+    id_cash_register bigint not null auto_increment,
+    last_flushed_movement_id bigint,
+    primary key (id_cash_register)
+) engine=InnoDB;
+
+create table cash_register_history (
+    date date not null,
+    final_amount float(53),
+    initial_amount float(53) not null,
+    id_cash_register bigint not null,
+    id_cash_register_history bigint not null auto_increment,
+    primary key (id_cash_register_history)
+) engine=InnoDB;
+
+create table daily_fuel (
+    amount float(53) not null,
+    cooperative_percentage float(53),
+    driver_percentage float(53),
+    submission_date date not null,
+    ticket_issue_date date not null,
+    id_daily_fuel bigint not null auto_increment,
+    id_driver bigint not null,
+    id_settlement bigint,
+    id_vehicle bigint not null,
+    fuel_type enum ('GNC','NAFTA') not null,
+    primary key (id_daily_fuel)
+) engine=InnoDB;
+
+create table driver_settlements (
+    final_balance float(53) not null,
+    submission_date date not null,
+    ticket_amount float(53) not null,
+    voucher_amount float(53) not null,
+    voucher_difference float(53) not null,
+    id_driver bigint not null,
+    id_settlement bigint not null auto_increment,
+    primary key (id_settlement)
+) engine=InnoDB;
+
+create table drivers (
+    expiration_registration_date date not null,
+    id_person bigint not null,
+    primary key (id_person)
+) engine=InnoDB;
+
+create table expense_types (
+    id_type bigint not null,
+    primary key (id_type)
+) engine=InnoDB;
+
+create table fuel_credit_entries (
+    amount float(53) not null,
+    created_date date not null,
+    reimbursed_date date,
+    id_daily_fuel bigint,
+    id_fuel_credit_entry bigint not null auto_increment,
+    id_member_account bigint not null,
+    primary key (id_fuel_credit_entry)
+) engine=InnoDB;
+
+create table fuel_reimbursements (
+    accumulated_amount float(53) not null,
+    active bit not null,
+    created_date date not null,
+    last_reimbursement_date date,
+    id_fuel_reimbursement bigint not null auto_increment,
+    id_member_account bigint not null,
+    primary key (id_fuel_reimbursement)
+) engine=InnoDB;
+
+create table income_types (
+    id_type bigint not null,
+    primary key (id_type)
+) engine=InnoDB;
+
+create table member_accounts (
+    active bit not null,
+    balance float(53) not null,
+    last_modified date,
+    id_account bigint not null auto_increment,
+    id_member bigint not null,
+    primary key (id_account)
+) engine=InnoDB;
+
+create table members (
+    join_date date not null,
+    leave_date date,
+    id_address bigint not null,
+    id_person bigint not null,
+    role enum ('ADMINISTRATIVE','DRIVER_1','DRIVER_2','MECHANIQUE','OPERATOR','PRESIDENT') not null,
+    primary key (id_person)
+) engine=InnoDB;
+
+create table models (
+    year integer not null,
+    id_brand bigint not null,
+    id_model bigint not null auto_increment,
+    name varchar(100) not null,
+    primary key (id_model)
+) engine=InnoDB;
+
+create table monthly_expenses (
+    id_account_movement bigint not null,
+    id_expense_type bigint,
+    primary key (id_account_movement)
+) engine=InnoDB;
+
+create table movements (
+    active bit not null,
+    amount float(53) not null,
+    date date not null,
+    is_income bit not null,
+    id_member_account bigint,
+    id_movement bigint not null auto_increment,
+    id_subscriber_account bigint,
+    id_vehicle_account bigint,
+    description varchar(255) not null,
+    movement_type enum ('ADVANCE','DEPOSIT','OTHER','PAYMENT','REFUND','TRANSFER','WITHDRAWAL','WORKSHOP_ORDER') not null,
+    primary key (id_movement)
+) engine=InnoDB;
+
+create table non_cash_movements (
+    id_movement bigint not null,
+    primary key (id_movement)
+) engine=InnoDB;
+
+create table payroll_settlements (
+    active bit not null,
+    gross_salary float(53) not null,
+    net_salary float(53) not null,
+    payment_date date,
+    period varchar(7) not null,
+    id_member_account bigint not null,
+    id_payroll_settlement bigint not null auto_increment,
+    primary key (id_payroll_settlement)
+) engine=InnoDB;
+
+create table people (
+    active bit not null,
+    birth_date date not null,
+    dni varchar(8) not null,
+    id_person bigint not null auto_increment,
+    cuit varchar(11) not null,
+    phone varchar(15) not null,
+    father_surname varchar(50) not null,
+    first_name varchar(50) not null,
+    mother_surname varchar(50),
+    second_name varchar(50),
+    email varchar(255) not null,
+    primary key (id_person)
+) engine=InnoDB;
+
+create table receipts (
+    active bit not null,
+    booklet_number integer not null,
+    issue_date date not null,
+    receipt_number integer not null,
+    period varchar(7) not null,
+    id_member_account bigint,
+    id_receipt bigint not null auto_increment,
+    id_subscriber_account bigint,
+    receipt_type enum ('MEMBER','SUBSCRIBER') not null,
+    primary key (id_receipt)
+) engine=InnoDB;
+
+create table settlement_allocations (
+    active bit not null,
+    allocated_amount float(53) not null,
+    allocation_date date not null,
+    id_account_movement bigint,
+    id_movement bigint,
+    id_payroll_settlement bigint,
+    id_receipt bigint,
+    id_settlement_allocation bigint not null auto_increment,
+    note varchar(500),
+    primary key (id_settlement_allocation)
+) engine=InnoDB;
+
+create table subscriber_accounts (
+    active bit not null,
+    balance float(53) not null,
+    last_modified date,
+    id_account bigint not null auto_increment,
+    id_subscriber bigint not null,
+    primary key (id_account)
+) engine=InnoDB;
+
+create table subscriber_licence_numbers (
+    id_subscriber bigint not null,
+    licence_number varchar(255)
+) engine=InnoDB;
+
+create table subscribers (
+    id_person bigint not null,
+    primary key (id_person)
+) engine=InnoDB;
+
+create table ticket_taxi (
+    amount float(53) not null,
+    cut_date date,
+    free_kilometers float(53),
+    occupied_kilometers float(53),
+    start_date date,
+    trips integer,
+    id_settlement bigint not null,
+    id_ticket_taxi bigint not null auto_increment,
+    id_vehicle bigint not null,
+    ticket_number varchar(255),
+    primary key (id_ticket_taxi)
+) engine=InnoDB;
+
+create table types (
+    active bit not null,
+    monthly_recurrence bit not null,
+    id_type bigint not null auto_increment,
+    type_category varchar(31) not null,
+    name varchar(100) not null,
+    primary key (id_type)
+) engine=InnoDB;
+
+create table vehicle_accounts (
+    active bit not null,
+    balance float(53) not null,
+    last_modified date,
+    id_account bigint not null auto_increment,
+    id_vehicle bigint not null,
+    primary key (id_account)
+) engine=InnoDB;
+
+create table vehicles (
+    active bit not null,
+    leave_date date,
+    vtv_expiration_date date not null,
+    license_plate varchar(7) not null,
+    id_model bigint not null,
+    id_vehicle bigint not null auto_increment,
+    license_number varchar(20) not null,
+    chassis_number varchar(30) not null,
+    engine_number varchar(30) not null,
+    primary key (id_vehicle)
+) engine=InnoDB;
+
+create table workshop_repairs (
+    remaining_balance float(53) not null,
+    id_account_movement bigint not null,
+    repair_type enum ('LUBRICATION_CENTER','WORKSHOP_REPAIR') not null,
+    primary key (id_account_movement)
+) engine=InnoDB;
+
+alter table account_balance_checkpoints
+    add constraint uk_account_balance_checkpoint unique (account_type, account_id);
+
+alter table account_histories
+    add constraint uk_member_account_history_period unique (id_member_account, period);
+
+alter table account_histories
+    add constraint uk_subscriber_account_history_period unique (id_subscriber_account, period);
+
+alter table account_histories
+    add constraint uk_vehicle_account_history_period unique (id_vehicle_account, period);
+
+alter table account_history_close_chunks
+    add constraint uk_account_history_close_chunk unique (period, account_type, range_start);
+
+create index idx_ledger_account_posted
+    on account_ledger_entries (account_type, account_id, posted_on, id_ledger_entry);
+
+alter table brands
+    add constraint UKoce3937d2f4mpfqrycbr0l93m unique (name);
+
+alter table cash_register_history
+    add constraint UK2n7bmh1clrc35fh12v3s2fdti unique (date);
+
+create index idx_fuel_credit_account_reimbursed
+    on fuel_credit_entries (id_member_account, reimbursed_date);
+
+alter table fuel_reimbursements
+    add constraint UKlgbov154phucetvly5pns6k8k unique (id_member_account);
+
+alter table member_accounts
+    add constraint UK6sq01qhv0v3i417qvd86ypsu0 unique (id_member);
+
+alter table payroll_settlements
+    add constraint uk_member_account_period unique (id_member_account, period);
+
+alter table people
+    add constraint UK4mtcjsxxy3a3sit79vl7iqobd unique (dni);
+
+alter table people
+    add constraint UK3hrvdnvjpxx322sqrxu6hm69r unique (cuit);
+
+alter table people
+    add constraint UKsw73blrfiqs1etfk8qecdieyx unique (email);
+
+alter table receipts
+    add constraint uk_member_receipt_period unique (id_member_account, period);
+
+alter table receipts
+    add constraint uk_subscriber_receipt_period unique (id_subscriber_account, period);
+
+alter table receipts
+    add constraint uk_receipt_booklet_type unique (receipt_number, booklet_number, receipt_type);
+
+create index idx_account_movement
+    on settlement_allocations (id_account_movement);
+
+create index idx_receipt
+    on settlement_allocations (id_receipt);
+
+create index idx_payroll_settlement
+    on settlement_allocations (id_payroll_settlement);
+
+create index idx_movement
+    on settlement_allocations (id_movement);
+
+alter table subscriber_accounts
+    add constraint UKdblcu6as15am36x7q6ihmlj8u unique (id_subscriber);
+
+alter table types
+    add constraint UK17go525ou3scbmd4pcftq130f unique (name);
+
+alter table vehicle_accounts
+    add constraint UKc2bvnqgk4xr0k7scqg89a08gy unique (id_vehicle);
+
+alter table vehicles
+    add constraint UK9vovnbiegxevdhqfcwvp2g8pj unique (license_plate);
+
+alter table vehicles
+    add constraint UKm2j1auro4l6pufxeylkjcddp8 unique (license_number);
+
+alter table vehicles
+    add constraint UKnxje1115h6kn6pauv8vwttj0t unique (chassis_number);
+
+alter table vehicles
+    add constraint UK3jtis68l3n7tt31ob3apate19 unique (engine_number);
+
+alter table account_expenses
+    add constraint FK3g08v05sssbikewvip3pkrv7d
+    foreign key (id_account_movement)
+    references account_movements (id_account_movement);
+
+alter table account_histories
+    add constraint FK6kosoyhu1ldp9aimo4d1p429h
+    foreign key (id_member_account)
+    references member_accounts (id_account);
+
+alter table account_histories
+    add constraint FKihvg3yq48bb6kxtcassgorsvq
+    foreign key (id_subscriber_account)
+    references subscriber_accounts (id_account);
+
+alter table account_histories
+    add constraint FK8shcyt174j39xgkcem7vp1o7a
+    foreign key (id_vehicle_account)
+    references vehicle_accounts (id_account);
+
+alter table account_incomes
+    add constraint FKtexcm748on4y5u7ktsfj3ledw
+    foreign key (id_income_type)
+    references income_types (id_type);
+
+alter table account_incomes
+    add constraint FK7iil80xsv540t4ov9jxon8aud
+    foreign key (id_account_movement)
+    references account_movements (id_account_movement);
+
+alter table account_movements
+    add constraint FKej771x0wtq92o791flhjjduqj
+    foreign key (id_member_account)
+    references member_accounts (id_account);
+
+alter table account_movements
+    add constraint FKr6692vdvtfjmylnvic9g5ioni
+    foreign key (id_subscriber_account)
+    references subscriber_accounts (id_account);
+
+alter table account_movements
+    add constraint FKfsns5g5wgkc9buw3wxkpj01df
+    foreign key (id_vehicle_account)
+    references vehicle_accounts (id_account);
+
+alter table advances
+    add constraint FK52w7fivdb8sihc4s9c44b5v9u
+    foreign key (id_member_account)
+    references member_accounts (id_account);
+
+alter table advances
+    add constraint FKhtr8p5igslaklx5cvuwkwg09k
+    foreign key (id_payroll_settlement)
+    references payroll_settlements (id_payroll_settlement);
+
+alter table cash_movements
+    add constraint FKhpcq79a2ywsc8xqoiw26uspwc
+    foreign key (id_cash_register)
+    references cash_register (id_cash_register);
+
+alter table cash_movements
+    add constraint FKhx4rv35fqceuwcibrhnfuh7ww
+    foreign key (id_movement)
+    references movements (id_movement);
+
+alter table cash_register_history
+    add constraint FKmfgw6qjleqnmsjb29edd17f0w
+    foreign key (id_cash_register)
+    references cash_register (id_cash_register);
+
+alter table daily_fuel
+    add constraint FKcf82uu7dsmoukfn3rtwf82cfw
+    foreign key (id_driver)
+    references drivers (id_person);
+
+alter table daily_fuel
+    add constraint FKsxuaxaupgc1iqknxvf3dfa9nc
+    foreign key (id_settlement)
+    references driver_settlements (id_settlement);
+
+alter table daily_fuel
+    add constraint FKkvcmf4itp3cvi9vb6a16er88c
+    foreign key (id_vehicle)
+    references vehicles (id_vehicle);
+
+alter table driver_settlements
+    add constraint FKley5ea6pwoy77ajsp1l9sk81r
+    foreign key (id_driver)
+    references drivers (id_person);
+
+alter table drivers
+    add constraint FKjdjk9nj7nduwug2lnhccu10oq
+    foreign key (id_person)
+    references members (id_person);
+
+alter table expense_types
+    add constraint FKv36wkphol88vxf8k4fptiebs
+    foreign key (id_type)
+    references types (id_type);
+
+alter table fuel_credit_entries
+    add constraint FKotegke8riw5c1usmt7krrdno8
+    foreign key (id_member_account)
+    references member_accounts (id_account);
+
+alter table fuel_reimbursements
+    add constraint FKphjiaen39vyxl9tscci1bmv98
+    foreign key (id_member_account)
+    references member_accounts (id_account);
+
+alter table income_types
+    add constraint FKnjcx79wjga7wn2tcdnvdn4xrt
+    foreign key (id_type)
+    references types (id_type);
+
+alter table member_accounts
+    add constraint FKmnwnp7h4wka5w79enr1qwieqr
+    foreign key (id_member)
+    references members (id_person);
+
+alter table members
+    add constraint FKgy94kf7o8vcmnuy900rjf6esv
+    foreign key (id_address)
+    references addresses (id_address);
+
+alter table members
+    add constraint FKayhy0vpg9d5hhuhw11lukrssx
+    foreign key (id_person)
+    references people (id_person);
+
+alter table models
+    add constraint FKk5e4krkr54bojmtd1uk3u04ct
+    foreign key (id_brand)
+    references brands (id_brand);
+
+alter table monthly_expenses
+    add constraint FK3h3p7rxh4fksyccch0quoio0x
+    foreign key (id_expense_type)
+    references expense_types (id_type);
+
+alter table monthly_expenses
+    add constraint FK91x1a1iqshkh3dnbllep7oa29
+    foreign key (id_account_movement)
+    references account_expenses (id_account_movement);
+
+alter table movements
+    add constraint FK17jtxpj6inds5drsccjpledy0
+    foreign key (id_member_account)
+    references member_accounts (id_account);
+
+alter table movements
+    add constraint FKfrrso74gp4c9ugxh49809yprp
+    foreign key (id_subscriber_account)
+    references subscriber_accounts (id_account);
+
+alter table movements
+    add constraint FK2yigtrc54q8cnybco5585i46o
+    foreign key (id_vehicle_account)
+    references vehicle_accounts (id_account);
+
+alter table non_cash_movements
+    add constraint FK1uq9ttjcw2jpbq3mmqf7uqhsp
+    foreign key (id_movement)
+    references movements (id_movement);
+
+alter table payroll_settlements
+    add constraint FKhbykqk0dxmji90q9ruulu7i81
+    foreign key (id_member_account)
+    references member_accounts (id_account);
+
+alter table receipts
+    add constraint FK2rt5v5x65lofpeffn74nha5my
+    foreign key (id_member_account)
+    references member_accounts (id_account);
+
+alter table receipts
+    add constraint FKsq925mmtn7swm5ly2bxrdi8pa
+    foreign key (id_subscriber_account)
+    references subscriber_accounts (id_account);
+
+alter table settlement_allocations
+    add constraint FK4s4d5lnfohdlnm5acbmme4eyj
+    foreign key (id_account_movement)
+    references account_movements (id_account_movement);
+
+alter table settlement_allocations
+    add constraint FKo8buq8n2bjv2gtymvnhenxywe
+    foreign key (id_movement)
+    references movements (id_movement);
+
+alter table settlement_allocations
+    add constraint FK5j63lxrhom21yu48p6aly1kn2
+    foreign key (id_payroll_settlement)
+    references payroll_settlements (id_payroll_settlement);
+
+alter table settlement_allocations
+    add constraint FKluqqvs5f85w6a7m35wi50gh2b
+    foreign key (id_receipt)
+    references receipts (id_receipt);
+
+alter table subscriber_accounts
+    add constraint FK9q3rkihgitkfovkxhg3mn12l5
+    foreign key (id_subscriber)
+    references subscribers (id_person);
+
+alter table subscriber_licence_numbers
+    add constraint FK2fk46uvy31e15vhst02o9drgn
+    foreign key (id_subscriber)
+    references subscribers (id_person);
+
+alter table subscribers
+    add constraint FK3vms694ld144vwp9ck8943tx9
+    foreign key (id_person)
+    references people (id_person);
+
+alter table ticket_taxi
+    add constraint FKaf61plhfps4clbmlfosgmtdxe
+    foreign key (id_settlement)
+    references driver_settlements (id_settlement);
+
+alter table ticket_taxi
+    add constraint FKfjvqyrnf6eo4fdcu6k4xn8cbl
+    foreign key (id_vehicle)
+    references vehicles (id_vehicle);
+
+alter table vehicle_accounts
+    add constraint FKk48yqwplw39oud87yqn06nvk2
+    foreign key (id_vehicle)
+    references vehicles (id_vehicle);
+
+alter table vehicles
+    add constraint FKg0d5s52g8butpcjayrgx2t175
+    foreign key (id_model)
+    references models (id_model);
+
+alter table workshop_repairs
+    add constraint FK9yq7j4rtug7l86jw69fqyo8sh
+    foreign key (id_account_movement)
+    references account_expenses (id_account_movement);
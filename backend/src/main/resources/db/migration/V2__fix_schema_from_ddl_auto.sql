@@ -0,0 +1,95 @@
+-- Correcciones para las bases creadas antes de Flyway (ddl-auto=update y el script manual
+-- fix_payroll_settlements.sql). Cada paso verifica el estado actual: sobre una base creada
+-- por V1 no cambia nada.
+
+DROP PROCEDURE IF EXISTS migration_exec_if;
+
+DELIMITER //
+
+CREATE PROCEDURE migration_exec_if(IN p_condition BOOLEAN, IN p_sql TEXT)
+BEGIN
+    IF p_condition THEN
+        SET @migration_sql = p_sql;
+        PREPARE migration_stmt FROM @migration_sql;
+        EXECUTE migration_stmt;
+        DEALLOCATE PREPARE migration_stmt;
+    END IF;
+END //
+
+DELIMITER ;
+
+-- Tipos de ingreso y gasto: ddl-auto no podía crear estas tablas (declaraban una restricción
+-- única sobre name, que está en types), por lo que tampoco existen sus claves foráneas.
+CREATE TABLE IF NOT EXISTS expense_types (
+    id_type BIGINT NOT NULL,
+    PRIMARY KEY (id_type),
+    CONSTRAINT FKv36wkphol88vxf8k4fptiebs FOREIGN KEY (id_type) REFERENCES types (id_type)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS income_types (
+    id_type BIGINT NOT NULL,
+    PRIMARY KEY (id_type),
+    CONSTRAINT FKnjcx79wjga7wn2tcdnvdn4xrt FOREIGN KEY (id_type) REFERENCES types (id_type)
+) ENGINE=InnoDB;
+
+INSERT INTO expense_types (id_type)
+SELECT t.id_type FROM types t
+WHERE t.type_category = 'EXPENSE'
+  AND NOT EXISTS (SELECT 1 FROM expense_types e WHERE e.id_type = t.id_type);
+
+INSERT INTO income_types (id_type)
+SELECT t.id_type FROM types t
+WHERE t.type_category = 'INCOME'
+  AND NOT EXISTS (SELECT 1 FROM income_types i WHERE i.id_type = t.id_type);
+
+CALL migration_exec_if(
+    (SELECT COUNT(*) FROM information_schema.table_constraints
+     WHERE table_schema = DATABASE() AND table_name = 'monthly_expenses'
+       AND constraint_name = 'FK3h3p7rxh4fksyccch0quoio0x') = 0,
+    'ALTER TABLE monthly_expenses ADD CONSTRAINT FK3h3p7rxh4fksyccch0quoio0x
+     FOREIGN KEY (id_expense_type) REFERENCES expense_types (id_type)');
+
+CALL migration_exec_if(
+    (SELECT COUNT(*) FROM information_schema.table_constraints
+     WHERE table_schema = DATABASE() AND table_name = 'account_incomes'
+       AND constraint_name = 'FKtexcm748on4y5u7ktsfj3ledw') = 0,
+    'ALTER TABLE account_incomes ADD CONSTRAINT FKtexcm748on4y5u7ktsfj3ledw
+     FOREIGN KEY (id_income_type) REFERENCES income_types (id_type)');
+
+-- Liquidaciones de sueldo: fix_payroll_settlements.sql creaba la columna year_month (la
+-- entidad usa period). Si ddl-auto ya agregó period, se copian los valores y se elimina
+-- year_month; si no, se renombra. En ambos casos la única queda en (id_member_account, period).
+SET @has_year_month = (SELECT COUNT(*) FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'payroll_settlements' AND column_name = 'year_month');
+SET @has_period = (SELECT COUNT(*) FROM information_schema.columns
+    WHERE table_schema = DATABASE() AND table_name = 'payroll_settlements' AND column_name = 'period');
+
+CALL migration_exec_if(@has_year_month = 1 AND @has_period = 0,
+    'ALTER TABLE payroll_settlements RENAME COLUMN `year_month` TO period');
+
+CALL migration_exec_if(@has_year_month = 1 AND @has_period = 1,
+    'UPDATE payroll_settlements SET period = `year_month` WHERE period IS NULL OR period = ''''');
+
+-- Antes de eliminar year_month: la única vieja quedaría solo sobre id_member_account
+CALL migration_exec_if(@has_year_month = 1 AND @has_period = 1
+    AND (SELECT COUNT(*) FROM information_schema.statistics
+         WHERE table_schema = DATABASE() AND table_name = 'payroll_settlements'
+           AND index_name = 'uk_member_account_year_month') > 0,
+    'ALTER TABLE payroll_settlements DROP INDEX uk_member_account_year_month');
+
+CALL migration_exec_if(@has_year_month = 1 AND @has_period = 1,
+    'ALTER TABLE payroll_settlements DROP COLUMN `year_month`');
+
+CALL migration_exec_if(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'payroll_settlements'
+       AND index_name = 'uk_member_account_year_month') > 0,
+    'ALTER TABLE payroll_settlements RENAME INDEX uk_member_account_year_month TO uk_member_account_period');
+
+CALL migration_exec_if(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'payroll_settlements'
+       AND index_name = 'uk_member_account_period') = 0,
+    'ALTER TABLE payroll_settlements ADD CONSTRAINT uk_member_account_period UNIQUE (id_member_account, period)');
+
+DROP PROCEDURE migration_exec_if;
@@ -0,0 +1,79 @@
+-- Índices para las consultas de los repositories (ver @Table(indexes) en las entidades).
+-- Se crean con ALGORITHM=INPLACE, LOCK=NONE: InnoDB construye el índice sin bloquear las
+-- escrituras, por lo que la migración puede correr con la aplicación en uso aun en las tablas
+-- grandes (ticket_taxi, daily_fuel, movements). Los índices que ya existen (creados por
+-- ddl-auto=update) se omiten.
+
+DROP PROCEDURE IF EXISTS migration_add_index;
+
+DELIMITER //
+
+CREATE PROCEDURE migration_add_index(IN p_table VARCHAR(64), IN p_index VARCHAR(64), IN p_columns VARCHAR(255))
+BEGIN
+    IF (SELECT COUNT(*) FROM information_schema.statistics
+        WHERE table_schema = DATABASE() AND table_name = p_table AND index_name = p_index) = 0 THEN
+        SET @migration_sql = CONCAT('ALTER TABLE ', p_table, ' ADD INDEX ', p_index,
+            ' (', p_columns, '), ALGORITHM=INPLACE, LOCK=NONE');
+        PREPARE migration_stmt FROM @migration_sql;
+        EXECUTE migration_stmt;
+        DEALLOCATE PREPARE migration_stmt;
+    END IF;
+END //
+
+DELIMITER ;
+
+CALL migration_add_index('account_histories', 'idx_account_history_period', 'period');
+CALL migration_add_index('account_histories', 'idx_account_history_registration_active', 'registration_date, active');
+
+CALL migration_add_index('account_movements', 'idx_member_account_period_added', 'id_member_account, period, added');
+CALL migration_add_index('account_movements', 'idx_subscriber_account_period_added', 'id_subscriber_account, period, added');
+CALL migration_add_index('account_movements', 'idx_vehicle_account_period_added', 'id_vehicle_account, period, added');
+CALL migration_add_index('account_movements', 'idx_account_movement_period_active', 'period, active');
+CALL migration_add_index('account_movements', 'idx_account_movement_added_active', 'added, active');
+
+CALL migration_add_index('addresses', 'idx_address_street_numeral_city', 'street, numeral, city');
+
+CALL migration_add_index('advances', 'idx_advance_date', 'date');
+CALL migration_add_index('advances', 'idx_advance_movement', 'movement_id');
+
+CALL migration_add_index('daily_fuel', 'idx_daily_fuel_driver_type_issue', 'id_driver, fuel_type, ticket_issue_date');
+CALL migration_add_index('daily_fuel', 'idx_daily_fuel_driver_issue', 'id_driver, ticket_issue_date');
+CALL migration_add_index('daily_fuel', 'idx_daily_fuel_vehicle_issue', 'id_vehicle, ticket_issue_date');
+CALL migration_add_index('daily_fuel', 'idx_daily_fuel_vehicle_type', 'id_vehicle, fuel_type');
+CALL migration_add_index('daily_fuel', 'idx_daily_fuel_issue', 'ticket_issue_date');
+CALL migration_add_index('daily_fuel', 'idx_daily_fuel_submission', 'submission_date');
+CALL migration_add_index('daily_fuel', 'idx_daily_fuel_type', 'fuel_type');
+
+CALL migration_add_index('driver_settlements', 'idx_driver_settlement_driver_submission', 'id_driver, submission_date');
+CALL migration_add_index('driver_settlements', 'idx_driver_settlement_submission', 'submission_date');
+
+CALL migration_add_index('member_accounts', 'idx_member_account_active', 'active, id_account');
+
+CALL migration_add_index('movements', 'idx_movement_date', 'date');
+CALL migration_add_index('movements', 'idx_movement_active_date', 'active, date');
+
+CALL migration_add_index('payroll_settlements', 'idx_payroll_settlement_period', 'period');
+CALL migration_add_index('payroll_settlements', 'idx_payroll_settlement_payment_date', 'payment_date');
+
+CALL migration_add_index('receipts', 'idx_receipt_period', 'period');
+CALL migration_add_index('receipts', 'idx_receipt_issue_date_active', 'issue_date, active');
+CALL migration_add_index('receipts', 'idx_receipt_type', 'receipt_type');
+
+CALL migration_add_index('settlement_allocations', 'idx_allocation_date_active', 'allocation_date, active');
+
+CALL migration_add_index('subscriber_accounts', 'idx_subscriber_account_active', 'active, id_account');
+
+CALL migration_add_index('ticket_taxi', 'idx_ticket_taxi_vehicle_start', 'id_vehicle, start_date');
+CALL migration_add_index('ticket_taxi', 'idx_ticket_taxi_vehicle_cut', 'id_vehicle, cut_date');
+CALL migration_add_index('ticket_taxi', 'idx_ticket_taxi_settlement_start', 'id_settlement, start_date');
+CALL migration_add_index('ticket_taxi', 'idx_ticket_taxi_settlement_cut', 'id_settlement, cut_date');
+CALL migration_add_index('ticket_taxi', 'idx_ticket_taxi_start', 'start_date');
+CALL migration_add_index('ticket_taxi', 'idx_ticket_taxi_cut', 'cut_date');
+CALL migration_add_index('ticket_taxi', 'idx_ticket_taxi_number', 'ticket_number');
+
+CALL migration_add_index('vehicle_accounts', 'idx_vehicle_account_active', 'active, id_account');
+
+CALL migration_add_index('workshop_repairs', 'idx_workshop_repair_type', 'repair_type');
+CALL migration_add_index('workshop_repairs', 'idx_workshop_repair_remaining_balance', 'remaining_balance');
+
+DROP PROCEDURE migration_add_index;
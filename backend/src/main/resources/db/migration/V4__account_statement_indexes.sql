@@ -0,0 +1,32 @@
+-- Índices (cuenta, fecha) para las consultas por tramos del extracto combinado de una cuenta
+-- (ver AccountStatementRepository y @Table(indexes) en las entidades). Con la fecha a
+-- continuación de la cuenta cada tramo es un recorrido del índice en orden, sin ordenar filas.
+-- Mismo procedimiento que V3: sin bloquear escrituras y omitiendo los índices existentes.
+
+DROP PROCEDURE IF EXISTS migration_add_index;
+
+DELIMITER //
+
+CREATE PROCEDURE migration_add_index(IN p_table VARCHAR(64), IN p_index VARCHAR(64), IN p_columns VARCHAR(255))
+BEGIN
+    IF (SELECT COUNT(*) FROM information_schema.statistics
+        WHERE table_schema = DATABASE() AND table_name = p_table AND index_name = p_index) = 0 THEN
+        SET @migration_sql = CONCAT('ALTER TABLE ', p_table, ' ADD INDEX ', p_index,
+            ' (', p_columns, '), ALGORITHM=INPLACE, LOCK=NONE');
+        PREPARE migration_stmt FROM @migration_sql;
+        EXECUTE migration_stmt;
+        DEALLOCATE PREPARE migration_stmt;
+    END IF;
+END //
+
+DELIMITER ;
+
+CALL migration_add_index('movements', 'idx_movement_member_account_date', 'id_member_account, date');
+CALL migration_add_index('movements', 'idx_movement_subscriber_account_date', 'id_subscriber_account, date');
+CALL migration_add_index('movements', 'idx_movement_vehicle_account_date', 'id_vehicle_account, date');
+
+CALL migration_add_index('advances', 'idx_advance_member_account_date', 'id_member_account, date');
+
+CALL migration_add_index('payroll_settlements', 'idx_payroll_settlement_account_payment_date', 'id_member_account, payment_date');
+
+DROP PROCEDURE migration_add_index;
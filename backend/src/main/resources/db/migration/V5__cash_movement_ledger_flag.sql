@@ -0,0 +1,50 @@
+-- Marca por movimiento de caja (ledger_flushed) de si su delta ya está incluido en el monto de
+-- la caja. Reemplaza a cash_register.last_flushed_movement_id: los deltas se vuelcan en orden
+-- de commit, que no es el orden de los IDs, por lo que un ID máximo no alcanza para saber qué
+-- reaplicar al arrancar. Cada paso verifica el estado actual, así que la migración puede
+-- volver a ejecutarse si falla a mitad de camino.
+
+DROP PROCEDURE IF EXISTS migration_exec_if;
+
+DELIMITER //
+
+CREATE PROCEDURE migration_exec_if(IN p_condition BOOLEAN, IN p_sql TEXT)
+BEGIN
+    IF p_condition THEN
+        SET @migration_sql = p_sql;
+        PREPARE migration_stmt FROM @migration_sql;
+        EXECUTE migration_stmt;
+        DEALLOCATE PREPARE migration_stmt;
+    END IF;
+END //
+
+DELIMITER ;
+
+-- Los movimientos existentes se toman como volcados
+CALL migration_exec_if(
+    (SELECT COUNT(*) FROM information_schema.columns
+     WHERE table_schema = DATABASE() AND table_name = 'cash_movements' AND column_name = 'ledger_flushed') = 0,
+    'ALTER TABLE cash_movements ADD COLUMN ledger_flushed BIT NOT NULL DEFAULT 1');
+
+-- Salvo los posteriores a la marca anterior, que todavía no estaban en el monto de la caja
+-- (una caja sin marca nunca se volcó: quedan pendientes todos)
+CALL migration_exec_if(
+    (SELECT COUNT(*) FROM information_schema.columns
+     WHERE table_schema = DATABASE() AND table_name = 'cash_register' AND column_name = 'last_flushed_movement_id') > 0,
+    'UPDATE cash_movements SET ledger_flushed = 0
+     WHERE id_movement > (SELECT COALESCE(MIN(COALESCE(last_flushed_movement_id, 0)), 0) FROM cash_register)');
+
+CALL migration_exec_if(
+    (SELECT COUNT(*) FROM information_schema.columns
+     WHERE table_schema = DATABASE() AND table_name = 'cash_register' AND column_name = 'last_flushed_movement_id') > 0,
+    'ALTER TABLE cash_register DROP COLUMN last_flushed_movement_id');
+
+ALTER TABLE cash_movements ALTER COLUMN ledger_flushed SET DEFAULT 0;
+
+CALL migration_exec_if(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'cash_movements'
+       AND index_name = 'idx_cash_movement_ledger_flushed') = 0,
+    'ALTER TABLE cash_movements ADD INDEX idx_cash_movement_ledger_flushed (ledger_flushed), ALGORITHM=INPLACE, LOCK=NONE');
+
+DROP PROCEDURE migration_exec_if;
@@ -0,0 +1,74 @@
+-- Tablas agregadas junto con V1 (libro de saldos, conciliación, cierre mensual por tramos y
+-- créditos de combustible). Las bases existentes se registran en V1 sin ejecutarlo
+-- (spring.flyway.baseline-on-migrate), por lo que se crean aquí; sobre una base creada por V1
+-- no cambia nada. Las definiciones coinciden con las de V1.
+
+CREATE TABLE IF NOT EXISTS account_balance_checkpoints (
+    actual_balance FLOAT(53) NOT NULL,
+    drift FLOAT(53) NOT NULL,
+    expected_balance FLOAT(53) NOT NULL,
+    last_full_check DATE NOT NULL,
+    account_id BIGINT NOT NULL,
+    checked_at DATETIME(6) NOT NULL,
+    id_account_balance_checkpoint BIGINT NOT NULL AUTO_INCREMENT,
+    account_type ENUM ('MEMBER','SUBSCRIBER','VEHICLE') NOT NULL,
+    PRIMARY KEY (id_account_balance_checkpoint),
+    CONSTRAINT uk_account_balance_checkpoint UNIQUE (account_type, account_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS account_history_close_chunks (
+    attempts INTEGER NOT NULL,
+    registration_date DATE NOT NULL,
+    rows_created INTEGER,
+    period VARCHAR(7) NOT NULL,
+    completed_at DATETIME(6),
+    id_account_history_close_chunk BIGINT NOT NULL AUTO_INCREMENT,
+    range_end BIGINT NOT NULL,
+    range_start BIGINT NOT NULL,
+    last_error VARCHAR(500),
+    account_type ENUM ('MEMBER','SUBSCRIBER','VEHICLE') NOT NULL,
+    status ENUM ('COMPLETED','FAILED','PENDING') NOT NULL,
+    PRIMARY KEY (id_account_history_close_chunk),
+    CONSTRAINT uk_account_history_close_chunk UNIQUE (period, account_type, range_start)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS account_ledger_entries (
+    balance_after FLOAT(53) NOT NULL,
+    delta FLOAT(53) NOT NULL,
+    movement_date DATE,
+    posted_on DATE NOT NULL,
+    account_id BIGINT NOT NULL,
+    id_ledger_entry BIGINT NOT NULL AUTO_INCREMENT,
+    movement_id BIGINT,
+    posted_at DATETIME(6) NOT NULL,
+    account_type ENUM ('MEMBER','SUBSCRIBER','VEHICLE') NOT NULL,
+    entry_type ENUM ('DIRECT','MOVEMENT','RECONCILIATION','REVERSAL') NOT NULL,
+    PRIMARY KEY (id_ledger_entry),
+    INDEX idx_ledger_account_posted (account_type, account_id, posted_on, id_ledger_entry)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS balance_reconciliation_runs (
+    accounts_checked INTEGER,
+    accounts_recomputed INTEGER,
+    drifted_accounts INTEGER,
+    full_check BIT NOT NULL,
+    account_movement_watermark BIGINT NOT NULL,
+    finished_at DATETIME(6),
+    id_balance_reconciliation_run BIGINT NOT NULL AUTO_INCREMENT,
+    ledger_watermark BIGINT NOT NULL,
+    movement_watermark BIGINT NOT NULL,
+    started_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id_balance_reconciliation_run)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS fuel_credit_entries (
+    amount FLOAT(53) NOT NULL,
+    created_date DATE NOT NULL,
+    reimbursed_date DATE,
+    id_daily_fuel BIGINT,
+    id_fuel_credit_entry BIGINT NOT NULL AUTO_INCREMENT,
+    id_member_account BIGINT NOT NULL,
+    PRIMARY KEY (id_fuel_credit_entry),
+    INDEX idx_fuel_credit_account_reimbursed (id_member_account, reimbursed_date),
+    CONSTRAINT FKotegke8riw5c1usmt7krrdno8 FOREIGN KEY (id_member_account) REFERENCES member_accounts (id_account)
+) ENGINE=InnoDB;
@@ -0,0 +1,28 @@
+-- Índice (movimiento de cuenta, activa, fecha) de settlement_allocations para la consulta de
+-- asignaciones del extracto combinado (ver AccountStatementRepository.findAllocations): por
+-- cada movimiento de cuenta de la cuenta se leen solo sus asignaciones activas dentro del
+-- rango de fechas, en lugar de todas sus asignaciones.
+-- Mismo procedimiento que V4: sin bloquear escrituras y omitiendo los índices existentes.
+
+DROP PROCEDURE IF EXISTS migration_add_index;
+
+DELIMITER //
+
+CREATE PROCEDURE migration_add_index(IN p_table VARCHAR(64), IN p_index VARCHAR(64), IN p_columns VARCHAR(255))
+BEGIN
+    IF (SELECT COUNT(*) FROM information_schema.statistics
+        WHERE table_schema = DATABASE() AND table_name = p_table AND index_name = p_index) = 0 THEN
+        SET @migration_sql = CONCAT('ALTER TABLE ', p_table, ' ADD INDEX ', p_index,
+            ' (', p_columns, '), ALGORITHM=INPLACE, LOCK=NONE');
+        PREPARE migration_stmt FROM @migration_sql;
+        EXECUTE migration_stmt;
+        DEALLOCATE PREPARE migration_stmt;
+    END IF;
+END //
+
+DELIMITER ;
+
+CALL migration_add_index('settlement_allocations', 'idx_allocation_account_movement_date',
+    'id_account_movement, active, allocation_date');
+
+DROP PROCEDURE migration_add_index;
@@ -2,8 +2,10 @@ package com.pepotec.cooperative_taxi_managment;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
-@SpringBootTest
+@SpringBootTest(properties = "query-detector.mode=FAIL")
+@ActiveProfiles("test")
 class CooperativeTaxiManagmentApplicationTests {
 
 	@Test
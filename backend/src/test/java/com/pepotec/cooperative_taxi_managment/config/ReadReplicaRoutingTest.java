@@ -0,0 +1,135 @@
+package com.pepotec.cooperative_taxi_managment.config;
+
+import com.pepotec.cooperative_taxi_managment.exceptions.ResourceNotFoundException;
+import com.pepotec.cooperative_taxi_managment.models.dto.brand.BrandDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.model.ModelDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.vehicle.VehicleCreateDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.vehicle.VehicleDTO;
+import com.pepotec.cooperative_taxi_managment.repositories.BrandRepository;
+import com.pepotec.cooperative_taxi_managment.services.BrandService;
+import com.pepotec.cooperative_taxi_managment.services.ModelService;
+import com.pepotec.cooperative_taxi_managment.services.VehicleService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ruteo de ReadReplicaDataSource con la réplica en una segunda base H2: el esquema se copia
+ * del primario pero los datos no se replican, como una réplica muy atrasada. Así se ve en qué
+ * base leyó cada transacción.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:replica-primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;NON_KEYWORDS=YEAR,VALUE",
+    "read-replica.url=" + ReadReplicaRoutingTest.REPLICA_URL
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL =
+        "jdbc:h2:mem:replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;NON_KEYWORDS=YEAR,VALUE";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private BrandService brandService;
+
+    @Autowired
+    private ModelService modelService;
+
+    @Autowired
+    private VehicleService vehicleService;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @BeforeAll
+    void copySchemaToReplica() throws SQLException {
+        assertInstanceOf(ReadReplicaDataSource.class, dataSource);
+        List<String> ddl = new ArrayList<>();
+        try (Connection primary = dataSource.getConnection();
+             Statement statement = primary.createStatement();
+             ResultSet script = statement.executeQuery("SCRIPT NODATA")) {
+            while (script.next()) {
+                ddl.add(script.getString(1));
+            }
+        }
+        try (Connection replica = replicaConnection(); Statement statement = replica.createStatement()) {
+            for (String sql : ddl) {
+                if (!sql.startsWith("CREATE USER")) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+
+    @Test
+    void readOnlyServiceTransactionsReadFromTheReplica() throws SQLException {
+        // ID propio para no chocar con las marcas del primario (y el caché de segundo nivel)
+        long brandId = 1_000L;
+        try (Connection replica = replicaConnection();
+             PreparedStatement insert = replica.prepareStatement("INSERT INTO brands (id_brand, name) VALUES (?, 'Solo Replica')")) {
+            insert.setLong(1, brandId);
+            insert.executeUpdate();
+        }
+
+        // Los repositories llamados fuera de un servicio siguen en el primario
+        assertTrue(brandRepository.findById(brandId).isEmpty());
+        assertEquals("Solo Replica", brandService.getBrandById(brandId).getName());
+    }
+
+    @Test
+    void writeFlowsBuildTheirResponseFromThePrimary() throws SQLException {
+        BrandDTO brand = brandService.createBrand(BrandDTO.builder().name("Fiat").build());
+        ModelDTO model = modelService.createModel(ModelDTO.builder().name("Siena").year(2020).brand(brand).build());
+
+        VehicleDTO vehicle = vehicleService.createVehicle(VehicleCreateDTO.builder()
+            .licensePlate("AB123CD")
+            .licenseNumber("1234")
+            .engineNumber("MOTOR12345")
+            .chassisNumber("CHASIS1234567")
+            .vtvExpirationDate(LocalDate.now().plusYears(1))
+            .modelId(model.getId())
+            .build());
+
+        assertNotNull(vehicle.getId());
+        assertEquals("Siena", vehicle.getModel().getName());
+        // La réplica todavía no lo tiene: una lectura de solo lectura no lo encuentra
+        assertEquals(0, countReplicaRows("vehicles"));
+        assertThrows(ResourceNotFoundException.class, () -> vehicleService.getVehicleById(vehicle.getId()));
+    }
+
+    private static Connection replicaConnection() throws SQLException {
+        return DriverManager.getConnection(REPLICA_URL, "sa", "");
+    }
+
+    private static int countReplicaRows(String table) throws SQLException {
+        try (Connection replica = replicaConnection();
+             Statement statement = replica.createStatement();
+             ResultSet count = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            count.next();
+            return count.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.pepotec.cooperative_taxi_managment.services;
+
+import com.pepotec.cooperative_taxi_managment.models.dto.accountstatement.AccountStatementLineDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.accountstatement.AccountStatementPageDTO;
+import com.pepotec.cooperative_taxi_managment.models.dto.movement.noncash.NonCashMovementCreateDTO;
+import com.pepotec.cooperative_taxi_managment.models.entities.AddressEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.DriverEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.MemberAccountEntity;
+import com.pepotec.cooperative_taxi_managment.models.enums.AccountStatementSource;
+import com.pepotec.cooperative_taxi_managment.models.enums.MemberRole;
+import com.pepotec.cooperative_taxi_managment.models.enums.MovementType;
+import com.pepotec.cooperative_taxi_managment.repositories.AddressRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.DriverRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.MemberAccountRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Saldo corrido del extracto combinado con movimientos cargados fuera de su fecha: el libro
+ * los registra hoy, pero el extracto los ubica (y los suma al saldo inicial) por la fecha del
+ * movimiento. El saldo final del extracto tiene que coincidir con el de la cuenta.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AccountStatementBalanceTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final double BACKDATED = 100.0;
+    private static final double FUTURE_DATED = 40.0;
+    private static final double DIRECT = 25.0;
+
+    @Autowired
+    private AccountStatementService accountStatementService;
+
+    @Autowired
+    private NonCashMovementService nonCashMovementService;
+
+    @Autowired
+    private BalanceUpdateService balanceUpdateService;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private DriverRepository driverRepository;
+
+    @Autowired
+    private MemberAccountRepository memberAccountRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long accountId;
+
+    @BeforeAll
+    void seedAccount() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        accountId = transaction.execute(status -> {
+            AddressEntity address = addressRepository.save(AddressEntity.builder()
+                .street("Cordoba").numeral("950").city("Rosario").build());
+            return memberAccountRepository.save(MemberAccountEntity.builder()
+                .member(driverRepository.save(driver(address)))
+                .balance(0.0).lastModified(TODAY).active(true).build()).getId();
+        });
+
+        // Cargado hoy con fecha pasada y cargado hoy con fecha futura
+        nonCashMovementService.create(movement(TODAY.minusDays(10), BACKDATED, true));
+        nonCashMovementService.create(movement(TODAY.plusDays(10), FUTURE_DATED, false));
+        transaction.executeWithoutResult(status ->
+            balanceUpdateService.applyAccountDelta(memberAccountRepository.findById(accountId).orElseThrow(), DIRECT));
+    }
+
+    @Test
+    void backdatedMovementOpensTheStatementOnce() {
+        // El movimiento con fecha pasada queda antes del extracto aunque el libro lo registró dentro
+        AccountStatementPageDTO page = accountStatementService.getPage(accountId, null, null,
+            TODAY.minusDays(5), TODAY.plusDays(30), null, 100);
+
+        assertEquals(BACKDATED, page.getOpeningBalance(), 0.005);
+        assertEquals(List.of(AccountStatementSource.LEDGER_ENTRY, AccountStatementSource.MOVEMENT),
+            page.getLines().stream().map(AccountStatementLineDTO::getSource).toList());
+        assertClosesWithAccountBalance(page.getLines());
+        assertPagesContinue(TODAY.minusDays(5), page.getLines());
+    }
+
+    @Test
+    void futureDatedMovementIsCountedOnItsDate() {
+        // El movimiento con fecha futura se registró en el libro antes de que empiece el extracto
+        AccountStatementPageDTO page = accountStatementService.getPage(accountId, null, null,
+            TODAY.plusDays(5), TODAY.plusDays(30), null, 100);
+
+        assertEquals(BACKDATED + DIRECT, page.getOpeningBalance(), 0.005);
+        assertEquals(1, page.getLines().size());
+        assertEquals(TODAY.plusDays(10), page.getLines().get(0).getDate());
+        assertClosesWithAccountBalance(page.getLines());
+    }
+
+    private void assertClosesWithAccountBalance(List<AccountStatementLineDTO> lines) {
+        double accountBalance = memberAccountRepository.findById(accountId).orElseThrow().getBalance();
+        assertEquals(BACKDATED - FUTURE_DATED + DIRECT, accountBalance, 0.005);
+        assertEquals(accountBalance, lines.get(lines.size() - 1).getBalance(), 0.005);
+    }
+
+    /**
+     * Lee el mismo extracto de a una línea: cada página arranca con el saldo con el que terminó
+     * la anterior.
+     */
+    private void assertPagesContinue(LocalDate startDate, List<AccountStatementLineDTO> whole) {
+        List<AccountStatementLineDTO> paged = new ArrayList<>();
+        String cursor = null;
+        AccountStatementPageDTO page;
+        do {
+            page = accountStatementService.getPage(accountId, null, null, startDate, TODAY.plusDays(30), cursor, 1);
+            if (!paged.isEmpty()) {
+                assertEquals(paged.get(paged.size() - 1).getBalance(), page.getOpeningBalance(), 0.005);
+            }
+            paged.addAll(page.getLines());
+            cursor = page.getNextCursor();
+        } while (page.getHasMore());
+
+        assertEquals(whole.stream().map(AccountStatementLineDTO::getBalance).toList(),
+            paged.stream().map(AccountStatementLineDTO::getBalance).toList());
+    }
+
+    private NonCashMovementCreateDTO movement(LocalDate date, double amount, boolean isIncome) {
+        return NonCashMovementCreateDTO.builder()
+            .memberAccountId(accountId)
+            .description(isIncome ? "Transferencia recibida" : "Transferencia enviada")
+            .amount(amount)
+            .date(date)
+            .movementType(MovementType.TRANSFER)
+            .isIncome(isIncome)
+            .build();
+    }
+
+    private static DriverEntity driver(AddressEntity address) {
+        return DriverEntity.builder()
+            .firstName("Chofer")
+            .fatherSurname("Extracto")
+            .dni("30000000")
+            .cuit("20300000001")
+            .phone("3410000000")
+            .email("extracto@test.local")
+            .birthDate(LocalDate.of(1980, 1, 1))
+            .active(true)
+            .joinDate(TODAY.minusYears(1))
+            .role(MemberRole.DRIVER_1)
+            .address(address)
+            .expirationRegistrationDate(TODAY.plusYears(5))
+            .build();
+    }
+}
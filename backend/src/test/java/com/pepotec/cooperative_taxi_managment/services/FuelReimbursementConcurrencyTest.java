@@ -0,0 +1,115 @@
+package com.pepotec.cooperative_taxi_managment.services;
+
+import com.pepotec.cooperative_taxi_managment.exceptions.InvalidDataException;
+import com.pepotec.cooperative_taxi_managment.models.entities.AddressEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.DriverEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.FuelReimbursementEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.MemberAccountEntity;
+import com.pepotec.cooperative_taxi_managment.models.enums.MemberRole;
+import com.pepotec.cooperative_taxi_managment.repositories.AddressRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.DriverRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.FuelReimbursementRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.MemberAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Reintegros de combustible concurrentes sobre la misma cuenta: el monto acumulado se paga
+ * una sola vez y los demás reintegros no encuentran nada para pagar.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FuelReimbursementConcurrencyTest {
+
+    private static final double ACCUMULATED = 100.0;
+    private static final int THREADS = 4;
+
+    @Autowired
+    private FuelReimbursementService fuelReimbursementService;
+
+    @Autowired
+    private FuelReimbursementRepository fuelReimbursementRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private DriverRepository driverRepository;
+
+    @Autowired
+    private MemberAccountRepository memberAccountRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentReimbursementsPayTheAccumulatedAmountOnce() throws Exception {
+        Long accountId = new TransactionTemplate(transactionManager).execute(status -> {
+            AddressEntity address = addressRepository.save(AddressEntity.builder()
+                .street("Mitre").numeral("450").city("Rosario").build());
+            MemberAccountEntity account = memberAccountRepository.save(MemberAccountEntity.builder()
+                .member(driverRepository.save(driver(address)))
+                .balance(0.0).lastModified(LocalDate.now()).active(true).build());
+            fuelReimbursementRepository.save(FuelReimbursementEntity.builder()
+                .memberAccount(account).accumulatedAmount(ACCUMULATED)
+                .createdDate(LocalDate.now()).active(true).build());
+            return account.getId();
+        });
+
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    fuelReimbursementService.reimburseFuelCredit(accountId);
+                    return true;
+                } catch (InvalidDataException e) {
+                    return false;
+                }
+            }));
+        }
+        executor.shutdown();
+        executor.awaitTermination(60, TimeUnit.SECONDS);
+
+        int paid = 0;
+        for (Future<Boolean> result : results) {
+            paid += result.get() ? 1 : 0;
+        }
+        assertEquals(1, paid);
+        assertEquals(ACCUMULATED, memberAccountRepository.findById(accountId).orElseThrow().getBalance(), 0.005);
+    }
+
+    private static DriverEntity driver(AddressEntity address) {
+        return DriverEntity.builder()
+            .firstName("Chofer")
+            .fatherSurname("Combustible")
+            .dni("40000000")
+            .cuit("20400000001")
+            .phone("3410000000")
+            .email("combustible@test.local")
+            .birthDate(LocalDate.of(1980, 1, 1))
+            .active(true)
+            .joinDate(LocalDate.now().minusYears(1))
+            .role(MemberRole.DRIVER_1)
+            .address(address)
+            .expirationRegistrationDate(LocalDate.now().plusYears(5))
+            .build();
+    }
+}
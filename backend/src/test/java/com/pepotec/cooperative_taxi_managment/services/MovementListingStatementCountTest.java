@@ -0,0 +1,149 @@
+package com.pepotec.cooperative_taxi_managment.services;
+
+import com.pepotec.cooperative_taxi_managment.models.entities.AddressEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.CashMovementEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.CashRegisterEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.DriverEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.MemberAccountEntity;
+import com.pepotec.cooperative_taxi_managment.models.entities.NonCashMovementEntity;
+import com.pepotec.cooperative_taxi_managment.models.enums.MemberRole;
+import com.pepotec.cooperative_taxi_managment.models.enums.MovementType;
+import com.pepotec.cooperative_taxi_managment.repositories.AddressRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.DriverRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.MemberAccountRepository;
+import com.pepotec.cooperative_taxi_managment.repositories.MovementBatchRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Los listados de movimientos cargan las cuentas y sus dueños en la misma consulta (entity
+ * graphs): una sola sentencia SQL cualquiera sea la cantidad de filas, sin consultas por fila
+ * al armar los DTO. Cuenta las sentencias preparadas por Hibernate (estadísticas habilitadas
+ * en SecondLevelCacheConfig).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MovementListingStatementCountTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2024, 1, 1);
+    private static final int ACCOUNTS = 3;
+    private static final int MOVEMENTS_PER_ACCOUNT = 8;
+
+    @Autowired
+    private CashMovementService cashMovementService;
+
+    @Autowired
+    private NonCashMovementService nonCashMovementService;
+
+    @Autowired
+    private CashRegisterService cashRegisterService;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private DriverRepository driverRepository;
+
+    @Autowired
+    private MemberAccountRepository memberAccountRepository;
+
+    @Autowired
+    private MovementBatchRepository movementBatchRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> memberAccountIds = new ArrayList<>();
+
+    @BeforeAll
+    void seedMovements() {
+        CashRegisterEntity cashRegister = cashRegisterService.getOrCreate();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            AddressEntity address = addressRepository.save(AddressEntity.builder()
+                .street("San Martin").numeral("1234").city("Rosario").build());
+            List<CashMovementEntity> cash = new ArrayList<>();
+            List<NonCashMovementEntity> nonCash = new ArrayList<>();
+            for (int i = 0; i < ACCOUNTS; i++) {
+                MemberAccountEntity account = memberAccountRepository.save(MemberAccountEntity.builder()
+                    .member(driverRepository.save(driver(i, address)))
+                    .balance(0.0).lastModified(BASE_DATE).active(true).build());
+                memberAccountIds.add(account.getId());
+                for (int j = 0; j < MOVEMENTS_PER_ACCOUNT; j++) {
+                    cash.add(CashMovementEntity.builder()
+                        .memberAccount(account).cashRegister(cashRegister)
+                        .description("Cuota " + j).amount(100.0 + j).date(BASE_DATE.plusDays(j))
+                        .movementType(MovementType.DEPOSIT).isIncome(true).active(true).build());
+                    nonCash.add(NonCashMovementEntity.builder()
+                        .memberAccount(account)
+                        .description("Transferencia " + j).amount(50.0 + j).date(BASE_DATE.plusDays(j))
+                        .movementType(MovementType.TRANSFER).isIncome(false).active(true).build());
+                }
+            }
+            movementBatchRepository.insertCashMovements(cash);
+            movementBatchRepository.insertNonCashMovements(nonCash);
+        });
+    }
+
+    @Test
+    void cashMovementListingsRunOneStatement() {
+        assertSingleStatement(() -> cashMovementService.listPage(0L, 100).getItems(), ACCOUNTS * MOVEMENTS_PER_ACCOUNT);
+        assertSingleStatement(() -> cashMovementService.listByAccount(memberAccountIds.get(0), null, null),
+            MOVEMENTS_PER_ACCOUNT);
+    }
+
+    @Test
+    void nonCashMovementListingsRunOneStatement() {
+        assertSingleStatement(() -> nonCashMovementService.listPage(0L, 100).getItems(), ACCOUNTS * MOVEMENTS_PER_ACCOUNT);
+        assertSingleStatement(() -> nonCashMovementService.listByAccount(memberAccountIds.get(1), null, null),
+            MOVEMENTS_PER_ACCOUNT);
+    }
+
+    private void assertSingleStatement(Supplier<? extends Collection<?>> listing, int expectedRows) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long before = statistics.getPrepareStatementCount();
+        Collection<?> rows = listing.get();
+        long statements = statistics.getPrepareStatementCount() - before;
+
+        assertEquals(expectedRows, rows.size());
+        assertTrue(statements <= 1, () -> statements + " SQL statements for " + rows.size() + " rows, expected 1");
+    }
+
+    private static DriverEntity driver(int i, AddressEntity address) {
+        return DriverEntity.builder()
+            .firstName("Chofer")
+            .fatherSurname("Test")
+            .dni(String.valueOf(10_000_000 + i))
+            .cuit(String.valueOf(20_000_000_000L + i))
+            .phone("3410000000")
+            .email("chofer" + i + "@test.local")
+            .birthDate(LocalDate.of(1980, 1, 1))
+            .active(true)
+            .joinDate(BASE_DATE)
+            .role(MemberRole.DRIVER_1)
+            .address(address)
+            .expirationRegistrationDate(BASE_DATE.plusYears(5))
+            .build();
+    }
+}